@@ -0,0 +1,237 @@
+package com.scproject.fuzzy.control;
+
+import com.scproject.fuzzy.core.CompiledFuzzySystem;
+import com.scproject.fuzzy.core.FuzzyRule;
+import com.scproject.fuzzy.core.FuzzySet;
+import com.scproject.fuzzy.core.FuzzySystem;
+import com.scproject.fuzzy.core.FuzzyVariable;
+import com.scproject.fuzzy.defuzzification.CentroidDefuzz;
+import com.scproject.fuzzy.inference.MamdaniEngine;
+import com.scproject.fuzzy.membership.MembershipFunction;
+import com.scproject.fuzzy.membership.TrapezoidalMF;
+import com.scproject.fuzzy.membership.TriangularMF;
+import com.scproject.fuzzy.rulebase.RuleBase;
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.core.GenerationListener;
+import com.scproject.ga.core.GeneticAlgorithm;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Adapts the mutation and crossover rates of a running GeneticAlgorithm with fuzzy rules.
+ *
+ * <p>Every {@code interval} generations the controller reads two signals in [0, 1]:
+ * {@value #DIVERSITY}, the population's normalized positional entropy, and {@value #IMPROVEMENT},
+ * the share of generations since the last update that raised the best fitness. Each fuzzy system
+ * maps them to a new rate, which is written to the GA's configuration and used from the next
+ * generation on. A system may read either input or both; a null system leaves its rate fixed.
+ *
+ * <p>The systems are compiled once, so an update costs one diversity measurement and a few
+ * hundred arithmetic operations. The original rates are restored when the run finishes, so the
+ * configuration can be reused. Add the controller with
+ * {@link GeneticAlgorithm#addGenerationListener}; it serves one run at a time.
+ */
+public class FuzzyRateController implements GenerationListener {
+
+    public static final String DIVERSITY = "Diversity";
+    public static final String IMPROVEMENT = "Improvement";
+
+    private final CompiledFuzzySystem mutationSystem;
+    private final CompiledFuzzySystem crossoverSystem;
+    private final double[] mutationInputs;
+    private final double[] crossoverInputs;
+    private int interval = 5;
+
+    private double lastBest = Double.NaN;
+    private int windowGenerations;
+    private int improvedGenerations;
+    private double originalMutationRate = Double.NaN;
+    private double originalCrossoverRate = Double.NaN;
+    private double lastDiversity = Double.NaN;
+    private double lastImprovement = Double.NaN;
+    private long updates;
+
+    public FuzzyRateController(FuzzySystem mutationSystem, FuzzySystem crossoverSystem) {
+        if (mutationSystem == null && crossoverSystem == null) {
+            throw new IllegalArgumentException("At least one of the mutation and crossover systems must be set");
+        }
+        this.mutationSystem = mutationSystem == null ? null : checkInputs(mutationSystem.compile());
+        this.crossoverSystem = crossoverSystem == null ? null : checkInputs(crossoverSystem.compile());
+        this.mutationInputs = this.mutationSystem == null ? null : new double[this.mutationSystem.getInputCount()];
+        this.crossoverInputs = this.crossoverSystem == null ? null : new double[this.crossoverSystem.getInputCount()];
+    }
+
+    private static CompiledFuzzySystem checkInputs(CompiledFuzzySystem system) {
+        for (int i = 0; i < system.getInputCount(); i++) {
+            String name = system.getInputName(i);
+            if (!name.equals(DIVERSITY) && !name.equals(IMPROVEMENT)) {
+                throw new IllegalArgumentException("Unknown controller input " + name
+                        + ", expected " + DIVERSITY + " or " + IMPROVEMENT);
+            }
+        }
+        return system;
+    }
+
+    /**
+     * The standard rule tables: mutation rises as diversity collapses or progress stalls, while
+     * crossover is favoured while the population is diverse and falls back once it has converged
+     * and recombination mostly reproduces the parents.
+     */
+    public static FuzzyRateController standard(double minMutation, double maxMutation,
+                                               double minCrossover, double maxCrossover) {
+        String[][] mutationTable = {
+                //Stalled, Slow, Fast
+                {"High", "High", "Medium"},     //Low diversity
+                {"Medium", "Medium", "Low"},    //Medium diversity
+                {"Medium", "Low", "Low"}        //High diversity
+        };
+        String[][] crossoverTable = {
+                {"Low", "Medium", "Medium"},
+                {"High", "Medium", "Medium"},
+                {"High", "High", "Medium"}
+        };
+        return new FuzzyRateController(
+                rateSystem("MutationRate", minMutation, maxMutation, mutationTable),
+                rateSystem("CrossoverRate", minCrossover, maxCrossover, crossoverTable));
+    }
+
+    //Mamdani system over both inputs with Low, Medium and High output sets spanning [min, max]
+    public static FuzzySystem rateSystem(String outputName, double min, double max, String[][] table) {
+        if (min < 0 || max > 1 || !(min < max)) {
+            throw new IllegalArgumentException("Rate range must satisfy 0 <= min < max <= 1");
+        }
+        if (table.length != 3 || table[0].length != 3 || table[1].length != 3 || table[2].length != 3) {
+            throw new IllegalArgumentException("Rule table must be 3x3: diversity by improvement");
+        }
+        String[] diversitySets = {"Low", "Medium", "High"};
+        String[] improvementSets = {"Stalled", "Slow", "Fast"};
+
+        FuzzySystem system = new FuzzySystem();
+        system.addInput(variable(DIVERSITY, 0.0, 1.0, diversitySets,
+                new TrapezoidalMF(-0.1, 0.0, 0.15, 0.35),
+                new TriangularMF(0.15, 0.4, 0.65),
+                new TrapezoidalMF(0.45, 0.7, 1.0, 1.1)));
+        system.addInput(variable(IMPROVEMENT, 0.0, 1.0, improvementSets,
+                new TrapezoidalMF(-0.1, 0.0, 0.05, 0.2),
+                new TriangularMF(0.05, 0.25, 0.5),
+                new TrapezoidalMF(0.3, 0.6, 1.0, 1.1)));
+        double span = max - min;
+        system.setOutput(variable(outputName, min, max, new String[]{"Low", "Medium", "High"},
+                new TrapezoidalMF(min - span, min, min + 0.15 * span, min + 0.45 * span),
+                new TriangularMF(min + 0.2 * span, min + 0.5 * span, min + 0.8 * span),
+                new TrapezoidalMF(min + 0.55 * span, min + 0.85 * span, max, max + span)));
+
+        RuleBase rules = new RuleBase();
+        for (int d = 0; d < 3; d++) {
+            for (int i = 0; i < 3; i++) {
+                Map<String, String> antecedents = new LinkedHashMap<>();
+                antecedents.put(DIVERSITY, diversitySets[d]);
+                antecedents.put(IMPROVEMENT, improvementSets[i]);
+                rules.addRule(new FuzzyRule(antecedents, outputName, table[d][i], "AND", 1.0, true));
+            }
+        }
+        system.setRuleBase(rules);
+        system.setInferenceEngine(new MamdaniEngine());
+        system.setDefuzzifier(new CentroidDefuzz(200));
+        return system;
+    }
+
+    private static FuzzyVariable variable(String name, double min, double max, String[] setNames,
+                                          MembershipFunction... functions) {
+        FuzzyVariable variable = new FuzzyVariable();
+        variable.setName(name);
+        variable.setMinRange(min);
+        variable.setMaxRange(max);
+        Map<String, FuzzySet> sets = new LinkedHashMap<>();
+        for (int i = 0; i < setNames.length; i++) {
+            sets.put(setNames[i], new FuzzySet(setNames[i], functions[i]));
+        }
+        variable.setFuzzySets(sets);
+        return variable;
+    }
+
+    @Override
+    public void onGeneration(GeneticAlgorithm ga, int generation) {
+        GAConfiguration config = ga.getConfig();
+        if (Double.isNaN(originalMutationRate)) {
+            originalMutationRate = config.getMutationRate();
+            originalCrossoverRate = config.getCrossoverRate();
+        }
+
+        double best = ga.getBestFitness();
+        if (!Double.isNaN(lastBest) && best > lastBest) {
+            improvedGenerations++;
+        }
+        lastBest = best;
+        if (++windowGenerations < interval) {
+            return;
+        }
+
+        lastDiversity = ga.getPopulation().getDiversity().getPositionalEntropy();
+        lastImprovement = (double) improvedGenerations / windowGenerations;
+        windowGenerations = 0;
+        improvedGenerations = 0;
+
+        if (mutationSystem != null) {
+            config.setMutationRate(clamp(mutationSystem.evaluate(fill(mutationSystem, mutationInputs))));
+        }
+        if (crossoverSystem != null) {
+            config.setCrossoverRate(clamp(crossoverSystem.evaluate(fill(crossoverSystem, crossoverInputs))));
+        }
+        updates++;
+    }
+
+    private double[] fill(CompiledFuzzySystem system, double[] inputs) {
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = system.getInputName(i).equals(DIVERSITY) ? lastDiversity : lastImprovement;
+        }
+        return inputs;
+    }
+
+    private static double clamp(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+
+    @Override
+    public void onRunFinished(GeneticAlgorithm ga) {
+        if (!Double.isNaN(originalMutationRate)) {
+            ga.getConfig().setMutationRate(originalMutationRate);
+            ga.getConfig().setCrossoverRate(originalCrossoverRate);
+        }
+        originalMutationRate = Double.NaN;
+        originalCrossoverRate = Double.NaN;
+        lastBest = Double.NaN;
+        windowGenerations = 0;
+        improvedGenerations = 0;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public void setInterval(int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        this.interval = interval;
+    }
+
+    public double getLastDiversity() {
+        return lastDiversity;
+    }
+
+    public double getLastImprovement() {
+        return lastImprovement;
+    }
+
+    public long getUpdateCount() {
+        return updates;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FuzzyRateController{interval=%d, updates=%d, diversity=%.3f, improvement=%.3f}",
+                interval, updates, lastDiversity, lastImprovement);
+    }
+}
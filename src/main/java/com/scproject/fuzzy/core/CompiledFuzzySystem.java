@@ -0,0 +1,547 @@
+package com.scproject.fuzzy.core;
+
+import com.scproject.fuzzy.defuzzification.CentroidDefuzz;
+import com.scproject.fuzzy.defuzzification.DefuzzificationMethod;
+import com.scproject.fuzzy.defuzzification.MaxMembershipDefuzz;
+import com.scproject.fuzzy.defuzzification.MeanOfMaximumDefuzz;
+import com.scproject.fuzzy.inference.InferenceEngine;
+import com.scproject.fuzzy.inference.MamdaniEngine;
+import com.scproject.fuzzy.inference.SugenoEngine;
+import com.scproject.fuzzy.membership.GaussianMF;
+import com.scproject.fuzzy.membership.MembershipFunction;
+import com.scproject.fuzzy.membership.TrapezoidalMF;
+import com.scproject.fuzzy.membership.TriangularMF;
+import com.scproject.fuzzy.operator.FuzzyOperator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A FuzzySystem flattened into arrays for repeated evaluation. Inputs and sets are resolved to
+ * indices once, membership parameters are unpacked, and for Mamdani systems every output set is
+ * sampled on the defuzzifier's grid in advance. {@link #evaluate(double[])} then allocates nothing.
+ *
+ * <p>For Mamdani inference the clipped consequents are max-aggregated, so each output set only
+ * needs the strongest firing strength among its rules; the result matches FuzzySystem with
+ * centroid, max-membership or mean-of-maximum defuzzification. Sugeno systems return the weighted
+ * average of the rule outputs directly rather than defuzzifying a sampled singleton.
+ *
+ * <p>The compiled system is a snapshot: later changes to the source system are not seen. It keeps
+ * scratch buffers, so an instance must not be evaluated from several threads at once; use
+ * {@link #copy()} to get another instance sharing the same tables.
+ */
+public final class CompiledFuzzySystem {
+
+    private static final byte TRIANGULAR = 0;
+    private static final byte TRAPEZOIDAL = 1;
+    private static final byte GAUSSIAN = 2;
+    private static final byte GENERIC = 3;
+
+    private static final byte CENTROID = 0;
+    private static final byte MAX_MEMBERSHIP = 1;
+    private static final byte MEAN_OF_MAXIMUM = 2;
+
+    private static final byte OP_AND = 0;
+    private static final byte OP_OR = 1;
+    //Neither AND nor OR: FuzzyRule uses the first antecedent only
+    private static final byte OP_FIRST = 2;
+
+    private final String[] inputNames;
+    //Sets of input i occupy memberships [setStart[i], setStart[i + 1])
+    private final int[] setStart;
+    private final byte[] mfType;
+    //Four parameters per input set
+    private final double[] mfParameters;
+    private final MembershipFunction[] genericFunctions;
+
+    //Antecedents of rule r are antecedents[ruleStart[r] .. ruleStart[r + 1]), as membership indices
+    private final int[] ruleStart;
+    private final int[] antecedents;
+    private final byte[] ruleOperator;
+    private final double[] ruleWeight;
+    private final int[] ruleConsequent;
+    private final double[] ruleOutput;
+    private final FuzzyOperator andOperator;
+    private final FuzzyOperator orOperator;
+
+    private final boolean sugeno;
+    private final int outputSets;
+    private final int samples;
+    private final double outputMin;
+    private final double outputMax;
+    private final double stepSize;
+    //Output set s sampled at x_i is outputMembership[s * samples + i]
+    private final double[] outputMembership;
+    private final byte defuzzifier;
+    private final double tolerance;
+
+    private final double[] membership;
+    private final double[] setStrength;
+    private final int[] activeSets;
+
+    private CompiledFuzzySystem(CompiledFuzzySystem source) {
+        this(source, source.ruleStart, source.antecedents, source.ruleOperator, source.ruleWeight,
+                source.ruleConsequent, source.ruleOutput);
+    }
+
+    private CompiledFuzzySystem(CompiledFuzzySystem source, int[] ruleStart, int[] antecedents, byte[] ruleOperator,
+                                double[] ruleWeight, int[] ruleConsequent, double[] ruleOutput) {
+        this.inputNames = source.inputNames;
+        this.setStart = source.setStart;
+        this.mfType = source.mfType;
+        this.mfParameters = source.mfParameters;
+        this.genericFunctions = source.genericFunctions;
+        this.ruleStart = ruleStart;
+        this.antecedents = antecedents;
+        this.ruleOperator = ruleOperator;
+        this.ruleWeight = ruleWeight;
+        this.ruleConsequent = ruleConsequent;
+        this.ruleOutput = ruleOutput;
+        this.andOperator = source.andOperator;
+        this.orOperator = source.orOperator;
+        this.sugeno = source.sugeno;
+        this.outputSets = source.outputSets;
+        this.samples = source.samples;
+        this.outputMin = source.outputMin;
+        this.outputMax = source.outputMax;
+        this.stepSize = source.stepSize;
+        this.outputMembership = source.outputMembership;
+        this.defuzzifier = source.defuzzifier;
+        this.tolerance = source.tolerance;
+        this.membership = new double[source.membership.length];
+        this.setStrength = new double[source.setStrength.length];
+        this.activeSets = new int[source.activeSets.length];
+    }
+
+    private CompiledFuzzySystem(FuzzySystem system) {
+        List<FuzzyVariable> inputs = system.getInputs();
+        InferenceEngine engine = system.getInferenceEngine();
+        if (inputs.isEmpty()) {
+            throw new IllegalArgumentException("No inputs defined");
+        }
+        if (engine == null || system.getRuleBase() == null) {
+            throw new IllegalArgumentException("Fuzzy system needs an inference engine and a rule base");
+        }
+        if (!(engine instanceof MamdaniEngine) && !(engine instanceof SugenoEngine)) {
+            throw new IllegalArgumentException("Cannot compile inference engine " + engine.getType());
+        }
+        this.sugeno = engine instanceof SugenoEngine;
+        this.andOperator = system.getAndOperator();
+        this.orOperator = system.getOrOperator();
+
+        //Inputs and their sets, in the order FuzzySystem fuzzifies them
+        this.inputNames = new String[inputs.size()];
+        this.setStart = new int[inputs.size() + 1];
+        List<FuzzySet> sets = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            inputNames[i] = inputs.get(i).getName();
+            setStart[i] = sets.size();
+            sets.addAll(inputs.get(i).getFuzzySets().values());
+        }
+        setStart[inputs.size()] = sets.size();
+        this.mfType = new byte[sets.size()];
+        this.mfParameters = new double[sets.size() * 4];
+        this.genericFunctions = new MembershipFunction[sets.size()];
+        for (int m = 0; m < sets.size(); m++) {
+            unpack(m, sets.get(m).getMembershipFunction());
+        }
+
+        //Output sets, in the order of the output variable
+        FuzzyVariable output = system.getOutput();
+        List<String> outputSetNames = new ArrayList<>();
+        List<MembershipFunction> outputFunctions = new ArrayList<>();
+        if (output != null && output.getFuzzySets() != null) {
+            for (Map.Entry<String, FuzzySet> entry : output.getFuzzySets().entrySet()) {
+                outputSetNames.add(entry.getKey());
+                outputFunctions.add(entry.getValue().getMembershipFunction());
+            }
+        }
+        this.outputSets = outputSetNames.size();
+        this.outputMin = output != null ? output.getMinRange() : 0;
+        this.outputMax = output != null ? output.getMaxRange() : 100;
+
+        //Rules, dropping those the engine ignores
+        List<FuzzyRule> rules = new ArrayList<>();
+        for (FuzzyRule rule : system.getRuleBase().getActiveRules()) {
+            if (!sugeno || rule.isSugenoRule()) {
+                rules.add(rule);
+            }
+        }
+        this.ruleStart = new int[rules.size() + 1];
+        this.ruleOperator = new byte[rules.size()];
+        this.ruleWeight = new double[rules.size()];
+        this.ruleConsequent = new int[rules.size()];
+        this.ruleOutput = new double[rules.size()];
+        List<Integer> antecedentList = new ArrayList<>();
+        for (int r = 0; r < rules.size(); r++) {
+            FuzzyRule rule = rules.get(r);
+            ruleStart[r] = antecedentList.size();
+            if (rule.getAntecedents() != null) {
+                for (Map.Entry<String, String> condition : rule.getAntecedents().entrySet()) {
+                    antecedentList.add(membershipIndex(inputs, condition.getKey(), condition.getValue()));
+                }
+            }
+            ruleOperator[r] = "AND".equals(rule.getOperator()) ? OP_AND : "OR".equals(rule.getOperator()) ? OP_OR : OP_FIRST;
+            ruleWeight[r] = rule.getWeight();
+            if (sugeno) {
+                if (rule.getSugenoOutputValue() == null) {
+                    throw new IllegalArgumentException("Sugeno rule missing output value");
+                }
+                ruleOutput[r] = rule.getSugenoOutputValue();
+            } else {
+                ruleConsequent[r] = outputSetNames.indexOf(rule.getConsequentFuzzySet());
+                if (ruleConsequent[r] < 0) {
+                    throw new IllegalArgumentException("Consequent fuzzy set not found: " + rule.getConsequentFuzzySet());
+                }
+            }
+        }
+        ruleStart[rules.size()] = antecedentList.size();
+        this.antecedents = new int[antecedentList.size()];
+        for (int i = 0; i < antecedents.length; i++) {
+            antecedents[i] = antecedentList.get(i);
+        }
+
+        //Defuzzification grid, sampled exactly where the defuzzifier would sample
+        if (sugeno) {
+            this.defuzzifier = CENTROID;
+            this.samples = 0;
+            this.tolerance = 0.0;
+        } else {
+            DefuzzificationMethod method = system.getDefuzzifier();
+            if (method instanceof CentroidDefuzz) {
+                this.defuzzifier = CENTROID;
+                this.samples = ((CentroidDefuzz) method).getSteps() + 1;
+                this.tolerance = 0.0;
+            } else if (method instanceof MaxMembershipDefuzz) {
+                this.defuzzifier = MAX_MEMBERSHIP;
+                this.samples = ((MaxMembershipDefuzz) method).getSteps() + 1;
+                this.tolerance = 0.0;
+            } else if (method instanceof MeanOfMaximumDefuzz) {
+                this.defuzzifier = MEAN_OF_MAXIMUM;
+                this.samples = ((MeanOfMaximumDefuzz) method).getSteps() + 1;
+                this.tolerance = ((MeanOfMaximumDefuzz) method).getTolerance();
+            } else {
+                throw new IllegalArgumentException("Cannot compile defuzzifier "
+                        + (method == null ? "null" : method.getClass().getSimpleName()));
+            }
+            if (outputMin >= outputMax) {
+                throw new IllegalArgumentException("minRange must be less than maxRange");
+            }
+        }
+        this.stepSize = samples == 0 ? 0.0 : (outputMax - outputMin) / (samples - 1);
+        this.outputMembership = new double[outputSets * samples];
+        for (int s = 0; s < outputSets; s++) {
+            for (int i = 0; i < samples; i++) {
+                outputMembership[s * samples + i] = outputFunctions.get(s).getMembership(outputMin + i * stepSize);
+            }
+        }
+
+        this.membership = new double[sets.size()];
+        this.setStrength = new double[outputSets];
+        this.activeSets = new int[outputSets];
+    }
+
+    public static CompiledFuzzySystem compile(FuzzySystem system) {
+        if (system == null) {
+            throw new IllegalArgumentException("Fuzzy system cannot be null");
+        }
+        return new CompiledFuzzySystem(system);
+    }
+
+    //Another evaluator over the same compiled tables, for use on another thread
+    public CompiledFuzzySystem copy() {
+        return new CompiledFuzzySystem(this);
+    }
+
+    /**
+     * The same Mamdani system with its rules replaced, skipping FuzzyRule and its string maps.
+     * Rule r combines the memberships {@code antecedents[ruleStart[r] .. ruleStart[r + 1])},
+     * given as {@link #membershipIndex(int, int)} values, with the AND operator, and fires output
+     * set {@code consequents[r]} with weight {@code weights[r]}. The arrays are used as given.
+     */
+    public CompiledFuzzySystem withRules(int[] ruleStart, int[] antecedents, double[] weights, int[] consequents) {
+        if (sugeno) {
+            throw new IllegalStateException("Rules can only be replaced in Mamdani systems");
+        }
+        int rules = weights.length;
+        if (ruleStart.length != rules + 1 || consequents.length != rules || ruleStart[rules] > antecedents.length) {
+            throw new IllegalArgumentException("Rule arrays do not describe the same number of rules");
+        }
+        for (int r = 0; r < rules; r++) {
+            if (consequents[r] < 0 || consequents[r] >= outputSets) {
+                throw new IllegalArgumentException("Rule " + r + " has no output set " + consequents[r]);
+            }
+        }
+        for (int i = 0; i < ruleStart[rules]; i++) {
+            if (antecedents[i] < 0 || antecedents[i] >= membership.length) {
+                throw new IllegalArgumentException("No membership " + antecedents[i]);
+            }
+        }
+        return new CompiledFuzzySystem(this, ruleStart, antecedents, new byte[rules], weights, consequents, new double[rules]);
+    }
+
+    private void unpack(int m, MembershipFunction function) {
+        double[] points = function.getDefiningPoints();
+        if (function instanceof TriangularMF) {
+            mfType[m] = TRIANGULAR;
+        } else if (function instanceof TrapezoidalMF) {
+            mfType[m] = TRAPEZOIDAL;
+        } else if (function instanceof GaussianMF) {
+            mfType[m] = GAUSSIAN;
+        } else {
+            mfType[m] = GENERIC;
+            genericFunctions[m] = function;
+            return;
+        }
+        System.arraycopy(points, 0, mfParameters, m * 4, points.length);
+    }
+
+    private static int membershipIndex(List<FuzzyVariable> inputs, String variable, String set) {
+        int index = 0;
+        for (FuzzyVariable input : inputs) {
+            if (input.getName().equals(variable)) {
+                for (String name : input.getFuzzySets().keySet()) {
+                    if (name.equals(set)) {
+                        return index;
+                    }
+                    index++;
+                }
+                throw new IllegalArgumentException("Fuzzy set not found: " + set);
+            }
+            index += input.getFuzzySets().size();
+        }
+        throw new IllegalArgumentException("Variable not found in inputs: " + variable);
+    }
+
+    public int getInputCount() {
+        return inputNames.length;
+    }
+
+    public int getSetCount(int input) {
+        return setStart[input + 1] - setStart[input];
+    }
+
+    //Position of a set's membership in the array filled by fuzzify
+    public int membershipIndex(int input, int set) {
+        if (set < 0 || set >= getSetCount(input)) {
+            throw new IllegalArgumentException("Input " + inputNames[input] + " has no set " + set);
+        }
+        return setStart[input] + set;
+    }
+
+    public int getMembershipCount() {
+        return membership.length;
+    }
+
+    public int getOutputSetCount() {
+        return outputSets;
+    }
+
+    public int getRuleCount() {
+        return ruleWeight.length;
+    }
+
+    public String getInputName(int index) {
+        return inputNames[index];
+    }
+
+    //Position of the named input in the array passed to evaluate, or -1
+    public int inputIndex(String name) {
+        for (int i = 0; i < inputNames.length; i++) {
+            if (inputNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean isSugeno() {
+        return sugeno;
+    }
+
+    public double getOutputMin() {
+        return outputMin;
+    }
+
+    public double getOutputMax() {
+        return outputMax;
+    }
+
+    //Same contract as FuzzySystem.evaluate, for callers that have the inputs by name
+    public double evaluate(Map<String, Double> crispInputs) {
+        double[] values = new double[inputNames.length];
+        for (int i = 0; i < inputNames.length; i++) {
+            Double value = crispInputs.get(inputNames[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing input: " + inputNames[i]);
+            }
+            values[i] = value;
+        }
+        return evaluate(values);
+    }
+
+    //Inputs in the order of FuzzySystem.getInputs()
+    public double evaluate(double[] inputs) {
+        fuzzify(inputs, membership);
+        return evaluateFuzzified(membership);
+    }
+
+    //Memberships of every input set, in membershipIndex order; independent of the rules
+    public void fuzzify(double[] inputs, double[] memberships) {
+        if (inputs.length != inputNames.length) {
+            throw new IllegalArgumentException("Expected " + inputNames.length + " inputs, got " + inputs.length);
+        }
+        for (int i = 0; i < inputNames.length; i++) {
+            double x = inputs[i];
+            for (int m = setStart[i]; m < setStart[i + 1]; m++) {
+                memberships[m] = membership(m, x);
+            }
+        }
+    }
+
+    //Output for memberships computed by fuzzify, possibly by another system with the same inputs
+    public double evaluateFuzzified(double[] memberships) {
+        return sugeno ? sugenoOutput(memberships) : mamdaniOutput(memberships);
+    }
+
+    private double membership(int m, double x) {
+        int p = m * 4;
+        switch (mfType[m]) {
+            case TRIANGULAR: {
+                double a = mfParameters[p];
+                double b = mfParameters[p + 1];
+                double c = mfParameters[p + 2];
+                if (x <= a || x >= c) return 0.0;
+                if (x == b) return 1.0;
+                if (x < b) return (x - a) / (b - a);
+                return (c - x) / (c - b);
+            }
+            case TRAPEZOIDAL: {
+                double a = mfParameters[p];
+                double b = mfParameters[p + 1];
+                double c = mfParameters[p + 2];
+                double d = mfParameters[p + 3];
+                if (x <= a || x >= d) return 0.0;
+                if (x >= b && x <= c) return 1.0;
+                if (x < b) return (x - a) / (b - a);
+                return (d - x) / (d - c);
+            }
+            case GAUSSIAN: {
+                double d = x - mfParameters[p];
+                double sigma = mfParameters[p + 1];
+                return Math.exp(-(d * d) / (2 * sigma * sigma));
+            }
+            default:
+                return genericFunctions[m].getMembership(x);
+        }
+    }
+
+    private double ruleStrength(int r, double[] memberships) {
+        int from = ruleStart[r];
+        int to = ruleStart[r + 1];
+        if (from == to) {
+            return 0.0;
+        }
+        double result = memberships[antecedents[from]];
+        byte operator = ruleOperator[r];
+        if (operator != OP_FIRST) {
+            FuzzyOperator combine = operator == OP_AND ? andOperator : orOperator;
+            for (int i = from + 1; i < to; i++) {
+                result = combine.apply(result, memberships[antecedents[i]]);
+            }
+        }
+        return result * ruleWeight[r];
+    }
+
+    private double sugenoOutput(double[] memberships) {
+        double numerator = 0.0;
+        double denominator = 0.0;
+        for (int r = 0; r < ruleWeight.length; r++) {
+            double strength = ruleStrength(r, memberships);
+            numerator += strength * ruleOutput[r];
+            denominator += strength;
+        }
+        return denominator == 0.0 ? 0.0 : numerator / denominator;
+    }
+
+    private double mamdaniOutput(double[] memberships) {
+        //Max aggregation of clipped sets: each set is clipped at its strongest rule
+        for (int s = 0; s < outputSets; s++) {
+            setStrength[s] = 0.0;
+        }
+        for (int r = 0; r < ruleWeight.length; r++) {
+            double strength = ruleStrength(r, memberships);
+            int s = ruleConsequent[r];
+            if (strength > setStrength[s]) {
+                setStrength[s] = strength;
+            }
+        }
+        int active = 0;
+        for (int s = 0; s < outputSets; s++) {
+            if (setStrength[s] > 0.0) {
+                activeSets[active++] = s;
+            }
+        }
+
+        double middle = (outputMin + outputMax) / 2.0;
+        switch (defuzzifier) {
+            case CENTROID: {
+                double numerator = 0.0;
+                double denominator = 0.0;
+                for (int i = 0; i < samples; i++) {
+                    double mu = aggregated(i, active);
+                    double x = outputMin + i * stepSize;
+                    numerator += x * mu * stepSize;
+                    denominator += mu * stepSize;
+                }
+                if (denominator == 0 || Math.abs(denominator) < 1e-10) {
+                    return middle;
+                }
+                return numerator / denominator;
+            }
+            case MAX_MEMBERSHIP: {
+                double maxMembership = 0.0;
+                double xAtMax = middle;
+                for (int i = 0; i < samples; i++) {
+                    double mu = aggregated(i, active);
+                    if (mu > maxMembership) {
+                        maxMembership = mu;
+                        xAtMax = outputMin + i * stepSize;
+                    }
+                }
+                return maxMembership == 0.0 ? middle : xAtMax;
+            }
+            default: {
+                double maxMembership = 0.0;
+                for (int i = 0; i < samples; i++) {
+                    maxMembership = Math.max(maxMembership, aggregated(i, active));
+                }
+                if (maxMembership == 0.0 || Math.abs(maxMembership) < 1e-10) {
+                    return middle;
+                }
+                double sumX = 0.0;
+                int count = 0;
+                for (int i = 0; i < samples; i++) {
+                    if (Math.abs(aggregated(i, active) - maxMembership) <= tolerance) {
+                        sumX += outputMin + i * stepSize;
+                        count++;
+                    }
+                }
+                return count > 0 ? sumX / count : middle;
+            }
+        }
+    }
+
+    private double aggregated(int sample, int active) {
+        double max = 0.0;
+        for (int k = 0; k < active; k++) {
+            int s = activeSets[k];
+            double mu = Math.min(outputMembership[s * samples + sample], setStrength[s]);
+            if (mu > max) {
+                max = mu;
+            }
+        }
+        return max;
+    }
+}
@@ -55,6 +55,11 @@ public class FuzzySystem {
         return defuzzifier.defuzzify(lastAggregatedOutput, minRange, maxRange);
     }
 
+    //Snapshot of this system for repeated, allocation-free evaluation
+    public CompiledFuzzySystem compile() {
+        return CompiledFuzzySystem.compile(this);
+    }
+
     private Map<String, Map<String, Double>> fuzzifyInputs(Map<String, Double> crispInputs) {
         Map<String, Map<String, Double>> result = new LinkedHashMap<>();
 
@@ -86,6 +91,13 @@ public class FuzzySystem {
     public Map<String, Map<String, Double>> getFuzzifiedInputs() { return lastFuzzifiedInputs; }
     public FuzzySet getAggregatedOutput() { return lastAggregatedOutput; }
     public String getInferenceType() { return inferenceEngine.getType(); }
+    public List<FuzzyVariable> getInputs() { return inputs; }
+    public FuzzyVariable getOutput() { return output; }
+    public RuleBase getRuleBase() { return ruleBase; }
+    public InferenceEngine getInferenceEngine() { return inferenceEngine; }
+    public FuzzyOperator getAndOperator() { return andOperator; }
+    public FuzzyOperator getOrOperator() { return orOperator; }
+    public DefuzzificationMethod getDefuzzifier() { return defuzzifier; }
 
     public Map<FuzzyRule, Double> getRuleStrengths() {
         return inferenceEngine.getRuleStrengths(lastFuzzifiedInputs, ruleBase, andOperator, orOperator);
@@ -0,0 +1,107 @@
+package com.scproject.fuzzy.tuning;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Recorded (inputs, desired output) samples stored column by column.
+ * CSV files have a header naming the input variables, with the desired output in the last column.
+ */
+public class FuzzyDataset {
+
+    private final String[] inputNames;
+    private final double[][] columns;
+    private final double[] targets;
+
+    public FuzzyDataset(String[] inputNames, double[][] columns, double[] targets) {
+        if (inputNames.length != columns.length) {
+            throw new IllegalArgumentException("Every input needs exactly one column");
+        }
+        for (double[] column : columns) {
+            if (column.length != targets.length) {
+                throw new IllegalArgumentException("All columns must have one value per target");
+            }
+        }
+        this.inputNames = inputNames.clone();
+        this.columns = columns;
+        this.targets = targets;
+    }
+
+    public static FuzzyDataset readCsv(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IOException("Empty dataset: " + file);
+            }
+            String[] names = header.split(",");
+            if (names.length < 2) {
+                throw new IOException("Dataset needs at least one input and the output column: " + file);
+            }
+            int inputCount = names.length - 1;
+
+            List<double[]> rows = new ArrayList<>();
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length != names.length) {
+                    throw new IOException("Expected " + names.length + " values at line " + lineNumber + " of " + file);
+                }
+                double[] row = new double[parts.length];
+                for (int i = 0; i < parts.length; i++) {
+                    row[i] = Double.parseDouble(parts[i].trim());
+                }
+                rows.add(row);
+            }
+
+            double[][] columns = new double[inputCount][rows.size()];
+            double[] targets = new double[rows.size()];
+            for (int r = 0; r < rows.size(); r++) {
+                double[] row = rows.get(r);
+                for (int i = 0; i < inputCount; i++) {
+                    columns[i][r] = row[i];
+                }
+                targets[r] = row[inputCount];
+            }
+            String[] inputNames = Arrays.copyOf(names, inputCount);
+            for (int i = 0; i < inputCount; i++) {
+                inputNames[i] = inputNames[i].trim();
+            }
+            return new FuzzyDataset(inputNames, columns, targets);
+        }
+    }
+
+    public int size() {
+        return targets.length;
+    }
+
+    public String[] getInputNames() {
+        return inputNames.clone();
+    }
+
+    public int indexOf(String inputName) {
+        for (int i = 0; i < inputNames.length; i++) {
+            if (inputNames[i].equals(inputName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public double getInput(int input, int row) {
+        return columns[input][row];
+    }
+
+    public double getTarget(int row) {
+        return targets[row];
+    }
+}
@@ -0,0 +1,98 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.fuzzy.core.FuzzySystem;
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.core.GeneticAlgorithm;
+import com.scproject.ga.crossover.NPointCrossover;
+import com.scproject.ga.mutation.UniformFPMutation;
+
+/**
+ * Tunes the membership functions of a FuzzySystem against a recorded dataset with the project's
+ * GeneticAlgorithm, keeping its rules, operators and defuzzifier unchanged.
+ */
+public class FuzzyMembershipTuner {
+
+    private final MembershipEncoding encoding;
+    private final FuzzyTuningFitness fitness;
+    private int populationSize = 30;
+    private int generations = 30;
+    private double initialSpread = 0.05;
+    private boolean verbose = true;
+    private double bestRmse = Double.NaN;
+
+    public FuzzyMembershipTuner(MembershipEncoding encoding, FuzzyTuningFitness fitness) {
+        this.encoding = encoding;
+        this.fitness = fitness;
+    }
+
+    public FuzzySystem tune() {
+        GAConfiguration config = new GAConfiguration();
+        config.setPopulationSize(populationSize);
+        config.setNumberOfParents(populationSize);
+        config.setGenerations(generations);
+        config.setChromosomeLength(encoding.getLength());
+        config.setChromosomePrototype(new TemplateSeededChromosome(encoding, initialSpread));
+        config.setCrossoverStrategy(new NPointCrossover(2));
+        config.setCrossoverRate(0.9);
+        config.setMutationStrategy(new UniformFPMutation(0.1, 0.0, 1.0));
+        config.setMutationRate(0.5);
+        config.setVerbose(verbose);
+        config.setPrintFrequency(5);
+
+        GeneticAlgorithm ga = new GeneticAlgorithm(config);
+        ga.setBatchFitnessFunction(fitness);
+        ga.setConstraintHandler(new MembershipOrderingRepair(encoding));
+        ga.run();
+
+        bestRmse = -ga.getBestFitness();
+        double[] genes = encoding.genes(ga.getBestSolution());
+        encoding.repair(genes);
+        return encoding.decode(genes);
+    }
+
+    public double getBestRmse() {
+        return bestRmse;
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    public void setPopulationSize(int populationSize) {
+        if (populationSize <= 0) {
+            throw new IllegalArgumentException("Population size must be positive");
+        }
+        this.populationSize = populationSize;
+    }
+
+    public int getGenerations() {
+        return generations;
+    }
+
+    public void setGenerations(int generations) {
+        if (generations <= 0) {
+            throw new IllegalArgumentException("Generations must be positive");
+        }
+        this.generations = generations;
+    }
+
+    public double getInitialSpread() {
+        return initialSpread;
+    }
+
+    //Standard deviation, in genes, of the perturbation applied to the template when seeding
+    public void setInitialSpread(double initialSpread) {
+        if (initialSpread < 0.0) {
+            throw new IllegalArgumentException("Initial spread cannot be negative");
+        }
+        this.initialSpread = initialSpread;
+    }
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+}
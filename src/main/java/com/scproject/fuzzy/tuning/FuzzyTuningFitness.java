@@ -0,0 +1,143 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.fuzzy.core.FuzzySystem;
+import com.scproject.fuzzy.core.FuzzyVariable;
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.fitness.BatchFitnessFunction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scores membership-function chromosomes by their root mean squared error over a recorded dataset.
+ * Fitness is the negated RMSE, since the GA maximizes.
+ *
+ * A batch is split into (candidate, block of rows) tasks that run on a fixed worker pool. FuzzySystem
+ * keeps per-call state, so every task decodes its own system; partial errors are summed per
+ * candidate in a fixed order, which keeps scores independent of scheduling.
+ */
+public class FuzzyTuningFitness implements BatchFitnessFunction, AutoCloseable {
+
+    private final MembershipEncoding encoding;
+    private final FuzzyDataset dataset;
+    private final int[] columnOfInput;
+    private final String[] inputNames;
+    private final ExecutorService workers;
+    private int blockSize = 256;
+
+    public FuzzyTuningFitness(MembershipEncoding encoding, FuzzyDataset dataset) {
+        this(encoding, dataset, Runtime.getRuntime().availableProcessors());
+    }
+
+    public FuzzyTuningFitness(MembershipEncoding encoding, FuzzyDataset dataset, int parallelism) {
+        if (dataset.size() == 0) {
+            throw new IllegalArgumentException("Dataset cannot be empty");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.encoding = encoding;
+        this.dataset = dataset;
+
+        List<FuzzyVariable> inputs = encoding.getTemplate().getInputs();
+        this.columnOfInput = new int[inputs.size()];
+        this.inputNames = new String[inputs.size()];
+        for (int i = 0; i < inputs.size(); i++) {
+            inputNames[i] = inputs.get(i).getName();
+            columnOfInput[i] = dataset.indexOf(inputNames[i]);
+            if (columnOfInput[i] < 0) {
+                throw new IllegalArgumentException("Dataset has no column for input " + inputNames[i]);
+            }
+        }
+
+        this.workers = Executors.newFixedThreadPool(parallelism, task -> {
+            Thread thread = new Thread(task, "fuzzy-tuning");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void evaluate(List<? extends Chromosome> batch, double[] scores) {
+        int rows = dataset.size();
+        int blocks = (rows + blockSize - 1) / blockSize;
+        double[][] squaredErrors = new double[batch.size()][blocks];
+
+        List<Callable<Void>> tasks = new ArrayList<>(batch.size() * blocks);
+        for (int c = 0; c < batch.size(); c++) {
+            //The initial population is never repaired, so score the repaired genes
+            double[] genes = encoding.genes(batch.get(c));
+            encoding.repair(genes);
+            double[] candidateErrors = squaredErrors[c];
+            for (int b = 0; b < blocks; b++) {
+                int block = b;
+                int from = b * blockSize;
+                int to = Math.min(rows, from + blockSize);
+                tasks.add(() -> {
+                    candidateErrors[block] = squaredError(encoding.decode(genes), from, to);
+                    return null;
+                });
+            }
+        }
+
+        try {
+            for (Future<Void> result : workers.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while evaluating fuzzy systems", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fuzzy system evaluation failed", e.getCause());
+        }
+
+        for (int c = 0; c < batch.size(); c++) {
+            double sum = 0.0;
+            for (double error : squaredErrors[c]) {
+                sum += error;
+            }
+            scores[c] = -Math.sqrt(sum / rows);
+        }
+    }
+
+    //Root mean squared error of a single system over the whole dataset
+    public double rmse(FuzzySystem system) {
+        return Math.sqrt(squaredError(system, 0, dataset.size()) / dataset.size());
+    }
+
+    private double squaredError(FuzzySystem system, int from, int to) {
+        Map<String, Double> inputs = new HashMap<>();
+        double sum = 0.0;
+        for (int row = from; row < to; row++) {
+            for (int i = 0; i < inputNames.length; i++) {
+                inputs.put(inputNames[i], dataset.getInput(columnOfInput[i], row));
+            }
+            double error = system.evaluate(inputs) - dataset.getTarget(row);
+            sum += error * error;
+        }
+        return sum;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+}
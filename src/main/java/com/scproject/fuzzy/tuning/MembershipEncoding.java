@@ -0,0 +1,256 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.fuzzy.core.FuzzySet;
+import com.scproject.fuzzy.core.FuzzySystem;
+import com.scproject.fuzzy.core.FuzzyVariable;
+import com.scproject.fuzzy.membership.GaussianMF;
+import com.scproject.fuzzy.membership.MembershipFunction;
+import com.scproject.fuzzy.membership.TrapezoidalMF;
+import com.scproject.fuzzy.membership.TriangularMF;
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps every membership-function parameter of a FuzzySystem to a gene in [0, 1].
+ *
+ * Positions are scaled to their variable's range and Gaussian widths to a fraction of it, so a
+ * single FPChromosome(length, 0, 1) covers variables with different units. Within a variable the
+ * sets are kept in the order of their peaks in the template (Low before Medium before High), and
+ * each membership function's defining points must stay sorted; {@link #repair(double[])} restores
+ * both orderings. Rules, operators, engine and defuzzifier are shared with the template.
+ */
+public class MembershipEncoding {
+
+    private static final double MIN_SIGMA = 1e-3;
+
+    private final FuzzySystem template;
+    private final List<FuzzyVariable> variables;
+    private final List<List<Slot>> slotsByVariable;
+    private final int length;
+
+    public MembershipEncoding(FuzzySystem template) {
+        if (template.getInputs().isEmpty() || template.getOutput() == null) {
+            throw new IllegalArgumentException("Template needs inputs and an output variable");
+        }
+        this.template = template;
+        this.variables = new ArrayList<>(template.getInputs());
+        this.variables.add(template.getOutput());
+        this.slotsByVariable = new ArrayList<>();
+
+        int offset = 0;
+        for (FuzzyVariable variable : variables) {
+            if (variable.getMaxRange() <= variable.getMinRange()) {
+                throw new IllegalArgumentException("Variable " + variable.getName() + " has an empty range");
+            }
+            List<Slot> slots = new ArrayList<>();
+            for (FuzzySet set : variable.getFuzzySets().values()) {
+                MFType type = MFType.of(set.getMembershipFunction());
+                slots.add(new Slot(set.getName(), type, offset, peakOf(set.getMembershipFunction(), type)));
+                offset += type.parameterCount;
+            }
+            slots.sort(Comparator.comparingDouble(slot -> slot.templatePeak));
+            slotsByVariable.add(slots);
+        }
+        this.length = offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public FuzzySystem getTemplate() {
+        return template;
+    }
+
+    public FPChromosome createPrototype() {
+        return new FPChromosome(length, 0.0, 1.0);
+    }
+
+    //Genes of the template system itself
+    public double[] encode() {
+        double[] genes = new double[length];
+        for (int v = 0; v < variables.size(); v++) {
+            FuzzyVariable variable = variables.get(v);
+            double min = variable.getMinRange();
+            double span = variable.getMaxRange() - min;
+            for (Slot slot : slotsByVariable.get(v)) {
+                double[] points = variable.getFuzzySets().get(slot.setName).getMembershipFunction().getDefiningPoints();
+                for (int p = 0; p < slot.type.parameterCount; p++) {
+                    genes[slot.offset + p] = slot.type.isWidth(p) ? points[p] / span : (points[p] - min) / span;
+                }
+            }
+        }
+        return genes;
+    }
+
+    public double[] genes(Chromosome chromosome) {
+        if (chromosome.getLength() != length) {
+            throw new IllegalArgumentException("Chromosome length " + chromosome.getLength()
+                    + " does not match encoding length " + length);
+        }
+        double[] genes = new double[length];
+        for (int i = 0; i < length; i++) {
+            genes[i] = ((Number) chromosome.getGene(i)).doubleValue();
+        }
+        return genes;
+    }
+
+    //Builds an independent FuzzySystem, safe to evaluate on its own thread
+    public FuzzySystem decode(double[] genes) {
+        FuzzySystem system = new FuzzySystem();
+        for (int v = 0; v < variables.size(); v++) {
+            FuzzyVariable source = variables.get(v);
+            double min = source.getMinRange();
+            double span = source.getMaxRange() - min;
+
+            Map<String, FuzzySet> sets = new LinkedHashMap<>();
+            for (Slot slot : slotsByVariable.get(v)) {
+                double[] p = new double[slot.type.parameterCount];
+                for (int k = 0; k < p.length; k++) {
+                    double gene = genes[slot.offset + k];
+                    p[k] = slot.type.isWidth(k) ? Math.max(MIN_SIGMA, gene) * span : min + gene * span;
+                }
+                sets.put(slot.setName, new FuzzySet(slot.setName, slot.type.create(p)));
+            }
+
+            FuzzyVariable variable = new FuzzyVariable();
+            variable.setName(source.getName());
+            variable.setMinRange(source.getMinRange());
+            variable.setMaxRange(source.getMaxRange());
+            variable.setFuzzySets(sets);
+            if (v < variables.size() - 1) {
+                system.addInput(variable);
+            } else {
+                system.setOutput(variable);
+            }
+        }
+        system.setRuleBase(template.getRuleBase());
+        system.setInferenceEngine(template.getInferenceEngine());
+        system.setAndOperator(template.getAndOperator());
+        system.setOrOperator(template.getOrOperator());
+        system.setDefuzzifier(template.getDefuzzifier());
+        return system;
+    }
+
+    public boolean isOrdered(double[] genes) {
+        for (List<Slot> slots : slotsByVariable) {
+            double previousPeak = Double.NEGATIVE_INFINITY;
+            for (Slot slot : slots) {
+                double last = Double.NEGATIVE_INFINITY;
+                for (int k = 0; k < slot.type.parameterCount; k++) {
+                    double gene = genes[slot.offset + k];
+                    if (gene < 0.0 || gene > 1.0) {
+                        return false;
+                    }
+                    if (!slot.type.isWidth(k)) {
+                        if (gene < last) {
+                            return false;
+                        }
+                        last = gene;
+                    }
+                }
+                double peak = genes[slot.offset + slot.type.peakIndex];
+                if (peak < previousPeak) {
+                    return false;
+                }
+                previousPeak = peak;
+            }
+        }
+        return true;
+    }
+
+    //Clamps genes to [0, 1], keeps set peaks in template order and each set's points sorted
+    public void repair(double[] genes) {
+        for (List<Slot> slots : slotsByVariable) {
+            double previousPeak = 0.0;
+            for (Slot slot : slots) {
+                int start = slot.offset;
+                for (int k = 0; k < slot.type.parameterCount; k++) {
+                    genes[start + k] = Math.max(0.0, Math.min(1.0, genes[start + k]));
+                }
+
+                int peakIndex = slot.type.peakIndex;
+                double peak = Math.max(previousPeak, genes[start + peakIndex]);
+                genes[start + peakIndex] = peak;
+                previousPeak = peak;
+
+                //Points left of the peak may not pass it, points right of it must follow it in order
+                for (int k = peakIndex - 1; k >= 0; k--) {
+                    genes[start + k] = Math.min(genes[start + k], genes[start + k + 1]);
+                }
+                for (int k = peakIndex + 1; k < slot.type.parameterCount; k++) {
+                    if (!slot.type.isWidth(k)) {
+                        genes[start + k] = Math.max(genes[start + k], genes[start + k - 1]);
+                    }
+                }
+            }
+        }
+    }
+
+    private static double peakOf(MembershipFunction mf, MFType type) {
+        return mf.getDefiningPoints()[type.peakIndex];
+    }
+
+    private enum MFType {
+        TRIANGULAR(3, 1),
+        TRAPEZOIDAL(4, 1),
+        GAUSSIAN(2, 0);
+
+        final int parameterCount;
+        final int peakIndex;
+
+        MFType(int parameterCount, int peakIndex) {
+            this.parameterCount = parameterCount;
+            this.peakIndex = peakIndex;
+        }
+
+        //Gaussian sigma is a width, not a position on the axis
+        boolean isWidth(int parameter) {
+            return this == GAUSSIAN && parameter == 1;
+        }
+
+        MembershipFunction create(double[] p) {
+            switch (this) {
+                case TRIANGULAR:
+                    return new TriangularMF(p[0], p[1], p[2]);
+                case TRAPEZOIDAL:
+                    return new TrapezoidalMF(p[0], p[1], p[2], p[3]);
+                default:
+                    return new GaussianMF(p[0], p[1]);
+            }
+        }
+
+        static MFType of(MembershipFunction mf) {
+            if (mf instanceof TriangularMF) {
+                return TRIANGULAR;
+            }
+            if (mf instanceof TrapezoidalMF) {
+                return TRAPEZOIDAL;
+            }
+            if (mf instanceof GaussianMF) {
+                return GAUSSIAN;
+            }
+            throw new IllegalArgumentException("Unsupported membership function: " + mf.getClass().getSimpleName());
+        }
+    }
+
+    private static final class Slot {
+        final String setName;
+        final MFType type;
+        final int offset;
+        final double templatePeak;
+
+        Slot(String setName, MFType type, int offset, double templatePeak) {
+            this.setName = setName;
+            this.type = type;
+            this.offset = offset;
+            this.templatePeak = templatePeak;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.constraint.ConstraintHandler;
+
+/**
+ * Keeps tuned membership functions well formed by repairing chromosomes in place,
+ * so infeasible candidates never reach evaluation and need no penalty.
+ */
+public class MembershipOrderingRepair implements ConstraintHandler {
+
+    private final MembershipEncoding encoding;
+
+    public MembershipOrderingRepair(MembershipEncoding encoding) {
+        this.encoding = encoding;
+    }
+
+    @Override
+    public boolean isFeasible(Chromosome chromosome) {
+        return encoding.isOrdered(encoding.genes(chromosome));
+    }
+
+    @Override
+    public double adjustFitness(Chromosome chromosome, double originalFitness) {
+        return originalFitness;
+    }
+
+    @Override
+    public Chromosome repair(Chromosome chromosome) {
+        double[] genes = encoding.genes(chromosome);
+        encoding.repair(genes);
+        for (int i = 0; i < genes.length; i++) {
+            chromosome.setGene(i, genes[i]);
+        }
+        return chromosome;
+    }
+}
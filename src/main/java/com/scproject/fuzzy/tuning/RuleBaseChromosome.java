@@ -0,0 +1,44 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.IntegerChromosome;
+import com.scproject.ga.core.GARandom;
+
+import java.util.Random;
+
+/**
+ * IntegerChromosome prototype for {@link RuleBaseEncoding} genomes. Random initialization switches
+ * each candidate rule on with probability {@code density}, with a uniformly chosen consequent and
+ * weight, so the search starts from small rule bases instead of the permutation IntegerChromosome
+ * would create.
+ */
+public class RuleBaseChromosome extends IntegerChromosome {
+
+    private final double density;
+
+    public RuleBaseChromosome(RuleBaseEncoding encoding, double density) {
+        this(encoding.getLength(), encoding.getMaxGene(), density);
+    }
+
+    private RuleBaseChromosome(int length, int maxGene, double density) {
+        super(length, 0, maxGene);
+        if (density < 0.0 || density > 1.0) {
+            throw new IllegalArgumentException("Density must be between 0 and 1");
+        }
+        this.density = density;
+    }
+
+    @Override
+    public void initialize() {
+        Random random = GARandom.current();
+        int maxGene = getUpperBound();
+        for (int i = 0; i < length; i++) {
+            setGene(i, random.nextDouble() < density ? 1 + random.nextInt(maxGene) : 0);
+        }
+    }
+
+    @Override
+    public Chromosome createNew(int length) {
+        return new RuleBaseChromosome(length, getUpperBound(), density);
+    }
+}
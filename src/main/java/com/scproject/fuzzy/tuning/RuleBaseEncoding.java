@@ -0,0 +1,293 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.fuzzy.core.CompiledFuzzySystem;
+import com.scproject.fuzzy.core.FuzzyRule;
+import com.scproject.fuzzy.core.FuzzySystem;
+import com.scproject.fuzzy.core.FuzzyVariable;
+import com.scproject.fuzzy.rulebase.RuleBase;
+import com.scproject.ga.chromosome.Chromosome;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the rule base of a Mamdani FuzzySystem to one integer gene per candidate rule.
+ *
+ * <p>The candidates are every AND combination of one set per input, in mixed-radix order with the
+ * last input varying fastest; with don't-care enabled an input may also be left out of a rule,
+ * which covers rules over fewer inputs. Gene 0 switches a candidate off, and gene
+ * {@code 1 + consequent * W + w} turns it on with the given output set and the w-th of the W
+ * weight levels. Inputs, membership functions, operators and defuzzifier are shared with the
+ * template; only the rules are evolved.
+ */
+public class RuleBaseEncoding {
+
+    public static final double[] DEFAULT_WEIGHTS = {0.25, 0.5, 0.75, 1.0};
+    //Larger grids should restrict the candidates by using fewer sets per input
+    public static final int MAX_CANDIDATES = 1 << 20;
+
+    private final FuzzySystem template;
+    private final CompiledFuzzySystem compiled;
+    private final int inputs;
+    private final String[] inputNames;
+    private final String[][] setNames;
+    private final String[] outputSetNames;
+    //Set of input i in candidate k is candidateSets[k * inputs + i], or -1 for don't care
+    private final int[] candidateSets;
+    private final int[] antecedentCount;
+    private final int candidates;
+    private final double[] weights;
+    private final int maxGene;
+
+    public RuleBaseEncoding(FuzzySystem template) {
+        this(template, false, DEFAULT_WEIGHTS);
+    }
+
+    public RuleBaseEncoding(FuzzySystem template, boolean dontCare, double[] weights) {
+        if (weights == null || weights.length == 0) {
+            throw new IllegalArgumentException("At least one weight level is required");
+        }
+        this.template = template;
+        this.compiled = CompiledFuzzySystem.compile(template);
+        if (compiled.isSugeno()) {
+            throw new IllegalArgumentException("Rule bases can only be evolved for Mamdani systems");
+        }
+        if (compiled.getOutputSetCount() == 0) {
+            throw new IllegalArgumentException("Template output variable has no fuzzy sets");
+        }
+        this.weights = weights.clone();
+
+        List<FuzzyVariable> variables = template.getInputs();
+        this.inputs = variables.size();
+        this.inputNames = new String[inputs];
+        this.setNames = new String[inputs][];
+        long count = 1;
+        for (int i = 0; i < inputs; i++) {
+            inputNames[i] = variables.get(i).getName();
+            setNames[i] = variables.get(i).getFuzzySets().keySet().toArray(new String[0]);
+            count *= setNames[i].length + (dontCare ? 1 : 0);
+            if (count > MAX_CANDIDATES + 1L) {
+                throw new IllegalArgumentException("More than " + MAX_CANDIDATES + " candidate rules");
+            }
+        }
+        this.outputSetNames = template.getOutput().getFuzzySets().keySet().toArray(new String[0]);
+        this.maxGene = outputSetNames.length * weights.length;
+
+        //Mixed-radix enumeration; the digit equal to the set count means don't care
+        List<int[]> combinations = new ArrayList<>();
+        int[] digits = new int[inputs];
+        for (long k = 0; k < count; k++) {
+            int used = 0;
+            for (int i = 0; i < inputs; i++) {
+                if (digits[i] < setNames[i].length) {
+                    used++;
+                }
+            }
+            if (used > 0) {
+                combinations.add(digits.clone());
+            }
+            for (int i = inputs - 1; i >= 0; i--) {
+                if (++digits[i] < setNames[i].length + (dontCare ? 1 : 0)) {
+                    break;
+                }
+                digits[i] = 0;
+            }
+        }
+        this.candidates = combinations.size();
+        this.candidateSets = new int[candidates * inputs];
+        this.antecedentCount = new int[candidates];
+        for (int k = 0; k < candidates; k++) {
+            int[] combination = combinations.get(k);
+            for (int i = 0; i < inputs; i++) {
+                boolean used = combination[i] < setNames[i].length;
+                candidateSets[k * inputs + i] = used ? combination[i] : -1;
+                if (used) {
+                    antecedentCount[k]++;
+                }
+            }
+        }
+    }
+
+    public int getLength() {
+        return candidates;
+    }
+
+    //Largest gene value; genes range over [0, getMaxGene()]
+    public int getMaxGene() {
+        return maxGene;
+    }
+
+    public FuzzySystem getTemplate() {
+        return template;
+    }
+
+    //The template compiled with its own rules; its fuzzify serves every decoded rule base
+    public CompiledFuzzySystem getCompiledTemplate() {
+        return compiled;
+    }
+
+    public int[] genes(Chromosome chromosome) {
+        Object[] values = chromosome.getGenes();
+        int[] genes = new int[values.length];
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] = ((Number) values[i]).intValue();
+        }
+        return genes;
+    }
+
+    public int countActive(int[] genes) {
+        int active = 0;
+        for (int gene : genes) {
+            if (gene > 0) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    //The active rules straight into a compiled system, without building FuzzyRule objects
+    public CompiledFuzzySystem compile(int[] genes) {
+        checkLength(genes);
+        int rules = 0;
+        int total = 0;
+        for (int k = 0; k < candidates; k++) {
+            if (genes[k] > 0) {
+                rules++;
+                total += antecedentCount[k];
+            }
+        }
+        int[] ruleStart = new int[rules + 1];
+        int[] antecedents = new int[total];
+        double[] ruleWeights = new double[rules];
+        int[] consequents = new int[rules];
+        int r = 0;
+        int a = 0;
+        for (int k = 0; k < candidates; k++) {
+            int gene = genes[k];
+            if (gene <= 0) {
+                continue;
+            }
+            ruleStart[r] = a;
+            for (int i = 0; i < inputs; i++) {
+                int set = candidateSets[k * inputs + i];
+                if (set >= 0) {
+                    antecedents[a++] = compiled.membershipIndex(i, set);
+                }
+            }
+            consequents[r] = (gene - 1) / weights.length;
+            ruleWeights[r] = weights[(gene - 1) % weights.length];
+            r++;
+        }
+        ruleStart[rules] = a;
+        return compiled.withRules(ruleStart, antecedents, ruleWeights, consequents);
+    }
+
+    //An independent FuzzySystem with the active rules, sharing the template's variables
+    public FuzzySystem decode(int[] genes) {
+        checkLength(genes);
+        RuleBase ruleBase = new RuleBase();
+        String outputName = template.getOutput().getName();
+        for (int k = 0; k < candidates; k++) {
+            int gene = genes[k];
+            if (gene <= 0) {
+                continue;
+            }
+            Map<String, String> antecedents = new LinkedHashMap<>();
+            for (int i = 0; i < inputs; i++) {
+                int set = candidateSets[k * inputs + i];
+                if (set >= 0) {
+                    antecedents.put(inputNames[i], setNames[i][set]);
+                }
+            }
+            ruleBase.addRule(new FuzzyRule(antecedents, outputName, outputSetNames[(gene - 1) / weights.length],
+                    "AND", weights[(gene - 1) % weights.length], true));
+        }
+
+        FuzzySystem system = new FuzzySystem();
+        for (FuzzyVariable input : template.getInputs()) {
+            system.addInput(input);
+        }
+        system.setOutput(template.getOutput());
+        system.setRuleBase(ruleBase);
+        system.setInferenceEngine(template.getInferenceEngine());
+        system.setAndOperator(template.getAndOperator());
+        system.setOrOperator(template.getOrOperator());
+        system.setDefuzzifier(template.getDefuzzifier());
+        return system;
+    }
+
+    /**
+     * Genes of the template's own rules. Enabled AND rules, or single-antecedent rules, that name
+     * each input at most once map onto their candidate; the weight is rounded to the nearest
+     * level. Rules outside the candidate grid are dropped.
+     */
+    public int[] encode() {
+        int[] genes = new int[candidates];
+        for (FuzzyRule rule : template.getRuleBase().getActiveRules()) {
+            Map<String, String> conditions = rule.getAntecedents();
+            if (conditions == null || conditions.isEmpty()
+                    || (conditions.size() > 1 && !"AND".equals(rule.getOperator()))) {
+                continue;
+            }
+            int k = candidateIndex(conditions);
+            int consequent = indexOf(outputSetNames, rule.getConsequentFuzzySet());
+            if (k >= 0 && consequent >= 0) {
+                genes[k] = 1 + consequent * weights.length + nearestWeight(rule.getWeight());
+            }
+        }
+        return genes;
+    }
+
+    private int candidateIndex(Map<String, String> conditions) {
+        int[] wanted = new int[inputs];
+        Arrays.fill(wanted, -1);
+        for (Map.Entry<String, String> condition : conditions.entrySet()) {
+            int input = indexOf(inputNames, condition.getKey());
+            if (input < 0) {
+                return -1;
+            }
+            wanted[input] = indexOf(setNames[input], condition.getValue());
+            if (wanted[input] < 0) {
+                return -1;
+            }
+        }
+        for (int k = 0; k < candidates; k++) {
+            boolean match = true;
+            for (int i = 0; i < inputs && match; i++) {
+                match = candidateSets[k * inputs + i] == wanted[i];
+            }
+            if (match) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    private int nearestWeight(double weight) {
+        int best = 0;
+        for (int w = 1; w < weights.length; w++) {
+            if (Math.abs(weights[w] - weight) < Math.abs(weights[best] - weight)) {
+                best = w;
+            }
+        }
+        return best;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void checkLength(int[] genes) {
+        if (genes.length != candidates) {
+            throw new IllegalArgumentException("Expected " + candidates + " genes, got " + genes.length);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.fuzzy.core.CompiledFuzzySystem;
+import com.scproject.fuzzy.core.FuzzySystem;
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.fitness.BatchFitnessFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scores rule-base chromosomes by their root mean squared error over a recorded dataset, minus an
+ * optional penalty per active rule. Fitness is negated, since the GA maximizes.
+ *
+ * <p>Only the rules are evolved, so the input memberships of every row are computed once, up
+ * front, with the template. Each candidate is compiled once per batch, and its (candidate, block
+ * of rows) tasks run on a fixed worker pool over copies of the compiled system; partial errors are
+ * summed per candidate in a fixed order, which keeps scores independent of scheduling.
+ */
+public class RuleBaseFitness implements BatchFitnessFunction, AutoCloseable {
+
+    private final RuleBaseEncoding encoding;
+    private final FuzzyDataset dataset;
+    //Memberships of every input set per row, as filled by CompiledFuzzySystem.fuzzify
+    private final double[][] memberships;
+    private final ExecutorService workers;
+    private int blockSize = 256;
+    private double rulePenalty = 0.0;
+
+    public RuleBaseFitness(RuleBaseEncoding encoding, FuzzyDataset dataset) {
+        this(encoding, dataset, Runtime.getRuntime().availableProcessors());
+    }
+
+    public RuleBaseFitness(RuleBaseEncoding encoding, FuzzyDataset dataset, int parallelism) {
+        if (dataset.size() == 0) {
+            throw new IllegalArgumentException("Dataset cannot be empty");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.encoding = encoding;
+        this.dataset = dataset;
+
+        CompiledFuzzySystem template = encoding.getCompiledTemplate();
+        int[] columnOfInput = new int[template.getInputCount()];
+        for (int i = 0; i < columnOfInput.length; i++) {
+            columnOfInput[i] = dataset.indexOf(template.getInputName(i));
+            if (columnOfInput[i] < 0) {
+                throw new IllegalArgumentException("Dataset has no column for input " + template.getInputName(i));
+            }
+        }
+        this.memberships = new double[dataset.size()][template.getMembershipCount()];
+        double[] inputs = new double[columnOfInput.length];
+        for (int row = 0; row < memberships.length; row++) {
+            for (int i = 0; i < inputs.length; i++) {
+                inputs[i] = dataset.getInput(columnOfInput[i], row);
+            }
+            template.fuzzify(inputs, memberships[row]);
+        }
+
+        this.workers = Executors.newFixedThreadPool(parallelism, task -> {
+            Thread thread = new Thread(task, "rule-base-fitness");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void evaluate(List<? extends Chromosome> batch, double[] scores) {
+        int rows = dataset.size();
+        int blocks = (rows + blockSize - 1) / blockSize;
+        double[][] squaredErrors = new double[batch.size()][blocks];
+        int[] activeRules = new int[batch.size()];
+
+        List<Callable<Void>> tasks = new ArrayList<>(batch.size() * blocks);
+        for (int c = 0; c < batch.size(); c++) {
+            int[] genes = encoding.genes(batch.get(c));
+            activeRules[c] = encoding.countActive(genes);
+            CompiledFuzzySystem system = encoding.compile(genes);
+            double[] candidateErrors = squaredErrors[c];
+            for (int b = 0; b < blocks; b++) {
+                int block = b;
+                int from = b * blockSize;
+                int to = Math.min(rows, from + blockSize);
+                tasks.add(() -> {
+                    candidateErrors[block] = squaredError(system.copy(), from, to);
+                    return null;
+                });
+            }
+        }
+
+        try {
+            for (Future<Void> result : workers.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while evaluating rule bases", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Rule base evaluation failed", e.getCause());
+        }
+
+        for (int c = 0; c < batch.size(); c++) {
+            double sum = 0.0;
+            for (double error : squaredErrors[c]) {
+                sum += error;
+            }
+            scores[c] = -(Math.sqrt(sum / rows) + rulePenalty * activeRules[c]);
+        }
+    }
+
+    //Root mean squared error of a single system over the whole dataset, without the rule penalty
+    public double rmse(CompiledFuzzySystem system) {
+        return Math.sqrt(squaredError(system, 0, dataset.size()) / dataset.size());
+    }
+
+    //The system must have the template's inputs and input sets
+    public double rmse(FuzzySystem system) {
+        return rmse(system.compile());
+    }
+
+    private double squaredError(CompiledFuzzySystem system, int from, int to) {
+        double sum = 0.0;
+        for (int row = from; row < to; row++) {
+            double error = system.evaluateFuzzified(memberships[row]) - dataset.getTarget(row);
+            sum += error * error;
+        }
+        return sum;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+    }
+
+    public double getRulePenalty() {
+        return rulePenalty;
+    }
+
+    //Fitness cost of each active rule, in units of RMSE; favours smaller rule bases
+    public void setRulePenalty(double rulePenalty) {
+        if (rulePenalty < 0.0) {
+            throw new IllegalArgumentException("Rule penalty cannot be negative");
+        }
+        this.rulePenalty = rulePenalty;
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+}
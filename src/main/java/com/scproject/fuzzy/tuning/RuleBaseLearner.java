@@ -0,0 +1,108 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.fuzzy.core.FuzzySystem;
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.core.GeneticAlgorithm;
+import com.scproject.ga.crossover.NPointCrossover;
+import com.scproject.ga.replacement.ElitistReplacement;
+
+/**
+ * Learns the rule base of a Mamdani FuzzySystem from a recorded dataset with the project's
+ * GeneticAlgorithm, keeping the template's variables, operators and defuzzifier unchanged.
+ */
+public class RuleBaseLearner {
+
+    private final RuleBaseEncoding encoding;
+    private final RuleBaseFitness fitness;
+    private int populationSize = 50;
+    private int generations = 50;
+    private double initialDensity = 0.1;
+    private boolean verbose = true;
+    private double bestScore = Double.NaN;
+    private double bestRmse = Double.NaN;
+
+    public RuleBaseLearner(RuleBaseEncoding encoding, RuleBaseFitness fitness) {
+        this.encoding = encoding;
+        this.fitness = fitness;
+    }
+
+    public FuzzySystem learn() {
+        GAConfiguration config = new GAConfiguration();
+        config.setPopulationSize(populationSize);
+        config.setNumberOfParents(populationSize);
+        config.setGenerations(generations);
+        config.setChromosomeLength(encoding.getLength());
+        config.setChromosomePrototype(new RuleBaseChromosome(encoding, initialDensity));
+        config.setCrossoverStrategy(new NPointCrossover(2));
+        config.setCrossoverRate(0.9);
+        //RuleMutation applies its own per-gene rate, so every offspring goes through it
+        config.setMutationStrategy(new RuleMutation(Math.min(1.0, 2.0 / encoding.getLength())));
+        config.setMutationRate(1.0);
+        ElitistReplacement replacement = new ElitistReplacement();
+        replacement.setEliteCount(2);
+        replacement.setReplacementCount(Integer.MAX_VALUE);
+        config.setReplacementStrategy(replacement);
+        config.setVerbose(verbose);
+        config.setPrintFrequency(5);
+
+        GeneticAlgorithm ga = new GeneticAlgorithm(config);
+        ga.setBatchFitnessFunction(fitness);
+        ga.run();
+
+        int[] genes = encoding.genes(ga.getBestSolution());
+        bestScore = ga.getBestFitness();
+        bestRmse = fitness.rmse(encoding.compile(genes));
+        return encoding.decode(genes);
+    }
+
+    //Best fitness found, including the rule penalty
+    public double getBestScore() {
+        return bestScore;
+    }
+
+    public double getBestRmse() {
+        return bestRmse;
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    public void setPopulationSize(int populationSize) {
+        if (populationSize <= 0) {
+            throw new IllegalArgumentException("Population size must be positive");
+        }
+        this.populationSize = populationSize;
+    }
+
+    public int getGenerations() {
+        return generations;
+    }
+
+    public void setGenerations(int generations) {
+        if (generations <= 0) {
+            throw new IllegalArgumentException("Generations must be positive");
+        }
+        this.generations = generations;
+    }
+
+    public double getInitialDensity() {
+        return initialDensity;
+    }
+
+    //Probability that a candidate rule is active in a random initial individual
+    public void setInitialDensity(double initialDensity) {
+        if (initialDensity < 0.0 || initialDensity > 1.0) {
+            throw new IllegalArgumentException("Initial density must be between 0 and 1");
+        }
+        this.initialDensity = initialDensity;
+    }
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+}
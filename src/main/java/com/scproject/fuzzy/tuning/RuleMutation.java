@@ -0,0 +1,69 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.IntegerChromosome;
+import com.scproject.ga.core.GARandom;
+import com.scproject.ga.mutation.MutationStrategy;
+
+import java.util.Random;
+
+/**
+ * Random reset for rule-base genomes: each gene mutates with probability {@code mutationRate},
+ * and a mutated rule is switched off with probability {@code offProbability} or otherwise given a
+ * random consequent and weight. Mutation therefore adds, removes and rewrites rules, and
+ * {@code offProbability} steers how large the rule bases grow.
+ */
+public class RuleMutation implements MutationStrategy {
+
+    private double mutationRate;
+    private double offProbability = 0.5;
+
+    public RuleMutation(double mutationRate) {
+        this.mutationRate = checkedMutationRate(mutationRate);
+    }
+
+    @Override
+    public Chromosome mutate(Chromosome chromosome) {
+        if (!(chromosome instanceof IntegerChromosome)) {
+            throw new IllegalArgumentException("RuleMutation only applies to IntegerChromosome");
+        }
+        IntegerChromosome genome = (IntegerChromosome) chromosome;
+        int maxGene = genome.getUpperBound();
+        Random random = GARandom.current();
+        for (int i = 0; i < genome.getLength(); i++) {
+            if (random.nextDouble() < mutationRate) {
+                genome.setGene(i, random.nextDouble() < offProbability ? 0 : 1 + random.nextInt(maxGene));
+            }
+        }
+        genome.resetEvaluation();
+        return genome;
+    }
+
+    @Override
+    public void setMutationRate(double mutationRate) {
+        this.mutationRate = checkedMutationRate(mutationRate);
+    }
+
+    private static double checkedMutationRate(double mutationRate) {
+        if (mutationRate < 0.0 || mutationRate > 1.0) {
+            throw new IllegalArgumentException("Mutation rate must be between 0 and 1");
+        }
+        return mutationRate;
+    }
+
+    public double getOffProbability() {
+        return offProbability;
+    }
+
+    public void setOffProbability(double offProbability) {
+        if (offProbability < 0.0 || offProbability > 1.0) {
+            throw new IllegalArgumentException("Off probability must be between 0 and 1");
+        }
+        this.offProbability = offProbability;
+    }
+
+    @Override
+    public boolean isApplicable(Chromosome chromosome) {
+        return chromosome instanceof IntegerChromosome;
+    }
+}
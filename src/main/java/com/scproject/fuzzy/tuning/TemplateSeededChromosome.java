@@ -0,0 +1,52 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.core.GARandom;
+
+import java.util.Random;
+
+/**
+ * FPChromosome prototype whose random initialization perturbs the template's own genes instead of
+ * sampling [0, 1] uniformly, so the search starts around the hand-picked membership functions
+ * rather than from collapsed, badly ordered ones.
+ */
+public class TemplateSeededChromosome extends FPChromosome {
+
+    private final MembershipEncoding encoding;
+    private final double[] templateGenes;
+    private final double spread;
+
+    public TemplateSeededChromosome(MembershipEncoding encoding, double spread) {
+        this(encoding, encoding.encode(), spread);
+    }
+
+    private TemplateSeededChromosome(MembershipEncoding encoding, double[] templateGenes, double spread) {
+        super(templateGenes.length, 0.0, 1.0);
+        if (spread < 0.0) {
+            throw new IllegalArgumentException("Spread cannot be negative");
+        }
+        this.encoding = encoding;
+        this.templateGenes = templateGenes;
+        this.spread = spread;
+    }
+
+    @Override
+    public void initialize() {
+        Random random = GARandom.current();
+        double[] genes = templateGenes.clone();
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] += spread * random.nextGaussian();
+        }
+        encoding.repair(genes);
+        setValues(genes);
+    }
+
+    @Override
+    public Chromosome createNew(int length) {
+        if (length != templateGenes.length) {
+            return new FPChromosome(length, 0.0, 1.0);
+        }
+        return new TemplateSeededChromosome(encoding, templateGenes, spread);
+    }
+}
@@ -0,0 +1,126 @@
+package com.scproject.fuzzy.tuning;
+
+import com.scproject.fuzzy.core.FuzzyRule;
+import com.scproject.fuzzy.core.FuzzySet;
+import com.scproject.fuzzy.core.FuzzySystem;
+import com.scproject.fuzzy.core.FuzzyVariable;
+import com.scproject.fuzzy.defuzzification.CentroidDefuzz;
+import com.scproject.fuzzy.inference.MamdaniEngine;
+import com.scproject.fuzzy.membership.TriangularMF;
+import com.scproject.fuzzy.rulebase.RuleBase;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tunes the traffic light controller from fuzzy.Main against recorded green durations.
+ * Pass a CSV with columns Density,WaitingTime,GreenDuration; without one, recordings are
+ * simulated from a controller with different breakpoints plus noise.
+ */
+public class TrafficTuningDemo {
+
+    public static void main(String[] args) throws Exception {
+        FuzzySystem handPicked = buildController(new double[][]{
+                {0, 0, 40}, {20, 50, 80}, {60, 100, 100},
+                {0, 0, 40}, {30, 60, 90}, {80, 120, 120},
+                {0, 0, 20}, {15, 30, 45}, {40, 60, 60}});
+
+        FuzzyDataset dataset;
+        if (args.length > 0) {
+            dataset = FuzzyDataset.readCsv(Path.of(args[0]));
+        } else {
+            FuzzySystem reference = buildController(new double[][]{
+                    {0, 10, 30}, {15, 40, 70}, {50, 85, 100},
+                    {0, 5, 50}, {35, 65, 85}, {70, 110, 120},
+                    {0, 8, 25}, {20, 35, 50}, {35, 55, 60}});
+            dataset = simulate(reference, 3000, 1.5, new Random(7));
+        }
+
+        MembershipEncoding encoding = new MembershipEncoding(handPicked);
+        try (FuzzyTuningFitness fitness = new FuzzyTuningFitness(encoding, dataset)) {
+            System.out.printf("Hand-picked RMSE: %.3f s over %d recordings%n", fitness.rmse(handPicked), dataset.size());
+
+            FuzzyMembershipTuner tuner = new FuzzyMembershipTuner(encoding, fitness);
+            long start = System.nanoTime();
+            FuzzySystem tuned = tuner.tune();
+            System.out.printf("Tuned RMSE: %.3f s (%.1f s)%n", tuner.getBestRmse(), (System.nanoTime() - start) / 1e9);
+
+            for (FuzzyVariable variable : tuned.getInputs()) {
+                printVariable(variable);
+            }
+            printVariable(tuned.getOutput());
+        }
+    }
+
+    //Breakpoints in order: Density Low/Medium/High, WaitingTime Short/Medium/Long, GreenDuration Short/Medium/Long
+    static FuzzySystem buildController(double[][] breakpoints) {
+        FuzzyVariable density = variable("Density", 0, 100, new String[]{"Low", "Medium", "High"}, breakpoints, 0);
+        FuzzyVariable waitTime = variable("WaitingTime", 0, 120, new String[]{"Short", "Medium", "Long"}, breakpoints, 3);
+        FuzzyVariable duration = variable("GreenDuration", 0, 60, new String[]{"Short", "Medium", "Long"}, breakpoints, 6);
+
+        String[][] table = {
+                {"Low", "Short", "Short"}, {"Low", "Medium", "Short"}, {"Low", "Long", "Medium"},
+                {"Medium", "Short", "Short"}, {"Medium", "Medium", "Medium"}, {"Medium", "Long", "Long"},
+                {"High", "Short", "Medium"}, {"High", "Medium", "Long"}, {"High", "Long", "Long"}};
+        RuleBase ruleBase = new RuleBase();
+        for (String[] row : table) {
+            Map<String, String> antecedents = new HashMap<>();
+            antecedents.put("Density", row[0]);
+            antecedents.put("WaitingTime", row[1]);
+            ruleBase.addRule(new FuzzyRule(antecedents, "GreenDuration", row[2], "AND", 1.0, true));
+        }
+
+        FuzzySystem system = new FuzzySystem();
+        system.addInput(density);
+        system.addInput(waitTime);
+        system.setOutput(duration);
+        system.setRuleBase(ruleBase);
+        system.setInferenceEngine(new MamdaniEngine());
+        system.setDefuzzifier(new CentroidDefuzz(200));
+        return system;
+    }
+
+    private static FuzzyVariable variable(String name, double min, double max, String[] sets,
+                                          double[][] breakpoints, int first) {
+        Map<String, FuzzySet> fuzzySets = new HashMap<>();
+        for (int i = 0; i < sets.length; i++) {
+            double[] p = breakpoints[first + i];
+            fuzzySets.put(sets[i], new FuzzySet(sets[i], new TriangularMF(p[0], p[1], p[2])));
+        }
+        FuzzyVariable variable = new FuzzyVariable();
+        variable.setName(name);
+        variable.setMinRange(min);
+        variable.setMaxRange(max);
+        variable.setFuzzySets(fuzzySets);
+        return variable;
+    }
+
+    private static FuzzyDataset simulate(FuzzySystem reference, int rows, double noise, Random random) {
+        double[][] columns = new double[2][rows];
+        double[] targets = new double[rows];
+        Map<String, Double> inputs = new HashMap<>();
+        for (int r = 0; r < rows; r++) {
+            columns[0][r] = random.nextDouble() * 100;
+            columns[1][r] = random.nextDouble() * 120;
+            inputs.put("Density", columns[0][r]);
+            inputs.put("WaitingTime", columns[1][r]);
+            targets[r] = reference.evaluate(inputs) + noise * random.nextGaussian();
+        }
+        return new FuzzyDataset(new String[]{"Density", "WaitingTime"}, columns, targets);
+    }
+
+    private static void printVariable(FuzzyVariable variable) {
+        StringBuilder sb = new StringBuilder(variable.getName()).append(':');
+        for (FuzzySet set : variable.getFuzzySets().values()) {
+            double[] p = set.getMembershipFunction().getDefiningPoints();
+            sb.append(' ').append(set.getName()).append('(');
+            for (int i = 0; i < p.length; i++) {
+                sb.append(i > 0 ? ", " : "").append(String.format("%.1f", p[i]));
+            }
+            sb.append(')');
+        }
+        System.out.println(sb);
+    }
+}
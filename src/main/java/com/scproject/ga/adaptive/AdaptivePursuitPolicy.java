@@ -0,0 +1,116 @@
+package com.scproject.ga.adaptive;
+
+import com.scproject.ga.core.GARandom;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AdaptivePursuitPolicy implements BanditPolicy {
+
+    private final double minProbability;
+    private final double adaptationRate;
+    private final double learningRate;
+
+    //Probabilities and quality estimates are replaced as a whole with CAS so readers never see a torn state
+    private final AtomicReference<State> state = new AtomicReference<>();
+
+    public AdaptivePursuitPolicy() {
+        this(0.05, 0.8, 0.8);
+    }
+
+    public AdaptivePursuitPolicy(double minProbability, double adaptationRate, double learningRate) {
+        if (minProbability < 0 || minProbability >= 1) {
+            throw new IllegalArgumentException("Minimum probability must be in [0,1)");
+        }
+        if (adaptationRate <= 0 || adaptationRate > 1) {
+            throw new IllegalArgumentException("Adaptation rate must be in (0,1]");
+        }
+        if (learningRate <= 0 || learningRate > 1) {
+            throw new IllegalArgumentException("Learning rate must be in (0,1]");
+        }
+        this.minProbability = minProbability;
+        this.adaptationRate = adaptationRate;
+        this.learningRate = learningRate;
+    }
+
+    @Override
+    public int choose(List<? extends OperatorPortfolio.Arm<?>> arms) {
+        double[] probabilities = currentState(arms.size()).probabilities;
+
+        double rand = GARandom.current().nextDouble();
+        double cumulative = 0.0;
+        for (int i = 0; i < probabilities.length; i++) {
+            cumulative += probabilities[i];
+            if (cumulative >= rand) {
+                return i;
+            }
+        }
+        return probabilities.length - 1;
+    }
+
+    @Override
+    public void update(List<? extends OperatorPortfolio.Arm<?>> arms, int chosen, double reward) {
+        int k = arms.size();
+        double pMin = k > 1 ? Math.min(minProbability, 1.0 / k) : 1.0;
+        double pMax = 1.0 - (k - 1) * pMin;
+
+        while (true) {
+            State current = currentState(k);
+            double[] quality = current.quality.clone();
+            double[] probabilities = current.probabilities.clone();
+
+            quality[chosen] += adaptationRate * (reward - quality[chosen]);
+
+            int best = 0;
+            for (int i = 1; i < k; i++) {
+                if (quality[i] > quality[best]) {
+                    best = i;
+                }
+            }
+
+            for (int i = 0; i < k; i++) {
+                double target = (i == best) ? pMax : pMin;
+                probabilities[i] += learningRate * (target - probabilities[i]);
+            }
+
+            if (state.compareAndSet(current, new State(probabilities, quality))) {
+                return;
+            }
+        }
+    }
+
+    public double[] getProbabilities() {
+        State current = state.get();
+        return current == null ? new double[0] : current.probabilities.clone();
+    }
+
+    private State currentState(int armCount) {
+        State current = state.get();
+        while (current == null || current.probabilities.length != armCount) {
+            double[] probabilities = new double[armCount];
+            Arrays.fill(probabilities, 1.0 / armCount);
+            State fresh = new State(probabilities, new double[armCount]);
+            if (state.compareAndSet(current, fresh)) {
+                return fresh;
+            }
+            current = state.get();
+        }
+        return current;
+    }
+
+    @Override
+    public String getName() {
+        return "Adaptive Pursuit";
+    }
+
+    private static final class State {
+        final double[] probabilities;
+        final double[] quality;
+
+        State(double[] probabilities, double[] quality) {
+            this.probabilities = probabilities;
+            this.quality = quality;
+        }
+    }
+}
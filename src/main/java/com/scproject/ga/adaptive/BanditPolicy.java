@@ -0,0 +1,14 @@
+package com.scproject.ga.adaptive;
+
+import java.util.List;
+
+public interface BanditPolicy {
+
+    int choose(List<? extends OperatorPortfolio.Arm<?>> arms);
+
+    default void update(List<? extends OperatorPortfolio.Arm<?>> arms, int chosen, double reward) {
+        //Default, policies that keep their own state can override
+    }
+
+    String getName();
+}
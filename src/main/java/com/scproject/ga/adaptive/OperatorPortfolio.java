@@ -0,0 +1,165 @@
+package com.scproject.ga.adaptive;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A set of interchangeable operators (each with its own application rate) from which a
+ * bandit policy picks one per application. Credit is the fitness improvement an operator
+ * produced per millisecond of CPU time spent on it, so cheap operators that still help win.
+ * All bookkeeping is lock-free and the portfolio can be shared between threads.
+ */
+public class OperatorPortfolio<T> {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private final List<Arm<T>> arms;
+    private final BanditPolicy policy;
+    private final AtomicLong maxRawRewardBits;
+
+    public OperatorPortfolio() {
+        this(new UCBPolicy());
+    }
+
+    public OperatorPortfolio(BanditPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Bandit policy cannot be null");
+        }
+        this.arms = new CopyOnWriteArrayList<>();
+        this.policy = policy;
+        this.maxRawRewardBits = new AtomicLong(Double.doubleToLongBits(0.0));
+    }
+
+    public OperatorPortfolio<T> addOperator(T operator, double rate) {
+        if (operator == null) {
+            throw new IllegalArgumentException("Operator cannot be null");
+        }
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Operator rate must be between 0 and 1");
+        }
+        arms.add(new Arm<>(operator, rate));
+        return this;
+    }
+
+    //Selection alone is not a pull: the operator may not fire at its rate, so pulls are counted in reward
+    public int select() {
+        if (arms.isEmpty()) {
+            throw new IllegalStateException("Operator portfolio is empty");
+        }
+        return policy.choose(arms);
+    }
+
+    public Arm<T> getArm(int index) {
+        return arms.get(index);
+    }
+
+    public List<Arm<T>> getArms() {
+        return Collections.unmodifiableList(arms);
+    }
+
+    public int size() {
+        return arms.size();
+    }
+
+    public BanditPolicy getPolicy() {
+        return policy;
+    }
+
+    //costNanos is the CPU time of the operator itself; evaluating the child costs every arm the same and is not attributed
+    public void reward(int armIndex, double improvement, long costNanos) {
+        Arm<T> arm = arms.get(armIndex);
+        double costMillis = Math.max(costNanos, 1L) / 1_000_000.0;
+        double raw = Math.max(0.0, improvement) / costMillis;
+
+        //Rewards are scaled by the largest one seen so far to keep them in [0,1] for the policy
+        double max = updateMaxRawReward(raw);
+        double normalized = max > 0 ? raw / max : 0.0;
+
+        arm.rewardSum.add(normalized);
+        arm.pulls.increment();
+        arm.costNanos.add(costNanos);
+        if (improvement > 0) {
+            arm.improvements.increment();
+        }
+        policy.update(arms, armIndex, normalized);
+    }
+
+    private double updateMaxRawReward(double raw) {
+        while (true) {
+            long currentBits = maxRawRewardBits.get();
+            double current = Double.longBitsToDouble(currentBits);
+            if (raw <= current) {
+                return current;
+            }
+            if (maxRawRewardBits.compareAndSet(currentBits, Double.doubleToLongBits(raw))) {
+                return raw;
+            }
+        }
+    }
+
+    public static long cpuTimeNanos() {
+        return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("OperatorPortfolio{policy=").append(policy.getName());
+        for (Arm<T> arm : arms) {
+            sb.append(", ").append(arm);
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    public static final class Arm<T> {
+        private final T operator;
+        private final double rate;
+        private final LongAdder pulls = new LongAdder();
+        private final LongAdder improvements = new LongAdder();
+        private final DoubleAdder rewardSum = new DoubleAdder();
+        private final LongAdder costNanos = new LongAdder();
+
+        private Arm(T operator, double rate) {
+            this.operator = operator;
+            this.rate = rate;
+        }
+
+        public T getOperator() {
+            return operator;
+        }
+
+        public double getRate() {
+            return rate;
+        }
+
+        public long getPulls() {
+            return pulls.sum();
+        }
+
+        public long getImprovements() {
+            return improvements.sum();
+        }
+
+        public double getMeanReward() {
+            long count = pulls.sum();
+            return count == 0 ? 0.0 : rewardSum.sum() / count;
+        }
+
+        public double getTotalCostMillis() {
+            return costNanos.sum() / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s(rate=%.2f, pulls=%d, improvements=%d, meanReward=%.4f)",
+                    operator.getClass().getSimpleName(), rate, getPulls(), getImprovements(), getMeanReward());
+        }
+    }
+}
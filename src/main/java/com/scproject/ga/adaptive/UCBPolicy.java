@@ -0,0 +1,50 @@
+package com.scproject.ga.adaptive;
+
+import java.util.List;
+
+public class UCBPolicy implements BanditPolicy {
+
+    private final double exploration;
+
+    public UCBPolicy() {
+        this(Math.sqrt(2.0));
+    }
+
+    public UCBPolicy(double exploration) {
+        if (exploration < 0) {
+            throw new IllegalArgumentException("Exploration constant must be non-negative");
+        }
+        this.exploration = exploration;
+    }
+
+    @Override
+    public int choose(List<? extends OperatorPortfolio.Arm<?>> arms) {
+        long totalPulls = 0;
+        for (int i = 0; i < arms.size(); i++) {
+            long pulls = arms.get(i).getPulls();
+            //Every arm is tried once before the confidence bound is used
+            if (pulls == 0) {
+                return i;
+            }
+            totalPulls += pulls;
+        }
+
+        double logTotal = Math.log(totalPulls);
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < arms.size(); i++) {
+            OperatorPortfolio.Arm<?> arm = arms.get(i);
+            double score = arm.getMeanReward() + exploration * Math.sqrt(logTotal / arm.getPulls());
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String getName() {
+        return "UCB1";
+    }
+}
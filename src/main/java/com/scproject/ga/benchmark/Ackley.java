@@ -0,0 +1,21 @@
+package com.scproject.ga.benchmark;
+
+//Nearly flat outer region around a deep central funnel; minimum 0 at the origin
+public class Ackley extends ContinuousProblem {
+
+    public Ackley(int dimension) {
+        super(dimension, -32.768, 32.768);
+    }
+
+    @Override
+    public double value(double[] x) {
+        double squares = 0.0;
+        double cosines = 0.0;
+        for (double xi : x) {
+            squares += xi * xi;
+            cosines += Math.cos(2.0 * Math.PI * xi);
+        }
+        return -20.0 * Math.exp(-0.2 * Math.sqrt(squares / x.length))
+                - Math.exp(cosines / x.length) + 20.0 + Math.E;
+    }
+}
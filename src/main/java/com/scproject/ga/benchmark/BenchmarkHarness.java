@@ -0,0 +1,164 @@
+package com.scproject.ga.benchmark;
+
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.core.GenerationListener;
+import com.scproject.ga.core.GeneticAlgorithm;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Runs a GAConfiguration on a benchmark problem and measures throughput and progress.
+ *
+ * <p>Every run works on its own copy of the configuration with a fixed seed, so repeated
+ * benchmarks of the same engine see identical searches and differ only in speed. Warm-up runs,
+ * discarded before measuring, let the JIT compile the hot paths. Runs execute one after another
+ * on the calling thread; breeding threads and evaluators configured on the GA run as usual.
+ *
+ * <p>Time to target is taken at the end of the first generation whose best fitness reaches the
+ * problem's target. Allocation counts the heap allocated by every thread of this JVM during the
+ * run, including threads that finished before it ended; work done in other processes, such as
+ * a ProcessPoolEvaluator's workers, is not included.
+ */
+public class BenchmarkHarness {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private int warmupRuns = 1;
+    private int measuredRuns = 5;
+    private long seed = 1L;
+    private boolean stopAtTarget;
+
+    public BenchmarkResult run(BenchmarkProblem problem) {
+        return run(problem, problem.defaultConfiguration());
+    }
+
+    public BenchmarkResult run(BenchmarkProblem problem, GAConfiguration config) {
+        if (problem == null || config == null) {
+            throw new IllegalArgumentException("Problem and configuration cannot be null");
+        }
+        for (int i = 0; i < warmupRuns; i++) {
+            runOnce(problem, config, seed + measuredRuns + i);
+        }
+
+        long[] wallNanos = new long[measuredRuns];
+        long[] evaluations = new long[measuredRuns];
+        int[] generations = new int[measuredRuns];
+        long[] allocatedBytes = new long[measuredRuns];
+        double[] bestFitness = new double[measuredRuns];
+        long[] nanosToTarget = new long[measuredRuns];
+        long[] evaluationsToTarget = new long[measuredRuns];
+
+        for (int i = 0; i < measuredRuns; i++) {
+            TargetWatch watch = runOnce(problem, config, seed + i);
+            GeneticAlgorithm ga = watch.ga;
+            wallNanos[i] = watch.wallNanos;
+            evaluations[i] = ga.getEvaluationCount();
+            generations[i] = ga.getGenerationsRun();
+            allocatedBytes[i] = watch.allocatedBytes;
+            bestFitness[i] = ga.getBestFitness();
+            nanosToTarget[i] = watch.nanosToTarget;
+            evaluationsToTarget[i] = watch.evaluationsToTarget;
+        }
+        return new BenchmarkResult(problem.getName(), config.toString(), problem.getTarget(), wallNanos, evaluations,
+                generations, allocatedBytes, bestFitness, nanosToTarget, evaluationsToTarget);
+    }
+
+    private TargetWatch runOnce(BenchmarkProblem problem, GAConfiguration config, long runSeed) {
+        GAConfiguration runConfig = config.copy();
+        runConfig.setSeed(runSeed);
+        runConfig.setVerbose(false);
+        GeneticAlgorithm ga = new GeneticAlgorithm(runConfig);
+        problem.configure(ga);
+
+        TargetWatch watch = new TargetWatch(ga, problem.getTarget(), stopAtTarget);
+        ga.addGenerationListener(watch);
+        long allocatedBefore = allocatedBytes();
+        watch.start = System.nanoTime();
+        ga.run();
+        watch.wallNanos = System.nanoTime() - watch.start;
+        long allocatedAfter = allocatedBytes();
+        watch.allocatedBytes = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        return watch;
+    }
+
+    //Total heap allocated by all threads so far, or -1 if this JVM cannot report it
+    private static long allocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+            if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean.getTotalThreadAllocatedBytes();
+            }
+        }
+        return -1;
+    }
+
+    private static final class TargetWatch implements GenerationListener {
+        final GeneticAlgorithm ga;
+        final double target;
+        final boolean stop;
+        long start;
+        long wallNanos;
+        long allocatedBytes;
+        long nanosToTarget = -1;
+        long evaluationsToTarget = -1;
+
+        TargetWatch(GeneticAlgorithm ga, double target, boolean stop) {
+            this.ga = ga;
+            this.target = target;
+            this.stop = stop;
+        }
+
+        @Override
+        public void onGeneration(GeneticAlgorithm run, int generation) {
+            //Comparisons with a NaN target are false, so problems without an optimum never finish early
+            if (nanosToTarget < 0 && run.getBestFitness() >= target) {
+                nanosToTarget = System.nanoTime() - start;
+                evaluationsToTarget = run.getEvaluationCount();
+                if (stop) {
+                    run.requestStop();
+                }
+            }
+        }
+    }
+
+    public int getWarmupRuns() {
+        return warmupRuns;
+    }
+
+    public void setWarmupRuns(int warmupRuns) {
+        if (warmupRuns < 0) {
+            throw new IllegalArgumentException("Warm-up runs cannot be negative");
+        }
+        this.warmupRuns = warmupRuns;
+    }
+
+    public int getMeasuredRuns() {
+        return measuredRuns;
+    }
+
+    public void setMeasuredRuns(int measuredRuns) {
+        if (measuredRuns <= 0) {
+            throw new IllegalArgumentException("Measured runs must be positive");
+        }
+        this.measuredRuns = measuredRuns;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    //Measured run i uses seed + i; warm-up runs use the seeds after those
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public boolean isStopAtTarget() {
+        return stopAtTarget;
+    }
+
+    //Ends each run once the target is reached; throughput then covers only the search up to it
+    public void setStopAtTarget(boolean stopAtTarget) {
+        this.stopAtTarget = stopAtTarget;
+    }
+}
@@ -0,0 +1,172 @@
+package com.scproject.ga.benchmark;
+
+import com.scproject.ga.chromosome.GeneStorage;
+import com.scproject.ga.core.GAConfiguration;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line benchmark: {@code BenchmarkMain [options] [problem specs...]}, running the
+ * standard suite when no problem is given. See {@link BenchmarkSuite} for the problem specs.
+ *
+ * <p>Options are {@code --runs N}, {@code --warmup N}, {@code --seed S}, {@code --population N},
+ * {@code --generations N}, {@code --breedingThreads N}, {@code --pipelineDepth N},
+ * {@code --stopAtTarget}, {@code --storage double|float32|fixed16} for the genes of the
+ * real-valued problems, {@code --csv FILE} to save the results and {@code --baseline FILE} to
+ * compare throughput against results saved earlier.
+ */
+public class BenchmarkMain {
+
+    private static final String CSV_HEADER = "problem,runs,evals_per_s,gens_per_s,mean_best,success_rate,"
+            + "seconds_to_target,evals_to_target,bytes_per_s,bytes_per_eval";
+
+    public static void main(String[] args) throws IOException {
+        BenchmarkHarness harness = new BenchmarkHarness();
+        List<BenchmarkProblem> problems = new ArrayList<>();
+        int population = 100;
+        int generations = 200;
+        int breedingThreads = 0;
+        int pipelineDepth = 0;
+        GeneStorage storage = GeneStorage.DOUBLE;
+        Path csv = null;
+        Path baselineFile = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                problems.add(BenchmarkSuite.parse(arg));
+                continue;
+            }
+            if (arg.equals("--stopAtTarget")) {
+                harness.setStopAtTarget(true);
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                usage("Missing value for " + arg);
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--runs":
+                    harness.setMeasuredRuns(Integer.parseInt(value));
+                    break;
+                case "--warmup":
+                    harness.setWarmupRuns(Integer.parseInt(value));
+                    break;
+                case "--seed":
+                    harness.setSeed(Long.parseLong(value));
+                    break;
+                case "--population":
+                    population = Integer.parseInt(value);
+                    break;
+                case "--generations":
+                    generations = Integer.parseInt(value);
+                    break;
+                case "--breedingThreads":
+                    breedingThreads = Integer.parseInt(value);
+                    break;
+                case "--pipelineDepth":
+                    pipelineDepth = Integer.parseInt(value);
+                    break;
+                case "--storage":
+                    storage = GeneStorage.parse(value);
+                    break;
+                case "--csv":
+                    csv = Path.of(value);
+                    break;
+                case "--baseline":
+                    baselineFile = Path.of(value);
+                    break;
+                default:
+                    usage("Unknown option " + arg);
+            }
+        }
+        if (problems.isEmpty()) {
+            problems = BenchmarkSuite.standard();
+        }
+        for (BenchmarkProblem problem : problems) {
+            if (problem instanceof ContinuousProblem) {
+                ((ContinuousProblem) problem).setStorage(storage);
+            }
+        }
+        Map<String, Double> baseline = baselineFile == null ? null : readBaseline(baselineFile);
+
+        System.out.printf("%-22s %12s %9s %12s %8s %10s %12s %10s %11s%s%n", "problem", "evals/s", "gens/s",
+                "mean best", "solved", "t-target", "evals-target", "MB/s", "bytes/eval",
+                baseline == null ? "" : "  vs baseline");
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (BenchmarkProblem problem : problems) {
+            GAConfiguration config = problem.defaultConfiguration();
+            config.setPopulationSize(population);
+            config.setNumberOfParents(population);
+            config.setGenerations(generations);
+            config.setBreedingThreads(breedingThreads);
+            config.setPipelineDepth(pipelineDepth);
+
+            BenchmarkResult result = harness.run(problem, config);
+            results.add(result);
+            String comparison = "";
+            if (baseline != null) {
+                Double reference = baseline.get(result.getProblem());
+                comparison = reference == null ? "  -" : String.format("  %+.1f%%", 100.0 * (result.getEvaluationsPerSecond() / reference - 1.0));
+            }
+            System.out.printf("%-22s %12.0f %9.1f %12.4f %4d/%-3d %10s %12s %10.1f %11.0f%s%n", result.getProblem(),
+                    result.getEvaluationsPerSecond(), result.getGenerationsPerSecond(), result.getMeanBestFitness(),
+                    result.getSuccessCount(), result.getRuns(), orDash("%.3fs", result.getMeanSecondsToTarget()),
+                    orDash("%.0f", result.getMeanEvaluationsToTarget()), result.getAllocatedBytesPerSecond() / 1e6,
+                    result.getAllocatedBytesPerEvaluation(), comparison);
+        }
+
+        if (csv != null) {
+            writeCsv(csv, results);
+        }
+    }
+
+    //Blank time-to-target columns for problems that were never solved
+    private static String orDash(String format, double value) {
+        return Double.isNaN(value) ? "-" : String.format(format, value);
+    }
+
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println("Usage: BenchmarkMain [--runs N] [--warmup N] [--seed S] [--population N] [--generations N]"
+                + " [--breedingThreads N] [--pipelineDepth N] [--stopAtTarget]"
+                + " [--storage double|float32|fixed16] [--csv FILE] [--baseline FILE] [problems...]");
+        System.exit(2);
+    }
+
+    static void writeCsv(Path file, List<BenchmarkResult> results) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (BenchmarkResult result : results) {
+                writer.write(String.format(Locale.ROOT, "%s,%d,%.1f,%.3f,%.6f,%.3f,%.6f,%.1f,%.1f,%.1f",
+                        result.getProblem(), result.getRuns(), result.getEvaluationsPerSecond(),
+                        result.getGenerationsPerSecond(), result.getMeanBestFitness(), result.getSuccessRate(),
+                        result.getMeanSecondsToTarget(), result.getMeanEvaluationsToTarget(),
+                        result.getAllocatedBytesPerSecond(), result.getAllocatedBytesPerEvaluation()));
+                writer.newLine();
+            }
+        }
+    }
+
+    //Evaluations per second by problem name
+    static Map<String, Double> readBaseline(Path file) throws IOException {
+        Map<String, Double> baseline = new HashMap<>();
+        List<String> lines = Files.readAllLines(file);
+        for (int i = 1; i < lines.size(); i++) {
+            String[] fields = lines.get(i).split(",");
+            if (fields.length > 2) {
+                baseline.put(fields[0], Double.parseDouble(fields[2]));
+            }
+        }
+        return baseline;
+    }
+}
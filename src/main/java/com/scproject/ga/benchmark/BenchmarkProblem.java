@@ -0,0 +1,104 @@
+package com.scproject.ga.benchmark;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.constraint.ConstraintHandler;
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.core.GeneticAlgorithm;
+import com.scproject.ga.experiment.ExperimentProblem;
+import com.scproject.ga.fitness.FitnessFunction;
+import com.scproject.ga.replacement.ElitistReplacement;
+
+/**
+ * A standard test problem with a known size and, where one is known, its optimum. Fitness is
+ * always maximized; minimization problems report the negated objective, so their optimum is the
+ * negated minimum.
+ *
+ * <p>The problem owns only the problem side of a run. {@link #defaultConfiguration()} returns
+ * operators that suit the encoding, which the benchmark harness uses unless it is given a
+ * configuration of its own.
+ */
+public abstract class BenchmarkProblem implements ExperimentProblem {
+
+    private double optimum = Double.NaN;
+    private double tolerance;
+
+    protected BenchmarkProblem(double optimum, double tolerance) {
+        if (tolerance < 0.0) {
+            throw new IllegalArgumentException("Tolerance cannot be negative");
+        }
+        this.optimum = optimum;
+        this.tolerance = tolerance;
+    }
+
+    public abstract String getName();
+
+    public abstract int getLength();
+
+    protected abstract Chromosome createPrototype();
+
+    //Must be safe to call from several runs at once; instances returned here are never shared
+    protected abstract FitnessFunction createFitnessFunction();
+
+    protected ConstraintHandler createConstraintHandler() {
+        return null;
+    }
+
+    //Operators suited to the encoding; population and generation budget are left to the caller
+    public abstract GAConfiguration defaultConfiguration();
+
+    //Elitist generational replacement: two elites survive and offspring replace everyone else
+    protected GAConfiguration baseConfiguration() {
+        GAConfiguration config = new GAConfiguration();
+        config.setChromosomeLength(getLength());
+        ElitistReplacement replacement = new ElitistReplacement();
+        replacement.setEliteCount(2);
+        replacement.setReplacementCount(Integer.MAX_VALUE);
+        config.setReplacementStrategy(replacement);
+        return config;
+    }
+
+    @Override
+    public void configure(GeneticAlgorithm ga) {
+        ga.setChromosomeLength(getLength());
+        ga.setChromosomePrototype(createPrototype());
+        ga.setFitnessFunction(createFitnessFunction());
+        ConstraintHandler constraintHandler = createConstraintHandler();
+        if (constraintHandler != null) {
+            ga.setConstraintHandler(constraintHandler);
+        }
+    }
+
+    public boolean hasOptimum() {
+        return !Double.isNaN(optimum);
+    }
+
+    //NaN when the optimum is not known
+    public double getOptimum() {
+        return optimum;
+    }
+
+    public void setOptimum(double optimum) {
+        this.optimum = optimum;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        if (tolerance < 0.0) {
+            throw new IllegalArgumentException("Tolerance cannot be negative");
+        }
+        this.tolerance = tolerance;
+    }
+
+    //Fitness at which a run counts as solved, NaN without a known optimum
+    public double getTarget() {
+        return optimum - tolerance;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
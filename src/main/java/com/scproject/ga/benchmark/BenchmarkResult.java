@@ -0,0 +1,174 @@
+package com.scproject.ga.benchmark;
+
+/**
+ * Measurements of the measured runs of one problem under one configuration. Rates are means over
+ * runs of each run's own rate; time and evaluations to target are averaged over the runs that
+ * reached it.
+ */
+public class BenchmarkResult {
+
+    private final String problem;
+    private final String configuration;
+    private final double target;
+    private final long[] wallNanos;
+    private final long[] evaluations;
+    private final int[] generations;
+    //Heap bytes allocated by all threads during each run, -1 where the JVM cannot measure it
+    private final long[] allocatedBytes;
+    private final double[] bestFitness;
+    //-1 for runs that never reached the target
+    private final long[] nanosToTarget;
+    private final long[] evaluationsToTarget;
+
+    public BenchmarkResult(String problem, String configuration, double target, long[] wallNanos, long[] evaluations,
+                           int[] generations, long[] allocatedBytes, double[] bestFitness, long[] nanosToTarget,
+                           long[] evaluationsToTarget) {
+        this.problem = problem;
+        this.configuration = configuration;
+        this.target = target;
+        this.wallNanos = wallNanos;
+        this.evaluations = evaluations;
+        this.generations = generations;
+        this.allocatedBytes = allocatedBytes;
+        this.bestFitness = bestFitness;
+        this.nanosToTarget = nanosToTarget;
+        this.evaluationsToTarget = evaluationsToTarget;
+    }
+
+    public String getProblem() {
+        return problem;
+    }
+
+    public String getConfiguration() {
+        return configuration;
+    }
+
+    public double getTarget() {
+        return target;
+    }
+
+    public int getRuns() {
+        return wallNanos.length;
+    }
+
+    public double getEvaluationsPerSecond() {
+        double sum = 0.0;
+        for (int i = 0; i < wallNanos.length; i++) {
+            sum += evaluations[i] * 1e9 / wallNanos[i];
+        }
+        return sum / wallNanos.length;
+    }
+
+    public double getGenerationsPerSecond() {
+        double sum = 0.0;
+        for (int i = 0; i < wallNanos.length; i++) {
+            sum += generations[i] * 1e9 / wallNanos[i];
+        }
+        return sum / wallNanos.length;
+    }
+
+    //NaN when allocation could not be measured
+    public double getAllocatedBytesPerSecond() {
+        double sum = 0.0;
+        for (int i = 0; i < wallNanos.length; i++) {
+            if (allocatedBytes[i] < 0) {
+                return Double.NaN;
+            }
+            sum += allocatedBytes[i] * 1e9 / wallNanos[i];
+        }
+        return sum / wallNanos.length;
+    }
+
+    public double getAllocatedBytesPerEvaluation() {
+        long bytes = 0;
+        long evals = 0;
+        for (int i = 0; i < wallNanos.length; i++) {
+            if (allocatedBytes[i] < 0) {
+                return Double.NaN;
+            }
+            bytes += allocatedBytes[i];
+            evals += evaluations[i];
+        }
+        return evals == 0 ? Double.NaN : (double) bytes / evals;
+    }
+
+    public double getMeanBestFitness() {
+        double sum = 0.0;
+        for (double best : bestFitness) {
+            sum += best;
+        }
+        return sum / bestFitness.length;
+    }
+
+    public int getSuccessCount() {
+        int count = 0;
+        for (long nanos : nanosToTarget) {
+            if (nanos >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public double getSuccessRate() {
+        return (double) getSuccessCount() / nanosToTarget.length;
+    }
+
+    //NaN when no run reached the target
+    public double getMeanSecondsToTarget() {
+        return meanOfReached(nanosToTarget) / 1e9;
+    }
+
+    public double getMeanEvaluationsToTarget() {
+        return meanOfReached(evaluationsToTarget);
+    }
+
+    private double meanOfReached(long[] values) {
+        double sum = 0.0;
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (nanosToTarget[i] >= 0) {
+                sum += values[i];
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    public long[] getWallNanos() {
+        return wallNanos.clone();
+    }
+
+    public long[] getEvaluations() {
+        return evaluations.clone();
+    }
+
+    public int[] getGenerations() {
+        return generations.clone();
+    }
+
+    public long[] getAllocatedBytes() {
+        return allocatedBytes.clone();
+    }
+
+    public double[] getBestFitness() {
+        return bestFitness.clone();
+    }
+
+    public long[] getNanosToTarget() {
+        return nanosToTarget.clone();
+    }
+
+    public long[] getEvaluationsToTarget() {
+        return evaluationsToTarget.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BenchmarkResult{problem=%s, runs=%d, evals/s=%.0f, gens/s=%.1f, best=%.4f, " +
+                        "solved=%d/%d, timeToTarget=%.3fs, evalsToTarget=%.0f, alloc=%.1f MB/s, bytes/eval=%.0f}",
+                problem, getRuns(), getEvaluationsPerSecond(), getGenerationsPerSecond(), getMeanBestFitness(),
+                getSuccessCount(), getRuns(), getMeanSecondsToTarget(), getMeanEvaluationsToTarget(),
+                getAllocatedBytesPerSecond() / 1e6, getAllocatedBytesPerEvaluation());
+    }
+}
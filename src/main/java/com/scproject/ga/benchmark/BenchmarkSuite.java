@@ -0,0 +1,82 @@
+package com.scproject.ga.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The standard problem set and a parser for problem specs, colon separated like the strategy
+ * specs of experiment grids:
+ *
+ * <pre>
+ * onemax:LENGTH                 trap:BLOCKS:K
+ * nk:N:K[:adjacent|random[:SEED]]   knapsack:ITEMS[:SEED]
+ * rastrigin:DIM   rosenbrock:DIM   ackley:DIM
+ * tsp:FILE[:OPTIMAL_LENGTH]     tsprandom:CITIES[:SEED]
+ * </pre>
+ */
+public final class BenchmarkSuite {
+
+    private BenchmarkSuite() {
+    }
+
+    //One instance of every problem, sized so each run takes about a second at the default budget
+    public static List<BenchmarkProblem> standard() {
+        List<BenchmarkProblem> problems = new ArrayList<>();
+        problems.add(new OneMax(100));
+        problems.add(new DeceptiveTrap(10, 4));
+        problems.add(new NKLandscape(48, 4, true, 1L));
+        problems.add(Knapsack.generate(100, 1L));
+        problems.add(new Rastrigin(10));
+        problems.add(new Rosenbrock(10));
+        problems.add(new Ackley(10));
+        problems.add(new TspProblem(TspInstance.randomEuclidean(50, 1L)));
+        return problems;
+    }
+
+    public static BenchmarkProblem parse(String spec) throws IOException {
+        String[] args = spec.split(":");
+        try {
+            switch (args[0].toLowerCase()) {
+                case "onemax":
+                    return new OneMax(intArgument(args, 1, 100));
+                case "trap":
+                    return new DeceptiveTrap(intArgument(args, 1, 10), intArgument(args, 2, 4));
+                case "nk": {
+                    boolean adjacent = args.length <= 3 || !args[3].equalsIgnoreCase("random");
+                    return new NKLandscape(intArgument(args, 1, 48), intArgument(args, 2, 4), adjacent, longArgument(args, 4, 1L));
+                }
+                case "knapsack":
+                    return Knapsack.generate(intArgument(args, 1, 100), longArgument(args, 2, 1L));
+                case "rastrigin":
+                    return new Rastrigin(intArgument(args, 1, 10));
+                case "rosenbrock":
+                    return new Rosenbrock(intArgument(args, 1, 10));
+                case "ackley":
+                    return new Ackley(intArgument(args, 1, 10));
+                case "tsp": {
+                    if (args.length < 2) {
+                        throw new IllegalArgumentException("tsp needs a TSPLIB file");
+                    }
+                    TspInstance instance = TspInstance.read(Path.of(args[1]));
+                    return args.length > 2 ? new TspProblem(instance, Double.parseDouble(args[2])) : new TspProblem(instance);
+                }
+                case "tsprandom":
+                    return new TspProblem(TspInstance.randomEuclidean(intArgument(args, 1, 50), longArgument(args, 2, 1L)));
+                default:
+                    throw new IllegalArgumentException("Unknown benchmark problem: " + spec);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid benchmark problem: " + spec, e);
+        }
+    }
+
+    private static int intArgument(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+
+    private static long longArgument(String[] args, int index, long defaultValue) {
+        return args.length > index ? Long.parseLong(args[index]) : defaultValue;
+    }
+}
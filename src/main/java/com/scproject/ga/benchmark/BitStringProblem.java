@@ -0,0 +1,59 @@
+package com.scproject.ga.benchmark;
+
+import com.scproject.ga.chromosome.BinaryChromosome;
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.crossover.NPointCrossover;
+import com.scproject.ga.fitness.FitnessFunction;
+import com.scproject.ga.mutation.binaryBitFlipMutation;
+
+/**
+ * Base of the pseudo-boolean problems. Subclasses score a primitive bit array, so each genome is
+ * unboxed once per evaluation rather than once per gene access.
+ */
+public abstract class BitStringProblem extends BenchmarkProblem {
+
+    private final int length;
+
+    protected BitStringProblem(int length, double optimum) {
+        super(optimum, 0.0);
+        if (length <= 0) {
+            throw new IllegalArgumentException("Length must be positive");
+        }
+        this.length = length;
+    }
+
+    protected abstract double evaluate(boolean[] bits);
+
+    @Override
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    protected Chromosome createPrototype() {
+        return new BinaryChromosome(length);
+    }
+
+    @Override
+    protected FitnessFunction createFitnessFunction() {
+        return chromosome -> {
+            Object[] genes = chromosome.getGenes();
+            boolean[] bits = new boolean[genes.length];
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = (Boolean) genes[i];
+            }
+            return evaluate(bits);
+        };
+    }
+
+    //Two-point crossover, which keeps blocks of linked bits together, and one bit flip per genome
+    @Override
+    public GAConfiguration defaultConfiguration() {
+        GAConfiguration config = baseConfiguration();
+        config.setCrossoverStrategy(new NPointCrossover(2));
+        config.setMutationStrategy(new binaryBitFlipMutation(1.0 / length));
+        config.setMutationRate(1.0);
+        return config;
+    }
+}
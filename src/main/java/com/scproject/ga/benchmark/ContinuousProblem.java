@@ -0,0 +1,107 @@
+package com.scproject.ga.benchmark;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.chromosome.GeneStorage;
+import com.scproject.ga.constraint.BoxConstraintHandler;
+import com.scproject.ga.constraint.ConstraintHandler;
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.crossover.ArithmeticCrossover;
+import com.scproject.ga.fitness.FitnessFunction;
+import com.scproject.ga.mutation.GaussianMutation;
+
+/**
+ * Base of the real-valued test functions. Each is minimized with a global minimum of zero, so
+ * fitness is the negated function value and the optimum is 0. A run counts as solved once it
+ * is within the tolerance of the optimum.
+ *
+ * <p>The gene storage mode of the chromosomes can be changed to compare the quality and
+ * throughput of compact populations against plain doubles.
+ */
+public abstract class ContinuousProblem extends BenchmarkProblem {
+
+    private final int dimension;
+    private final double lowerBound;
+    private final double upperBound;
+    private GeneStorage storage = GeneStorage.DOUBLE;
+
+    protected ContinuousProblem(int dimension, double lowerBound, double upperBound) {
+        super(0.0, 1e-2);
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("Dimension must be positive");
+        }
+        if (!(lowerBound < upperBound)) {
+            throw new IllegalArgumentException("Lower bound must be below upper bound");
+        }
+        this.dimension = dimension;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    //The function being minimized
+    public abstract double value(double[] x);
+
+    @Override
+    public int getLength() {
+        return dimension;
+    }
+
+    @Override
+    protected Chromosome createPrototype() {
+        return new FPChromosome(dimension, lowerBound, upperBound, storage);
+    }
+
+    @Override
+    protected FitnessFunction createFitnessFunction() {
+        if (storage == GeneStorage.DOUBLE) {
+            return chromosome -> -value(((FPChromosome) chromosome).getValues());
+        }
+        ThreadLocal<double[]> decoded = ThreadLocal.withInitial(() -> new double[dimension]);
+        return chromosome -> {
+            double[] x = decoded.get();
+            ((FPChromosome) chromosome).copyValues(x);
+            return -value(x);
+        };
+    }
+
+    @Override
+    protected ConstraintHandler createConstraintHandler() {
+        return new BoxConstraintHandler(dimension, lowerBound, upperBound);
+    }
+
+    //Arithmetic crossover and Gaussian steps of 1% of the range on about two genes per child
+    @Override
+    public GAConfiguration defaultConfiguration() {
+        GAConfiguration config = baseConfiguration();
+        config.setCrossoverStrategy(new ArithmeticCrossover());
+        config.setMutationStrategy(new GaussianMutation(Math.min(1.0, 2.0 / dimension), 0.01 * (upperBound - lowerBound)));
+        config.setMutationRate(1.0);
+        return config;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    public GeneStorage getStorage() {
+        return storage;
+    }
+
+    public void setStorage(GeneStorage storage) {
+        if (storage == null) {
+            throw new IllegalArgumentException("Gene storage cannot be null");
+        }
+        this.storage = storage;
+    }
+
+    //Compact storage modes are part of the name, so their results are never mixed with doubles
+    @Override
+    public String getName() {
+        String name = getClass().getSimpleName().toLowerCase() + "-" + dimension;
+        return storage == GeneStorage.DOUBLE ? name : name + "/" + storage.name().toLowerCase();
+    }
+}
@@ -0,0 +1,47 @@
+package com.scproject.ga.benchmark;
+
+/**
+ * Concatenated k-bit traps. A block with u ones scores k when u = k and k - 1 - u otherwise, so
+ * every block's gradient leads away from its optimum. Blocks are contiguous, which a crossover
+ * that preserves neighbouring genes can exploit.
+ */
+public class DeceptiveTrap extends BitStringProblem {
+
+    private final int blockSize;
+
+    public DeceptiveTrap(int blocks, int blockSize) {
+        super(checkedLength(blocks, blockSize), (double) blocks * blockSize);
+        this.blockSize = blockSize;
+    }
+
+    private static int checkedLength(int blocks, int blockSize) {
+        if (blocks <= 0 || blockSize < 2) {
+            throw new IllegalArgumentException("Need at least one block of at least two bits");
+        }
+        return Math.multiplyExact(blocks, blockSize);
+    }
+
+    @Override
+    protected double evaluate(boolean[] bits) {
+        double fitness = 0.0;
+        for (int start = 0; start < bits.length; start += blockSize) {
+            int ones = 0;
+            for (int i = start; i < start + blockSize; i++) {
+                if (bits[i]) {
+                    ones++;
+                }
+            }
+            fitness += ones == blockSize ? blockSize : blockSize - 1 - ones;
+        }
+        return fitness;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    @Override
+    public String getName() {
+        return "trap-" + blockSize + "x" + getLength() / blockSize;
+    }
+}
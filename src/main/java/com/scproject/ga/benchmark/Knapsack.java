@@ -0,0 +1,95 @@
+package com.scproject.ga.benchmark;
+
+import java.util.Random;
+
+/**
+ * 0/1 knapsack with integer weights and values. A feasible selection scores its total value; an
+ * overweight one scores minus its excess weight, so every infeasible genome ranks below every
+ * feasible one while still pointing selection back towards the capacity.
+ *
+ * <p>The optimum is computed by dynamic programming over the capacity, which is cheap for the
+ * generated instances; above {@link #MAX_SOLVED_CAPACITY} it is left unknown.
+ */
+public final class Knapsack extends BitStringProblem {
+
+    public static final int MAX_SOLVED_CAPACITY = 1 << 24;
+
+    private final int[] weights;
+    private final int[] values;
+    private final int capacity;
+    private final String name;
+
+    public Knapsack(int[] weights, int[] values, int capacity) {
+        super(weights.length, Double.NaN);
+        if (weights.length != values.length) {
+            throw new IllegalArgumentException("Weights and values must have the same length");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] <= 0 || values[i] < 0) {
+                throw new IllegalArgumentException("Item " + i + " needs a positive weight and non-negative value");
+            }
+        }
+        this.weights = weights.clone();
+        this.values = values.clone();
+        this.capacity = capacity;
+        this.name = "knapsack-" + weights.length;
+        if (capacity <= MAX_SOLVED_CAPACITY) {
+            setOptimum(solve());
+        }
+    }
+
+    /**
+     * Weakly correlated instance in the style of Pisinger: weights uniform in [1, 100], values
+     * within 10 of the weight, and half the total weight as capacity.
+     */
+    public static Knapsack generate(int items, long seed) {
+        if (items <= 0) {
+            throw new IllegalArgumentException("Number of items must be positive");
+        }
+        Random random = new Random(seed);
+        int[] weights = new int[items];
+        int[] values = new int[items];
+        long total = 0;
+        for (int i = 0; i < items; i++) {
+            weights[i] = 1 + random.nextInt(100);
+            values[i] = Math.max(1, weights[i] - 10 + random.nextInt(21));
+            total += weights[i];
+        }
+        return new Knapsack(weights, values, (int) (total / 2));
+    }
+
+    private double solve() {
+        long[] best = new long[capacity + 1];
+        for (int i = 0; i < weights.length; i++) {
+            for (int c = capacity; c >= weights[i]; c--) {
+                best[c] = Math.max(best[c], best[c - weights[i]] + values[i]);
+            }
+        }
+        return best[capacity];
+    }
+
+    @Override
+    protected double evaluate(boolean[] bits) {
+        long weight = 0;
+        long value = 0;
+        for (int i = 0; i < bits.length; i++) {
+            if (bits[i]) {
+                weight += weights[i];
+                value += values[i];
+            }
+        }
+        return weight <= capacity ? value : -(double) (weight - capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,145 @@
+package com.scproject.ga.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Kauffman's NK landscape. Each of the N bits contributes a value looked up from its own random
+ * table, indexed by the bit and its K neighbours; fitness is the mean contribution. K tunes the
+ * epistasis from a smooth single peak (K = 0) to an uncorrelated landscape (K = N - 1).
+ *
+ * <p>Neighbours are either the K following bits, wrapping around, or K distinct random bits. The
+ * adjacent model is solved exactly by dynamic programming, so its optimum is known; for random
+ * neighbours the optimum is left unknown unless set explicitly.
+ */
+public final class NKLandscape extends BitStringProblem {
+
+    //Adjacent landscapes up to this K are solved exactly when constructed
+    private static final int MAX_SOLVED_K = 12;
+
+    private final int k;
+    private final boolean adjacent;
+    private final long seed;
+    private final int[] neighbours;
+    private final double[] contributions;
+
+    public NKLandscape(int n, int k, boolean adjacent, long seed) {
+        super(n, Double.NaN);
+        if (k < 0 || k >= n) {
+            throw new IllegalArgumentException("K must be in [0, N)");
+        }
+        if (k > 20) {
+            throw new IllegalArgumentException("K above 20 needs contribution tables that are too large");
+        }
+        this.k = k;
+        this.adjacent = adjacent;
+        this.seed = seed;
+        this.neighbours = new int[n * k];
+        this.contributions = new double[n << (k + 1)];
+
+        Random random = new Random(seed);
+        int[] candidates = new int[n - 1];
+        for (int i = 0; i < n; i++) {
+            if (adjacent) {
+                for (int j = 0; j < k; j++) {
+                    neighbours[i * k + j] = (i + j + 1) % n;
+                }
+            } else {
+                //Partial Fisher-Yates over every bit but i
+                for (int j = 0, c = 0; j < n; j++) {
+                    if (j != i) {
+                        candidates[c++] = j;
+                    }
+                }
+                for (int j = 0; j < k; j++) {
+                    int pick = j + random.nextInt(n - 1 - j);
+                    int tmp = candidates[j];
+                    candidates[j] = candidates[pick];
+                    candidates[pick] = tmp;
+                    neighbours[i * k + j] = candidates[j];
+                }
+            }
+        }
+        for (int i = 0; i < contributions.length; i++) {
+            contributions[i] = random.nextDouble();
+        }
+        if (adjacent && k <= MAX_SOLVED_K) {
+            setOptimum(solveAdjacent());
+        }
+    }
+
+    @Override
+    protected double evaluate(boolean[] bits) {
+        int n = bits.length;
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            int index = bits[i] ? 1 : 0;
+            for (int j = 0; j < k; j++) {
+                index = (index << 1) | (bits[neighbours[i * k + j]] ? 1 : 0);
+            }
+            sum += contributions[(i << (k + 1)) | index];
+        }
+        return sum / n;
+    }
+
+    /**
+     * Exact optimum of the adjacent model. Bit i's contribution depends on the window of bits
+     * i..i+K; sweeping i with the current window as state, and fixing the first K bits so the
+     * wrapped windows at the end can be closed, takes O(2^K * N * 2^(K+1)) time.
+     */
+    private double solveAdjacent() {
+        int n = getLength();
+        int windows = 1 << k;
+        int mask = windows - 1;
+        double best = Double.NEGATIVE_INFINITY;
+        double[] current = new double[windows];
+        double[] next = new double[windows];
+
+        for (int head = 0; head < windows; head++) {
+            //State: the last K bits placed, most significant first; starts as bits 0..K-1 = head
+            Arrays.fill(current, Double.NEGATIVE_INFINITY);
+            current[head] = 0.0;
+            for (int i = 0; i < n; i++) {
+                Arrays.fill(next, Double.NEGATIVE_INFINITY);
+                for (int state = 0; state < windows; state++) {
+                    if (current[state] == Double.NEGATIVE_INFINITY) {
+                        continue;
+                    }
+                    for (int bit = 0; bit <= 1; bit++) {
+                        //Bit i+K, which wraps into the fixed head at the end
+                        int position = i + k;
+                        if (position >= n && bit != ((head >> (k - 1 - (position - n))) & 1)) {
+                            continue;
+                        }
+                        int window = (state << 1) | bit;
+                        double value = current[state] + contributions[(i << (k + 1)) | window];
+                        int following = window & mask;
+                        if (value > next[following]) {
+                            next[following] = value;
+                        }
+                    }
+                }
+                double[] tmp = current;
+                current = next;
+                next = tmp;
+            }
+            for (double value : current) {
+                best = Math.max(best, value);
+            }
+        }
+        return best / n;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public boolean isAdjacent() {
+        return adjacent;
+    }
+
+    @Override
+    public String getName() {
+        return String.format("nk-%d-%d%s-%d", getLength(), k, adjacent ? "a" : "r", seed);
+    }
+}
@@ -0,0 +1,25 @@
+package com.scproject.ga.benchmark;
+
+//Number of ones; the optimum is the all-ones string
+public class OneMax extends BitStringProblem {
+
+    public OneMax(int length) {
+        super(length, length);
+    }
+
+    @Override
+    protected double evaluate(boolean[] bits) {
+        int ones = 0;
+        for (boolean bit : bits) {
+            if (bit) {
+                ones++;
+            }
+        }
+        return ones;
+    }
+
+    @Override
+    public String getName() {
+        return "onemax-" + getLength();
+    }
+}
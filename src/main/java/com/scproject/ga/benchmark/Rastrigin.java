@@ -0,0 +1,18 @@
+package com.scproject.ga.benchmark;
+
+//Highly multimodal with a regular grid of local minima; minimum 0 at the origin
+public class Rastrigin extends ContinuousProblem {
+
+    public Rastrigin(int dimension) {
+        super(dimension, -5.12, 5.12);
+    }
+
+    @Override
+    public double value(double[] x) {
+        double sum = 10.0 * x.length;
+        for (double xi : x) {
+            sum += xi * xi - 10.0 * Math.cos(2.0 * Math.PI * xi);
+        }
+        return sum;
+    }
+}
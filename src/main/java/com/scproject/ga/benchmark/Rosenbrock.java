@@ -0,0 +1,23 @@
+package com.scproject.ga.benchmark;
+
+//Narrow curved valley whose floor is easy to find and slow to follow; minimum 0 at (1, ..., 1)
+public class Rosenbrock extends ContinuousProblem {
+
+    public Rosenbrock(int dimension) {
+        super(dimension, -5.0, 10.0);
+        if (dimension < 2) {
+            throw new IllegalArgumentException("Rosenbrock needs at least two dimensions");
+        }
+    }
+
+    @Override
+    public double value(double[] x) {
+        double sum = 0.0;
+        for (int i = 0; i + 1 < x.length; i++) {
+            double a = x[i + 1] - x[i] * x[i];
+            double b = 1.0 - x[i];
+            sum += 100.0 * a * a + b * b;
+        }
+        return sum;
+    }
+}
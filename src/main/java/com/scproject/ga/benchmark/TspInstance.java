@@ -0,0 +1,423 @@
+package com.scproject.ga.benchmark;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * A travelling salesman instance as a dense distance matrix, read from and written to TSPLIB
+ * files.
+ *
+ * <p>Supported are TYPE TSP and ATSP; EDGE_WEIGHT_TYPE EUC_2D, CEIL_2D, MAN_2D, MAX_2D, ATT and
+ * GEO with a NODE_COORD_SECTION; and EXPLICIT weights in every EDGE_WEIGHT_FORMAT of the TSPLIB
+ * specification. Distances are rounded exactly as the specification prescribes, so tour lengths
+ * match published optima.
+ */
+public class TspInstance {
+
+    private final String name;
+    private final int dimension;
+    //Row-major, distances[i * dimension + j] is the cost of travelling from i to j
+    private final double[] distances;
+    private final double[] x;
+    private final double[] y;
+    private final String edgeWeightType;
+
+    private TspInstance(String name, int dimension, double[] distances, double[] x, double[] y, String edgeWeightType) {
+        this.name = name;
+        this.dimension = dimension;
+        this.distances = distances;
+        this.x = x;
+        this.y = y;
+        this.edgeWeightType = edgeWeightType;
+    }
+
+    public static TspInstance fromMatrix(String name, double[][] matrix) {
+        int n = matrix.length;
+        if (n < 3) {
+            throw new IllegalArgumentException("A tour needs at least three cities");
+        }
+        double[] distances = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            if (matrix[i].length != n) {
+                throw new IllegalArgumentException("Distance matrix must be square");
+            }
+            System.arraycopy(matrix[i], 0, distances, i * n, n);
+        }
+        return new TspInstance(name, n, distances, null, null, "EXPLICIT");
+    }
+
+    public static TspInstance fromCoordinates(String name, double[] x, double[] y, String edgeWeightType) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("Coordinate arrays must have the same length");
+        }
+        if (x.length < 3) {
+            throw new IllegalArgumentException("A tour needs at least three cities");
+        }
+        String type = edgeWeightType.toUpperCase(Locale.ROOT);
+        int n = x.length;
+        double[] distances = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                distances[i * n + j] = i == j ? 0.0 : distance(type, x[i], y[i], x[j], y[j]);
+            }
+        }
+        return new TspInstance(name, n, distances, x.clone(), y.clone(), type);
+    }
+
+    //Cities with integer coordinates uniform in [0, 1000), as in the DIMACS random uniform instances
+    public static TspInstance randomEuclidean(int cities, long seed) {
+        Random random = new Random(seed);
+        double[] x = new double[cities];
+        double[] y = new double[cities];
+        for (int i = 0; i < cities; i++) {
+            x[i] = random.nextInt(1000);
+            y[i] = random.nextInt(1000);
+        }
+        return fromCoordinates("rand" + cities + "-" + seed, x, y, "EUC_2D");
+    }
+
+    private static double distance(String type, double xi, double yi, double xj, double yj) {
+        double dx = xi - xj;
+        double dy = yi - yj;
+        switch (type) {
+            case "EUC_2D":
+                return nint(Math.sqrt(dx * dx + dy * dy));
+            case "CEIL_2D":
+                return Math.ceil(Math.sqrt(dx * dx + dy * dy));
+            case "MAN_2D":
+                return nint(Math.abs(dx) + Math.abs(dy));
+            case "MAX_2D":
+                return Math.max(nint(Math.abs(dx)), nint(Math.abs(dy)));
+            case "ATT": {
+                double r = Math.sqrt((dx * dx + dy * dy) / 10.0);
+                double t = nint(r);
+                return t < r ? t + 1.0 : t;
+            }
+            case "GEO": {
+                double latI = geoRadians(xi);
+                double lonI = geoRadians(yi);
+                double latJ = geoRadians(xj);
+                double lonJ = geoRadians(yj);
+                double q1 = Math.cos(lonI - lonJ);
+                double q2 = Math.cos(latI - latJ);
+                double q3 = Math.cos(latI + latJ);
+                return (int) (6378.388 * Math.acos(0.5 * ((1.0 + q1) * q2 - (1.0 - q1) * q3)) + 1.0);
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported EDGE_WEIGHT_TYPE: " + type);
+        }
+    }
+
+    private static double nint(double value) {
+        return (int) (value + 0.5);
+    }
+
+    //DDD.MM degrees and minutes, with the truncated value of pi the specification uses
+    private static double geoRadians(double value) {
+        int degrees = (int) value;
+        double minutes = value - degrees;
+        return 3.141592 * (degrees + 5.0 * minutes / 3.0) / 180.0;
+    }
+
+    public static TspInstance read(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        String type = "TSP";
+        String edgeWeightType = null;
+        String edgeWeightFormat = "FULL_MATRIX";
+        int dimension = -1;
+        double[] x = null;
+        double[] y = null;
+        double[] distances = null;
+
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            TokenReader tokens = new TokenReader(reader, file);
+            String line;
+            while ((line = tokens.nextLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                int colon = line.indexOf(':');
+                String key = (colon < 0 ? line : line.substring(0, colon)).trim().toUpperCase(Locale.ROOT);
+                String value = colon < 0 ? "" : line.substring(colon + 1).trim();
+
+                switch (key) {
+                    case "NAME":
+                        name = value;
+                        break;
+                    case "TYPE":
+                        type = value.toUpperCase(Locale.ROOT);
+                        if (!type.equals("TSP") && !type.equals("ATSP")) {
+                            throw tokens.error("Unsupported TYPE " + value);
+                        }
+                        break;
+                    case "DIMENSION":
+                        dimension = (int) tokens.parse(value);
+                        if (dimension < 3) {
+                            throw tokens.error("DIMENSION must be at least 3");
+                        }
+                        break;
+                    case "EDGE_WEIGHT_TYPE":
+                        edgeWeightType = value.toUpperCase(Locale.ROOT);
+                        break;
+                    case "EDGE_WEIGHT_FORMAT":
+                        edgeWeightFormat = value.toUpperCase(Locale.ROOT);
+                        break;
+                    case "NODE_COORD_SECTION":
+                        requireDimension(tokens, dimension);
+                        x = new double[dimension];
+                        y = new double[dimension];
+                        for (int i = 0; i < dimension; i++) {
+                            int node = (int) tokens.nextNumber() - 1;
+                            if (node < 0 || node >= dimension) {
+                                throw tokens.error("Node " + (node + 1) + " outside 1.." + dimension);
+                            }
+                            x[node] = tokens.nextNumber();
+                            y[node] = tokens.nextNumber();
+                        }
+                        break;
+                    case "EDGE_WEIGHT_SECTION":
+                        requireDimension(tokens, dimension);
+                        distances = readWeights(tokens, dimension, edgeWeightFormat);
+                        break;
+                    case "DISPLAY_DATA_SECTION":
+                        requireDimension(tokens, dimension);
+                        for (int i = 0; i < 3 * dimension; i++) {
+                            tokens.nextNumber();
+                        }
+                        break;
+                    case "EOF":
+                        tokens.finish();
+                        break;
+                    case "COMMENT":
+                    case "DISPLAY_DATA_TYPE":
+                    case "NODE_COORD_TYPE":
+                        break;
+                    default:
+                        throw tokens.error("Unsupported TSPLIB keyword " + key);
+                }
+            }
+        }
+
+        requireDimension(null, dimension);
+        if (edgeWeightType == null) {
+            throw new IOException(file + ": missing EDGE_WEIGHT_TYPE");
+        }
+        if (edgeWeightType.equals("EXPLICIT")) {
+            if (distances == null) {
+                throw new IOException(file + ": EXPLICIT weights need an EDGE_WEIGHT_SECTION");
+            }
+            return new TspInstance(name, dimension, distances, x, y, edgeWeightType);
+        }
+        if (x == null) {
+            throw new IOException(file + ": " + edgeWeightType + " weights need a NODE_COORD_SECTION");
+        }
+        try {
+            return fromCoordinates(name, x, y, edgeWeightType);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void requireDimension(TokenReader tokens, int dimension) throws IOException {
+        if (dimension < 0) {
+            throw tokens == null ? new IOException("Missing DIMENSION") : tokens.error("DIMENSION must precede data sections");
+        }
+    }
+
+    private static double[] readWeights(TokenReader tokens, int n, String format) throws IOException {
+        double[] distances = new double[n * n];
+        //Column-wise formats of a symmetric matrix list the same values as the transposed row-wise ones
+        switch (format) {
+            case "FULL_MATRIX":
+                for (int i = 0; i < n * n; i++) {
+                    distances[i] = tokens.nextNumber();
+                }
+                return distances;
+            case "UPPER_ROW":
+            case "LOWER_COL":
+                for (int i = 0; i < n; i++) {
+                    for (int j = i + 1; j < n; j++) {
+                        setSymmetric(distances, n, i, j, tokens.nextNumber());
+                    }
+                }
+                return distances;
+            case "LOWER_ROW":
+            case "UPPER_COL":
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < i; j++) {
+                        setSymmetric(distances, n, i, j, tokens.nextNumber());
+                    }
+                }
+                return distances;
+            case "UPPER_DIAG_ROW":
+            case "LOWER_DIAG_COL":
+                for (int i = 0; i < n; i++) {
+                    for (int j = i; j < n; j++) {
+                        setSymmetric(distances, n, i, j, tokens.nextNumber());
+                    }
+                }
+                return distances;
+            case "LOWER_DIAG_ROW":
+            case "UPPER_DIAG_COL":
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j <= i; j++) {
+                        setSymmetric(distances, n, i, j, tokens.nextNumber());
+                    }
+                }
+                return distances;
+            default:
+                throw tokens.error("Unsupported EDGE_WEIGHT_FORMAT " + format);
+        }
+    }
+
+    private static void setSymmetric(double[] distances, int n, int i, int j, double value) {
+        distances[i * n + j] = value;
+        distances[j * n + i] = value;
+    }
+
+    //Coordinate instances keep their edge weight type; all others are written as a full matrix
+    public void write(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("NAME : " + name + "\n");
+            writer.write("TYPE : " + (isSymmetric() ? "TSP" : "ATSP") + "\n");
+            writer.write("DIMENSION : " + dimension + "\n");
+            if (x != null && !edgeWeightType.equals("EXPLICIT")) {
+                writer.write("EDGE_WEIGHT_TYPE : " + edgeWeightType + "\n");
+                writer.write("NODE_COORD_SECTION\n");
+                for (int i = 0; i < dimension; i++) {
+                    writer.write((i + 1) + " " + number(x[i]) + " " + number(y[i]) + "\n");
+                }
+            } else {
+                writer.write("EDGE_WEIGHT_TYPE : EXPLICIT\n");
+                writer.write("EDGE_WEIGHT_FORMAT : FULL_MATRIX\n");
+                writer.write("EDGE_WEIGHT_SECTION\n");
+                StringBuilder row = new StringBuilder();
+                for (int i = 0; i < dimension; i++) {
+                    row.setLength(0);
+                    for (int j = 0; j < dimension; j++) {
+                        if (j > 0) {
+                            row.append(' ');
+                        }
+                        row.append(number(distances[i * dimension + j]));
+                    }
+                    writer.write(row.append('\n').toString());
+                }
+            }
+            writer.write("EOF\n");
+        }
+    }
+
+    private static String number(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    //Length of the closed tour visiting the cities in the given order
+    public double tourLength(int[] tour) {
+        double length = 0.0;
+        int previous = tour[tour.length - 1];
+        for (int city : tour) {
+            length += distances[previous * dimension + city];
+            previous = city;
+        }
+        return length;
+    }
+
+    public double getDistance(int from, int to) {
+        return distances[from * dimension + to];
+    }
+
+    public boolean isSymmetric() {
+        for (int i = 0; i < dimension; i++) {
+            for (int j = i + 1; j < dimension; j++) {
+                if (distances[i * dimension + j] != distances[j * dimension + i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    public String getEdgeWeightType() {
+        return edgeWeightType;
+    }
+
+    //Whitespace separated numbers across lines, keeping track of the line for error messages
+    private static final class TokenReader {
+        private final BufferedReader reader;
+        private final Path file;
+        private final List<String> pending = new ArrayList<>();
+        private int position;
+        private int lineNumber;
+
+        TokenReader(BufferedReader reader, Path file) {
+            this.reader = reader;
+            this.file = file;
+        }
+
+        String nextLine() throws IOException {
+            if (position < pending.size()) {
+                throw error("Unexpected data: " + pending.get(position));
+            }
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        }
+
+        double nextNumber() throws IOException {
+            while (position >= pending.size()) {
+                String line = reader.readLine();
+                if (line == null) {
+                    throw error("Unexpected end of file");
+                }
+                lineNumber++;
+                pending.clear();
+                position = 0;
+                for (String token : line.trim().split("\\s+")) {
+                    if (!token.isEmpty()) {
+                        pending.add(token);
+                    }
+                }
+            }
+            return parse(pending.get(position++));
+        }
+
+        double parse(String token) throws IOException {
+            try {
+                return Double.parseDouble(token);
+            } catch (NumberFormatException e) {
+                throw error("Expected a number but found " + token);
+            }
+        }
+
+        //Anything after EOF is ignored
+        void finish() throws IOException {
+            pending.clear();
+            position = 0;
+            while (reader.readLine() != null) {
+                lineNumber++;
+            }
+        }
+
+        IOException error(String message) {
+            return new IOException(file + ":" + lineNumber + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.scproject.ga.benchmark;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.IntegerChromosome;
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.crossover.OrderMethod;
+import com.scproject.ga.fitness.FitnessFunction;
+import com.scproject.ga.mutation.InversionMutation;
+
+/**
+ * Travelling salesman on a permutation encoding: the genome is the visiting order and fitness is
+ * the negated closed tour length. TSPLIB files do not carry their optimum, so it is unknown unless
+ * set, e.g. from the published optimal tour lengths.
+ */
+public final class TspProblem extends BenchmarkProblem {
+
+    private final TspInstance instance;
+
+    public TspProblem(TspInstance instance) {
+        super(Double.NaN, 0.0);
+        if (instance == null) {
+            throw new IllegalArgumentException("TSP instance cannot be null");
+        }
+        this.instance = instance;
+    }
+
+    //Known optimal tour length, e.g. 7542 for berlin52
+    public TspProblem(TspInstance instance, double optimalLength) {
+        this(instance);
+        setOptimum(-optimalLength);
+    }
+
+    @Override
+    public int getLength() {
+        return instance.getDimension();
+    }
+
+    @Override
+    protected Chromosome createPrototype() {
+        return new IntegerChromosome(instance.getDimension());
+    }
+
+    @Override
+    protected FitnessFunction createFitnessFunction() {
+        return chromosome -> {
+            Object[] genes = chromosome.getGenes();
+            int[] tour = new int[genes.length];
+            for (int i = 0; i < tour.length; i++) {
+                tour[i] = (Integer) genes[i];
+            }
+            return -instance.tourLength(tour);
+        };
+    }
+
+    //Order crossover and 2-opt style segment inversion
+    @Override
+    public GAConfiguration defaultConfiguration() {
+        GAConfiguration config = baseConfiguration();
+        config.setCrossoverStrategy(new OrderMethod());
+        config.setMutationStrategy(new InversionMutation());
+        config.setMutationRate(0.3);
+        return config;
+    }
+
+    public TspInstance getInstance() {
+        return instance;
+    }
+
+    @Override
+    public String getName() {
+        return "tsp-" + instance.getName();
+    }
+}
@@ -1,5 +1,7 @@
 package com.scproject.ga.chromosome;
 
+import com.scproject.ga.core.GARandom;
+
 import java.util.*;
 
 public class BinaryChromosome extends Chromosome {
@@ -12,7 +14,7 @@ public class BinaryChromosome extends Chromosome {
 
     @Override
     public void initialize() {
-        Random random = new Random();
+        Random random = GARandom.current();
         for (int i = 0; i < length; i++) {
             genes[i] = random.nextBoolean();
         }
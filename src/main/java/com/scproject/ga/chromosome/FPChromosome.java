@@ -1,12 +1,30 @@
 package com.scproject.ga.chromosome;
 
-import java.util.Random;
+import com.scproject.ga.core.GARandom;
 
+import java.util.Random;
 
+/**
+ * Real-valued chromosome. Genes are stored as doubles by default; a {@link GeneStorage} mode
+ * stores them as floats or as fixed-point codes over [lowerBound, upperBound] instead, and every
+ * accessor decodes on the fly. Fixed-point precision is {@code fixedBits} bits per gene, at most
+ * 16, giving a resolution of {@code (upperBound - lowerBound) / (2^fixedBits - 1)}.
+ *
+ * <p>With DOUBLE storage {@link #getValues()} is the backing array. The compact modes return a
+ * decoded copy, so code that edits genes in bulk should write them back with
+ * {@link #setValues(double[])}, which is free when handed the backing array itself.
+ */
 public class FPChromosome extends Chromosome {
-    private Double[] genes;
+    //Primitive storage so large real-valued genomes (e.g. network weights) are not boxed
+    private double[] genes;
+    private float[] floatGenes;
+    private char[] fixedGenes;
+    private final GeneStorage storage;
+    private final int fixedBits;
     private double lowerBound;
     private double upperBound;
+    //Fixed-point level spacing, kept in step with the bounds
+    private double step;
 
 
     public FPChromosome(int length) {
@@ -14,52 +32,217 @@ public class FPChromosome extends Chromosome {
     }
 
     public FPChromosome(int length, double lowerBound, double upperBound) {
+        this(length, lowerBound, upperBound, GeneStorage.DOUBLE);
+    }
+
+    public FPChromosome(int length, double lowerBound, double upperBound, GeneStorage storage) {
+        this(length, lowerBound, upperBound, storage, 16);
+    }
+
+    //fixedBits only applies to FIXED16 storage
+    public FPChromosome(int length, double lowerBound, double upperBound, GeneStorage storage, int fixedBits) {
         super(length);
+        if (storage == null) {
+            throw new IllegalArgumentException("Gene storage cannot be null");
+        }
+        if (fixedBits < 1 || fixedBits > 16) {
+            throw new IllegalArgumentException("Fixed-point precision must be between 1 and 16 bits");
+        }
+        this.storage = storage;
+        this.fixedBits = fixedBits;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.step = (upperBound - lowerBound) / ((1 << fixedBits) - 1);
+        allocate(length);
+    }
+
+    //Wraps the given array without copying it
+    public FPChromosome(double[] values, double lowerBound, double upperBound) {
+        super(values.length);
+        this.storage = GeneStorage.DOUBLE;
+        this.fixedBits = 16;
         this.lowerBound = lowerBound;
         this.upperBound = upperBound;
-        genes = new Double[length];
+        this.step = (upperBound - lowerBound) / ((1 << fixedBits) - 1);
+        this.genes = values;
+    }
+
+    private FPChromosome(FPChromosome source) {
+        super(source.size());
+        this.storage = source.storage;
+        this.fixedBits = source.fixedBits;
+        this.lowerBound = source.lowerBound;
+        this.upperBound = source.upperBound;
+        this.step = source.step;
+        this.genes = source.genes == null ? null : source.genes.clone();
+        this.floatGenes = source.floatGenes == null ? null : source.floatGenes.clone();
+        this.fixedGenes = source.fixedGenes == null ? null : source.fixedGenes.clone();
+    }
+
+    private void allocate(int size) {
+        switch (storage) {
+            case DOUBLE:
+                genes = new double[size];
+                break;
+            case FLOAT32:
+                floatGenes = new float[size];
+                break;
+            default:
+                fixedGenes = new char[size];
+        }
+    }
+
+    private int size() {
+        switch (storage) {
+            case DOUBLE:
+                return genes.length;
+            case FLOAT32:
+                return floatGenes.length;
+            default:
+                return fixedGenes.length;
+        }
     }
 
     @Override
     public void initialize() {
-        Random random = new Random();
+        Random random = GARandom.current();
         for (int i = 0; i < length; i++) {
-            genes[i] = lowerBound + (upperBound - lowerBound) * random.nextDouble();
+            setValue(i, lowerBound + (upperBound - lowerBound) * random.nextDouble());
         }
     }
 
     @Override
     public Object getGene(int index) {
-        return genes[index];
+        return getValue(index);
     }
 
     @Override
     public void setGene(int index, Object value) {
-        genes[index] = ((Number) value).doubleValue();
+        setValue(index, ((Number) value).doubleValue());
     }
 
+    //Boxed copy; write changes back with setGenes or work on getValues() directly
     @Override
     public Object[] getGenes() {
-        return genes;
+        Double[] boxed = new Double[size()];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = getValue(i);
+        }
+        return boxed;
     }
 
     @Override
     public void setGenes(Object[] genes) {
-        this.genes = new Double[genes.length];
+        if (size() != genes.length) {
+            allocate(genes.length);
+        }
         for (int i = 0; i < genes.length; i++) {
-            this.genes[i] = ((Number) genes[i]).doubleValue();
+            setValue(i, ((Number) genes[i]).doubleValue());
+        }
+    }
+
+    //The backing array with DOUBLE storage, writes are visible to the chromosome; a decoded copy otherwise
+    public double[] getValues() {
+        if (storage == GeneStorage.DOUBLE) {
+            return genes;
+        }
+        double[] values = new double[size()];
+        copyValues(values);
+        return values;
+    }
+
+    //Decodes every gene into target without allocating
+    public void copyValues(double[] target) {
+        int size = size();
+        if (target.length < size) {
+            throw new IllegalArgumentException("Target holds " + target.length + " values, chromosome has " + size);
+        }
+        if (storage == GeneStorage.DOUBLE) {
+            System.arraycopy(genes, 0, target, 0, size);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            target[i] = getValue(i);
+        }
+    }
+
+    //Stores every value, quantizing them for the compact modes; a no-op for the backing array itself
+    public void setValues(double[] values) {
+        if (values == genes) {
+            return;
+        }
+        if (values.length != size()) {
+            throw new IllegalArgumentException("Expected " + size() + " values, got " + values.length);
+        }
+        for (int i = 0; i < values.length; i++) {
+            setValue(i, values[i]);
+        }
+    }
+
+    public double getValue(int index) {
+        switch (storage) {
+            case DOUBLE:
+                return genes[index];
+            case FLOAT32:
+                return floatGenes[index];
+            default:
+                return lowerBound + fixedGenes[index] * step;
+        }
+    }
+
+    public void setValue(int index, double value) {
+        switch (storage) {
+            case DOUBLE:
+                genes[index] = value;
+                break;
+            case FLOAT32:
+                floatGenes[index] = (float) value;
+                break;
+            default:
+                fixedGenes[index] = quantize(value);
         }
     }
 
+    //Nearest fixed-point level, clamped to the bounds; NaN maps to the lower bound
+    private char quantize(double value) {
+        double scaled = (value - lowerBound) / step;
+        if (!(scaled > 0.0)) {
+            return 0;
+        }
+        return (char) Math.min((1 << fixedBits) - 1, Math.round(scaled));
+    }
+
+    /**
+     * Smallest representable change of a gene: the fixed-point step for FIXED16, and the spacing
+     * of floats or doubles at the larger bound otherwise. Mutation steps well below it are lost.
+     */
+    public double getResolution() {
+        switch (storage) {
+            case DOUBLE:
+                return Math.ulp(Math.max(Math.abs(lowerBound), Math.abs(upperBound)));
+            case FLOAT32:
+                return Math.ulp((float) Math.max(Math.abs(lowerBound), Math.abs(upperBound)));
+            default:
+                return step;
+        }
+    }
+
+    public GeneStorage getStorage() {
+        return storage;
+    }
+
+    public int getFixedBits() {
+        return fixedBits;
+    }
+
     @Override
     public Chromosome createNew(int length) {
-        return new FPChromosome(length, lowerBound, upperBound);
+        return new FPChromosome(length, lowerBound, upperBound, storage, fixedBits);
     }
 
     @Override
     public Chromosome clone() {
-        FPChromosome copy = new FPChromosome(length, lowerBound, upperBound);
-        copy.setGenes(this.getGenes().clone());
+        FPChromosome copy = new FPChromosome(this);
         copy.setFitness(this.getFitness());
         copy.setEvaluated(this.isEvaluated());
         return copy;
@@ -68,8 +251,8 @@ public class FPChromosome extends Chromosome {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("[");
-        for (Double g : genes) {
-            sb.append(String.format("%.4f ", g));
+        for (int i = 0; i < size(); i++) {
+            sb.append(String.format("%.4f ", getValue(i)));
         }
         sb.append("]");
         return sb.toString();
@@ -83,8 +266,17 @@ public class FPChromosome extends Chromosome {
         return upperBound;
     }
 
+    //Fixed-point genes are re-quantized, so they keep their values as far as the new bounds allow
     public void setBounds(double lower, double upper) {
+        if (storage != GeneStorage.FIXED16) {
+            this.lowerBound = lower;
+            this.upperBound = upper;
+            return;
+        }
+        double[] values = getValues();
         this.lowerBound = lower;
         this.upperBound = upper;
+        this.step = (upper - lower) / ((1 << fixedBits) - 1);
+        setValues(values);
     }
 }
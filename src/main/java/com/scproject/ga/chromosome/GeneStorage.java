@@ -0,0 +1,33 @@
+package com.scproject.ga.chromosome;
+
+/**
+ * How an FPChromosome stores its genes. The compact modes trade precision for a smaller
+ * population: FLOAT32 keeps about seven significant digits, and FIXED16 quantizes every gene to
+ * one of {@code 2^bits} evenly spaced levels over the chromosome bounds, so values outside the
+ * bounds cannot be represented and are clamped.
+ */
+public enum GeneStorage {
+    DOUBLE(8),
+    FLOAT32(4),
+    FIXED16(2);
+
+    private final int bytesPerGene;
+
+    GeneStorage(int bytesPerGene) {
+        this.bytesPerGene = bytesPerGene;
+    }
+
+    public int getBytesPerGene() {
+        return bytesPerGene;
+    }
+
+    //Accepts the names case-insensitively, e.g. "float32"
+    public static GeneStorage parse(String name) {
+        for (GeneStorage storage : values()) {
+            if (storage.name().equalsIgnoreCase(name)) {
+                return storage;
+            }
+        }
+        throw new IllegalArgumentException("Unknown gene storage: " + name);
+    }
+}
@@ -1,5 +1,7 @@
 package com.scproject.ga.chromosome;
 
+import com.scproject.ga.core.GARandom;
+
 import java.util.*;
 import java.util.Random;
 
@@ -21,16 +23,13 @@ public class IntegerChromosome extends Chromosome {
 
     @Override
     public void initialize() {
-        Random random = new Random();
+        Random random = GARandom.current();
         for (int i = 0; i < length; i++) {
             genes[i] = i;
         }
         List<Integer> list = Arrays.asList(genes);
-        Collections.shuffle(list);
+        Collections.shuffle(list, random);
         genes = list.toArray(new Integer[0]);
-
-        System.out.println(this.toString());
-
     }
 
     @Override
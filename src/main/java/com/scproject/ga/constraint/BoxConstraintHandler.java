@@ -0,0 +1,124 @@
+package com.scproject.ga.constraint;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+
+import java.util.Arrays;
+
+/**
+ * Per-gene lower and upper bounds for real-valued chromosomes. Repair clamps every gene into its
+ * interval; an infeasible chromosome that is scored anyway loses {@code penaltyWeight} fitness per
+ * unit of total bound violation.
+ */
+public class BoxConstraintHandler implements ConstraintHandler {
+
+    private final double[] lower;
+    private final double[] upper;
+    private double penaltyWeight = 1000.0;
+
+    public BoxConstraintHandler(int dimension, double lower, double upper) {
+        this(filled(dimension, lower), filled(dimension, upper));
+    }
+
+    public BoxConstraintHandler(double[] lower, double[] upper) {
+        if (lower.length == 0 || lower.length != upper.length) {
+            throw new IllegalArgumentException("Lower and upper bounds must have the same non-zero length");
+        }
+        for (int i = 0; i < lower.length; i++) {
+            if (!(lower[i] < upper[i])) {
+                throw new IllegalArgumentException("Lower bound must be below upper bound at index " + i);
+            }
+        }
+        this.lower = lower.clone();
+        this.upper = upper.clone();
+    }
+
+    private static double[] filled(int dimension, double value) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("Dimension must be positive");
+        }
+        double[] values = new double[dimension];
+        Arrays.fill(values, value);
+        return values;
+    }
+
+    @Override
+    public boolean isFeasible(Chromosome chromosome) {
+        double[] values = values(chromosome);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < lower[i] || values[i] > upper[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public double adjustFitness(Chromosome chromosome, double originalFitness) {
+        return originalFitness - penaltyWeight * getViolationMeasure(chromosome);
+    }
+
+    @Override
+    public double getViolationMeasure(Chromosome chromosome) {
+        double[] values = values(chromosome);
+        double violation = 0.0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < lower[i]) {
+                violation += lower[i] - values[i];
+            } else if (values[i] > upper[i]) {
+                violation += values[i] - upper[i];
+            }
+        }
+        return violation;
+    }
+
+    @Override
+    public Chromosome repair(Chromosome chromosome) {
+        FPChromosome repaired = (FPChromosome) chromosome.clone();
+        double[] values = repaired.getValues();
+        clamp(values);
+        repaired.setValues(values);
+        return repaired;
+    }
+
+    //Clamps a raw vector into the box in place
+    public void clamp(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.min(upper[i], Math.max(lower[i], values[i]));
+        }
+    }
+
+    private double[] values(Chromosome chromosome) {
+        if (!(chromosome instanceof FPChromosome)) {
+            throw new IllegalArgumentException("BoxConstraintHandler only supports FPChromosome");
+        }
+        double[] values = ((FPChromosome) chromosome).getValues();
+        if (values.length != lower.length) {
+            throw new IllegalArgumentException("Chromosome length " + values.length + " does not match bounds dimension " + lower.length);
+        }
+        return values;
+    }
+
+    public int getDimension() {
+        return lower.length;
+    }
+
+    public double getLower(int index) {
+        return lower[index];
+    }
+
+    public double getUpper(int index) {
+        return upper[index];
+    }
+
+    public double getPenaltyWeight() {
+        return penaltyWeight;
+    }
+
+    public void setPenaltyWeight(double penaltyWeight) {
+        if (penaltyWeight < 0) {
+            throw new IllegalArgumentException("Penalty weight cannot be negative");
+        }
+        this.penaltyWeight = penaltyWeight;
+    }
+}
@@ -2,6 +2,8 @@ package com.scproject.ga.constraint;
 
 import com.scproject.ga.chromosome.Chromosome;
 import com.scproject.ga.chromosome.IntegerChromosome;
+import com.scproject.ga.core.GARandom;
+import com.scproject.ga.graph.TowerGraph;
 
 import java.util.*;
 
@@ -9,10 +11,21 @@ public class RoutingConstraintHandler implements ConstraintHandler {
 
     private final Set<Integer> validTowerIds;
     private final Map<Integer, Set<Integer>> towerConnections;
+    private final TowerGraph graph;
 
     public RoutingConstraintHandler(Set<Integer> validTowerIds, Map<Integer, Set<Integer>> towerConnections) {
         this.validTowerIds = validTowerIds;
         this.towerConnections = towerConnections;
+        this.graph = null;
+    }
+
+    public RoutingConstraintHandler(TowerGraph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Tower graph cannot be null");
+        }
+        this.validTowerIds = null;
+        this.towerConnections = null;
+        this.graph = graph;
     }
 
     @Override
@@ -20,6 +33,9 @@ public class RoutingConstraintHandler implements ConstraintHandler {
         if (!(chromosome instanceof IntegerChromosome)) return false;
 
         Integer[] route = (Integer[]) chromosome.getGenes();
+        if (graph != null) {
+            return isFeasible(route, graph);
+        }
         Set<Integer> visited = new HashSet<>();
 
         for (int i = 0; i < route.length; i++) {
@@ -43,6 +59,26 @@ public class RoutingConstraintHandler implements ConstraintHandler {
         return unique.size() == genes.length && !Arrays.asList(genes).contains(null);
     }
 
+    private static boolean isFeasible(Integer[] route, TowerGraph graph) {
+        //Sized to the route, not the graph, so large graphs do not cost an allocation per check
+        int[] towers = new int[route.length];
+
+        for (int i = 0; i < route.length; i++) {
+            Integer current = route[i];
+
+            if (current == null || !graph.isValidNode(current)) return false;
+            if (i > 0 && !graph.hasEdge(route[i - 1], current)) return false;
+            towers[i] = current;
+        }
+
+        //A tower visited twice shows up as equal neighbours once sorted
+        Arrays.sort(towers);
+        for (int i = 1; i < towers.length; i++) {
+            if (towers[i] == towers[i - 1]) return false;
+        }
+        return true;
+    }
+
     @Override
     public double adjustFitness(Chromosome chromosome, double originalFitness) {
         return originalFitness * 0.5;
@@ -76,7 +112,7 @@ public class RoutingConstraintHandler implements ConstraintHandler {
         }
 
         //Shuffle missing elements for randomness
-        Collections.shuffle(missing);
+        Collections.shuffle(missing, GARandom.current());
         for (int i = 0; i < duplicates.size() && !missing.isEmpty(); i++) {
             int index = duplicates.get(i);
             genes[index] = missing.remove(0);
@@ -0,0 +1,301 @@
+package com.scproject.ga.continuous;
+
+import com.scproject.ga.constraint.BoxConstraintHandler;
+import com.scproject.ga.core.GARandom;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * (mu/mu_w, lambda)-CMA-ES with rank-one and rank-mu covariance updates and cumulative step-size
+ * adaptation, using the default strategy parameters of Hansen's tutorial.
+ *
+ * The covariance, its eigenvectors and all samples are flat primitive arrays updated in place.
+ * The eigendecomposition is only refreshed every {@code 0.5 / ((c1 + cmu) * n)} generations (the
+ * lazy gap used by pycma), which amortises its O(n^3) cost to O(n^2) per sample. Samples that
+ * leave the box are clamped and the clamped point is what the update learns from.
+ */
+public class CMAES extends ContinuousOptimizer {
+
+    private int lambda;
+    private double initialSigma;
+    private double[] initialMean;
+    private double tolX = 1e-12;
+    private double maxCondition = 1e14;
+
+    private double sigma;
+
+    public CMAES(BoxConstraintHandler bounds) {
+        super(bounds);
+        this.lambda = 4 + (int) Math.floor(3 * Math.log(dimension));
+        double range = 0.0;
+        for (int i = 0; i < dimension; i++) {
+            range += bounds.getUpper(i) - bounds.getLower(i);
+        }
+        this.initialSigma = 0.3 * range / dimension;
+    }
+
+    @Override
+    protected void optimize() {
+        int n = dimension;
+        int mu = lambda / 2;
+        Random random = GARandom.current();
+
+        double[] weights = new double[mu];
+        double sum = 0.0;
+        for (int i = 0; i < mu; i++) {
+            weights[i] = Math.log(mu + 0.5) - Math.log(i + 1);
+            sum += weights[i];
+        }
+        double sumSq = 0.0;
+        for (int i = 0; i < mu; i++) {
+            weights[i] /= sum;
+            sumSq += weights[i] * weights[i];
+        }
+        double mueff = 1.0 / sumSq;
+
+        double cc = (4 + mueff / n) / (n + 4 + 2 * mueff / n);
+        double cs = (mueff + 2) / (n + mueff + 5);
+        double c1 = 2 / ((n + 1.3) * (n + 1.3) + mueff);
+        double cmu = Math.min(1 - c1, 2 * (mueff - 2 + 1 / mueff) / ((n + 2) * (n + 2) + mueff));
+        double damps = 1 + 2 * Math.max(0, Math.sqrt((mueff - 1) / (n + 1)) - 1) + cs;
+        double chiN = Math.sqrt(n) * (1 - 1.0 / (4 * n) + 1.0 / (21.0 * n * n));
+        int eigenInterval = Math.max(1, (int) (0.5 / ((c1 + cmu) * n)));
+
+        double[] mean = new double[n];
+        if (initialMean != null) {
+            System.arraycopy(initialMean, 0, mean, 0, n);
+        } else {
+            for (int j = 0; j < n; j++) {
+                mean[j] = (bounds.getLower(j) + bounds.getUpper(j)) / 2.0;
+            }
+        }
+        sigma = initialSigma;
+
+        double[] pc = new double[n];
+        double[] ps = new double[n];
+        double[] covariance = new double[n * n];
+        double[] eigenvectors = new double[n * n];
+        double[] scales = new double[n];
+        double[] eigenvalues = new double[n];
+        double[] work = new double[n];
+        for (int j = 0; j < n; j++) {
+            covariance[j * n + j] = 1.0;
+            eigenvectors[j * n + j] = 1.0;
+            scales[j] = 1.0;
+        }
+
+        double[][] samples = new double[lambda][n];
+        double[][] steps = new double[lambda][n];
+        double[] fitness = new double[lambda];
+        Integer[] order = new Integer[lambda];
+        double[] oldMean = new double[n];
+        double[] meanStep = new double[n];
+        double[] z = new double[n];
+
+        for (int generation = 0; hasBudget(generation, lambda); generation++) {
+            if (generation > 0 && generation % eigenInterval == 0) {
+                SymmetricEigen.decompose(covariance, n, eigenvalues, eigenvectors, work);
+                double maxEigen = 0.0;
+                double minEigen = Double.POSITIVE_INFINITY;
+                for (int k = 0; k < n; k++) {
+                    double value = Math.max(eigenvalues[k], 1e-300);
+                    maxEigen = Math.max(maxEigen, value);
+                    minEigen = Math.min(minEigen, value);
+                    scales[k] = Math.sqrt(value);
+                }
+                if (maxEigen / minEigen > maxCondition) {
+                    break;
+                }
+            }
+
+            //y = B * (D .* z), accumulated one eigenvector row at a time
+            for (int s = 0; s < lambda; s++) {
+                double[] y = steps[s];
+                double[] x = samples[s];
+                Arrays.fill(y, 0.0);
+                for (int k = 0; k < n; k++) {
+                    z[k] = random.nextGaussian();
+                }
+                for (int k = 0; k < n; k++) {
+                    double coefficient = scales[k] * z[k];
+                    int row = k * n;
+                    for (int j = 0; j < n; j++) {
+                        y[j] += coefficient * eigenvectors[row + j];
+                    }
+                }
+                for (int j = 0; j < n; j++) {
+                    double value = mean[j] + sigma * y[j];
+                    double clamped = Math.min(bounds.getUpper(j), Math.max(bounds.getLower(j), value));
+                    if (clamped != value) {
+                        y[j] = (clamped - mean[j]) / sigma;
+                    }
+                    x[j] = clamped;
+                }
+            }
+
+            evaluate(samples, lambda, fitness);
+
+            for (int s = 0; s < lambda; s++) {
+                order[s] = s;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+
+            System.arraycopy(mean, 0, oldMean, 0, n);
+            Arrays.fill(meanStep, 0.0);
+            for (int i = 0; i < mu; i++) {
+                double[] y = steps[order[i]];
+                double w = weights[i];
+                for (int j = 0; j < n; j++) {
+                    meanStep[j] += w * y[j];
+                }
+            }
+            for (int j = 0; j < n; j++) {
+                mean[j] = oldMean[j] + sigma * meanStep[j];
+            }
+
+            //ps uses C^(-1/2) * meanStep = B * D^-1 * B^T * meanStep
+            double psFactor = Math.sqrt(cs * (2 - cs) * mueff);
+            for (int j = 0; j < n; j++) {
+                ps[j] *= 1 - cs;
+            }
+            for (int k = 0; k < n; k++) {
+                int row = k * n;
+                double projection = 0.0;
+                for (int j = 0; j < n; j++) {
+                    projection += eigenvectors[row + j] * meanStep[j];
+                }
+                double coefficient = psFactor * projection / scales[k];
+                for (int j = 0; j < n; j++) {
+                    ps[j] += coefficient * eigenvectors[row + j];
+                }
+            }
+            double psNorm = norm(ps);
+            boolean hsig = psNorm / Math.sqrt(1 - Math.pow(1 - cs, 2.0 * (generation + 1))) / chiN < 1.4 + 2.0 / (n + 1);
+
+            double pcFactor = hsig ? Math.sqrt(cc * (2 - cc) * mueff) : 0.0;
+            for (int j = 0; j < n; j++) {
+                pc[j] = (1 - cc) * pc[j] + pcFactor * meanStep[j];
+            }
+
+            //C = decay * C + c1 * pc pc^T + cmu * sum w_i y_i y_i^T, lower triangle then mirrored
+            double decay = 1 - c1 - cmu + (hsig ? 0.0 : c1 * cc * (2 - cc));
+            for (int r = 0; r < n; r++) {
+                int row = r * n;
+                double pcR = c1 * pc[r];
+                for (int c = 0; c <= r; c++) {
+                    covariance[row + c] = decay * covariance[row + c] + pcR * pc[c];
+                }
+            }
+            for (int i = 0; i < mu; i++) {
+                double[] y = steps[order[i]];
+                double w = cmu * weights[i];
+                for (int r = 0; r < n; r++) {
+                    int row = r * n;
+                    double wy = w * y[r];
+                    if (wy == 0.0) {
+                        continue;
+                    }
+                    for (int c = 0; c <= r; c++) {
+                        covariance[row + c] += wy * y[c];
+                    }
+                }
+            }
+            for (int r = 0; r < n; r++) {
+                for (int c = 0; c < r; c++) {
+                    covariance[c * n + r] = covariance[r * n + c];
+                }
+            }
+
+            sigma *= Math.exp((cs / damps) * (psNorm / chiN - 1));
+
+            double populationSum = 0.0;
+            for (double value : fitness) {
+                populationSum += value;
+            }
+            endGeneration(generation, fitness[order[0]], populationSum / lambda, fitness[order[lambda - 1]]);
+
+            double maxScale = 0.0;
+            for (double scale : scales) {
+                maxScale = Math.max(maxScale, scale);
+            }
+            if (sigma * maxScale < tolX) {
+                break;
+            }
+        }
+    }
+
+    private static double norm(double[] v) {
+        double sum = 0.0;
+        for (double value : v) {
+            sum += value * value;
+        }
+        return Math.sqrt(sum);
+    }
+
+    @Override
+    public String getName() {
+        return "CMA-ES";
+    }
+
+    public int getLambda() {
+        return lambda;
+    }
+
+    public void setLambda(int lambda) {
+        if (lambda < 4) {
+            throw new IllegalArgumentException("Lambda must be at least 4");
+        }
+        this.lambda = lambda;
+    }
+
+    public double getInitialSigma() {
+        return initialSigma;
+    }
+
+    public void setInitialSigma(double initialSigma) {
+        if (initialSigma <= 0) {
+            throw new IllegalArgumentException("Initial sigma must be positive");
+        }
+        this.initialSigma = initialSigma;
+    }
+
+    public double[] getInitialMean() {
+        return initialMean == null ? null : initialMean.clone();
+    }
+
+    //null starts from the centre of the box
+    public void setInitialMean(double[] initialMean) {
+        if (initialMean != null && initialMean.length != dimension) {
+            throw new IllegalArgumentException("Initial mean must have " + dimension + " values");
+        }
+        this.initialMean = initialMean == null ? null : initialMean.clone();
+    }
+
+    public double getTolX() {
+        return tolX;
+    }
+
+    public void setTolX(double tolX) {
+        if (tolX < 0) {
+            throw new IllegalArgumentException("TolX cannot be negative");
+        }
+        this.tolX = tolX;
+    }
+
+    public double getMaxCondition() {
+        return maxCondition;
+    }
+
+    public void setMaxCondition(double maxCondition) {
+        if (maxCondition <= 1) {
+            throw new IllegalArgumentException("Max condition must be above 1");
+        }
+        this.maxCondition = maxCondition;
+    }
+
+    //Step size at the end of the last run
+    public double getSigma() {
+        return sigma;
+    }
+}
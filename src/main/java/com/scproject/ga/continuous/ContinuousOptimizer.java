@@ -0,0 +1,260 @@
+package com.scproject.ga.continuous;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.constraint.BoxConstraintHandler;
+import com.scproject.ga.constraint.ConstraintHandler;
+import com.scproject.ga.core.GARandom;
+import com.scproject.ga.fitness.BatchFitnessFunction;
+import com.scproject.ga.fitness.FitnessFunction;
+import com.scproject.ga.monitor.FitnessSeries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Common driver for real-valued optimizers that keep their population as primitive rows.
+ *
+ * Rows are handed to the fitness function as FPChromosome views over the same arrays, one batch
+ * per generation, so any BatchFitnessFunction (parallel, asynchronous, surrogate-assisted) can
+ * score them without copying. Fitness is maximized, as in GeneticAlgorithm. The box bounds define
+ * the dimension and the initial sampling region; the constraint handler, by default the box
+ * itself, repairs and penalizes candidates exactly as the GA does.
+ */
+public abstract class ContinuousOptimizer {
+    protected final BoxConstraintHandler bounds;
+    protected final int dimension;
+    private final double viewLower;
+    private final double viewUpper;
+    private BatchFitnessFunction fitnessFunction;
+    private ConstraintHandler constraintHandler;
+    private int maxGenerations = 1000;
+    private long maxEvaluations = Long.MAX_VALUE;
+    private Long seed;
+    private boolean verbose = true;
+    private int printFrequency = 50;
+
+    private double[] bestSolution;
+    private double bestFitness;
+    private FitnessSeries fitnessSeries = new FitnessSeries();
+    private long evaluationCount;
+    private int generationsRun;
+    private double[] scores = new double[0];
+
+    protected ContinuousOptimizer(BoxConstraintHandler bounds) {
+        if (bounds == null) {
+            throw new IllegalArgumentException("Bounds cannot be null");
+        }
+        this.bounds = bounds;
+        this.dimension = bounds.getDimension();
+        this.constraintHandler = bounds;
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < dimension; i++) {
+            lower = Math.min(lower, bounds.getLower(i));
+            upper = Math.max(upper, bounds.getUpper(i));
+        }
+        this.viewLower = lower;
+        this.viewUpper = upper;
+    }
+
+    /**
+     * Run until the generation or evaluation budget is spent, or the optimizer converges
+     */
+    public FPChromosome run() {
+        if (fitnessFunction == null) {
+            throw new IllegalStateException("Fitness function must be set before running");
+        }
+        if (seed != null) {
+            GARandom.seed(seed);
+        }
+        bestSolution = null;
+        bestFitness = Double.NEGATIVE_INFINITY;
+        fitnessSeries.clear();
+        evaluationCount = 0;
+        generationsRun = 0;
+
+        optimize();
+
+        if (verbose) {
+            System.out.println("\n========== Final Results ==========");
+            System.out.printf("%s | Best: %.6g | Generations: %d | Evaluations: %d%n",
+                    getName(), bestFitness, generationsRun, evaluationCount);
+            System.out.println("===================================\n");
+        }
+        return getBestSolution();
+    }
+
+    protected abstract void optimize();
+
+    public abstract String getName();
+
+    /**
+     * Score the first {@code count} rows into {@code fitness}. Rows may be repaired in place.
+     */
+    protected void evaluate(double[][] rows, int count, double[] fitness) {
+        List<FPChromosome> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            FPChromosome view = new FPChromosome(rows[i], viewLower, viewUpper);
+            if (constraintHandler != null && !constraintHandler.isFeasible(view)) {
+                Chromosome repaired = constraintHandler.repair(view);
+                double[] values = ((FPChromosome) repaired).getValues();
+                if (values != rows[i]) {
+                    System.arraycopy(values, 0, rows[i], 0, dimension);
+                }
+            }
+            batch.add(view);
+        }
+
+        if (scores.length < count) {
+            scores = new double[count];
+        }
+        fitnessFunction.evaluate(batch, scores);
+
+        for (int i = 0; i < count; i++) {
+            double value = scores[i];
+            FPChromosome view = batch.get(i);
+            if (constraintHandler != null && !constraintHandler.isFeasible(view)) {
+                value = constraintHandler.adjustFitness(view, value);
+            }
+            fitness[i] = value;
+            if (value > bestFitness) {
+                bestFitness = value;
+                bestSolution = rows[i].clone();
+            }
+        }
+        evaluationCount += count;
+    }
+
+    protected boolean hasBudget(int generation, int evaluationsPerGeneration) {
+        return generation < maxGenerations && evaluationCount + evaluationsPerGeneration <= maxEvaluations;
+    }
+
+    protected void endGeneration(int generation, double populationBest, double populationMean, double populationWorst) {
+        generationsRun = generation + 1;
+        fitnessSeries.record(generation, bestFitness, populationMean, populationWorst);
+        if (verbose && generation % printFrequency == 0) {
+            System.out.printf("Generation %d | Best: %.6g | Avg: %.6g | Overall: %.6g%n",
+                    generation, populationBest, populationMean, bestFitness);
+        }
+    }
+
+    //Uniform sample inside the box
+    protected void sampleUniform(double[] row) {
+        for (int j = 0; j < dimension; j++) {
+            row[j] = bounds.getLower(j) + (bounds.getUpper(j) - bounds.getLower(j)) * GARandom.current().nextDouble();
+        }
+    }
+
+    public FPChromosome getBestSolution() {
+        if (bestSolution == null) {
+            return null;
+        }
+        FPChromosome best = new FPChromosome(bestSolution.clone(), viewLower, viewUpper);
+        best.setFitness(bestFitness);
+        best.setEvaluated(true);
+        return best;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public List<Double> getFitnessHistory() {
+        return fitnessSeries.toBestList();
+    }
+
+    public FitnessSeries getFitnessSeries() {
+        return fitnessSeries;
+    }
+
+    //Replace before running to change the stride or capacity
+    public void setFitnessSeries(FitnessSeries fitnessSeries) {
+        if (fitnessSeries == null) {
+            throw new IllegalArgumentException("Fitness series cannot be null");
+        }
+        this.fitnessSeries = fitnessSeries;
+    }
+
+    public long getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    public int getGenerationsRun() {
+        return generationsRun;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    public BoxConstraintHandler getBounds() {
+        return bounds;
+    }
+
+    public void setFitnessFunction(FitnessFunction fitnessFunction) {
+        this.fitnessFunction = fitnessFunction == null ? null : BatchFitnessFunction.of(fitnessFunction);
+    }
+
+    public void setBatchFitnessFunction(BatchFitnessFunction fitnessFunction) {
+        this.fitnessFunction = fitnessFunction;
+    }
+
+    public ConstraintHandler getConstraintHandler() {
+        return constraintHandler;
+    }
+
+    //Replaces the default box handler; the optimizer still keeps samples inside the box itself
+    public void setConstraintHandler(ConstraintHandler constraintHandler) {
+        this.constraintHandler = constraintHandler;
+    }
+
+    public int getMaxGenerations() {
+        return maxGenerations;
+    }
+
+    public void setMaxGenerations(int maxGenerations) {
+        if (maxGenerations <= 0) {
+            throw new IllegalArgumentException("Max generations must be positive");
+        }
+        this.maxGenerations = maxGenerations;
+    }
+
+    public long getMaxEvaluations() {
+        return maxEvaluations;
+    }
+
+    public void setMaxEvaluations(long maxEvaluations) {
+        if (maxEvaluations <= 0) {
+            throw new IllegalArgumentException("Max evaluations must be positive");
+        }
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    public int getPrintFrequency() {
+        return printFrequency;
+    }
+
+    public void setPrintFrequency(int printFrequency) {
+        if (printFrequency <= 0) {
+            throw new IllegalArgumentException("Print frequency must be positive");
+        }
+        this.printFrequency = printFrequency;
+    }
+}
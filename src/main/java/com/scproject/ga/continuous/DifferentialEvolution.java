@@ -0,0 +1,278 @@
+package com.scproject.ga.continuous;
+
+import com.scproject.ga.constraint.BoxConstraintHandler;
+import com.scproject.ga.core.GARandom;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Differential evolution over a primitive population matrix.
+ *
+ * <ul>
+ *   <li>{@link Strategy#RAND_1_BIN}: v = x_r1 + F (x_r2 - x_r3), the classic robust variant.</li>
+ *   <li>{@link Strategy#CURRENT_TO_BEST_1_BIN}: v = x_i + F (x_best - x_i) + F (x_r1 - x_r2),
+ *   greedier and faster on unimodal problems.</li>
+ *   <li>{@link Strategy#JADE}: current-to-pbest/1 with an archive of replaced parents and
+ *   per-individual F and CR adapted from the values that produced improvements.</li>
+ * </ul>
+ * Mutant genes that leave the box are moved halfway between the parent gene and the violated
+ * bound. Trials replace their parent when at least as fit; accepted rows are swapped in by
+ * reference rather than copied.
+ */
+public class DifferentialEvolution extends ContinuousOptimizer {
+
+    public enum Strategy {
+        RAND_1_BIN,
+        CURRENT_TO_BEST_1_BIN,
+        JADE
+    }
+
+    private Strategy strategy = Strategy.RAND_1_BIN;
+    private int populationSize;
+    private double differentialWeight = 0.5;
+    private double crossoverProbability = 0.9;
+    //JADE: learning rate of the F/CR means and share of the population pbest is drawn from
+    private double adaptationRate = 0.1;
+    private double greediness = 0.05;
+
+    public DifferentialEvolution(BoxConstraintHandler bounds) {
+        super(bounds);
+        this.populationSize = Math.max(20, Math.min(10 * dimension, 200));
+    }
+
+    @Override
+    protected void optimize() {
+        int np = populationSize;
+        Random random = GARandom.current();
+        double[][] population = new double[np][dimension];
+        double[][] trials = new double[np][dimension];
+        double[] fitness = new double[np];
+        double[] trialFitness = new double[np];
+        double[] trialF = new double[np];
+        double[] trialCR = new double[np];
+
+        boolean jade = strategy == Strategy.JADE;
+        double[][] archive = jade ? new double[np][dimension] : null;
+        int archiveSize = 0;
+        int[] order = jade ? new int[np] : null;
+        double meanF = 0.5;
+        double meanCR = 0.5;
+
+        for (double[] row : population) {
+            sampleUniform(row);
+        }
+        evaluate(population, np, fitness);
+
+        for (int generation = 0; hasBudget(generation, np); generation++) {
+            int best = 0;
+            for (int i = 1; i < np; i++) {
+                if (fitness[i] > fitness[best]) {
+                    best = i;
+                }
+            }
+            int topCount = 1;
+            if (jade) {
+                sortByFitness(fitness, order);
+                topCount = Math.max(2, (int) Math.round(greediness * np));
+            }
+
+            for (int i = 0; i < np; i++) {
+                double f = differentialWeight;
+                double cr = crossoverProbability;
+                if (jade) {
+                    cr = Math.min(1.0, Math.max(0.0, meanCR + 0.1 * random.nextGaussian()));
+                    do {
+                        f = meanF + 0.1 * Math.tan(Math.PI * (random.nextDouble() - 0.5));
+                    } while (f <= 0.0);
+                    f = Math.min(f, 1.0);
+                }
+                trialF[i] = f;
+                trialCR[i] = cr;
+
+                int r1 = pick(random, np, i, -1, -1);
+                int r2 = pick(random, np, i, r1, -1);
+                double[] x = population[i];
+                double[] a = population[r1];
+                double[] trial = trials[i];
+                int forced = random.nextInt(dimension);
+
+                switch (strategy) {
+                    case RAND_1_BIN: {
+                        double[] b = population[r2];
+                        double[] c = population[pick(random, np, i, r1, r2)];
+                        for (int j = 0; j < dimension; j++) {
+                            trial[j] = (j == forced || random.nextDouble() < cr)
+                                    ? bound(a[j] + f * (b[j] - c[j]), x[j], j) : x[j];
+                        }
+                        break;
+                    }
+                    case CURRENT_TO_BEST_1_BIN: {
+                        double[] top = population[best];
+                        double[] b = population[r2];
+                        for (int j = 0; j < dimension; j++) {
+                            trial[j] = (j == forced || random.nextDouble() < cr)
+                                    ? bound(x[j] + f * (top[j] - x[j]) + f * (a[j] - b[j]), x[j], j) : x[j];
+                        }
+                        break;
+                    }
+                    default: {
+                        double[] pbest = population[order[random.nextInt(topCount)]];
+                        //The second difference vector may come from the archive of replaced parents
+                        int pooled = random.nextInt(np + archiveSize);
+                        while (pooled == i || pooled == r1) {
+                            pooled = random.nextInt(np + archiveSize);
+                        }
+                        double[] b = pooled < np ? population[pooled] : archive[pooled - np];
+                        for (int j = 0; j < dimension; j++) {
+                            trial[j] = (j == forced || random.nextDouble() < cr)
+                                    ? bound(x[j] + f * (pbest[j] - x[j]) + f * (a[j] - b[j]), x[j], j) : x[j];
+                        }
+                    }
+                }
+            }
+
+            evaluate(trials, np, trialFitness);
+
+            double sumCR = 0.0;
+            double sumF = 0.0;
+            double sumF2 = 0.0;
+            int successes = 0;
+            double populationSum = 0.0;
+            double populationBest = Double.NEGATIVE_INFINITY;
+            double populationWorst = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < np; i++) {
+                if (trialFitness[i] >= fitness[i]) {
+                    if (jade && trialFitness[i] > fitness[i]) {
+                        int slot = archiveSize < np ? archiveSize++ : random.nextInt(np);
+                        System.arraycopy(population[i], 0, archive[slot], 0, dimension);
+                        sumCR += trialCR[i];
+                        sumF += trialF[i];
+                        sumF2 += trialF[i] * trialF[i];
+                        successes++;
+                    }
+                    double[] replaced = population[i];
+                    population[i] = trials[i];
+                    trials[i] = replaced;
+                    fitness[i] = trialFitness[i];
+                }
+                populationSum += fitness[i];
+                populationBest = Math.max(populationBest, fitness[i]);
+                populationWorst = Math.min(populationWorst, fitness[i]);
+            }
+
+            if (jade && successes > 0) {
+                meanCR = (1 - adaptationRate) * meanCR + adaptationRate * (sumCR / successes);
+                //Lehmer mean favours larger successful F values
+                meanF = (1 - adaptationRate) * meanF + adaptationRate * (sumF2 / sumF);
+            }
+
+            endGeneration(generation, populationBest, populationSum / np, populationWorst);
+        }
+    }
+
+    private static int pick(Random random, int np, int exclude1, int exclude2, int exclude3) {
+        int r;
+        do {
+            r = random.nextInt(np);
+        } while (r == exclude1 || r == exclude2 || r == exclude3);
+        return r;
+    }
+
+    private double bound(double value, double parent, int j) {
+        double lower = bounds.getLower(j);
+        double upper = bounds.getUpper(j);
+        if (value < lower) {
+            return (lower + parent) / 2.0;
+        }
+        if (value > upper) {
+            return (upper + parent) / 2.0;
+        }
+        return value;
+    }
+
+    //Indices sorted by descending fitness
+    private static void sortByFitness(double[] fitness, int[] order) {
+        Integer[] boxed = new Integer[order.length];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (a, b) -> Double.compare(fitness[b], fitness[a]));
+        for (int i = 0; i < order.length; i++) {
+            order[i] = boxed[i];
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Differential Evolution (" + strategy + ")";
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        this.strategy = strategy;
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    public void setPopulationSize(int populationSize) {
+        if (populationSize < 4) {
+            throw new IllegalArgumentException("Differential evolution needs a population of at least 4");
+        }
+        this.populationSize = populationSize;
+    }
+
+    public double getDifferentialWeight() {
+        return differentialWeight;
+    }
+
+    //F; ignored by JADE, which adapts it
+    public void setDifferentialWeight(double differentialWeight) {
+        if (differentialWeight <= 0 || differentialWeight > 2) {
+            throw new IllegalArgumentException("Differential weight must be in (0, 2]");
+        }
+        this.differentialWeight = differentialWeight;
+    }
+
+    public double getCrossoverProbability() {
+        return crossoverProbability;
+    }
+
+    //CR; ignored by JADE, which adapts it
+    public void setCrossoverProbability(double crossoverProbability) {
+        if (crossoverProbability < 0 || crossoverProbability > 1) {
+            throw new IllegalArgumentException("Crossover probability must be between 0 and 1");
+        }
+        this.crossoverProbability = crossoverProbability;
+    }
+
+    public double getAdaptationRate() {
+        return adaptationRate;
+    }
+
+    public void setAdaptationRate(double adaptationRate) {
+        if (adaptationRate <= 0 || adaptationRate > 1) {
+            throw new IllegalArgumentException("Adaptation rate must be in (0, 1]");
+        }
+        this.adaptationRate = adaptationRate;
+    }
+
+    public double getGreediness() {
+        return greediness;
+    }
+
+    public void setGreediness(double greediness) {
+        if (greediness <= 0 || greediness > 1) {
+            throw new IllegalArgumentException("Greediness must be in (0, 1]");
+        }
+        this.greediness = greediness;
+    }
+}
@@ -0,0 +1,208 @@
+package com.scproject.ga.continuous;
+
+/**
+ * Eigendecomposition of a symmetric matrix stored flat, row-major, by Householder
+ * tridiagonalisation followed by the implicit QL algorithm (the tred2/tql2 pair, as in JAMA).
+ *
+ * The working matrix is kept transposed relative to the textbook formulation so every inner
+ * loop walks memory contiguously; on return row k of {@code vectors} is the eigenvector of
+ * {@code values[k]}. Nothing is allocated per call beyond what the caller passes in.
+ */
+final class SymmetricEigen {
+
+    private SymmetricEigen() {
+    }
+
+    /**
+     * Decompose the n x n symmetric {@code matrix} (left untouched)
+     *
+     * @param values  receives the n eigenvalues, unsorted
+     * @param vectors receives the eigenvectors as rows (n * n)
+     * @param work    scratch of length n
+     */
+    static void decompose(double[] matrix, int n, double[] values, double[] vectors, double[] work) {
+        System.arraycopy(matrix, 0, vectors, 0, n * n);
+        tridiagonalize(vectors, n, values, work);
+        diagonalize(vectors, n, values, work);
+    }
+
+    //V[r][c] of the textbook algorithm lives at t[c * n + r]
+    private static void tridiagonalize(double[] t, int n, double[] d, double[] e) {
+        for (int j = 0; j < n; j++) {
+            d[j] = t[j * n + n - 1];
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            double scale = 0.0;
+            double h = 0.0;
+            for (int k = 0; k < i; k++) {
+                scale += Math.abs(d[k]);
+            }
+            if (scale == 0.0) {
+                e[i] = d[i - 1];
+                for (int j = 0; j < i; j++) {
+                    d[j] = t[j * n + i - 1];
+                    t[j * n + i] = 0.0;
+                    t[i * n + j] = 0.0;
+                }
+            } else {
+                for (int k = 0; k < i; k++) {
+                    d[k] /= scale;
+                    h += d[k] * d[k];
+                }
+                double f = d[i - 1];
+                double g = Math.sqrt(h);
+                if (f > 0) {
+                    g = -g;
+                }
+                e[i] = scale * g;
+                h -= f * g;
+                d[i - 1] = f - g;
+                for (int j = 0; j < i; j++) {
+                    e[j] = 0.0;
+                }
+
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    t[i * n + j] = f;
+                    int column = j * n;
+                    g = e[j] + t[column + j] * f;
+                    for (int k = j + 1; k <= i - 1; k++) {
+                        g += t[column + k] * d[k];
+                        e[k] += t[column + k] * f;
+                    }
+                    e[j] = g;
+                }
+                f = 0.0;
+                for (int j = 0; j < i; j++) {
+                    e[j] /= h;
+                    f += e[j] * d[j];
+                }
+                double hh = f / (h + h);
+                for (int j = 0; j < i; j++) {
+                    e[j] -= hh * d[j];
+                }
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    g = e[j];
+                    int column = j * n;
+                    for (int k = j; k <= i - 1; k++) {
+                        t[column + k] -= f * e[k] + g * d[k];
+                    }
+                    d[j] = t[column + i - 1];
+                    t[column + i] = 0.0;
+                }
+            }
+            d[i] = h;
+        }
+
+        //Accumulate the transformations
+        for (int i = 0; i < n - 1; i++) {
+            t[i * n + n - 1] = t[i * n + i];
+            t[i * n + i] = 1.0;
+            int next = (i + 1) * n;
+            double h = d[i + 1];
+            if (h != 0.0) {
+                for (int k = 0; k <= i; k++) {
+                    d[k] = t[next + k] / h;
+                }
+                for (int j = 0; j <= i; j++) {
+                    int column = j * n;
+                    double g = 0.0;
+                    for (int k = 0; k <= i; k++) {
+                        g += t[next + k] * t[column + k];
+                    }
+                    for (int k = 0; k <= i; k++) {
+                        t[column + k] -= g * d[k];
+                    }
+                }
+            }
+            for (int k = 0; k <= i; k++) {
+                t[next + k] = 0.0;
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            d[j] = t[j * n + n - 1];
+            t[j * n + n - 1] = 0.0;
+        }
+        t[(n - 1) * n + n - 1] = 1.0;
+        e[0] = 0.0;
+    }
+
+    private static void diagonalize(double[] t, int n, double[] d, double[] e) {
+        for (int i = 1; i < n; i++) {
+            e[i - 1] = e[i];
+        }
+        e[n - 1] = 0.0;
+
+        double f = 0.0;
+        double tst1 = 0.0;
+        double eps = Math.ulp(1.0);
+        for (int l = 0; l < n; l++) {
+            tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < n - 1 && Math.abs(e[m]) > eps * tst1) {
+                m++;
+            }
+
+            if (m > l) {
+                int iterations = 0;
+                do {
+                    if (++iterations > 100) {
+                        throw new IllegalStateException("Eigendecomposition did not converge");
+                    }
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2.0 * e[l]);
+                    double r = Math.sqrt(p * p + 1.0);
+                    if (p < 0) {
+                        r = -r;
+                    }
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    double dl1 = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < n; i++) {
+                        d[i] -= h;
+                    }
+                    f += h;
+
+                    p = d[m];
+                    double c = 1.0;
+                    double c2 = c;
+                    double c3 = c;
+                    double el1 = e[l + 1];
+                    double s = 0.0;
+                    double s2 = 0.0;
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = Math.sqrt(p * p + e[i] * e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+
+                        //Rotate eigenvector rows i and i + 1
+                        int rowI = i * n;
+                        int rowNext = rowI + n;
+                        for (int k = 0; k < n; k++) {
+                            double vNext = t[rowNext + k];
+                            double vI = t[rowI + k];
+                            t[rowNext + k] = s * vI + c * vNext;
+                            t[rowI + k] = c * vI - s * vNext;
+                        }
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                } while (Math.abs(e[l]) > eps * tst1);
+            }
+            d[l] += f;
+            e[l] = 0.0;
+        }
+    }
+}
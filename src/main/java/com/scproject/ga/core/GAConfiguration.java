@@ -1,9 +1,12 @@
 package com.scproject.ga.core;
 
+import com.scproject.ga.adaptive.OperatorPortfolio;
 import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.diversity.DuplicatePolicy;
 import com.scproject.ga.crossover.CrossoverStrategy;
 import com.scproject.ga.crossover.UniformMethod;
 import com.scproject.ga.mutation.MutationStrategy;
+import com.scproject.ga.niching.NichingStrategy;
 import com.scproject.ga.replacement.ElitistReplacement;
 import com.scproject.ga.replacement.ReplacementStrategy;
 import com.scproject.ga.selection.SelectionStrategy;
@@ -29,6 +32,16 @@ public class GAConfiguration {
     private CrossoverStrategy crossoverStrategy;
     private MutationStrategy mutationStrategy;
     private ReplacementStrategy replacementStrategy;
+    private OperatorPortfolio<CrossoverStrategy> crossoverPortfolio;
+    private OperatorPortfolio<MutationStrategy> mutationPortfolio;
+    private DuplicatePolicy duplicatePolicy;
+    private int maxRemutations;
+    private Long seed;
+    private int hallOfFameSize;
+    private NichingStrategy nichingStrategy;
+    private int breedingThreads;
+    private int pipelineDepth;
+    private int maxStaleness;
 
     public GAConfiguration() {
         setDefaultValues();
@@ -43,6 +56,9 @@ public class GAConfiguration {
         this.mutationRate = 0.01;
         this.verbose = true;
         this.printFrequency = 10;
+        this.duplicatePolicy = DuplicatePolicy.KEEP;
+        this.maxRemutations = 3;
+        this.hallOfFameSize = 10;
 
         this.selectionStrategy = new rankSelection();
         this.crossoverStrategy = new UniformMethod();
@@ -127,6 +143,46 @@ public class GAConfiguration {
         return replacementStrategy;
     }
 
+    public OperatorPortfolio<CrossoverStrategy> getCrossoverPortfolio() {
+        return crossoverPortfolio;
+    }
+
+    public OperatorPortfolio<MutationStrategy> getMutationPortfolio() {
+        return mutationPortfolio;
+    }
+
+    public DuplicatePolicy getDuplicatePolicy() {
+        return duplicatePolicy;
+    }
+
+    public int getMaxRemutations() {
+        return maxRemutations;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public int getHallOfFameSize() {
+        return hallOfFameSize;
+    }
+
+    public NichingStrategy getNichingStrategy() {
+        return nichingStrategy;
+    }
+
+    public int getBreedingThreads() {
+        return breedingThreads;
+    }
+
+    public int getPipelineDepth() {
+        return pipelineDepth;
+    }
+
+    public int getMaxStaleness() {
+        return maxStaleness;
+    }
+
     public void setPopulationSize(int populationSize) {
         if (populationSize <= 0) {
             throw new IllegalArgumentException("Population size must be positive");
@@ -212,6 +268,90 @@ public class GAConfiguration {
         this.replacementStrategy = replacementStrategy;
     }
 
+    //When set, the portfolio overrides crossoverStrategy and crossoverRate
+    public void setCrossoverPortfolio(OperatorPortfolio<CrossoverStrategy> crossoverPortfolio) {
+        if (crossoverPortfolio != null && crossoverPortfolio.size() == 0) {
+            throw new IllegalArgumentException("Crossover portfolio cannot be empty");
+        }
+        this.crossoverPortfolio = crossoverPortfolio;
+    }
+
+    //When set, the portfolio overrides mutationStrategy and mutationRate
+    public void setMutationPortfolio(OperatorPortfolio<MutationStrategy> mutationPortfolio) {
+        if (mutationPortfolio != null && mutationPortfolio.size() == 0) {
+            throw new IllegalArgumentException("Mutation portfolio cannot be empty");
+        }
+        this.mutationPortfolio = mutationPortfolio;
+    }
+
+    public void setDuplicatePolicy(DuplicatePolicy duplicatePolicy) {
+        if (duplicatePolicy == null) {
+            throw new IllegalArgumentException("Duplicate policy cannot be null");
+        }
+        this.duplicatePolicy = duplicatePolicy;
+    }
+
+    public void setMaxRemutations(int maxRemutations) {
+        if (maxRemutations < 0) {
+            throw new IllegalArgumentException("Max remutations cannot be negative");
+        }
+        this.maxRemutations = maxRemutations;
+    }
+
+    public void setHallOfFameSize(int hallOfFameSize) {
+        if (hallOfFameSize <= 0) {
+            throw new IllegalArgumentException("Hall of fame size must be positive");
+        }
+        this.hallOfFameSize = hallOfFameSize;
+    }
+
+    /**
+     * 0 breeds sequentially on the GA thread. Any positive value breeds in fixed slices, each with
+     * its own random stream, on that many threads; a seeded run then gives the same result for
+     * every positive value. Adaptive operator portfolios always breed sequentially.
+     */
+    public void setBreedingThreads(int breedingThreads) {
+        if (breedingThreads < 0) {
+            throw new IllegalArgumentException("Breeding threads cannot be negative");
+        }
+        this.breedingThreads = breedingThreads;
+    }
+
+    /**
+     * 0 runs generations as alternating breed and evaluate phases. A positive value breeds offspring
+     * in chunks on the GA thread while an evaluation stage scores earlier chunks, with at most this
+     * many chunks waiting between the two.
+     */
+    public void setPipelineDepth(int pipelineDepth) {
+        if (pipelineDepth < 0) {
+            throw new IllegalArgumentException("Pipeline depth cannot be negative");
+        }
+        this.pipelineDepth = pipelineDepth;
+    }
+
+    /**
+     * How many generations older than ideal a pipelined chunk's parents may be. With 0, breeding for
+     * a generation waits until the previous one is replaced, so only breeding and evaluation within
+     * a generation overlap and seeded runs are reproducible. With s > 0, breeding may run up to s
+     * generations ahead from the newest complete population.
+     */
+    public void setMaxStaleness(int maxStaleness) {
+        if (maxStaleness < 0) {
+            throw new IllegalArgumentException("Max staleness cannot be negative");
+        }
+        this.maxStaleness = maxStaleness;
+    }
+
+    //null disables niching
+    public void setNichingStrategy(NichingStrategy nichingStrategy) {
+        this.nichingStrategy = nichingStrategy;
+    }
+
+    //null leaves the run unseeded; otherwise GARandom is reseeded on the running thread at start
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
     @Override
     public String toString() {
         return "GAConfiguration{" +
@@ -225,6 +365,13 @@ public class GAConfiguration {
                 ", crossoverStrategy=" + crossoverStrategy.getClass().getSimpleName() +
                 ", mutationStrategy=" + (mutationStrategy != null ? mutationStrategy.getClass().getSimpleName() : "null") +
                 ", replacementStrategy=" + replacementStrategy.getClass().getSimpleName() +
+                ", duplicatePolicy=" + duplicatePolicy +
+                (seed != null ? ", seed=" + seed : "") +
+                (nichingStrategy != null ? ", niching=" + nichingStrategy : "") +
+                (breedingThreads > 0 ? ", breedingThreads=" + breedingThreads : "") +
+                (pipelineDepth > 0 ? ", pipelineDepth=" + pipelineDepth + ", maxStaleness=" + maxStaleness : "") +
+                (crossoverPortfolio != null ? ", crossoverPortfolio=" + crossoverPortfolio.size() + " operators" : "") +
+                (mutationPortfolio != null ? ", mutationPortfolio=" + mutationPortfolio.size() + " operators" : "") +
                 '}';
     }
 
@@ -243,6 +390,16 @@ public class GAConfiguration {
         copy.crossoverStrategy = this.crossoverStrategy;
         copy.mutationStrategy = this.mutationStrategy;
         copy.replacementStrategy = this.replacementStrategy;
+        copy.crossoverPortfolio = this.crossoverPortfolio;
+        copy.mutationPortfolio = this.mutationPortfolio;
+        copy.duplicatePolicy = this.duplicatePolicy;
+        copy.maxRemutations = this.maxRemutations;
+        copy.seed = this.seed;
+        copy.hallOfFameSize = this.hallOfFameSize;
+        copy.nichingStrategy = this.nichingStrategy;
+        copy.breedingThreads = this.breedingThreads;
+        copy.pipelineDepth = this.pipelineDepth;
+        copy.maxStaleness = this.maxStaleness;
         return copy;
     }
 }
\ No newline at end of file
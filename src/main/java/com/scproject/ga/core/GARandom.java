@@ -0,0 +1,43 @@
+package com.scproject.ga.core;
+
+import java.util.Random;
+
+/**
+ * Random source shared by the GA and its operators. Every thread has its own generator, so
+ * concurrent runs never contend on or disturb each other's sequence, and a run started with a
+ * seed is reproducible as long as its operators draw from here.
+ */
+public final class GARandom {
+    private static final ThreadLocal<Random> RANDOM = ThreadLocal.withInitial(Random::new);
+
+    private GARandom() {
+    }
+
+    public static Random current() {
+        return RANDOM.get();
+    }
+
+    //Restarts the calling thread's sequence from the given seed
+    public static void seed(long seed) {
+        RANDOM.set(new Random(seed));
+    }
+
+    //Makes the given generator the calling thread's source and returns the one it replaces
+    public static Random install(Random random) {
+        Random previous = RANDOM.get();
+        RANDOM.set(random);
+        return previous;
+    }
+
+    /**
+     * Independent generator for task {@code index} of a step seeded with {@code seed}. Tasks get
+     * the same stream whichever thread runs them, which keeps parallel work reproducible.
+     */
+    public static Random stream(long seed, int index) {
+        //SplitMix64 finalizer, so neighbouring indices do not get correlated Random seeds
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return new Random(z ^ (z >>> 31));
+    }
+}
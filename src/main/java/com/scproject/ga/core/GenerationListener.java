@@ -0,0 +1,16 @@
+package com.scproject.ga.core;
+
+/**
+ * Called by GeneticAlgorithm on its own thread after every generation, once the best solution
+ * and fitness history have been updated. A listener may call {@link GeneticAlgorithm#requestStop()}
+ * to end the run after the current generation.
+ */
+@FunctionalInterface
+public interface GenerationListener {
+
+    void onGeneration(GeneticAlgorithm ga, int generation);
+
+    //Called once after the final population has been evaluated
+    default void onRunFinished(GeneticAlgorithm ga) {
+    }
+}
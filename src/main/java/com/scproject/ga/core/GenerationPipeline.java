@@ -0,0 +1,187 @@
+package com.scproject.ga.core;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.diversity.DuplicatePolicy;
+import com.scproject.ga.diversity.GenomeIndex;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Runs the generations of a GeneticAlgorithm as a two-stage pipeline. The GA thread breeds
+ * offspring one slice at a time and hands each slice to an evaluation thread through a queue of
+ * {@code depth} chunks, so evaluation proceeds while later chunks are bred.
+ *
+ * <p>Replacement stays generational: generation g is replaced as soon as every chunk of its
+ * offspring is scored, and generations complete in order. Chunks are always bred from the newest
+ * complete population; breeding may run up to {@code maxStaleness} generations ahead of it, and
+ * the staleness of every chunk is recorded in the {@link PipelineStatistics}.
+ */
+final class GenerationPipeline {
+
+    private final GeneticAlgorithm ga;
+    private final int depth;
+    private final int maxStaleness;
+    private final PipelineStatistics statistics;
+
+    GenerationPipeline(GeneticAlgorithm ga, int depth, int maxStaleness) {
+        this.ga = ga;
+        this.depth = depth;
+        this.maxStaleness = maxStaleness;
+        this.statistics = new PipelineStatistics(maxStaleness);
+    }
+
+    PipelineStatistics getStatistics() {
+        return statistics;
+    }
+
+    //Offspring of one generation, bred slice by slice
+    private static final class Offspring {
+        final int generation;
+        final long seed;
+        final Chromosome[] parents;
+        final Chromosome[] children;
+        //null when duplicates are kept
+        final GenomeIndex index;
+        final int slices;
+        int bred;
+        int evaluated;
+
+        Offspring(int generation, long seed, int size, int slices, boolean indexed) {
+            this.generation = generation;
+            this.seed = seed;
+            this.parents = new Chromosome[size];
+            this.children = new Chromosome[size];
+            this.index = indexed ? new GenomeIndex(size) : null;
+            this.slices = slices;
+        }
+
+        List<Chromosome> chunk(int slice) {
+            int from = slice * GeneticAlgorithm.BREEDING_SLICE_PAIRS * 2;
+            int to = Math.min(children.length, from + GeneticAlgorithm.BREEDING_SLICE_PAIRS * 2);
+            return Arrays.asList(children).subList(from, to);
+        }
+    }
+
+    private static final class Chunk {
+        final Offspring offspring;
+        final int slice;
+        final List<Chromosome> individuals;
+        Throwable error;
+
+        Chunk(Offspring offspring, int slice, List<Chromosome> individuals) {
+            this.offspring = offspring;
+            this.slice = slice;
+            this.individuals = individuals;
+        }
+    }
+
+    void run(int generations) {
+        int size = ga.getEvenNumberOfParents();
+        int slices = (size / 2 + GeneticAlgorithm.BREEDING_SLICE_PAIRS - 1) / GeneticAlgorithm.BREEDING_SLICE_PAIRS;
+        BlockingQueue<Chunk> pending = new ArrayBlockingQueue<>(depth);
+        BlockingQueue<Chunk> scored = new LinkedBlockingQueue<>();
+        Thread evaluator = Thread.ofPlatform().daemon().name("ga-pipeline-evaluator")
+                .start(() -> evaluate(pending, scored));
+
+        ArrayDeque<Offspring> inProgress = new ArrayDeque<>();
+        Offspring breeding = null;
+        int nextGeneration = ga.getGenerationsRun();
+        int latest = nextGeneration;
+        int inFlight = 0;
+        long generationStart = System.nanoTime();
+
+        try {
+            while (latest < generations) {
+                boolean stopping = ga.isStopRequested();
+                if (!stopping && breeding == null && nextGeneration < generations
+                        && nextGeneration - latest <= maxStaleness) {
+                    breeding = new Offspring(nextGeneration++, GARandom.current().nextLong(), size, slices,
+                            ga.getConfig().getDuplicatePolicy() != DuplicatePolicy.KEEP);
+                    inProgress.add(breeding);
+                }
+
+                if (!stopping && breeding != null && pending.remainingCapacity() > 0) {
+                    long start = System.nanoTime();
+                    Population source = ga.getPopulation();
+                    int slice = breeding.bred++;
+                    ga.breedSlice(source, slice, breeding.seed, null, breeding.parents, breeding.children);
+                    List<Chromosome> chunk = breeding.chunk(slice);
+                    ga.eliminateDuplicates(chunk, source, breeding.index);
+                    pending.add(new Chunk(breeding, slice, chunk));
+                    inFlight++;
+                    statistics.recordBreeding(System.nanoTime() - start, breeding.generation - latest);
+                    if (breeding.bred == breeding.slices) {
+                        breeding = null;
+                    }
+                    continue;
+                }
+
+                if (inFlight == 0) {
+                    //Only reachable once a stop was requested
+                    break;
+                }
+                long waitStart = System.nanoTime();
+                Chunk done = scored.take();
+                statistics.recordBreederWait(System.nanoTime() - waitStart);
+                inFlight--;
+                if (done.error != null) {
+                    throw new IllegalStateException("Evaluation failed", done.error);
+                }
+                done.offspring.evaluated++;
+
+                while (!inProgress.isEmpty() && inProgress.peek().evaluated == inProgress.peek().slices) {
+                    Offspring complete = inProgress.poll();
+                    long replaceStart = System.nanoTime();
+                    ga.setPopulation(ga.replacePopulation(Arrays.asList(complete.parents), Arrays.asList(complete.children)));
+                    statistics.recordReplacement(System.nanoTime() - replaceStart);
+                    ga.finishGeneration(complete.generation, generationStart);
+                    generationStart = System.nanoTime();
+                    latest = complete.generation + 1;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for evaluations", e);
+        } finally {
+            evaluator.interrupt();
+            try {
+                evaluator.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            statistics.finish();
+        }
+    }
+
+    private void evaluate(BlockingQueue<Chunk> pending, BlockingQueue<Chunk> scored) {
+        while (true) {
+            Chunk chunk;
+            long idleStart = System.nanoTime();
+            try {
+                chunk = pending.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            long start = System.nanoTime();
+            statistics.recordEvaluatorIdle(start - idleStart);
+            //Seeded per chunk, past the breeding streams, so randomized fitness functions reproduce too
+            Random previous = GARandom.install(
+                    GARandom.stream(chunk.offspring.seed, chunk.offspring.slices + chunk.slice));
+            try {
+                ga.evaluateBatch(chunk.individuals);
+            } catch (Throwable t) {
+                chunk.error = t;
+            } finally {
+                GARandom.install(previous);
+            }
+            statistics.recordEvaluation(System.nanoTime() - start);
+            scored.add(chunk);
+        }
+    }
+}
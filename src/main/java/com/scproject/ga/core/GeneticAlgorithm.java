@@ -1,135 +1,369 @@
 package com.scproject.ga.core;
 
 
+import com.scproject.ga.adaptive.OperatorPortfolio;
 import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.diversity.DuplicatePolicy;
+import com.scproject.ga.diversity.GenomeHasher;
+import com.scproject.ga.diversity.GenomeIndex;
 import com.scproject.ga.selection.SelectionStrategy;
 import com.scproject.ga.crossover.CrossoverStrategy;
 import com.scproject.ga.mutation.MutationStrategy;
 import com.scproject.ga.replacement.ReplacementStrategy;
+import com.scproject.ga.fitness.BatchFitnessFunction;
 import com.scproject.ga.fitness.FitnessFunction;
 import com.scproject.ga.constraint.ConstraintHandler;
+import com.scproject.ga.monitor.FitnessSeries;
+import com.scproject.ga.monitor.GenerationPublisher;
+import com.scproject.ga.niching.DeterministicCrowding;
+import com.scproject.ga.niching.GenomeSpace;
+import com.scproject.ga.niching.NichingStrategy;
 
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
 
 public class GeneticAlgorithm {
+    //Pairs bred per slice; fixed so that slicing, and hence every random stream, ignores thread count
+    static final int BREEDING_SLICE_PAIRS = 8;
+
     private GAConfiguration config;
     private Population population;
-    private FitnessFunction fitnessFunction;
+    private BatchFitnessFunction fitnessFunction;
     private ConstraintHandler constraintHandler;
-    private Chromosome bestSolution;
-    private double bestFitness;
-    private List<Double> fitnessHistory;
+    private HallOfFame hallOfFame;
+    private FitnessSeries fitnessSeries;
+    private final List<OperatorCredit> operatorCredits = new ArrayList<>();
+    //Added to by the pipeline's evaluator thread and read by listeners on the GA thread
+    private final LongAdder evaluationCount = new LongAdder();
+    private long duplicatesEliminated;
+    private double[] scores = new double[0];
+    private final List<GenerationListener> generationListeners = new ArrayList<>();
+    private volatile boolean stopRequested;
+    private int generationsRun;
+    private GenerationPublisher generationPublisher;
+    private long runStartNanos;
+    private long lastGenerationNanos;
+    private ForkJoinPool breedingPool;
+    private PipelineStatistics pipelineStatistics;
 
     public GeneticAlgorithm() {
         this.config = new GAConfiguration();
-        this.fitnessHistory = new ArrayList<>();
-        this.bestFitness = Double.NEGATIVE_INFINITY;
+        this.fitnessSeries = new FitnessSeries();
     }
 
     public GeneticAlgorithm(GAConfiguration config) {
         this.config = config;
-        this.fitnessHistory = new ArrayList<>();
-        this.bestFitness = Double.NEGATIVE_INFINITY;
+        this.fitnessSeries = new FitnessSeries();
     }
 
     public void run() {
         validateConfiguration();
+        if (config.getSeed() != null) {
+            GARandom.seed(config.getSeed());
+        }
         initialize();
 
-        for (int generation = 0; generation < config.getGenerations(); generation++) {
+        if (config.getPipelineDepth() > 0) {
             evaluatePopulation();
+            GenerationPipeline pipeline = new GenerationPipeline(this, config.getPipelineDepth(), config.getMaxStaleness());
+            pipelineStatistics = pipeline.getStatistics();
+            pipeline.run(config.getGenerations());
+        }
 
-            List<Chromosome> parents = selectParents();
-
-            List<Chromosome> offspring = performCrossover(parents);
+        for (int generation = generationsRun; generation < config.getGenerations() && !stopRequested; generation++) {
+            long generationStart = System.nanoTime();
+            evaluatePopulation();
 
+            List<Chromosome> parents;
             List<Chromosome> offspringMutation;
-            offspringMutation = performMutation(offspring);
+            if (config.getBreedingThreads() > 0 && !isAdaptive()) {
+                parents = new ArrayList<>();
+                offspringMutation = breedInSlices(parents);
+            } else {
+                parents = selectParents();
 
+                List<Chromosome> offspring = performCrossover(parents);
 
-            evaluateOffspring(offspringMutation);
-            population = replacePopulation(offspringMutation);
+                offspringMutation = performMutation(offspring);
+            }
+            if (config.getDuplicatePolicy() != DuplicatePolicy.KEEP) {
+                eliminateDuplicates(offspringMutation, population, new GenomeIndex(offspringMutation.size()));
+            }
 
+            evaluateOffspring(offspringMutation);
+            population = replacePopulation(parents, offspringMutation);
 
-            updateBestSolution(generation);
+            finishGeneration(generation, generationStart);
+        }
 
-            if (config.isVerbose() && generation % config.getPrintFrequency() == 0) {
-                printGenerationStats(generation);
-            }
+        if (breedingPool != null) {
+            breedingPool.shutdown();
+            breedingPool = null;
         }
 
         evaluatePopulation();
-        updateBestSolution(config.getGenerations());
+        updateBestSolution(generationsRun);
+        for (GenerationListener listener : generationListeners) {
+            listener.onRunFinished(this);
+        }
 
         if (config.isVerbose()) {
             printFinalResults();
         }
     }
 
+    void finishGeneration(int generation, long generationStart) {
+        updateBestSolution(generation);
+        lastGenerationNanos = System.nanoTime() - generationStart;
+
+        if (config.isVerbose() && generation % config.getPrintFrequency() == 0) {
+            printGenerationStats(generation);
+        }
+
+        generationsRun = generation + 1;
+        for (GenerationListener listener : generationListeners) {
+            listener.onGeneration(this, generation);
+        }
+    }
+
     private void initialize() {
+        evaluationCount.reset();
+        duplicatesEliminated = 0;
+        generationsRun = 0;
+        stopRequested = false;
+        pipelineStatistics = null;
+        runStartNanos = System.nanoTime();
+        lastGenerationNanos = 0;
+        if (hallOfFame == null) {
+            hallOfFame = new HallOfFame(config.getHallOfFameSize());
+        }
         population = new Population(config.getPopulationSize());
         population.initialize(config.getChromosomePrototype(), config.getChromosomeLength());
     }
 
-    private void evaluatePopulation() {
+    void evaluatePopulation() {
+        List<Chromosome> pending = new ArrayList<>();
         for (Chromosome individual : population.getIndividuals()) {
             if (!individual.isEvaluated()) {
-                evaluateIndividual(individual);
+                pending.add(individual);
             }
         }
+        evaluateBatch(pending);
     }
 
-    private void evaluateIndividual(Chromosome individual) {
-        double fitness = fitnessFunction.evaluate(individual);
-
-        if (constraintHandler != null && !constraintHandler.isFeasible(individual)) {
-            fitness = constraintHandler.adjustFitness(individual, fitness);
+    void evaluateBatch(List<Chromosome> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (scores.length < batch.size()) {
+            scores = new double[batch.size()];
         }
 
-        individual.setFitness(fitness);
-        individual.setEvaluated(true);
+        fitnessFunction.evaluate(batch, scores);
+
+        for (int i = 0; i < batch.size(); i++) {
+            Chromosome individual = batch.get(i);
+            double fitness = scores[i];
+
+            if (constraintHandler != null && !constraintHandler.isFeasible(individual)) {
+                fitness = constraintHandler.adjustFitness(individual, fitness);
+            }
+
+            individual.setFitness(fitness);
+            individual.setEvaluated(true);
+            hallOfFame.offer(individual);
+        }
+        evaluationCount.add(batch.size());
     }
 
     private List<Chromosome> selectParents() {
+        NichingStrategy niching = config.getNichingStrategy();
+        if (niching instanceof DeterministicCrowding) {
+            return ((DeterministicCrowding) niching).pairParents(population);
+        }
+        //Snapshot, since selection may reorder the population while niched fitness is set
+        List<Chromosome> individuals = niching != null ? new ArrayList<>(population.getIndividuals()) : null;
+        double[] rawFitness = niching != null ? applyNiching(niching, individuals) : null;
+
         SelectionStrategy selectionStrategy = config.getSelectionStrategy();
         List<Chromosome> parents = new ArrayList<>();
 
-        int numParents = config.getNumberOfParents();
-        if (numParents % 2 != 0) {
-            numParents++;
-        }
+        int numParents = getEvenNumberOfParents();
 
         for (int i = 0; i < numParents; i++) {
             Chromosome parent = selectionStrategy.select(population);
             parents.add(parent);
         }
 
+        restoreRawFitness(individuals, rawFitness);
         return parents;
     }
 
+    int getEvenNumberOfParents() {
+        int numParents = config.getNumberOfParents();
+        if (numParents % 2 != 0) {
+            numParents++;
+        }
+        return numParents;
+    }
+
+    private void restoreRawFitness(List<Chromosome> individuals, double[] rawFitness) {
+        if (rawFitness != null) {
+            for (int i = 0; i < individuals.size(); i++) {
+                individuals.get(i).setFitness(rawFitness[i]);
+            }
+            //Any order cached during selection was by niched fitness
+            population.sortByFitness();
+        }
+    }
+
+    /**
+     * Selection, crossover with repair and mutation, run as independent slices of
+     * BREEDING_SLICE_PAIRS pairs on the breeding pool. Each slice draws from its own stream derived
+     * from one seed taken from the GA's generator, and writes only its own parent and offspring
+     * slots, so the result does not depend on the number of threads or on scheduling.
+     * Selection strategies must only read the population here.
+     */
+    private List<Chromosome> breedInSlices(List<Chromosome> parentsOut) {
+        NichingStrategy niching = config.getNichingStrategy();
+        List<Chromosome> pairedParents = niching instanceof DeterministicCrowding
+                ? ((DeterministicCrowding) niching).pairParents(population) : null;
+        List<Chromosome> individuals = niching != null && pairedParents == null
+                ? new ArrayList<>(population.getIndividuals()) : null;
+        double[] rawFitness = individuals != null ? applyNiching(niching, individuals) : null;
+
+        int numParents = pairedParents != null ? pairedParents.size() : getEvenNumberOfParents();
+        Chromosome[] parents = new Chromosome[numParents];
+        Chromosome[] offspring = new Chromosome[numParents];
+        int slices = (numParents / 2 + BREEDING_SLICE_PAIRS - 1) / BREEDING_SLICE_PAIRS;
+        long generationSeed = GARandom.current().nextLong();
+
+        if (breedingPool == null) {
+            breedingPool = new ForkJoinPool(config.getBreedingThreads());
+        }
+        try {
+            breedingPool.submit(() -> IntStream.range(0, slices).parallel()
+                    .forEach(slice -> breedSlice(population, slice, generationSeed, pairedParents, parents, offspring))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while breeding", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Breeding failed", e.getCause());
+        } finally {
+            restoreRawFitness(individuals, rawFitness);
+        }
+
+        parentsOut.addAll(Arrays.asList(parents));
+        return new ArrayList<>(Arrays.asList(offspring));
+    }
+
+    void breedSlice(Population source, int slice, long generationSeed, List<Chromosome> pairedParents,
+                    Chromosome[] parents, Chromosome[] offspring) {
+        Random previous = GARandom.install(GARandom.stream(generationSeed, slice));
+        try {
+            int from = slice * BREEDING_SLICE_PAIRS * 2;
+            int to = Math.min(parents.length, from + BREEDING_SLICE_PAIRS * 2);
+            SelectionStrategy selectionStrategy = config.getSelectionStrategy();
+            for (int i = from; i < to; i++) {
+                parents[i] = pairedParents != null ? pairedParents.get(i) : selectionStrategy.select(source);
+            }
+
+            MutationStrategy mutationStrategy = config.getMutationStrategy();
+            for (int i = from; i < to; i += 2) {
+                Chromosome[] children = crossoverPair(parents[i], parents[i + 1],
+                        config.getCrossoverStrategy(), config.getCrossoverRate());
+                for (int j = 0; j < 2; j++) {
+                    Chromosome child = children[j];
+                    if (GARandom.current().nextDouble() < config.getMutationRate()) {
+                        child = mutationStrategy.mutate(child);
+                    }
+                    offspring[i + j] = child;
+                }
+            }
+        } finally {
+            GARandom.install(previous);
+        }
+    }
+
+    private Chromosome[] crossoverPair(Chromosome parent1, Chromosome parent2,
+                                       CrossoverStrategy crossoverStrategy, double crossoverRate) {
+        return crossoverPair(parent1, parent2, crossoverStrategy, crossoverRate,
+                GARandom.current().nextDouble() < crossoverRate);
+    }
+
+    //apply is the outcome of the crossover-rate draw; otherwise the children are clones of the parents
+    private Chromosome[] crossoverPair(Chromosome parent1, Chromosome parent2,
+                                       CrossoverStrategy crossoverStrategy, double crossoverRate, boolean apply) {
+        Chromosome[] children;
+        if (apply) {
+            children = crossoverStrategy.crossover(parent1, parent2, crossoverRate, constraintHandler);
+        } else {
+            children = new Chromosome[]{parent1.clone(), parent2.clone()};
+        }
+
+        for (int j = 0; j < children.length; j++) {
+            Chromosome child = children[j];
+            if (constraintHandler != null && !constraintHandler.isFeasible(child)) {
+                child = constraintHandler.repair(child);
+            }
+            children[j] = child;
+        }
+        return children;
+    }
+
+    //Sets the niched fitness on the population for selection and returns the raw fitness
+    private double[] applyNiching(NichingStrategy niching, List<Chromosome> individuals) {
+        double[] rawFitness = new double[individuals.size()];
+        for (int i = 0; i < rawFitness.length; i++) {
+            rawFitness[i] = individuals.get(i).getFitness();
+        }
+        double[] niched = rawFitness.clone();
+        niching.adjustFitness(GenomeSpace.of(individuals), niched);
+        for (int i = 0; i < niched.length; i++) {
+            individuals.get(i).setFitness(niched[i]);
+        }
+        return rawFitness;
+    }
+
     private List<Chromosome> performCrossover(List<Chromosome> parents) {
-        CrossoverStrategy crossoverStrategy = config.getCrossoverStrategy();
+        OperatorPortfolio<CrossoverStrategy> portfolio = config.getCrossoverPortfolio();
+        boolean adaptive = isAdaptive();
         List<Chromosome> offspring = new ArrayList<>();
+        operatorCredits.clear();
 
         for (int i = 0; i < parents.size() - 1; i += 2) {
             Chromosome parent1 = parents.get(i);
             Chromosome parent2 = parents.get(i + 1);
-            Chromosome[] children;
 
-            if (Math.random() < config.getCrossoverRate()) {
-                children = crossoverStrategy.crossover(parent1, parent2, config.getCrossoverRate(), constraintHandler);
-            } else {
-                children = new Chromosome[]{parent1.clone(), parent2.clone()};
+            CrossoverStrategy crossoverStrategy = config.getCrossoverStrategy();
+            double crossoverRate = config.getCrossoverRate();
+            int arm = -1;
+            if (portfolio != null) {
+                arm = portfolio.select();
+                crossoverStrategy = portfolio.getArm(arm).getOperator();
+                crossoverRate = portfolio.getArm(arm).getRate();
             }
+            boolean apply = GARandom.current().nextDouble() < crossoverRate;
+            long start = adaptive ? OperatorPortfolio.cpuTimeNanos() : 0L;
 
-            for (int j = 0; j < children.length; j++) {
-                Chromosome child = children[j];
-                if (!constraintHandler.isFeasible(child)) {
-                    child = constraintHandler.repair(child);
-                }
+            Chromosome[] children = crossoverPair(parent1, parent2, crossoverStrategy, crossoverRate, apply);
+
+            long costPerChild = adaptive ? (OperatorPortfolio.cpuTimeNanos() - start) / children.length : 0L;
+            double parentFitness = Math.max(parent1.getFitness(), parent2.getFitness());
+            //As with mutation, an arm whose rate draw failed did not produce the children
+            int creditedArm = apply ? arm : -1;
+            for (Chromosome child : children) {
                 offspring.add(child);
+                if (adaptive) {
+                    operatorCredits.add(new OperatorCredit(creditedArm, parentFitness, costPerChild));
+                }
             }
         }
 
@@ -137,38 +371,143 @@ public class GeneticAlgorithm {
     }
 
     private List<Chromosome> performMutation(List<Chromosome> offspring) {
-        MutationStrategy mutationStrategy = config.getMutationStrategy();
+        OperatorPortfolio<MutationStrategy> portfolio = config.getMutationPortfolio();
 
         for (int i = 0; i < offspring.size(); i++) {
             Chromosome individual = offspring.get(i);
-            if (Math.random() < config.getMutationRate()) {
+
+            MutationStrategy mutationStrategy = config.getMutationStrategy();
+            double mutationRate = config.getMutationRate();
+            int arm = -1;
+            if (portfolio != null) {
+                arm = portfolio.select();
+                mutationStrategy = portfolio.getArm(arm).getOperator();
+                mutationRate = portfolio.getArm(arm).getRate();
+            }
+
+            if (GARandom.current().nextDouble() < mutationRate) {
+                long start = portfolio != null ? OperatorPortfolio.cpuTimeNanos() : 0L;
                 Chromosome mutated = mutationStrategy.mutate(individual);
                 offspring.set(i, mutated);
+
+                //Only an arm that actually mutated the child shares in its improvement
+                if (portfolio != null) {
+                    OperatorCredit credit = operatorCredits.get(i);
+                    credit.mutationArm = arm;
+                    credit.mutationCost = OperatorPortfolio.cpuTimeNanos() - start;
+                }
             }
         }
         return offspring;
     }
 
+    //Children are checked against the given population and the offspring already in offspringIndex
+    void eliminateDuplicates(List<Chromosome> offspring, Population against, GenomeIndex offspringIndex) {
+        DuplicatePolicy policy = config.getDuplicatePolicy();
+        if (policy == DuplicatePolicy.KEEP) {
+            return;
+        }
+
+        for (int i = 0; i < offspring.size(); i++) {
+            Chromosome child = offspring.get(i);
+            long hash = GenomeHasher.hash(child);
+
+            if (policy == DuplicatePolicy.REMUTATE) {
+                MutationStrategy mutationStrategy = remutationStrategy(i);
+                for (int attempt = 0; attempt < config.getMaxRemutations()
+                        && isDuplicate(hash, offspringIndex, against); attempt++) {
+                    child = mutationStrategy.mutate(child);
+                    if (constraintHandler != null && !constraintHandler.isFeasible(child)) {
+                        child = constraintHandler.repair(child);
+                    }
+                    hash = GenomeHasher.hash(child);
+                }
+            }
+
+            if (isDuplicate(hash, offspringIndex, against)) {
+                child = createImmigrant();
+                hash = GenomeHasher.hash(child);
+                duplicatesEliminated++;
+                if (isAdaptive()) {
+                    operatorCredits.get(i).rejected = true;
+                }
+            }
+
+            offspring.set(i, child);
+            offspringIndex.add(hash);
+        }
+    }
+
+    private boolean isDuplicate(long hash, GenomeIndex offspringIndex, Population against) {
+        return offspringIndex.contains(hash) || against.containsGenome(hash);
+    }
+
+    private MutationStrategy remutationStrategy(int offspringIndex) {
+        OperatorPortfolio<MutationStrategy> portfolio = config.getMutationPortfolio();
+        if (portfolio != null) {
+            int arm = operatorCredits.get(offspringIndex).mutationArm;
+            return portfolio.getArm(Math.max(arm, 0)).getOperator();
+        }
+        return config.getMutationStrategy();
+    }
+
+    private Chromosome createImmigrant() {
+        Chromosome immigrant = config.getChromosomePrototype().createNew(config.getChromosomeLength());
+        immigrant.initialize();
+        if (constraintHandler != null && !constraintHandler.isFeasible(immigrant)) {
+            immigrant = constraintHandler.repair(immigrant);
+        }
+        return immigrant;
+    }
+
     private void evaluateOffspring(List<Chromosome> offspring) {
-        for (Chromosome individual : offspring) {
-            evaluateIndividual(individual);
+        evaluateBatch(offspring);
+        if (isAdaptive()) {
+            assignOperatorCredit(offspring);
         }
     }
 
-    private Population replacePopulation(List<Chromosome> offspring) {
+    private void assignOperatorCredit(List<Chromosome> offspring) {
+        OperatorPortfolio<CrossoverStrategy> crossoverPortfolio = config.getCrossoverPortfolio();
+        OperatorPortfolio<MutationStrategy> mutationPortfolio = config.getMutationPortfolio();
+
+        for (int i = 0; i < offspring.size(); i++) {
+            OperatorCredit credit = operatorCredits.get(i);
+            //A rejected duplicate earns its operators nothing but still costs them
+            double improvement = credit.rejected ? 0.0 : offspring.get(i).getFitness() - credit.parentFitness;
+
+            //Both operators that produced the child share its improvement, each paying its own cost
+            if (crossoverPortfolio != null && credit.crossoverArm >= 0) {
+                crossoverPortfolio.reward(credit.crossoverArm, improvement, credit.crossoverCost);
+            }
+            if (mutationPortfolio != null && credit.mutationArm >= 0) {
+                mutationPortfolio.reward(credit.mutationArm, improvement, credit.mutationCost);
+            }
+        }
+        operatorCredits.clear();
+    }
+
+    private boolean isAdaptive() {
+        return config.getCrossoverPortfolio() != null || config.getMutationPortfolio() != null;
+    }
+
+    Population replacePopulation(List<Chromosome> parents, List<Chromosome> offspring) {
+        if (config.getNichingStrategy() instanceof DeterministicCrowding) {
+            return ((DeterministicCrowding) config.getNichingStrategy()).replace(population, parents, offspring);
+        }
         ReplacementStrategy replacementStrategy = config.getReplacementStrategy();
         return replacementStrategy.replace(population, offspring);
     }
 
     private void updateBestSolution(int generation) {
-        Chromosome currentBest = population.getBestIndividual();
-
-        if (currentBest.getFitness() > bestFitness) {
-            bestFitness = currentBest.getFitness();
-            bestSolution = currentBest.clone();
+        //Every evaluated individual has already been offered to the hall of fame
+        double sum = 0;
+        double worst = Double.POSITIVE_INFINITY;
+        for (Chromosome individual : population.getIndividuals()) {
+            sum += individual.getFitness();
+            worst = Math.min(worst, individual.getFitness());
         }
-
-        fitnessHistory.add(bestFitness);
+        fitnessSeries.record(generation, hallOfFame.getBestFitness(), sum / population.getSize(), worst);
     }
 
     private void printGenerationStats(int generation) {
@@ -182,7 +521,13 @@ public class GeneticAlgorithm {
 
     private void printFinalResults() {
         System.out.println("\n========== Final Results ==========");
-        System.out.println("Best Solution: " + bestSolution);
+        System.out.println("Best Solution: " + getBestSolution());
+        if (config.getCrossoverPortfolio() != null) {
+            System.out.println("Crossover operators: " + config.getCrossoverPortfolio());
+        }
+        if (config.getMutationPortfolio() != null) {
+            System.out.println("Mutation operators: " + config.getMutationPortfolio());
+        }
         System.out.println("===================================\n");
     }
 
@@ -202,24 +547,107 @@ population.printPopulation();    }
         if (config.getGenerations() <= 0) {
             throw new IllegalStateException("Number of generations must be positive");
         }
+        if (config.getPipelineDepth() > 0 && (config.getNichingStrategy() != null || isAdaptive())) {
+            throw new IllegalStateException("Pipelined generations do not support niching or operator portfolios");
+        }
     }
 
     public Chromosome getBestSolution() {
-        return bestSolution;
+        return hallOfFame == null ? null : hallOfFame.getBest();
     }
 
     public double getBestFitness() {
-        return bestFitness;
+        return hallOfFame == null ? Double.NEGATIVE_INFINITY : hallOfFame.getBestFitness();
+    }
+
+    public HallOfFame getHallOfFame() {
+        return hallOfFame;
     }
 
+    //Lets several runs or islands publish into one archive; by default each GA creates its own
+    public void setHallOfFame(HallOfFame hallOfFame) {
+        this.hallOfFame = hallOfFame;
+    }
+
+    //Boxed copy of the best column; prefer getFitnessSeries() for long runs
     public List<Double> getFitnessHistory() {
-        return new ArrayList<>(fitnessHistory);
+        return fitnessSeries.toBestList();
+    }
+
+    public FitnessSeries getFitnessSeries() {
+        return fitnessSeries;
+    }
+
+    //Replace before running to change the stride or capacity
+    public void setFitnessSeries(FitnessSeries fitnessSeries) {
+        if (fitnessSeries == null) {
+            throw new IllegalArgumentException("Fitness series cannot be null");
+        }
+        this.fitnessSeries = fitnessSeries;
     }
 
     public Population getPopulation() {
         return population;
     }
 
+    void setPopulation(Population population) {
+        this.population = population;
+    }
+
+    //Stage timings of the last pipelined run, null if the last run was not pipelined
+    public PipelineStatistics getPipelineStatistics() {
+        return pipelineStatistics;
+    }
+
+    public long getEvaluationCount() {
+        return evaluationCount.sum();
+    }
+
+    public long getDuplicatesEliminated() {
+        return duplicatesEliminated;
+    }
+
+    public int getGenerationsRun() {
+        return generationsRun;
+    }
+
+    //Ends the run after the generation in progress; safe to call from any thread
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    public boolean isStopRequested() {
+        return stopRequested;
+    }
+
+    public void addGenerationListener(GenerationListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Generation listener cannot be null");
+        }
+        generationListeners.add(listener);
+    }
+
+    public void removeGenerationListener(GenerationListener listener) {
+        generationListeners.remove(listener);
+    }
+
+    //Created and registered on first use; close it once monitoring is no longer needed
+    public GenerationPublisher getGenerationPublisher() {
+        if (generationPublisher == null) {
+            generationPublisher = new GenerationPublisher();
+            addGenerationListener(generationPublisher);
+        }
+        return generationPublisher;
+    }
+
+    public long getLastGenerationNanos() {
+        return lastGenerationNanos;
+    }
+
+    public long getElapsedNanos() {
+        return runStartNanos == 0 ? 0 : System.nanoTime() - runStartNanos;
+    }
+
     public void setPopulationSize(int size) {
         config.setPopulationSize(size);
     }
@@ -245,6 +673,10 @@ population.printPopulation();    }
     }
 
     public void setFitnessFunction(FitnessFunction fitnessFunction) {
+        this.fitnessFunction = fitnessFunction == null ? null : BatchFitnessFunction.of(fitnessFunction);
+    }
+
+    public void setBatchFitnessFunction(BatchFitnessFunction fitnessFunction) {
         this.fitnessFunction = fitnessFunction;
     }
 
@@ -287,4 +719,19 @@ population.printPopulation();    }
     public void setConfig(GAConfiguration config) {
         this.config = config;
     }
+
+    private static final class OperatorCredit {
+        final int crossoverArm;
+        final double parentFitness;
+        final long crossoverCost;
+        int mutationArm = -1;
+        long mutationCost;
+        boolean rejected;
+
+        OperatorCredit(int crossoverArm, double parentFitness, long crossoverCost) {
+            this.crossoverArm = crossoverArm;
+            this.parentFitness = parentFitness;
+            this.crossoverCost = crossoverCost;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+package com.scproject.ga.core;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.diversity.GenomeHasher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The best distinct solutions seen so far, safe to share between evaluation workers and islands.
+ *
+ * <p>The single best is an AtomicReference advanced by compare-and-set, so reading it costs one
+ * volatile load. The top {@code capacity} entries live in a ConcurrentSkipListMap ordered by
+ * fitness and genome hash, used as a bounded concurrent heap: inserts go in lock-free and the
+ * worst entry is polled off while the map is over capacity. Distinctness is by genome hash, so a
+ * genome is archived once however often it is rediscovered. Offers below the current admission
+ * threshold are rejected after a single volatile read, without hashing or cloning.
+ *
+ * <p>Archived chromosomes are private clones; callers must not modify the instances returned.
+ */
+public class HallOfFame {
+
+    private final int capacity;
+    private final AtomicReference<Entry> best = new AtomicReference<>();
+    private final ConcurrentSkipListMap<Entry, Entry> top = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> byGenome = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder improvements = new LongAdder();
+    private volatile double threshold = Double.NEGATIVE_INFINITY;
+
+    public HallOfFame(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Hall of fame capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Offer an evaluated chromosome; it is cloned only if it enters the archive. Returns true if
+     * it became the new best
+     */
+    public boolean offer(Chromosome chromosome) {
+        double fitness = chromosome.getFitness();
+        if (Double.isNaN(fitness)) {
+            return false;
+        }
+        Entry current = best.get();
+        if (fitness <= threshold && current != null && fitness <= current.fitness) {
+            return false;
+        }
+
+        long hash = GenomeHasher.hash(chromosome);
+        Entry entry = new Entry(chromosome.clone(), fitness, hash);
+
+        boolean improved = false;
+        while (current == null || fitness > current.fitness) {
+            if (best.compareAndSet(current, entry)) {
+                improvements.increment();
+                improved = true;
+                break;
+            }
+            current = best.get();
+        }
+
+        if (fitness > threshold && byGenome.putIfAbsent(hash, entry) == null) {
+            top.put(entry, entry);
+            if (size.incrementAndGet() > capacity) {
+                evict();
+            }
+        }
+        return improved;
+    }
+
+    private void evict() {
+        while (size.get() > capacity) {
+            Map.Entry<Entry, Entry> worst = top.pollLastEntry();
+            if (worst == null) {
+                break;
+            }
+            byGenome.remove(worst.getKey().hash, worst.getKey());
+            size.decrementAndGet();
+        }
+        if (size.get() >= capacity) {
+            Map.Entry<Entry, Entry> last = top.lastEntry();
+            if (last != null) {
+                threshold = last.getKey().fitness;
+            }
+        }
+    }
+
+    public Chromosome getBest() {
+        Entry current = best.get();
+        return current == null ? null : current.chromosome;
+    }
+
+    public double getBestFitness() {
+        Entry current = best.get();
+        return current == null ? Double.NEGATIVE_INFINITY : current.fitness;
+    }
+
+    //Best first; weakly consistent while offers are in flight
+    public List<Chromosome> getTop() {
+        List<Chromosome> snapshot = new ArrayList<>(capacity);
+        for (Entry entry : top.keySet()) {
+            snapshot.add(entry.chromosome);
+        }
+        return snapshot;
+    }
+
+    public List<Double> getTopFitness() {
+        List<Double> snapshot = new ArrayList<>(capacity);
+        for (Entry entry : top.keySet()) {
+            snapshot.add(entry.fitness);
+        }
+        return snapshot;
+    }
+
+    public int size() {
+        return Math.min(size.get(), capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    //Number of times the best-so-far has advanced
+    public long getImprovementCount() {
+        return improvements.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HallOfFame{best=%.4f, size=%d/%d, improvements=%d}",
+                getBestFitness(), size(), capacity, getImprovementCount());
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        final Chromosome chromosome;
+        final double fitness;
+        final long hash;
+
+        Entry(Chromosome chromosome, double fitness, long hash) {
+            this.chromosome = chromosome;
+            this.fitness = fitness;
+            this.hash = hash;
+        }
+
+        //Higher fitness first, genome hash as tie-break so distinct genomes never collide
+        @Override
+        public int compareTo(Entry other) {
+            int byFitness = Double.compare(other.fitness, fitness);
+            return byFitness != 0 ? byFitness : Long.compare(hash, other.hash);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.scproject.ga.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stage timings of a pipelined run. The breeding stage runs on the GA thread and also performs
+ * replacement; the evaluation stage runs on its own thread. Utilization is busy time over the
+ * wall time of the pipeline, so with perfect overlap both stages approach 1.
+ */
+public class PipelineStatistics {
+    private final LongAdder breedingNanos = new LongAdder();
+    private final LongAdder breederWaitNanos = new LongAdder();
+    private final LongAdder replacementNanos = new LongAdder();
+    private final LongAdder evaluationNanos = new LongAdder();
+    private final LongAdder evaluatorIdleNanos = new LongAdder();
+    private final LongAdder chunksBred = new LongAdder();
+    private final LongAdder chunksEvaluated = new LongAdder();
+    private final AtomicLongArray staleness;
+    private final long startNanos = System.nanoTime();
+    private volatile long endNanos;
+
+    PipelineStatistics(int maxStaleness) {
+        this.staleness = new AtomicLongArray(maxStaleness + 1);
+    }
+
+    void recordBreeding(long nanos, int chunkStaleness) {
+        breedingNanos.add(nanos);
+        chunksBred.increment();
+        staleness.incrementAndGet(chunkStaleness);
+    }
+
+    void recordBreederWait(long nanos) {
+        breederWaitNanos.add(nanos);
+    }
+
+    void recordReplacement(long nanos) {
+        replacementNanos.add(nanos);
+    }
+
+    void recordEvaluation(long nanos) {
+        evaluationNanos.add(nanos);
+        chunksEvaluated.increment();
+    }
+
+    void recordEvaluatorIdle(long nanos) {
+        evaluatorIdleNanos.add(nanos);
+    }
+
+    void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    public long getWallNanos() {
+        long end = endNanos;
+        return (end == 0 ? System.nanoTime() : end) - startNanos;
+    }
+
+    public long getBreedingNanos() {
+        return breedingNanos.sum();
+    }
+
+    //Time the GA thread waited for scored chunks because it could not breed ahead
+    public long getBreederWaitNanos() {
+        return breederWaitNanos.sum();
+    }
+
+    public long getReplacementNanos() {
+        return replacementNanos.sum();
+    }
+
+    public long getEvaluationNanos() {
+        return evaluationNanos.sum();
+    }
+
+    //Time the evaluation stage waited for bred chunks
+    public long getEvaluatorIdleNanos() {
+        return evaluatorIdleNanos.sum();
+    }
+
+    public long getChunksBred() {
+        return chunksBred.sum();
+    }
+
+    public long getChunksEvaluated() {
+        return chunksEvaluated.sum();
+    }
+
+    //Chunks whose parents were the given number of generations older than ideal
+    public long getChunksWithStaleness(int generations) {
+        return generations < 0 || generations >= staleness.length() ? 0 : staleness.get(generations);
+    }
+
+    public double getBreedingUtilization() {
+        return (getBreedingNanos() + getReplacementNanos()) / (double) Math.max(1, getWallNanos());
+    }
+
+    public double getEvaluationUtilization() {
+        return getEvaluationNanos() / (double) Math.max(1, getWallNanos());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stale = new StringBuilder();
+        for (int i = 0; i < staleness.length(); i++) {
+            stale.append(i == 0 ? "" : ",").append(staleness.get(i));
+        }
+        return String.format("PipelineStatistics{wall=%.1f ms, breeding=%.1f%%, evaluation=%.1f%%, breederWait=%.1f ms, evaluatorIdle=%.1f ms, chunks=%d, staleness=[%s]}",
+                getWallNanos() / 1e6, 100 * getBreedingUtilization(), 100 * getEvaluationUtilization(),
+                getBreederWaitNanos() / 1e6, getEvaluatorIdleNanos() / 1e6, getChunksEvaluated(), stale);
+    }
+}
@@ -1,6 +1,10 @@
 package com.scproject.ga.core;
 
 import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.diversity.DiversityMetrics;
+import com.scproject.ga.diversity.GenomeHasher;
+import com.scproject.ga.diversity.GenomeIndex;
+import com.scproject.ga.diversity.PositionStatistics;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -11,6 +15,10 @@ public class Population {
     private int size;
     private boolean sorted;
 
+    //Built on first use, then kept in sync by every method that changes the individuals
+    private GenomeIndex genomeIndex;
+    private PositionStatistics positionStatistics;
+
     public Population(int size) {
         this.size = size;
         this.individuals = new ArrayList<>(size);
@@ -31,6 +39,7 @@ public class Population {
             individuals.add(individual);
         }
         sorted = false;
+        invalidateIndex();
     }
 
     public List<Chromosome> getSortedByFitnessDescending() {
@@ -49,12 +58,14 @@ public class Population {
         individuals.add(individual);
         size++;
         sorted = false;
+        indexAdd(individual);
     }
 
     public void removeIndividual(int index) {
-        individuals.remove(index);
+        Chromosome removed = individuals.remove(index);
         size--;
         sorted = false;
+        indexRemove(removed);
     }
 
     public Chromosome getIndividual(int index) {
@@ -62,8 +73,10 @@ public class Population {
     }
 
     public void setIndividual(int index, Chromosome individual) {
-        individuals.set(index, individual);
+        Chromosome previous = individuals.set(index, individual);
         sorted = false;
+        indexRemove(previous);
+        indexAdd(individual);
     }
 
     public void sortByFitness() {
@@ -136,6 +149,7 @@ public class Population {
         this.individuals = new ArrayList<>(individuals);
         this.size = individuals.size();
         this.sorted = false;
+        invalidateIndex();
     }
 
     public int getSize() {
@@ -146,6 +160,81 @@ public class Population {
         individuals.clear();
         size = 0;
         sorted = false;
+        invalidateIndex();
+    }
+
+    public boolean containsGenome(Chromosome chromosome) {
+        return containsGenome(GenomeHasher.hash(chromosome));
+    }
+
+    public boolean containsGenome(long genomeHash) {
+        return getGenomeIndex().contains(genomeHash);
+    }
+
+    public int countGenome(Chromosome chromosome) {
+        return getGenomeIndex().count(GenomeHasher.hash(chromosome));
+    }
+
+    public int getUniqueGenomeCount() {
+        return getGenomeIndex().getDistinctCount();
+    }
+
+    public DiversityMetrics getDiversity() {
+        if (individuals.isEmpty()) {
+            return new DiversityMetrics(0, 0, 0.0, 0.0, 0);
+        }
+        PositionStatistics statistics = getPositionStatistics();
+        return new DiversityMetrics(
+                individuals.size(),
+                getUniqueGenomeCount(),
+                statistics.getPositionalEntropy(),
+                statistics.getMeanHammingDistance(),
+                individuals.get(0).getLength()
+        );
+    }
+
+    private GenomeIndex getGenomeIndex() {
+        if (genomeIndex == null) {
+            genomeIndex = new GenomeIndex(individuals.size());
+            for (Chromosome individual : individuals) {
+                genomeIndex.add(GenomeHasher.hash(individual));
+            }
+        }
+        return genomeIndex;
+    }
+
+    private PositionStatistics getPositionStatistics() {
+        if (positionStatistics == null) {
+            positionStatistics = new PositionStatistics(individuals.get(0));
+            for (Chromosome individual : individuals) {
+                positionStatistics.add(individual);
+            }
+        }
+        return positionStatistics;
+    }
+
+    //Individuals must not be modified in place while they belong to a population, or these drift
+    private void indexAdd(Chromosome individual) {
+        if (genomeIndex != null) {
+            genomeIndex.add(GenomeHasher.hash(individual));
+        }
+        if (positionStatistics != null) {
+            positionStatistics.add(individual);
+        }
+    }
+
+    private void indexRemove(Chromosome individual) {
+        if (genomeIndex != null) {
+            genomeIndex.remove(GenomeHasher.hash(individual));
+        }
+        if (positionStatistics != null) {
+            positionStatistics.remove(individual);
+        }
+    }
+
+    private void invalidateIndex() {
+        genomeIndex = null;
+        positionStatistics = null;
     }
 
     public Population clone() {
@@ -0,0 +1,48 @@
+package com.scproject.ga.crossover;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.constraint.ConstraintHandler;
+import com.scproject.ga.core.GARandom;
+
+//Whole arithmetic crossover for real-valued genomes: children are random convex blends of the parents
+public class ArithmeticCrossover implements CrossoverStrategy {
+
+    @Override
+    public Chromosome[] crossover(Chromosome parent1, Chromosome parent2, double crossoverRate, ConstraintHandler constraintHandler) {
+        validate(parent1, parent2, crossoverRate);
+        if (!(parent1 instanceof FPChromosome) || !(parent2 instanceof FPChromosome)) {
+            throw new IllegalArgumentException("ArithmeticCrossover only applies to FPChromosome");
+        }
+
+        FPChromosome offspring1 = (FPChromosome) parent1.clone();
+        FPChromosome offspring2 = (FPChromosome) parent2.clone();
+
+        if (GARandom.current().nextDouble() > crossoverRate) {
+            return new Chromosome[]{offspring1, offspring2};
+        }
+
+        double alpha = GARandom.current().nextDouble();
+        double[] p1 = ((FPChromosome) parent1).getValues();
+        double[] p2 = ((FPChromosome) parent2).getValues();
+        double[] c1 = offspring1.getValues();
+        double[] c2 = offspring2.getValues();
+
+        for (int i = 0; i < c1.length; i++) {
+            c1[i] = alpha * p1[i] + (1.0 - alpha) * p2[i];
+            c2[i] = (1.0 - alpha) * p1[i] + alpha * p2[i];
+        }
+        //Compact gene storage hands out decoded copies
+        offspring1.setValues(c1);
+        offspring2.setValues(c2);
+
+        offspring1.resetEvaluation();
+        offspring2.resetEvaluation();
+        return new Chromosome[]{offspring1, offspring2};
+    }
+
+    @Override
+    public String getName() {
+        return "Arithmetic Crossover";
+    }
+}
@@ -2,12 +2,11 @@ package com.scproject.ga.crossover;
 
 import com.scproject.ga.chromosome.Chromosome;
 import com.scproject.ga.constraint.ConstraintHandler;
+import com.scproject.ga.core.GARandom;
 
 import java.util.Arrays;
-import java.util.Random;
 
 public class NPointCrossover implements CrossoverStrategy {
-    private Random randomNumber;
     private int numberOfPoints;
 
     public NPointCrossover(int numberOfPoints) {
@@ -15,7 +14,6 @@ public class NPointCrossover implements CrossoverStrategy {
             throw new IllegalArgumentException("Number of points must be at least 1");
         }
         this.numberOfPoints = numberOfPoints;
-        this.randomNumber = new Random();
     }
 
     @Override
@@ -25,7 +23,7 @@ public class NPointCrossover implements CrossoverStrategy {
         Chromosome offspring1 = parent1.clone();
         Chromosome offspring2 = parent2.clone();
 
-        if (randomNumber.nextDouble() > crossoverRate) {
+        if (GARandom.current().nextDouble() > crossoverRate) {
             return new Chromosome[]{offspring1, offspring2};
         }
 
@@ -79,7 +77,7 @@ public class NPointCrossover implements CrossoverStrategy {
         for (int i = 0; i < numberOfPoints; i++) {
             int point;
             do {
-                point = randomNumber.nextInt(length - 1) + 1;
+                point = GARandom.current().nextInt(length - 1) + 1;
             } while (used[point]);
 
             used[point] = true;
@@ -2,16 +2,14 @@ package com.scproject.ga.crossover;
 
 import com.scproject.ga.chromosome.Chromosome;
 import com.scproject.ga.constraint.ConstraintHandler;
+import com.scproject.ga.core.GARandom;
 
 import java.util.HashSet;
-import java.util.Random;
 import java.util.Set;
 
 public class OrderMethod implements CrossoverStrategy{
-    Random randomNumber;
 
     public OrderMethod() {
-        randomNumber = new Random();
     }
 
     public Chromosome[] crossover(Chromosome parent1, Chromosome parent2, double crossoverRate, ConstraintHandler constraintHandler) {
@@ -19,7 +17,7 @@ public class OrderMethod implements CrossoverStrategy{
         Chromosome offspring1 = parent1.clone();
         Chromosome offspring2 = parent2.clone();
 
-        if (randomNumber.nextDouble() > crossoverRate) {
+        if (GARandom.current().nextDouble() > crossoverRate) {
             return new Chromosome[]{offspring1, offspring2};
         }
         doOrderMethod(offspring1, parent1, parent2);
@@ -32,8 +30,8 @@ public class OrderMethod implements CrossoverStrategy{
         Object[] p2Genes = parent2.getGenes();
         int length = p1Genes.length;
 
-        int point1 = randomNumber.nextInt(length - 1) + 1;
-        int point2 = randomNumber.nextInt(length - 1) + 1;
+        int point1 = GARandom.current().nextInt(length - 1) + 1;
+        int point2 = GARandom.current().nextInt(length - 1) + 1;
 
         if (point1 > point2) {
             int temp = point1;
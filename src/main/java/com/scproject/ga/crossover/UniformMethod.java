@@ -2,14 +2,11 @@ package com.scproject.ga.crossover;
 
 import com.scproject.ga.chromosome.Chromosome;
 import com.scproject.ga.constraint.ConstraintHandler;
-
-import java.util.Random;
+import com.scproject.ga.core.GARandom;
 
 public class UniformMethod implements CrossoverStrategy{
-    Random randomNumber;
 
     public UniformMethod() {
-        randomNumber = new Random();
     }
 
     @Override
@@ -28,7 +25,7 @@ public class UniformMethod implements CrossoverStrategy{
        Object[] newGene2 = new Object[length];
 
         for(int i = 0; i < length; i++) {
-            double randomCoin = randomNumber.nextDouble();
+            double randomCoin = GARandom.current().nextDouble();
             if(randomCoin <= 0.5){
                 newGene1[i] = gene1[i];
                 newGene2[i] = gene2[i];
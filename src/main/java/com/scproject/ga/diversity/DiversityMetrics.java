@@ -0,0 +1,52 @@
+package com.scproject.ga.diversity;
+
+public class DiversityMetrics {
+    private final int populationSize;
+    private final int uniqueGenomes;
+    private final double positionalEntropy;
+    private final double meanHammingDistance;
+    private final int chromosomeLength;
+
+    public DiversityMetrics(int populationSize, int uniqueGenomes, double positionalEntropy,
+                            double meanHammingDistance, int chromosomeLength) {
+        this.populationSize = populationSize;
+        this.uniqueGenomes = uniqueGenomes;
+        this.positionalEntropy = positionalEntropy;
+        this.meanHammingDistance = meanHammingDistance;
+        this.chromosomeLength = chromosomeLength;
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    public int getUniqueGenomes() {
+        return uniqueGenomes;
+    }
+
+    public double getUniqueRatio() {
+        return populationSize == 0 ? 0.0 : (double) uniqueGenomes / populationSize;
+    }
+
+    public double getPositionalEntropy() {
+        return positionalEntropy;
+    }
+
+    public double getMeanHammingDistance() {
+        return meanHammingDistance;
+    }
+
+    public double getNormalizedHammingDistance() {
+        return chromosomeLength == 0 ? 0.0 : meanHammingDistance / chromosomeLength;
+    }
+
+    public boolean isConverged(double uniqueRatioThreshold, double entropyThreshold) {
+        return getUniqueRatio() <= uniqueRatioThreshold || positionalEntropy <= entropyThreshold;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DiversityMetrics{unique=%d/%d, entropy=%.4f, meanHamming=%.4f}",
+                uniqueGenomes, populationSize, positionalEntropy, meanHammingDistance);
+    }
+}
@@ -0,0 +1,10 @@
+package com.scproject.ga.diversity;
+
+public enum DuplicatePolicy {
+    //Duplicates are bred and evaluated like any other offspring
+    KEEP,
+    //A duplicate offspring is replaced by a fresh random individual before evaluation
+    REJECT,
+    //A duplicate offspring is mutated again, falling back to REJECT if it stays a duplicate
+    REMUTATE
+}
@@ -0,0 +1,67 @@
+package com.scproject.ga.diversity;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+
+/**
+ * Zobrist-style genome hashing: the hash is the XOR of one 64-bit key per (position, gene value)
+ * pair. Keys are derived with a SplitMix64 finalizer instead of being stored in a table, so no
+ * memory is spent on long permutations, and a swap of two genes can be applied incrementally
+ * with {@link #key(int, long)}.
+ */
+public final class GenomeHasher {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private GenomeHasher() {
+    }
+
+    public static long hash(Chromosome chromosome) {
+        if (chromosome instanceof FPChromosome) {
+            //Same keys as the boxed path, without boxing every gene
+            double[] values = ((FPChromosome) chromosome).getValues();
+            long hash = 0L;
+            for (int i = 0; i < values.length; i++) {
+                hash ^= key(i, valueBits(values[i]));
+            }
+            return hash;
+        }
+        Object[] genes = chromosome.getGenes();
+        long hash = 0L;
+        for (int i = 0; i < genes.length; i++) {
+            hash ^= key(i, valueBits(genes[i]));
+        }
+        return hash;
+    }
+
+    public static long key(int position, long valueBits) {
+        return mix64((position + 1) * GOLDEN_GAMMA + mix64(valueBits));
+    }
+
+    public static long valueBits(Object gene) {
+        if (gene == null) {
+            return 0x5DEECE66DL;
+        }
+        if (gene instanceof Boolean) {
+            return ((Boolean) gene) ? 1L : 0L;
+        }
+        if (gene instanceof Double || gene instanceof Float) {
+            return valueBits(((Number) gene).doubleValue());
+        }
+        if (gene instanceof Number) {
+            return ((Number) gene).longValue();
+        }
+        return gene.hashCode();
+    }
+
+    public static long valueBits(double value) {
+        //Treat -0.0 and 0.0 as the same gene
+        return value == 0.0 ? 0L : Double.doubleToLongBits(value);
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
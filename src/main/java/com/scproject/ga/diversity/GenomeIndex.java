@@ -0,0 +1,136 @@
+package com.scproject.ga.diversity;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Multiset of genome hashes backed by an open-addressing table of primitive longs,
+ * so membership tests and updates are O(1) without boxing.
+ */
+public class GenomeIndex {
+
+    private static final long EMPTY = 0L;
+    private static final double MAX_LOAD = 0.6;
+
+    private long[] keys;
+    private int[] counts;
+    private int distinct;
+    private int total;
+
+    public GenomeIndex() {
+        this(16);
+    }
+
+    public GenomeIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / MAX_LOAD)) - 1) << 1;
+        keys = new long[capacity];
+        counts = new int[capacity];
+    }
+
+    public int add(long hash) {
+        long key = normalize(hash);
+        if (distinct + 1 > keys.length * MAX_LOAD) {
+            rehash(keys.length << 1);
+        }
+        int slot = findSlot(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            distinct++;
+        }
+        total++;
+        return ++counts[slot];
+    }
+
+    public boolean remove(long hash) {
+        long key = normalize(hash);
+        int slot = findSlot(key);
+        if (keys[slot] == EMPTY) {
+            return false;
+        }
+        total--;
+        if (--counts[slot] == 0) {
+            deleteSlot(slot);
+            distinct--;
+        }
+        return true;
+    }
+
+    public boolean contains(long hash) {
+        return keys[findSlot(normalize(hash))] != EMPTY;
+    }
+
+    public int count(long hash) {
+        int slot = findSlot(normalize(hash));
+        return keys[slot] == EMPTY ? 0 : counts[slot];
+    }
+
+    public int getDistinctCount() {
+        return distinct;
+    }
+
+    public int getTotalCount() {
+        return total;
+    }
+
+    //Visits the count of every distinct hash, in no particular order
+    void forEachCount(IntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(counts[i]);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(counts, 0);
+        distinct = 0;
+        total = 0;
+    }
+
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        int slot = (int) GenomeHasher.mix64(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    //Backward-shift deletion keeps linear probe chains intact without tombstones
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = (int) GenomeHasher.mix64(keys[next]) & mask;
+            boolean movable = (next > hole) ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                counts[hole] = counts[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        counts[hole] = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[capacity];
+        counts = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static long normalize(long hash) {
+        return hash == EMPTY ? 1L : hash;
+    }
+}
@@ -0,0 +1,179 @@
+package com.scproject.ga.diversity;
+
+import com.scproject.ga.chromosome.BinaryChromosome;
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.chromosome.IntegerChromosome;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Per-position gene value counts, updated incrementally as individuals enter and leave a
+ * population. Real-valued genes are binned over the chromosome bounds. Both positional entropy
+ * and the exact mean pairwise Hamming distance follow from these counts, so neither needs an
+ * O(N^2) scan over pairs of individuals.
+ *
+ * <p>Counts are a dense position x symbol table for small alphabets. Integer genes with more than
+ * {@code DENSE_SYMBOLS} values, such as permutations, keep only the (position, symbol) pairs that
+ * occur, so memory and query time grow with the population rather than with length x range.
+ */
+public class PositionStatistics {
+
+    public static final int DEFAULT_FP_BINS = 16;
+    //Largest alphabet kept in a dense table
+    public static final int DENSE_SYMBOLS = 256;
+
+    private final int length;
+    private final int symbols;
+    private final int symbolOffset;
+    private final double binLower;
+    private final double binWidth;
+    //Exactly one of counts and sparseCounts is used
+    private final int[] counts;
+    private final GenomeIndex sparseCounts;
+    private int individuals;
+
+    public PositionStatistics(Chromosome prototype) {
+        this(prototype, DEFAULT_FP_BINS);
+    }
+
+    public PositionStatistics(Chromosome prototype, int fpBins) {
+        if (fpBins < 2) {
+            throw new IllegalArgumentException("At least two bins are required for real-valued genes");
+        }
+        if (fpBins > DENSE_SYMBOLS) {
+            throw new IllegalArgumentException("At most " + DENSE_SYMBOLS + " bins are supported for real-valued genes");
+        }
+        this.length = prototype.getLength();
+
+        if (prototype instanceof BinaryChromosome) {
+            symbols = 2;
+            symbolOffset = 0;
+            binLower = 0;
+            binWidth = 0;
+        } else if (prototype instanceof IntegerChromosome) {
+            IntegerChromosome intChrom = (IntegerChromosome) prototype;
+            long range = (long) intChrom.getUpperBound() - intChrom.getLowerBound() + 1;
+            if (range > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Integer gene range is too wide");
+            }
+            symbols = (int) range;
+            symbolOffset = intChrom.getLowerBound();
+            binLower = 0;
+            binWidth = 0;
+        } else if (prototype instanceof FPChromosome) {
+            FPChromosome fpChrom = (FPChromosome) prototype;
+            symbols = fpBins;
+            symbolOffset = 0;
+            binLower = fpChrom.getLowerBound();
+            binWidth = (fpChrom.getUpperBound() - fpChrom.getLowerBound()) / fpBins;
+        } else {
+            throw new IllegalArgumentException(
+                    "Unsupported chromosome type: " + prototype.getClass().getSimpleName());
+        }
+
+        if (symbols <= 0) {
+            throw new IllegalArgumentException("Gene value range must not be empty");
+        }
+        if (symbols <= DENSE_SYMBOLS) {
+            this.counts = new int[length * symbols];
+            this.sparseCounts = null;
+        } else {
+            this.counts = null;
+            this.sparseCounts = new GenomeIndex(length);
+        }
+    }
+
+    public void add(Chromosome chromosome) {
+        update(chromosome, 1);
+        individuals++;
+    }
+
+    public void remove(Chromosome chromosome) {
+        update(chromosome, -1);
+        individuals--;
+    }
+
+    private void update(Chromosome chromosome, int delta) {
+        Object[] genes = chromosome.getGenes();
+        int n = Math.min(length, genes.length);
+        for (int i = 0; i < n; i++) {
+            int symbol = symbolOf(genes[i]);
+            if (symbol < 0) {
+                continue;
+            }
+            if (counts != null) {
+                counts[i * symbols + symbol] += delta;
+            } else if (delta > 0) {
+                sparseCounts.add(sparseKey(i, symbol));
+            } else {
+                sparseCounts.remove(sparseKey(i, symbol));
+            }
+        }
+    }
+
+    private int symbolOf(Object gene) {
+        if (gene == null) {
+            return -1;
+        }
+        int symbol;
+        if (gene instanceof Boolean) {
+            symbol = ((Boolean) gene) ? 1 : 0;
+        } else if (binWidth > 0) {
+            symbol = (int) ((((Number) gene).doubleValue() - binLower) / binWidth);
+            symbol = Math.max(0, Math.min(symbols - 1, symbol));
+        } else {
+            symbol = ((Number) gene).intValue() - symbolOffset;
+        }
+        return (symbol >= 0 && symbol < symbols) ? symbol : -1;
+    }
+
+    //Never 0, which GenomeIndex reserves for empty slots
+    private long sparseKey(int position, int symbol) {
+        return (long) position * symbols + symbol + 1;
+    }
+
+    //Mean over positions of the Shannon entropy of each position, normalized to [0,1]
+    public double getPositionalEntropy() {
+        if (individuals == 0 || symbols < 2) {
+            return 0.0;
+        }
+        double maxEntropy = Math.log(Math.min(symbols, Math.max(2, individuals)));
+        double n = individuals;
+        //Every position has the same normalizer, so the per-position sums can be pooled
+        double[] entropy = new double[1];
+        forEachCount(c -> {
+            double p = c / n;
+            entropy[0] -= p * Math.log(p);
+        });
+        return entropy[0] / maxEntropy / length;
+    }
+
+    //Exact mean Hamming distance over all pairs: sum over positions of P(two random individuals differ)
+    public double getMeanHammingDistance() {
+        if (individuals < 2) {
+            return 0.0;
+        }
+        double n = individuals;
+        double[] samePairs = new double[1];
+        forEachCount(c -> samePairs[0] += (double) c * (c - 1));
+        return length - samePairs[0] / (n * (n - 1));
+    }
+
+    //Visits every non-zero (position, symbol) count
+    private void forEachCount(IntConsumer action) {
+        if (counts == null) {
+            sparseCounts.forEachCount(action);
+            return;
+        }
+        for (int c : counts) {
+            if (c > 0) {
+                action.accept(c);
+            }
+        }
+    }
+
+    public int getIndividualCount() {
+        return individuals;
+    }
+}
@@ -0,0 +1,208 @@
+package com.scproject.ga.experiment;
+
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.crossover.ArithmeticCrossover;
+import com.scproject.ga.crossover.CrossoverStrategy;
+import com.scproject.ga.crossover.NPointCrossover;
+import com.scproject.ga.crossover.OrderMethod;
+import com.scproject.ga.crossover.UniformMethod;
+import com.scproject.ga.diversity.DuplicatePolicy;
+import com.scproject.ga.mutation.GaussianMutation;
+import com.scproject.ga.mutation.InversionMutation;
+import com.scproject.ga.mutation.MutationStrategy;
+import com.scproject.ga.mutation.SwapMutation;
+import com.scproject.ga.mutation.UniformFPMutation;
+import com.scproject.ga.mutation.binaryBitFlipMutation;
+import com.scproject.ga.replacement.ElitistReplacement;
+import com.scproject.ga.replacement.GenerationalReplacement;
+import com.scproject.ga.replacement.ReplacementStrategy;
+import com.scproject.ga.replacement.SteadyStateReplacement;
+import com.scproject.ga.selection.SelectionStrategy;
+import com.scproject.ga.selection.rankSelection;
+import com.scproject.ga.selection.rouletteStrategy;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One point of an experiment grid: a named assignment of GA parameters. Strategies are given by
+ * name, optionally followed by colon-separated arguments, e.g. {@code npoint:2},
+ * {@code gaussian:0.1:0.05} or {@code elitist:2}. Every call to {@link #createConfiguration(long)}
+ * builds fresh strategy instances, so concurrent runs never share operator state.
+ */
+public class ExperimentConfig {
+
+    static final Set<String> PARAMETERS = Set.of("populationSize", "generations", "numberOfParents",
+            "crossoverRate", "mutationRate", "selection", "crossover", "mutation", "replacement",
+            "duplicatePolicy", "maxRemutations");
+
+    private final int id;
+    private final Map<String, String> parameters;
+
+    public ExperimentConfig(int id, Map<String, String> parameters) {
+        for (String key : parameters.keySet()) {
+            if (!PARAMETERS.contains(key)) {
+                throw new IllegalArgumentException("Unknown GA parameter: " + key);
+            }
+        }
+        this.id = id;
+        this.parameters = Collections.unmodifiableMap(new LinkedHashMap<>(parameters));
+    }
+
+    public GAConfiguration createConfiguration(long seed) {
+        GAConfiguration config = new GAConfiguration();
+        config.setVerbose(false);
+        config.setSeed(seed);
+
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            String value = parameter.getValue();
+            try {
+                switch (parameter.getKey()) {
+                    case "populationSize":
+                        config.setPopulationSize(Integer.parseInt(value));
+                        break;
+                    case "generations":
+                        config.setGenerations(Integer.parseInt(value));
+                        break;
+                    case "numberOfParents":
+                        config.setNumberOfParents(Integer.parseInt(value));
+                        break;
+                    case "crossoverRate":
+                        config.setCrossoverRate(Double.parseDouble(value));
+                        break;
+                    case "mutationRate":
+                        config.setMutationRate(Double.parseDouble(value));
+                        break;
+                    case "selection":
+                        config.setSelectionStrategy(selection(value));
+                        break;
+                    case "crossover":
+                        config.setCrossoverStrategy(crossover(value));
+                        break;
+                    case "mutation":
+                        config.setMutationStrategy(mutation(value));
+                        break;
+                    case "replacement":
+                        config.setReplacementStrategy(replacement(value));
+                        break;
+                    case "duplicatePolicy":
+                        config.setDuplicatePolicy(DuplicatePolicy.valueOf(value.toUpperCase()));
+                        break;
+                    case "maxRemutations":
+                        config.setMaxRemutations(Integer.parseInt(value));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown GA parameter: " + parameter.getKey());
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for " + parameter.getKey() + ": " + value, e);
+            }
+        }
+
+        //Parents default to the whole population, matching the other drivers in the project
+        if (!parameters.containsKey("numberOfParents")) {
+            config.setNumberOfParents(config.getPopulationSize());
+        }
+        config.validate();
+        return config;
+    }
+
+    private static SelectionStrategy selection(String spec) {
+        switch (name(spec)) {
+            case "rank":
+                return new rankSelection();
+            case "roulette":
+                return new rouletteStrategy();
+            default:
+                throw new IllegalArgumentException("Unknown selection strategy: " + spec);
+        }
+    }
+
+    private static CrossoverStrategy crossover(String spec) {
+        String[] args = spec.split(":");
+        switch (name(spec)) {
+            case "uniform":
+                return new UniformMethod();
+            case "order":
+                return new OrderMethod();
+            case "npoint":
+                return new NPointCrossover(args.length > 1 ? Integer.parseInt(args[1]) : 2);
+            case "arithmetic":
+                return new ArithmeticCrossover();
+            default:
+                throw new IllegalArgumentException("Unknown crossover strategy: " + spec);
+        }
+    }
+
+    private static MutationStrategy mutation(String spec) {
+        String[] args = spec.split(":");
+        switch (name(spec)) {
+            case "swap":
+                return new SwapMutation();
+            case "inversion":
+                return new InversionMutation();
+            case "bitflip":
+                return new binaryBitFlipMutation(argument(args, 1, 0.01));
+            case "uniformfp":
+                return new UniformFPMutation(argument(args, 1, 0.1), argument(args, 2, 0.0), argument(args, 3, 1.0));
+            case "gaussian":
+                return new GaussianMutation(argument(args, 1, 0.1), argument(args, 2, 0.1));
+            default:
+                throw new IllegalArgumentException("Unknown mutation strategy: " + spec);
+        }
+    }
+
+    private static ReplacementStrategy replacement(String spec) {
+        String[] args = spec.split(":");
+        switch (name(spec)) {
+            case "elitist":
+                ElitistReplacement elitist = new ElitistReplacement();
+                elitist.setEliteCount(args.length > 1 ? Integer.parseInt(args[1]) : 2);
+                return elitist;
+            case "generational":
+                return new GenerationalReplacement();
+            case "steadystate":
+                SteadyStateReplacement steadyState = new SteadyStateReplacement();
+                steadyState.setReplacementCount(args.length > 1 ? Integer.parseInt(args[1]) : 2);
+                return steadyState;
+            default:
+                throw new IllegalArgumentException("Unknown replacement strategy: " + spec);
+        }
+    }
+
+    private static String name(String spec) {
+        int colon = spec.indexOf(':');
+        return (colon < 0 ? spec : spec.substring(0, colon)).toLowerCase();
+    }
+
+    private static double argument(String[] args, int index, double defaultValue) {
+        return args.length > index ? Double.parseDouble(args[index]) : defaultValue;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+
+    //Space separated key=value pairs, as stored in result files
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(parameter.getKey()).append('=').append(parameter.getValue());
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ExperimentConfig{id=" + id + ", " + describe() + '}';
+    }
+}
@@ -0,0 +1,148 @@
+package com.scproject.ga.experiment;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Experiment description read from a grid file of {@code key = value[, value...]} lines.
+ * Blank lines and {@code #} comments are ignored.
+ *
+ * <p>GA parameters (see {@link ExperimentConfig}) may list several values; the grid is their
+ * cartesian product. {@code seeds} lists seeds or ranges such as {@code 1..10}; every
+ * configuration is run once per seed. Any other key is a single-valued setting passed on to the
+ * problem and runner, e.g. {@code problem = routing} or {@code racing = true}.
+ */
+public class ExperimentGrid {
+
+    private final List<ExperimentConfig> configs;
+    private final long[] seeds;
+    private final Map<String, String> settings;
+
+    public ExperimentGrid(List<ExperimentConfig> configs, long[] seeds, Map<String, String> settings) {
+        if (configs.isEmpty()) {
+            throw new IllegalArgumentException("Experiment grid has no configurations");
+        }
+        if (seeds.length == 0) {
+            throw new IllegalArgumentException("Experiment grid has no seeds");
+        }
+        this.configs = Collections.unmodifiableList(new ArrayList<>(configs));
+        this.seeds = seeds.clone();
+        this.settings = Collections.unmodifiableMap(new LinkedHashMap<>(settings));
+    }
+
+    public static ExperimentGrid read(Path file) throws IOException {
+        Map<String, List<String>> axes = new LinkedHashMap<>();
+        Map<String, String> settings = new LinkedHashMap<>();
+        long[] seeds = {1L};
+
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int comment = line.indexOf('#');
+                if (comment >= 0) {
+                    line = line.substring(0, comment);
+                }
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                int equals = line.indexOf('=');
+                if (equals <= 0) {
+                    throw new IOException("Expected key = value at line " + lineNumber + " of " + file);
+                }
+                String key = line.substring(0, equals).trim();
+                List<String> values = new ArrayList<>();
+                for (String value : line.substring(equals + 1).split(",")) {
+                    if (!value.isBlank()) {
+                        values.add(value.trim());
+                    }
+                }
+                if (values.isEmpty()) {
+                    throw new IOException("Missing value for " + key + " at line " + lineNumber + " of " + file);
+                }
+
+                if (key.equals("seeds")) {
+                    seeds = parseSeeds(values);
+                } else if (ExperimentConfig.PARAMETERS.contains(key)) {
+                    axes.put(key, values);
+                } else if (values.size() == 1) {
+                    settings.put(key, values.get(0));
+                } else {
+                    throw new IOException("Setting " + key + " takes a single value (line " + lineNumber + " of " + file + ")");
+                }
+            }
+        }
+
+        List<ExperimentConfig> configs = new ArrayList<>();
+        expand(new ArrayList<>(axes.entrySet()), 0, new LinkedHashMap<>(), configs);
+        for (ExperimentConfig config : configs) {
+            //Fail on bad values before any run starts
+            config.createConfiguration(0L);
+        }
+        return new ExperimentGrid(configs, seeds, settings);
+    }
+
+    private static void expand(List<Map.Entry<String, List<String>>> axes, int axis,
+                               Map<String, String> assignment, List<ExperimentConfig> configs) {
+        if (axis == axes.size()) {
+            configs.add(new ExperimentConfig(configs.size(), assignment));
+            return;
+        }
+        Map.Entry<String, List<String>> entry = axes.get(axis);
+        for (String value : entry.getValue()) {
+            assignment.put(entry.getKey(), value);
+            expand(axes, axis + 1, assignment, configs);
+        }
+        assignment.remove(entry.getKey());
+    }
+
+    private static long[] parseSeeds(List<String> values) {
+        List<Long> seeds = new ArrayList<>();
+        for (String value : values) {
+            int range = value.indexOf("..");
+            if (range >= 0) {
+                long from = Long.parseLong(value.substring(0, range).trim());
+                long to = Long.parseLong(value.substring(range + 2).trim());
+                if (to < from) {
+                    throw new IllegalArgumentException("Empty seed range: " + value);
+                }
+                for (long seed = from; seed <= to; seed++) {
+                    seeds.add(seed);
+                }
+            } else {
+                seeds.add(Long.parseLong(value));
+            }
+        }
+        return seeds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    public List<ExperimentConfig> getConfigs() {
+        return configs;
+    }
+
+    public long[] getSeeds() {
+        return seeds.clone();
+    }
+
+    public Map<String, String> getSettings() {
+        return settings;
+    }
+
+    public String getSetting(String key, String defaultValue) {
+        return settings.getOrDefault(key, defaultValue);
+    }
+
+    public int getRunCount() {
+        return configs.size() * seeds.length;
+    }
+}
@@ -0,0 +1,113 @@
+package com.scproject.ga.experiment;
+
+import com.scproject.ga.benchmark.BenchmarkSuite;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Headless entry point: {@code ExperimentMain <grid-file> <result-file> [threads]}.
+ *
+ * <p>Besides the GA parameters and seeds, the grid file may set {@code problem} ({@code routing}
+ * or a {@link BenchmarkSuite} problem spec), the routing graph ({@code edges}, {@code nodes},
+ * {@code undirected}), {@code threads}, {@code rowGroupSize}, and racing with {@code racing = true},
+ * {@code raceInterval}, {@code raceMinRuns} and {@code raceConfidence}.
+ */
+public class ExperimentMain {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ExperimentMain <grid-file> <result-file> [threads]");
+            System.exit(2);
+        }
+        ExperimentGrid grid = ExperimentGrid.read(Path.of(args[0]));
+        Path resultFile = Path.of(args[1]);
+
+        ExperimentProblem problem;
+        String problemName = grid.getSetting("problem", "routing");
+        if (problemName.equals("routing")) {
+            problem = RoutingProblem.fromSettings(grid);
+        } else {
+            problem = BenchmarkSuite.parse(problemName);
+        }
+
+        ExperimentRunner runner = new ExperimentRunner(grid, problem);
+        String threads = args.length > 2 ? args[2] : grid.getSetting("threads", null);
+        if (threads != null) {
+            runner.setParallelism(Integer.parseInt(threads));
+        }
+        runner.setRowGroupSize(Integer.parseInt(grid.getSetting("rowGroupSize", "16")));
+        if (Boolean.parseBoolean(grid.getSetting("racing", "false"))) {
+            runner.setRacing(new Racing(
+                    Integer.parseInt(grid.getSetting("raceInterval", "10")),
+                    Integer.parseInt(grid.getSetting("raceMinRuns", "3")),
+                    Double.parseDouble(grid.getSetting("raceConfidence", "2.0"))));
+        }
+
+        System.out.printf("Running %d configurations x %d seeds on %d threads%n",
+                grid.getConfigs().size(), grid.getSeeds().length, runner.getParallelism());
+        long start = System.nanoTime();
+        List<RunResult> results = runner.run(resultFile);
+        System.out.printf("Finished %d runs in %.1f s, results in %s%n%n",
+                results.size(), (System.nanoTime() - start) / 1e9, resultFile);
+        for (RunResult result : results) {
+            if (result.getStatus() == RunResult.Status.FAILED) {
+                System.err.printf("Run of config %d with seed %d failed: %s%n",
+                        result.getConfigId(), result.getSeed(), result.getError());
+            }
+        }
+
+        printSummary(grid.getConfigs(), results);
+    }
+
+    //Mean and standard deviation of the best fitness per configuration, best first
+    static void printSummary(List<ExperimentConfig> configs, List<RunResult> results) {
+        List<double[]> rows = new ArrayList<>();
+        for (int i = 0; i < configs.size(); i++) {
+            ExperimentConfig config = configs.get(i);
+            int completed = 0;
+            int cancelled = 0;
+            int failed = 0;
+            double sum = 0.0;
+            double sumSq = 0.0;
+            double evaluations = 0.0;
+            double wallMillis = 0.0;
+            for (RunResult result : results) {
+                if (result.getConfigId() != config.getId()) {
+                    continue;
+                }
+                switch (result.getStatus()) {
+                    case COMPLETED:
+                        completed++;
+                        sum += result.getBestFitness();
+                        sumSq += result.getBestFitness() * result.getBestFitness();
+                        evaluations += result.getEvaluations();
+                        wallMillis += result.getWallNanos() / 1e6;
+                        break;
+                    case CANCELLED:
+                        cancelled++;
+                        break;
+                    default:
+                        failed++;
+                }
+            }
+            double mean = completed > 0 ? sum / completed : Double.NaN;
+            double sd = completed > 1 ? Math.sqrt(Math.max(0.0, (sumSq - sum * mean) / (completed - 1))) : 0.0;
+            rows.add(new double[]{i, mean, sd, completed, cancelled, failed,
+                    completed > 0 ? evaluations / completed : 0.0, completed > 0 ? wallMillis / completed : 0.0});
+        }
+        rows.sort(Comparator.comparingDouble((double[] row) -> Double.isNaN(row[1]) ? Double.NEGATIVE_INFINITY : row[1]).reversed());
+
+        System.out.printf("%-4s %10s %8s %5s %5s %5s %10s %9s  %s%n",
+                "id", "mean best", "sd", "done", "cut", "fail", "evals", "ms/run", "configuration");
+        for (double[] row : rows) {
+            ExperimentConfig config = configs.get((int) row[0]);
+            System.out.printf("%-4d %10.4f %8.4f %5d %5d %5d %10.0f %9.1f  %s%n",
+                    config.getId(), row[1], row[2], (int) row[3], (int) row[4], (int) row[5], row[6], row[7],
+                    config.describe());
+        }
+    }
+}
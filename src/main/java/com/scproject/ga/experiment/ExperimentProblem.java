@@ -0,0 +1,14 @@
+package com.scproject.ga.experiment;
+
+import com.scproject.ga.core.GeneticAlgorithm;
+
+/**
+ * Supplies the problem side of every run: chromosome prototype and length, fitness function and
+ * constraint handler. Called once per run on the worker thread that executes it, so any state
+ * the fitness function mutates must be created here rather than shared.
+ */
+@FunctionalInterface
+public interface ExperimentProblem {
+
+    void configure(GeneticAlgorithm ga);
+}
@@ -0,0 +1,153 @@
+package com.scproject.ga.experiment;
+
+import com.scproject.ga.core.GeneticAlgorithm;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs every configuration of an experiment once per seed, without any console interaction.
+ *
+ * Runs are independent GeneticAlgorithm instances executed on a fixed pool of worker threads.
+ * They are submitted seed by seed, so with racing enabled every configuration gathers evidence
+ * at the same pace. Results are streamed to a {@link ResultFile} as runs finish.
+ */
+public class ExperimentRunner {
+
+    private final List<ExperimentConfig> configs;
+    private final long[] seeds;
+    private final ExperimentProblem problem;
+    private int parallelism;
+    private Racing racing;
+    private int rowGroupSize;
+    private boolean verbose;
+
+    public ExperimentRunner(ExperimentGrid grid, ExperimentProblem problem) {
+        this(grid.getConfigs(), grid.getSeeds(), problem);
+    }
+
+    public ExperimentRunner(List<ExperimentConfig> configs, long[] seeds, ExperimentProblem problem) {
+        if (problem == null) {
+            throw new IllegalArgumentException("Experiment problem cannot be null");
+        }
+        if (configs.isEmpty() || seeds.length == 0) {
+            throw new IllegalArgumentException("Experiment needs at least one configuration and one seed");
+        }
+        this.configs = new ArrayList<>(configs);
+        this.seeds = seeds.clone();
+        this.problem = problem;
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.rowGroupSize = 16;
+        this.verbose = true;
+    }
+
+    public List<RunResult> run(Path resultFile) throws IOException {
+        int total = configs.size() * seeds.length;
+        List<RunResult> results = new ArrayList<>(total);
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        CompletionService<RunResult> completion = new ExecutorCompletionService<>(workers);
+
+        try (ResultFile.Writer writer = ResultFile.create(resultFile, configs, rowGroupSize)) {
+            for (long seed : seeds) {
+                for (ExperimentConfig config : configs) {
+                    completion.submit(() -> runOne(config, seed));
+                }
+            }
+
+            for (int finished = 1; finished <= total; finished++) {
+                RunResult result = completion.take().get();
+                writer.append(result);
+                results.add(result);
+                if (verbose) {
+                    System.out.printf("[%d/%d] %s%n", finished, total, result);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running experiment", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Experiment run failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+        return results;
+    }
+
+    private RunResult runOne(ExperimentConfig config, long seed) {
+        int id = config.getId();
+        if (racing != null && racing.isEliminated(id)) {
+            return new RunResult(id, seed, RunResult.Status.CANCELLED, Double.NaN, 0, 0, 0, new double[0]);
+        }
+
+        long start = System.nanoTime();
+        GeneticAlgorithm ga = new GeneticAlgorithm(config.createConfiguration(seed));
+        try {
+            problem.configure(ga);
+            if (racing != null) {
+                ga.addGenerationListener((run, generation) -> {
+                    boolean alive = racing.isCheckpoint(generation)
+                            ? racing.report(id, generation, run.getBestFitness())
+                            : !racing.isEliminated(id);
+                    if (!alive) {
+                        run.requestStop();
+                    }
+                });
+            }
+            ga.run();
+        } catch (RuntimeException e) {
+            return new RunResult(id, seed, RunResult.Status.FAILED, Double.NaN, ga.getEvaluationCount(),
+                    ga.getGenerationsRun(), System.nanoTime() - start, new double[0], e.toString());
+        }
+
+        double[] fitnessHistory = ga.getFitnessSeries().toBestArray();
+        RunResult.Status status = ga.isStopRequested() ? RunResult.Status.CANCELLED : RunResult.Status.COMPLETED;
+        return new RunResult(id, seed, status, ga.getBestFitness(), ga.getEvaluationCount(),
+                ga.getGenerationsRun(), System.nanoTime() - start, fitnessHistory);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    public Racing getRacing() {
+        return racing;
+    }
+
+    //null runs every configuration to the end
+    public void setRacing(Racing racing) {
+        this.racing = racing;
+    }
+
+    public int getRowGroupSize() {
+        return rowGroupSize;
+    }
+
+    public void setRowGroupSize(int rowGroupSize) {
+        if (rowGroupSize <= 0) {
+            throw new IllegalArgumentException("Row group size must be positive");
+        }
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+}
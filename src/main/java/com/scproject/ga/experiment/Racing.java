@@ -0,0 +1,107 @@
+package com.scproject.ga.experiment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Racing between the configurations of an experiment. Every {@code checkInterval} generations
+ * each run reports its best fitness so far; once a configuration and the current leader both
+ * have at least {@code minRuns} reports at the same checkpoint, the configuration is eliminated
+ * if the upper end of its confidence interval (mean + z * standard error) lies below the lower
+ * end of the leader's. Eliminated configurations stay eliminated.
+ *
+ * <p>Runs are compared at equal generation counts, not equal evaluation budgets, so grids that
+ * vary the population size favour the larger populations.
+ */
+public class Racing {
+
+    private final int checkInterval;
+    private final int minRuns;
+    private final double z;
+    //checkpoint generation -> config id -> best fitness statistics
+    private final Map<Integer, Map<Integer, Stats>> checkpoints = new HashMap<>();
+    private final Set<Integer> eliminated = ConcurrentHashMap.newKeySet();
+
+    public Racing() {
+        this(10, 3, 2.0);
+    }
+
+    public Racing(int checkInterval, int minRuns, double z) {
+        if (checkInterval <= 0) {
+            throw new IllegalArgumentException("Check interval must be positive");
+        }
+        if (minRuns < 2) {
+            throw new IllegalArgumentException("Racing needs at least two runs per configuration");
+        }
+        if (z < 0) {
+            throw new IllegalArgumentException("Confidence multiplier cannot be negative");
+        }
+        this.checkInterval = checkInterval;
+        this.minRuns = minRuns;
+        this.z = z;
+    }
+
+    public boolean isCheckpoint(int generation) {
+        return (generation + 1) % checkInterval == 0;
+    }
+
+    //Records a checkpoint result and returns whether the configuration is still in the race
+    public synchronized boolean report(int configId, int generation, double bestFitness) {
+        Map<Integer, Stats> checkpoint = checkpoints.computeIfAbsent(generation, g -> new HashMap<>());
+        checkpoint.computeIfAbsent(configId, id -> new Stats()).add(bestFitness);
+
+        double leaderLower = Double.NEGATIVE_INFINITY;
+        for (Map.Entry<Integer, Stats> entry : checkpoint.entrySet()) {
+            Stats stats = entry.getValue();
+            if (stats.count >= minRuns && !eliminated.contains(entry.getKey())) {
+                leaderLower = Math.max(leaderLower, stats.mean - z * stats.standardError());
+            }
+        }
+        for (Map.Entry<Integer, Stats> entry : checkpoint.entrySet()) {
+            Stats stats = entry.getValue();
+            if (stats.count >= minRuns && stats.mean + z * stats.standardError() < leaderLower) {
+                eliminated.add(entry.getKey());
+            }
+        }
+        return !eliminated.contains(configId);
+    }
+
+    public boolean isEliminated(int configId) {
+        return eliminated.contains(configId);
+    }
+
+    public Set<Integer> getEliminated() {
+        return Set.copyOf(eliminated);
+    }
+
+    public int getCheckInterval() {
+        return checkInterval;
+    }
+
+    public int getMinRuns() {
+        return minRuns;
+    }
+
+    public double getZ() {
+        return z;
+    }
+
+    private static final class Stats {
+        int count;
+        double mean;
+        double m2;
+
+        void add(double value) {
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+
+        double standardError() {
+            return count < 2 ? Double.POSITIVE_INFINITY : Math.sqrt(m2 / (count - 1) / count);
+        }
+    }
+}
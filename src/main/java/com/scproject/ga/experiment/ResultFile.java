@@ -0,0 +1,218 @@
+package com.scproject.ga.experiment;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar result file for experiment runs.
+ *
+ * <p>The format is little-endian: magic, version and configuration count as int32, then per
+ * configuration its id (int32) and its description (int32 byte length + UTF-8). Results follow in
+ * row groups, each an int32 row count and then one column at a time: config id (int32), seed
+ * (int64), status (int8), generations run (int32), evaluations (int64), wall time in ns (int64),
+ * best fitness (float64), history length (int32), and finally all fitness histories back to back
+ * (float64). A row count of 0 ends the file.
+ *
+ * <p>Row groups are written as soon as they fill, so a file cut off by a crash still yields every
+ * complete group.
+ */
+public final class ResultFile {
+
+    private static final int MAGIC = 0x53524147; //"GARS" read little-endian
+    private static final int VERSION = 1;
+
+    private ResultFile() {
+    }
+
+    public static Writer create(Path file, List<ExperimentConfig> configs, int rowGroupSize) throws IOException {
+        return new Writer(file, configs, rowGroupSize);
+    }
+
+    public static Map<Integer, String> readConfigs(Path file) throws IOException {
+        ByteBuffer buffer = open(file);
+        Map<Integer, String> configs = new LinkedHashMap<>();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            int id = buffer.getInt();
+            configs.put(id, readString(buffer));
+        }
+        return configs;
+    }
+
+    public static List<RunResult> readRuns(Path file) throws IOException {
+        ByteBuffer buffer = open(file);
+        int configCount = buffer.getInt();
+        for (int i = 0; i < configCount; i++) {
+            buffer.getInt();
+            readString(buffer);
+        }
+
+        List<RunResult> runs = new ArrayList<>();
+        RunResult.Status[] statuses = RunResult.Status.values();
+        while (buffer.remaining() >= Integer.BYTES) {
+            int rows = buffer.getInt();
+            if (rows == 0) {
+                break;
+            }
+            try {
+                int[] configIds = new int[rows];
+                long[] seeds = new long[rows];
+                byte[] status = new byte[rows];
+                int[] generations = new int[rows];
+                long[] evaluations = new long[rows];
+                long[] wallNanos = new long[rows];
+                double[] best = new double[rows];
+                int[] historyLengths = new int[rows];
+                buffer.asIntBuffer().get(configIds);
+                buffer.position(buffer.position() + 4 * rows);
+                buffer.asLongBuffer().get(seeds);
+                buffer.position(buffer.position() + 8 * rows);
+                buffer.get(status);
+                buffer.asIntBuffer().get(generations);
+                buffer.position(buffer.position() + 4 * rows);
+                buffer.asLongBuffer().get(evaluations);
+                buffer.position(buffer.position() + 8 * rows);
+                buffer.asLongBuffer().get(wallNanos);
+                buffer.position(buffer.position() + 8 * rows);
+                buffer.asDoubleBuffer().get(best);
+                buffer.position(buffer.position() + 8 * rows);
+                buffer.asIntBuffer().get(historyLengths);
+                buffer.position(buffer.position() + 4 * rows);
+
+                List<RunResult> group = new ArrayList<>(rows);
+                for (int r = 0; r < rows; r++) {
+                    double[] history = new double[historyLengths[r]];
+                    buffer.asDoubleBuffer().get(history);
+                    buffer.position(buffer.position() + 8 * history.length);
+                    group.add(new RunResult(configIds[r], seeds[r], statuses[status[r]], best[r],
+                            evaluations[r], generations[r], wallNanos[r], history));
+                }
+                runs.addAll(group);
+            } catch (BufferUnderflowException e) {
+                //Incomplete trailing row group from an interrupted run
+                break;
+            }
+        }
+        return runs;
+    }
+
+    private static ByteBuffer open(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC) {
+            throw new IOException("Not an experiment result file: " + file);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported result file version " + version + ": " + file);
+        }
+        return buffer;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends runs to a result file, one row group at a time. Not thread-safe.
+     */
+    public static final class Writer implements Closeable {
+        private final FileChannel channel;
+        private final int rowGroupSize;
+        private final List<RunResult> pending = new ArrayList<>();
+
+        private Writer(Path file, List<ExperimentConfig> configs, int rowGroupSize) throws IOException {
+            if (rowGroupSize <= 0) {
+                throw new IllegalArgumentException("Row group size must be positive");
+            }
+            this.rowGroupSize = rowGroupSize;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+            List<byte[]> descriptions = new ArrayList<>();
+            int size = 12;
+            for (ExperimentConfig config : configs) {
+                byte[] description = config.describe().getBytes(StandardCharsets.UTF_8);
+                descriptions.add(description);
+                size += 8 + description.length;
+            }
+            ByteBuffer header = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(configs.size());
+            for (int i = 0; i < configs.size(); i++) {
+                header.putInt(configs.get(i).getId()).putInt(descriptions.get(i).length).put(descriptions.get(i));
+            }
+            write(header);
+        }
+
+        public void append(RunResult result) throws IOException {
+            pending.add(result);
+            if (pending.size() >= rowGroupSize) {
+                flush();
+            }
+        }
+
+        public void flush() throws IOException {
+            if (pending.isEmpty()) {
+                return;
+            }
+            int rows = pending.size();
+            long historyValues = 0;
+            for (RunResult result : pending) {
+                historyValues += result.getFitnessHistory().length;
+            }
+            long size = 4 + rows * (4L + 8 + 1 + 4 + 8 + 8 + 8 + 4) + 8 * historyValues;
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Row group too large; use a smaller row group size");
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(rows);
+            pending.forEach(r -> buffer.putInt(r.getConfigId()));
+            pending.forEach(r -> buffer.putLong(r.getSeed()));
+            pending.forEach(r -> buffer.put((byte) r.getStatus().ordinal()));
+            pending.forEach(r -> buffer.putInt(r.getGenerationsRun()));
+            pending.forEach(r -> buffer.putLong(r.getEvaluations()));
+            pending.forEach(r -> buffer.putLong(r.getWallNanos()));
+            pending.forEach(r -> buffer.putDouble(r.getBestFitness()));
+            pending.forEach(r -> buffer.putInt(r.getFitnessHistory().length));
+            for (RunResult result : pending) {
+                for (double value : result.getFitnessHistory()) {
+                    buffer.putDouble(value);
+                }
+            }
+            write(buffer);
+            pending.clear();
+        }
+
+        private void write(ByteBuffer buffer) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                ByteBuffer end = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0);
+                write(end);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
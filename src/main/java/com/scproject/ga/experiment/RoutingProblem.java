@@ -0,0 +1,72 @@
+package com.scproject.ga.experiment;
+
+import com.scproject.ga.chromosome.IntegerChromosome;
+import com.scproject.ga.constraint.RoutingConstraintHandler;
+import com.scproject.ga.core.GeneticAlgorithm;
+import com.scproject.ga.fitness.RoutingFitnessFunction;
+import com.scproject.ga.graph.TowerGraph;
+import com.scproject.ga.graph.TowerGraphBuilder;
+import com.scproject.ga.graph.TowerGraphIO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Tower routing as an experiment problem. The graph is loaded once and shared read-only by all
+ * runs; each run gets its own fitness function and constraint handler.
+ */
+public class RoutingProblem implements ExperimentProblem {
+
+    private final TowerGraph graph;
+
+    public RoutingProblem(TowerGraph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Tower graph cannot be null");
+        }
+        this.graph = graph;
+    }
+
+    /**
+     * Reads {@code edges}, {@code nodes} and {@code undirected} from the grid settings; without an
+     * edges file the six-tower example network is used
+     */
+    public static RoutingProblem fromSettings(ExperimentGrid grid) throws IOException {
+        String edges = grid.getSetting("edges", null);
+        if (edges == null) {
+            return new RoutingProblem(exampleGraph());
+        }
+        String nodes = grid.getSetting("nodes", null);
+        boolean undirected = Boolean.parseBoolean(grid.getSetting("undirected", "true"));
+        return new RoutingProblem(TowerGraphIO.readCsv(Path.of(edges), nodes == null ? null : Path.of(nodes), undirected));
+    }
+
+    public static TowerGraph exampleGraph() {
+        TowerGraphBuilder builder = new TowerGraphBuilder();
+        builder.addUndirectedEdge(0, 1, 4.5);
+        builder.addUndirectedEdge(0, 2, 3.2);
+        builder.addUndirectedEdge(1, 2, 2.1);
+        builder.addUndirectedEdge(1, 3, 5.0);
+        builder.addUndirectedEdge(2, 4, 4.3);
+        builder.addUndirectedEdge(3, 4, 3.8);
+        builder.addUndirectedEdge(3, 5, 2.7);
+        builder.addUndirectedEdge(4, 5, 3.5);
+        double[] load = {0.2, 0.5, 0.1, 0.6, 0.3, 0.4};
+        for (int i = 0; i < load.length; i++) {
+            builder.setThroughput(i, load[i]);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void configure(GeneticAlgorithm ga) {
+        int towers = graph.getNodeCount();
+        ga.setChromosomeLength(towers);
+        ga.setChromosomePrototype(new IntegerChromosome(towers));
+        ga.setFitnessFunction(new RoutingFitnessFunction(graph));
+        ga.setConstraintHandler(new RoutingConstraintHandler(graph));
+    }
+
+    public TowerGraph getGraph() {
+        return graph;
+    }
+}
@@ -0,0 +1,85 @@
+package com.scproject.ga.experiment;
+
+/**
+ * Outcome of one run of one configuration with one seed.
+ */
+public class RunResult {
+
+    public enum Status {
+        COMPLETED,
+        //Stopped or skipped because racing eliminated its configuration
+        CANCELLED,
+        FAILED
+    }
+
+    private final int configId;
+    private final long seed;
+    private final Status status;
+    private final double bestFitness;
+    private final long evaluations;
+    private final int generationsRun;
+    private final long wallNanos;
+    private final double[] fitnessHistory;
+    private final String error;
+
+    public RunResult(int configId, long seed, Status status, double bestFitness, long evaluations,
+                     int generationsRun, long wallNanos, double[] fitnessHistory) {
+        this(configId, seed, status, bestFitness, evaluations, generationsRun, wallNanos, fitnessHistory, null);
+    }
+
+    public RunResult(int configId, long seed, Status status, double bestFitness, long evaluations,
+                     int generationsRun, long wallNanos, double[] fitnessHistory, String error) {
+        this.configId = configId;
+        this.seed = seed;
+        this.status = status;
+        this.bestFitness = bestFitness;
+        this.evaluations = evaluations;
+        this.generationsRun = generationsRun;
+        this.wallNanos = wallNanos;
+        this.fitnessHistory = fitnessHistory;
+        this.error = error;
+    }
+
+    public int getConfigId() {
+        return configId;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public int getGenerationsRun() {
+        return generationsRun;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public double[] getFitnessHistory() {
+        return fitnessHistory;
+    }
+
+    //Why a FAILED run failed; null otherwise, and for results read back from a result file
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RunResult{config=%d, seed=%d, status=%s, best=%.4f, evaluations=%d, generations=%d, wall=%.1f ms}",
+                configId, seed, status, bestFitness, evaluations, generationsRun, wallNanos / 1e6);
+    }
+}
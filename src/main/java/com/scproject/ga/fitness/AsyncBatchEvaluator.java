@@ -0,0 +1,255 @@
+package com.scproject.ga.fitness;
+
+import com.scproject.ga.chromosome.Chromosome;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives an {@link AsyncFitnessFunction} as a {@link BatchFitnessFunction}: the whole batch is
+ * submitted up front so slow evaluations overlap instead of queueing, with at most
+ * {@code maxInFlight} evaluations outstanding at a time.
+ *
+ * <p>Each attempt is bounded by {@code timeout}. If an attempt has not finished after
+ * {@code hedgeDelay} a duplicate request is sent and the first success wins. A failed or timed out
+ * attempt is retried until {@code maxAttempts} is reached, after which the chromosome scores
+ * {@code penalty}. A timed out request is cancelled, and so is the losing request of a hedge
+ * once the other one has answered; both are cancelled through the future returned by
+ * {@link AsyncFitnessFunction#evaluateAsync}. {@code maxInFlight} counts chromosomes, so with
+ * hedging up to twice as many requests can be running, and the bound only holds for fitness
+ * functions that stop the underlying request when its future is cancelled.
+ */
+public class AsyncBatchEvaluator implements BatchFitnessFunction {
+
+    private final AsyncFitnessFunction fitnessFunction;
+    private int maxInFlight;
+    private Semaphore permits;
+    private Duration timeout;
+    private Duration hedgeDelay;
+    private int maxAttempts;
+    private double penalty;
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder penalized = new LongAdder();
+
+    public AsyncBatchEvaluator(AsyncFitnessFunction fitnessFunction) {
+        if (fitnessFunction == null) {
+            throw new IllegalArgumentException("Fitness function cannot be null");
+        }
+        this.fitnessFunction = fitnessFunction;
+        this.maxInFlight = 64;
+        this.permits = new Semaphore(maxInFlight);
+        this.timeout = Duration.ofSeconds(5);
+        this.maxAttempts = 2;
+        this.penalty = 0.0;
+    }
+
+    @Override
+    public void evaluate(List<? extends Chromosome> batch, double[] scores) {
+        List<CompletableFuture<Double>> results = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while submitting evaluations", e);
+            }
+            results.add(evaluateWithRetries(batch.get(i), 1)
+                    .handle(this::scoreOrPenalty)
+                    .whenComplete((score, error) -> permits.release()));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                scores[i] = results.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for evaluations", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Evaluation failed", e.getCause());
+            }
+        }
+        evaluations.add(batch.size());
+    }
+
+    private CompletableFuture<Double> evaluateWithRetries(Chromosome chromosome, int attempt) {
+        return hedgedAttempt(chromosome).handle((score, error) -> {
+            if (error == null) {
+                return CompletableFuture.completedFuture(score);
+            }
+            countFailure(error);
+            if (attempt < maxAttempts) {
+                retries.increment();
+                return evaluateWithRetries(chromosome, attempt + 1);
+            }
+            return CompletableFuture.<Double>failedFuture(error);
+        }).thenCompose(result -> result);
+    }
+
+    private CompletableFuture<Double> hedgedAttempt(Chromosome chromosome) {
+        if (hedgeDelay == null) {
+            return call(chromosome);
+        }
+
+        CompletableFuture<Double> result = new CompletableFuture<>();
+        //Number of requests still running; the attempt only fails once all of them have failed
+        AtomicInteger outstanding = new AtomicInteger(1);
+        CompletableFuture<Double> first = call(chromosome);
+        first.whenComplete((score, error) -> settle(result, outstanding, score, error));
+        //Whichever request loses the race is cancelled once the attempt is settled
+        result.whenComplete((score, error) -> first.cancel(true));
+
+        CompletableFuture.delayedExecutor(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (!result.isDone() && outstanding.incrementAndGet() > 1) {
+                hedges.increment();
+                CompletableFuture<Double> hedge = call(chromosome);
+                hedge.whenComplete((score, error) -> settle(result, outstanding, score, error));
+                result.whenComplete((score, error) -> hedge.cancel(true));
+            }
+        });
+        return result;
+    }
+
+    private static void settle(CompletableFuture<Double> result, AtomicInteger outstanding,
+                               Double score, Throwable error) {
+        if (error == null) {
+            result.complete(score);
+        } else if (outstanding.decrementAndGet() == 0) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private CompletableFuture<Double> call(Chromosome chromosome) {
+        CompletableFuture<Double> future;
+        try {
+            future = fitnessFunction.evaluateAsync(chromosome);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        //Copy so the timeout does not complete a future the fitness function may share, and cancel
+        //the original when the attempt times out or is abandoned so the request does not keep running
+        CompletableFuture<Double> attempt = future.copy().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        attempt.whenComplete((score, error) -> {
+            if (error != null) {
+                future.cancel(true);
+            }
+        });
+        return attempt;
+    }
+
+    private double scoreOrPenalty(Double score, Throwable error) {
+        if (error == null && score != null) {
+            return score;
+        }
+        penalized.increment();
+        return penalty;
+    }
+
+    private void countFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            timeouts.increment();
+        } else {
+            failures.increment();
+        }
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    //Must not be changed while a batch is being evaluated
+    public void setMaxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight evaluations must be positive");
+        }
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.timeout = timeout;
+    }
+
+    public Duration getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    //null disables hedging
+    public void setHedgeDelay(Duration hedgeDelay) {
+        if (hedgeDelay != null && hedgeDelay.isNegative()) {
+            throw new IllegalArgumentException("Hedge delay cannot be negative");
+        }
+        this.hedgeDelay = hedgeDelay;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be positive");
+        }
+        this.maxAttempts = maxAttempts;
+    }
+
+    public double getPenalty() {
+        return penalty;
+    }
+
+    public void setPenalty(double penalty) {
+        this.penalty = penalty;
+    }
+
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    public long getPenalized() {
+        return penalized.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AsyncBatchEvaluator{evaluations=%d, timeouts=%d, failures=%d, retries=%d, hedges=%d, penalized=%d}",
+                getEvaluations(), getTimeouts(), getFailures(), getRetries(), getHedges(), getPenalized());
+    }
+}
@@ -0,0 +1,39 @@
+package com.scproject.ga.fitness;
+
+import com.scproject.ga.chromosome.Chromosome;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fitness function whose score arrives later, for example from a remote simulation service.
+ * Implementations must not block the calling thread and must tolerate several evaluations
+ * of the same chromosome being in flight at once (hedged requests).
+ */
+@FunctionalInterface
+public interface AsyncFitnessFunction {
+
+    CompletableFuture<Double> evaluateAsync(Chromosome chromosome);
+
+    //Runs each call of a blocking fitness function on its own virtual thread, interrupted on cancel
+    static AsyncFitnessFunction fromBlocking(FitnessFunction fitnessFunction) {
+        if (fitnessFunction == null) {
+            throw new IllegalArgumentException("Fitness function cannot be null");
+        }
+        return chromosome -> {
+            CompletableFuture<Double> result = new CompletableFuture<>();
+            Thread worker = Thread.ofVirtual().name("fitness-eval").start(() -> {
+                try {
+                    result.complete(fitnessFunction.evaluate(chromosome));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            result.whenComplete((score, error) -> {
+                if (result.isCancelled()) {
+                    worker.interrupt();
+                }
+            });
+            return result;
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.scproject.ga.fitness;
+
+import com.scproject.ga.chromosome.Chromosome;
+
+import java.util.List;
+
+/**
+ * Scores a whole batch of chromosomes in one call, so an implementation can share
+ * precomputation across the batch, lay genomes out contiguously, or make a single call
+ * into an external solver. The score of {@code batch.get(i)} is written to {@code scores[i]};
+ * {@code scores} is at least as long as the batch and may be reused between calls.
+ */
+@FunctionalInterface
+public interface BatchFitnessFunction {
+
+    void evaluate(List<? extends Chromosome> batch, double[] scores);
+
+    //Adapts a single-chromosome fitness function by evaluating the batch in order
+    static BatchFitnessFunction of(FitnessFunction fitnessFunction) {
+        if (fitnessFunction == null) {
+            throw new IllegalArgumentException("Fitness function cannot be null");
+        }
+        return (batch, scores) -> {
+            for (int i = 0; i < batch.size(); i++) {
+                scores[i] = fitnessFunction.evaluate(batch.get(i));
+            }
+        };
+    }
+}
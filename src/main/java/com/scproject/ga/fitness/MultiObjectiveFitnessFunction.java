@@ -0,0 +1,15 @@
+package com.scproject.ga.fitness;
+
+import com.scproject.ga.chromosome.Chromosome;
+
+public interface MultiObjectiveFitnessFunction {
+
+    //Every objective is maximized, negate the ones that should be minimized
+    double[] evaluateObjectives(Chromosome chromosome);
+
+    int getObjectiveCount();
+
+    default String getObjectiveName(int index) {
+        return "f" + index;
+    }
+}
@@ -2,16 +2,18 @@ package com.scproject.ga.fitness;
 
 import com.scproject.ga.chromosome.Chromosome;
 import com.scproject.ga.chromosome.IntegerChromosome;
+import com.scproject.ga.graph.TowerGraph;
 
 import java.util.Map;
 import java.util.Set;
 
 
-public class RoutingFitnessFunction implements FitnessFunction {
+public class RoutingFitnessFunction implements FitnessFunction, MultiObjectiveFitnessFunction {
 
     private final Map<Integer, Set<Integer>> towerConnections;
     private final Map<Integer, Double> towerThroughput;
     private final Map<Integer, Map<Integer, Double>> towerDistance;
+    private final TowerGraph graph;
 
     public RoutingFitnessFunction(
             Map<Integer, Set<Integer>> towerConnections,
@@ -21,49 +23,112 @@ public class RoutingFitnessFunction implements FitnessFunction {
         this.towerConnections = towerConnections;
         this.towerThroughput = towerThroughput;
         this.towerDistance = towerDistance;
+        this.graph = null;
+    }
+
+    public RoutingFitnessFunction(TowerGraph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Tower graph cannot be null");
+        }
+        this.towerConnections = null;
+        this.towerThroughput = null;
+        this.towerDistance = null;
+        this.graph = graph;
     }
 
     @Override
     public double evaluate(Chromosome chromosome) {
+        RouteStats stats = computeRouteStats(chromosome);
+
+        if (stats.validConnections == 0) return 0.0;
+
+        double avgThroughput = stats.totalThroughput / stats.validConnections;
+        double avgDistance = stats.totalDistance / stats.validConnections;
+
+        //throughput favors higher values, distance penalizes longer links, scale *10
+        double ratio = avgThroughput / (avgThroughput + avgDistance * 10);
+        double fitnessPercent = ratio * 100.0;
+
+        return Math.max(fitnessPercent, 0.0);
+    }
+
+    //Objective 0 is average link throughput, objective 1 is the negated average link distance
+    @Override
+    public double[] evaluateObjectives(Chromosome chromosome) {
+        RouteStats stats = computeRouteStats(chromosome);
+        int divisor = Math.max(stats.validConnections, 1);
+        return new double[]{stats.totalThroughput / divisor, -stats.totalDistance / divisor};
+    }
+
+    @Override
+    public int getObjectiveCount() {
+        return 2;
+    }
+
+    @Override
+    public String getObjectiveName(int index) {
+        return index == 0 ? "throughput" : "-distance";
+    }
+
+    private RouteStats computeRouteStats(Chromosome chromosome) {
         if (!(chromosome instanceof IntegerChromosome)) {
             throw new IllegalArgumentException("RoutingFitnessFunction only supports IntegerChromosome");
         }
 
         Integer[] route = (Integer[]) chromosome.getGenes();
-
-        double totalThroughput = 0.0;
-        double totalDistance = 0.0;
-        int validConnections = 0;
+        if (graph != null) {
+            return computeRouteStats(route, graph);
+        }
+        RouteStats stats = new RouteStats();
 
         for (int i = 0; i < route.length - 1; i++) {
             int from = route[i];
             int to = route[i + 1];
 
             if (towerConnections.getOrDefault(from, Set.of()).contains(to)) {
-                validConnections++;
+                stats.validConnections++;
 
                 double avgThroughput = (towerThroughput.getOrDefault(from, 0.0)
                         + towerThroughput.getOrDefault(to, 0.0)) / 2.0;
-                totalThroughput += avgThroughput;
+                stats.totalThroughput += avgThroughput;
 
-                totalDistance += towerDistance.getOrDefault(from, Map.of())
+                stats.totalDistance += towerDistance.getOrDefault(from, Map.of())
                         .getOrDefault(to, 1.0);
             } else {
                 //Penalize invalid link
-                totalDistance += 5.0;
-                totalThroughput -= 10.0;
+                stats.totalDistance += 5.0;
+                stats.totalThroughput -= 10.0;
             }
         }
 
-        if (validConnections == 0) return 0.0;
+        return stats;
+    }
 
-        double avgThroughput = totalThroughput / validConnections;
-        double avgDistance = totalDistance / validConnections;
+    private static RouteStats computeRouteStats(Integer[] route, TowerGraph graph) {
+        RouteStats stats = new RouteStats();
 
-        //throughput favors higher values, distance penalizes longer links, scale *10
-        double ratio = avgThroughput / (avgThroughput + avgDistance * 10);
-        double fitnessPercent = ratio * 100.0;
+        for (int i = 0; i < route.length - 1; i++) {
+            int from = route[i];
+            int to = route[i + 1];
 
-        return Math.max(fitnessPercent, 0.0);
+            double distance = graph.getDistance(from, to, Double.NaN);
+            if (!Double.isNaN(distance)) {
+                stats.validConnections++;
+                stats.totalThroughput += (graph.getThroughput(from) + graph.getThroughput(to)) / 2.0;
+                stats.totalDistance += distance;
+            } else {
+                //Penalize invalid link
+                stats.totalDistance += 5.0;
+                stats.totalThroughput -= 10.0;
+            }
+        }
+
+        return stats;
+    }
+
+    private static final class RouteStats {
+        double totalThroughput;
+        double totalDistance;
+        int validConnections;
     }
 }
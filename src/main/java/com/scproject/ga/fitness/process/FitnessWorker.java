@@ -0,0 +1,90 @@
+package com.scproject.ga.fitness.process;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.fitness.FitnessFunction;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of a child JVM started by {@link ProcessPoolEvaluator}.
+ *
+ * <p>Usage: {@code FitnessWorker <fitness function class> [args...]}. The class must implement
+ * FitnessFunction and have a public constructor taking {@code String[]} or no arguments. Stdout
+ * carries the protocol, so anything the fitness code prints is redirected to stderr.
+ */
+public final class FitnessWorker {
+
+    private FitnessWorker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+        System.setOut(System.err);
+
+        if (args.length == 0) {
+            System.err.println("Usage: FitnessWorker <fitness function class> [args...]");
+            System.exit(2);
+        }
+        FitnessFunction fitnessFunction = instantiate(args[0], Arrays.copyOfRange(args, 1, args.length));
+
+        out.writeInt(WorkerProtocol.READY);
+        out.flush();
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+        List<Chromosome> batch = new ArrayList<>();
+        while (true) {
+            int count;
+            try {
+                count = in.readInt();
+            } catch (EOFException e) {
+                return;
+            }
+            if (count < 0) {
+                return;
+            }
+
+            //Read the whole request before answering so neither side blocks on a full pipe
+            batch.clear();
+            for (int i = 0; i < count; i++) {
+                batch.add(WorkerProtocol.readChromosome(in));
+            }
+            for (Chromosome chromosome : batch) {
+                try {
+                    double score = fitnessFunction.evaluate(chromosome);
+                    out.writeByte(WorkerProtocol.OK);
+                    out.writeDouble(score);
+                } catch (RuntimeException e) {
+                    out.writeByte(WorkerProtocol.ERROR);
+                    out.writeUTF(String.valueOf(e));
+                }
+            }
+            out.flush();
+        }
+    }
+
+    private static FitnessFunction instantiate(String className, String[] args) {
+        try {
+            Class<?> type = Class.forName(className);
+            if (!FitnessFunction.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException(className + " does not implement FitnessFunction");
+            }
+            try {
+                return (FitnessFunction) type.getConstructor(String[].class).newInstance((Object) args);
+            } catch (NoSuchMethodException e) {
+                return (FitnessFunction) type.getConstructor().newInstance();
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot create fitness function " + className, e);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.scproject.ga.fitness.process;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.fitness.BatchFitnessFunction;
+import com.scproject.ga.fitness.FitnessFunction;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Evaluates batches in a pool of child JVMs, for fitness code that is not thread-safe, leaks
+ * memory or may crash the process.
+ *
+ * <p>Each worker runs {@link FitnessWorker} with the given FitnessFunction class on the current
+ * classpath and talks over its stdin and stdout. A batch is cut into chunks of {@code chunkSize}
+ * genomes that idle workers pull in turn, so a worker only ever runs one evaluation at a time.
+ *
+ * <p>A worker that exits, breaks the protocol or exceeds {@code timeout} on a chunk is killed and
+ * restarted. Its chunk is then retried one genome at a time, so a genome that crashes the worker
+ * is isolated from the rest of the chunk; after {@code maxAttempts} attempts it scores
+ * {@code penalty}, as does a genome whose fitness function threw. Workers are also replaced
+ * after {@code maxEvaluationsPerWorker} evaluations to bound slow leaks.
+ */
+public class ProcessPoolEvaluator implements BatchFitnessFunction, AutoCloseable {
+
+    private final String fitnessClass;
+    private final String[] fitnessArgs;
+    private final Worker[] workers;
+    private final ScheduledExecutorService watchdog;
+    private volatile boolean closed;
+
+    private int chunkSize;
+    private Duration timeout;
+    private Duration startupTimeout;
+    private int maxAttempts;
+    private long maxEvaluationsPerWorker;
+    private double penalty;
+    private List<String> jvmOptions;
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder crashes = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder penalized = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private volatile String lastFailure;
+
+    public ProcessPoolEvaluator(Class<? extends FitnessFunction> fitnessClass, int workerCount, String... fitnessArgs) {
+        if (fitnessClass == null) {
+            throw new IllegalArgumentException("Fitness function class cannot be null");
+        }
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive");
+        }
+        this.fitnessClass = fitnessClass.getName();
+        this.fitnessArgs = fitnessArgs.clone();
+        this.workers = new Worker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker(i);
+        }
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "process-pool-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.chunkSize = 16;
+        this.timeout = Duration.ofSeconds(60);
+        this.startupTimeout = Duration.ofSeconds(30);
+        this.maxAttempts = 2;
+        this.maxEvaluationsPerWorker = 0;
+        this.penalty = 0.0;
+        this.jvmOptions = List.of();
+    }
+
+    @Override
+    public void evaluate(List<? extends Chromosome> batch, double[] scores) {
+        if (closed) {
+            throw new IllegalStateException("Process pool is closed");
+        }
+        int chunks = (batch.size() + chunkSize - 1) / chunkSize;
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        int active = Math.min(workers.length, chunks);
+
+        //Virtual threads only wait on pipes, so one per worker is enough
+        Thread[] drivers = new Thread[active];
+        for (int w = 0; w < active; w++) {
+            Worker worker = workers[w];
+            drivers[w] = Thread.ofVirtual().name("process-pool-driver-" + w).start(() -> {
+                try {
+                    int chunk;
+                    while (error.get() == null && (chunk = nextChunk.getAndIncrement()) < chunks) {
+                        int from = chunk * chunkSize;
+                        int to = Math.min(batch.size(), from + chunkSize);
+                        evaluateChunk(worker, batch, from, to, scores);
+                    }
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                }
+            });
+        }
+
+        for (Thread driver : drivers) {
+            try {
+                driver.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for workers", e);
+            }
+        }
+        if (error.get() != null) {
+            throw new IllegalStateException("Process pool evaluation failed", error.get());
+        }
+        evaluations.add(batch.size());
+    }
+
+    private void evaluateChunk(Worker worker, List<? extends Chromosome> batch, int from, int to, double[] scores) {
+        if (worker.tryEvaluate(batch, from, to, scores)) {
+            return;
+        }
+        //Retry genome by genome so one genome that kills the worker does not sink the others
+        for (int i = from; i < to; i++) {
+            boolean done = false;
+            for (int attempt = 1; attempt < maxAttempts && !done; attempt++) {
+                done = worker.tryEvaluate(batch, i, i + 1, scores);
+            }
+            if (!done) {
+                penalized.increment();
+                scores[i] = penalty;
+            }
+        }
+    }
+
+    private List<String> command() {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(FitnessWorker.class.getName());
+        command.add(fitnessClass);
+        command.addAll(Arrays.asList(fitnessArgs));
+        return command;
+    }
+
+    /**
+     * One child process; only its driver thread touches it during a batch.
+     */
+    private final class Worker {
+        private final int id;
+        private Process process;
+        private DataOutputStream out;
+        private DataInputStream in;
+        private long served;
+
+        Worker(int id) {
+            this.id = id;
+        }
+
+        //False if the worker died or timed out; the genomes are then left unscored
+        boolean tryEvaluate(List<? extends Chromosome> batch, int from, int to, double[] scores) {
+            AtomicBoolean timedOut = new AtomicBoolean();
+            ScheduledFuture<?> alarm = null;
+            try {
+                ensureStarted();
+                //Armed before writing, since a hung worker with a full pipe blocks the write too
+                alarm = arm(timeout, timedOut);
+                out.writeInt(to - from);
+                for (int i = from; i < to; i++) {
+                    WorkerProtocol.writeChromosome(out, batch.get(i));
+                }
+                out.flush();
+
+                for (int i = from; i < to; i++) {
+                    byte status = in.readByte();
+                    if (status == WorkerProtocol.OK) {
+                        scores[i] = in.readDouble();
+                    } else if (status == WorkerProtocol.ERROR) {
+                        lastFailure = "Fitness worker " + id + " failed on a genome: " + in.readUTF();
+                        failures.increment();
+                        penalized.increment();
+                        scores[i] = penalty;
+                    } else {
+                        throw new IOException("Unexpected status " + status);
+                    }
+                }
+                alarm.cancel(false);
+
+                served += to - from;
+                if (maxEvaluationsPerWorker > 0 && served >= maxEvaluationsPerWorker) {
+                    stop();
+                }
+                return true;
+            } catch (IOException e) {
+                if (alarm != null) {
+                    alarm.cancel(false);
+                }
+                if (timedOut.get()) {
+                    timeouts.increment();
+                } else {
+                    crashes.increment();
+                }
+                kill();
+                if (closed) {
+                    throw new IllegalStateException("Process pool was closed during evaluation", e);
+                }
+                return false;
+            }
+        }
+
+        private void ensureStarted() throws IOException {
+            if (process != null && process.isAlive()) {
+                return;
+            }
+            kill();
+            ProcessBuilder builder = new ProcessBuilder(command());
+            builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+            process = builder.start();
+            started.increment();
+            served = 0;
+            out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+            in = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+
+            AtomicBoolean timedOut = new AtomicBoolean();
+            ScheduledFuture<?> alarm = arm(startupTimeout, timedOut);
+            try {
+                if (in.readInt() != WorkerProtocol.READY) {
+                    throw new IOException("Worker " + id + " did not start the protocol");
+                }
+            } catch (IOException e) {
+                kill();
+                //A worker that cannot start will not start on retry either
+                throw new IllegalStateException("Fitness worker " + id + " failed to start"
+                        + (timedOut.get() ? " within " + startupTimeout : ""), e);
+            } finally {
+                alarm.cancel(false);
+            }
+        }
+
+        //Killing the process unblocks the driver's read with an end-of-stream
+        private ScheduledFuture<?> arm(Duration limit, AtomicBoolean timedOut) {
+            Process target = process;
+            return watchdog.schedule(() -> {
+                timedOut.set(true);
+                target.destroyForcibly();
+            }, limit.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        void stop() {
+            if (process == null) {
+                return;
+            }
+            try {
+                out.writeInt(WorkerProtocol.SHUTDOWN);
+                out.flush();
+                if (!process.waitFor(1, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (IOException e) {
+                process.destroyForcibly();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+            process = null;
+        }
+
+        void kill() {
+            if (process != null) {
+                process.destroyForcibly();
+                process = null;
+            }
+        }
+    }
+
+    public int getWorkerCount() {
+        return workers.length;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    //Limit for one chunk; a worker that exceeds it is killed and restarted
+    public void setTimeout(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.timeout = timeout;
+    }
+
+    public Duration getStartupTimeout() {
+        return startupTimeout;
+    }
+
+    public void setStartupTimeout(Duration startupTimeout) {
+        if (startupTimeout == null || startupTimeout.isNegative() || startupTimeout.isZero()) {
+            throw new IllegalArgumentException("Startup timeout must be positive");
+        }
+        this.startupTimeout = startupTimeout;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be positive");
+        }
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getMaxEvaluationsPerWorker() {
+        return maxEvaluationsPerWorker;
+    }
+
+    //0 keeps workers for the lifetime of the pool
+    public void setMaxEvaluationsPerWorker(long maxEvaluationsPerWorker) {
+        if (maxEvaluationsPerWorker < 0) {
+            throw new IllegalArgumentException("Max evaluations per worker cannot be negative");
+        }
+        this.maxEvaluationsPerWorker = maxEvaluationsPerWorker;
+    }
+
+    public double getPenalty() {
+        return penalty;
+    }
+
+    public void setPenalty(double penalty) {
+        this.penalty = penalty;
+    }
+
+    public List<String> getJvmOptions() {
+        return jvmOptions;
+    }
+
+    //Extra options for the child JVMs, e.g. -Xmx256m; applies to workers started afterwards
+    public void setJvmOptions(List<String> jvmOptions) {
+        this.jvmOptions = jvmOptions == null ? List.of() : List.copyOf(jvmOptions);
+    }
+
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    public long getCrashes() {
+        return crashes.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getPenalized() {
+        return penalized.sum();
+    }
+
+    public long getWorkersStarted() {
+        return started.sum();
+    }
+
+    //Message of the most recent genome whose fitness function threw, or null if none has
+    public String getLastFailure() {
+        return lastFailure;
+    }
+
+    //Asks every worker to exit; call between batches, not during one
+    @Override
+    public void close() {
+        closed = true;
+        for (Worker worker : workers) {
+            worker.stop();
+        }
+        watchdog.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ProcessPoolEvaluator{workers=%d, evaluations=%d, started=%d, crashes=%d, timeouts=%d, failures=%d, penalized=%d}",
+                workers.length, getEvaluations(), getWorkersStarted(), getCrashes(), getTimeouts(), getFailures(), getPenalized());
+    }
+}
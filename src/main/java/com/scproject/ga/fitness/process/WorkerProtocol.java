@@ -0,0 +1,100 @@
+package com.scproject.ga.fitness.process;
+
+import com.scproject.ga.chromosome.BinaryChromosome;
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.chromosome.IntegerChromosome;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary framing between {@link ProcessPoolEvaluator} and {@link FitnessWorker}, over the
+ * worker's stdin and stdout.
+ *
+ * <p>Once its fitness function is constructed, the worker writes {@link #READY}. A request is an
+ * int32 count followed by that many genomes; a negative count asks the worker to exit. Each
+ * genome is a type byte, an int32 length and its bounds and genes. The worker answers a request
+ * with one record per genome: {@link #OK} and the score as a double, or {@link #ERROR} and the
+ * exception as a UTF string.
+ */
+final class WorkerProtocol {
+
+    static final int READY = 0x46495457; //"WTIF" read little-endian
+    static final int SHUTDOWN = -1;
+    static final byte OK = 0;
+    static final byte ERROR = 1;
+
+    private static final byte FP = 0;
+    private static final byte INTEGER = 1;
+    private static final byte BINARY = 2;
+
+    private WorkerProtocol() {
+    }
+
+    static void writeChromosome(DataOutput out, Chromosome chromosome) throws IOException {
+        if (chromosome instanceof FPChromosome) {
+            FPChromosome fp = (FPChromosome) chromosome;
+            double[] values = fp.getValues();
+            out.writeByte(FP);
+            out.writeInt(values.length);
+            out.writeDouble(fp.getLowerBound());
+            out.writeDouble(fp.getUpperBound());
+            for (double value : values) {
+                out.writeDouble(value);
+            }
+        } else if (chromosome instanceof IntegerChromosome) {
+            IntegerChromosome integer = (IntegerChromosome) chromosome;
+            Object[] genes = integer.getGenes();
+            out.writeByte(INTEGER);
+            out.writeInt(genes.length);
+            out.writeInt(integer.getLowerBound());
+            out.writeInt(integer.getUpperBound());
+            for (Object gene : genes) {
+                out.writeInt(((Number) gene).intValue());
+            }
+        } else if (chromosome instanceof BinaryChromosome) {
+            Object[] genes = chromosome.getGenes();
+            out.writeByte(BINARY);
+            out.writeInt(genes.length);
+            for (Object gene : genes) {
+                out.writeBoolean((Boolean) gene);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported chromosome type: " + chromosome.getClass().getSimpleName());
+        }
+    }
+
+    static Chromosome readChromosome(DataInput in) throws IOException {
+        byte type = in.readByte();
+        int length = in.readInt();
+        switch (type) {
+            case FP: {
+                double lower = in.readDouble();
+                double upper = in.readDouble();
+                double[] values = new double[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = in.readDouble();
+                }
+                return new FPChromosome(values, lower, upper);
+            }
+            case INTEGER: {
+                IntegerChromosome chromosome = new IntegerChromosome(length, in.readInt(), in.readInt());
+                for (int i = 0; i < length; i++) {
+                    chromosome.setGene(i, in.readInt());
+                }
+                return chromosome;
+            }
+            case BINARY: {
+                BinaryChromosome chromosome = new BinaryChromosome(length);
+                for (int i = 0; i < length; i++) {
+                    chromosome.setGene(i, in.readBoolean());
+                }
+                return chromosome;
+            }
+            default:
+                throw new IOException("Unknown chromosome type " + type);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.scproject.ga.fitness.remote;
+
+import com.scproject.ga.chromosome.BinaryChromosome;
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.chromosome.IntegerChromosome;
+
+/**
+ * Plain-text wire format for genomes: genes separated by commas, booleans written as 1/0.
+ */
+public final class GenomeCodec {
+
+    private GenomeCodec() {
+    }
+
+    public static String encode(Chromosome chromosome) {
+        StringBuilder sb = new StringBuilder(chromosome.getLength() * 4);
+        for (int i = 0; i < chromosome.getLength(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            Object gene = chromosome.getGene(i);
+            if (gene instanceof Boolean) {
+                sb.append((Boolean) gene ? '1' : '0');
+            } else {
+                sb.append(gene);
+            }
+        }
+        return sb.toString();
+    }
+
+    //Builds a chromosome of the prototype's type holding the encoded genes
+    public static Chromosome decode(String encoded, Chromosome prototype) {
+        String trimmed = encoded.trim();
+        String[] tokens = trimmed.isEmpty() ? new String[0] : trimmed.split(",");
+        Chromosome chromosome = prototype.createNew(tokens.length);
+
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i].trim();
+            if (prototype instanceof BinaryChromosome) {
+                chromosome.setGene(i, token.equals("1") || token.equalsIgnoreCase("true"));
+            } else if (prototype instanceof IntegerChromosome) {
+                chromosome.setGene(i, Integer.parseInt(token));
+            } else if (prototype instanceof FPChromosome) {
+                chromosome.setGene(i, Double.parseDouble(token));
+            } else {
+                throw new IllegalArgumentException("Unsupported chromosome type: " + prototype.getClass().getSimpleName());
+            }
+        }
+        return chromosome;
+    }
+}
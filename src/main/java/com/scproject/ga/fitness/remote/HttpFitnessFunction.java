@@ -0,0 +1,70 @@
+package com.scproject.ga.fitness.remote;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.fitness.AsyncFitnessFunction;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Scores chromosomes by POSTing their {@link GenomeCodec} encoding to a simulation service,
+ * which answers with the fitness as plain text. Requests are non-blocking and the client's
+ * callbacks run on virtual threads.
+ */
+public class HttpFitnessFunction implements AsyncFitnessFunction, AutoCloseable {
+
+    private final URI endpoint;
+    private final ExecutorService executor;
+    private final HttpClient client;
+
+    public HttpFitnessFunction(URI endpoint) {
+        if (endpoint == null) {
+            throw new IllegalArgumentException("Endpoint cannot be null");
+        }
+        this.endpoint = endpoint;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.client = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<Double> evaluateAsync(Chromosome chromosome) {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString(GenomeCodec.encode(chromosome)))
+                .build();
+
+        CompletableFuture<HttpResponse<String>> exchange = client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<Double> score = exchange.thenApply(response -> {
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Evaluator returned HTTP " + response.statusCode());
+            }
+            return Double.parseDouble(response.body().trim());
+        });
+        //Cancelling the score aborts the exchange, so abandoned requests stop counting against the server
+        score.whenComplete((value, error) -> {
+            if (score.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return score;
+    }
+
+    public URI getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        executor.close();
+    }
+}
@@ -0,0 +1,126 @@
+package com.scproject.ga.fitness.remote;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.fitness.FitnessFunction;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stand-in for the simulation service. It decodes the posted genome, sleeps for a random
+ * latency to mimic a slow simulation, and answers with the score of a local FitnessFunction.
+ * A configurable fraction of requests fail with HTTP 503 to exercise retries.
+ * Each request is handled on its own virtual thread.
+ */
+public class SimulationStubServer implements AutoCloseable {
+
+    private final FitnessFunction fitnessFunction;
+    private final Chromosome prototype;
+    private final long minLatencyMillis;
+    private final long maxLatencyMillis;
+    private volatile double failureRate;
+    private final LongAdder requests = new LongAdder();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public SimulationStubServer(FitnessFunction fitnessFunction, Chromosome prototype,
+                                long minLatencyMillis, long maxLatencyMillis) {
+        if (fitnessFunction == null || prototype == null) {
+            throw new IllegalArgumentException("Fitness function and prototype cannot be null");
+        }
+        if (minLatencyMillis < 0 || maxLatencyMillis < minLatencyMillis) {
+            throw new IllegalArgumentException("Latency range is invalid");
+        }
+        this.fitnessFunction = fitnessFunction;
+        this.prototype = prototype;
+        this.minLatencyMillis = minLatencyMillis;
+        this.maxLatencyMillis = maxLatencyMillis;
+    }
+
+    //Port 0 binds an ephemeral port, see getUri()
+    public synchronized void start(int port) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Server is already running");
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/evaluate", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "POST only");
+                return;
+            }
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Thread.sleep(minLatencyMillis + random.nextLong(maxLatencyMillis - minLatencyMillis + 1));
+            if (random.nextDouble() < failureRate) {
+                respond(exchange, 503, "Simulated failure");
+                return;
+            }
+
+            double fitness = fitnessFunction.evaluate(GenomeCodec.decode(body, prototype));
+            respond(exchange, 200, Double.toString(fitness));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            respond(exchange, 400, String.valueOf(e.getMessage()));
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    public synchronized URI getUri() {
+        if (server == null) {
+            throw new IllegalStateException("Server is not running");
+        }
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/evaluate");
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    public void setFailureRate(double failureRate) {
+        if (failureRate < 0.0 || failureRate > 1.0) {
+            throw new IllegalArgumentException("Failure rate must be between 0 and 1");
+        }
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.close();
+            server = null;
+            executor = null;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.scproject.ga.graph;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Directed tower graph in compressed sparse row form. Towers are dense ids {@code 0..n-1};
+ * the neighbours of tower {@code v} are {@code targets[offsets[v] .. offsets[v+1])}, sorted so
+ * edge lookups are a binary search. The buffers may wrap heap arrays or views over a memory-mapped
+ * file, so a large graph can be used without being copied onto the heap.
+ */
+public class TowerGraph {
+
+    public static final float DEFAULT_DISTANCE = 1.0f;
+
+    private final int nodeCount;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final FloatBuffer distances;
+    private final FloatBuffer throughput;
+
+    public TowerGraph(int nodeCount, IntBuffer offsets, IntBuffer targets,
+                      FloatBuffer distances, FloatBuffer throughput) {
+        if (nodeCount < 0) {
+            throw new IllegalArgumentException("Node count cannot be negative");
+        }
+        if (offsets.limit() != nodeCount + 1) {
+            throw new IllegalArgumentException("Offsets must have nodeCount + 1 entries");
+        }
+        if (targets.limit() != distances.limit()) {
+            throw new IllegalArgumentException("Every edge needs exactly one distance");
+        }
+        if (offsets.get(nodeCount) != targets.limit()) {
+            throw new IllegalArgumentException("Last offset must equal the edge count");
+        }
+        if (throughput.limit() != nodeCount) {
+            throw new IllegalArgumentException("Every tower needs exactly one throughput value");
+        }
+        this.nodeCount = nodeCount;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.distances = distances;
+        this.throughput = throughput;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return targets.limit();
+    }
+
+    public boolean isValidNode(int node) {
+        return node >= 0 && node < nodeCount;
+    }
+
+    public int getDegree(int node) {
+        return offsets.get(node + 1) - offsets.get(node);
+    }
+
+    public int getNeighbor(int node, int k) {
+        return targets.get(offsets.get(node) + k);
+    }
+
+    public float getNeighborDistance(int node, int k) {
+        return distances.get(offsets.get(node) + k);
+    }
+
+    //Index of the edge from -> to in the edge arrays, or -1 if the towers are not connected
+    public int edgeIndex(int from, int to) {
+        if (!isValidNode(from)) {
+            return -1;
+        }
+        int low = offsets.get(from);
+        int high = offsets.get(from + 1) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int target = targets.get(mid);
+            if (target < to) {
+                low = mid + 1;
+            } else if (target > to) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public boolean hasEdge(int from, int to) {
+        return edgeIndex(from, to) >= 0;
+    }
+
+    public double getDistance(int from, int to, double defaultValue) {
+        int edge = edgeIndex(from, to);
+        return edge < 0 ? defaultValue : distances.get(edge);
+    }
+
+    public double getThroughput(int node) {
+        return isValidNode(node) ? throughput.get(node) : 0.0;
+    }
+
+    IntBuffer offsets() {
+        return offsets.duplicate();
+    }
+
+    IntBuffer targets() {
+        return targets.duplicate();
+    }
+
+    FloatBuffer distances() {
+        return distances.duplicate();
+    }
+
+    FloatBuffer throughput() {
+        return throughput.duplicate();
+    }
+
+    @Override
+    public String toString() {
+        return "TowerGraph{towers=" + nodeCount + ", edges=" + getEdgeCount() + "}";
+    }
+}
@@ -0,0 +1,175 @@
+package com.scproject.ga.graph;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Accumulates edges in growable primitive arrays and turns them into a {@link TowerGraph}
+ * with a counting sort, so no per-edge objects are created.
+ */
+public class TowerGraphBuilder {
+
+    private int[] from;
+    private int[] to;
+    private float[] distance;
+    private int edgeCount;
+    private float[] throughput;
+    private int nodeCount;
+
+    public TowerGraphBuilder() {
+        this(1024);
+    }
+
+    public TowerGraphBuilder(int expectedEdges) {
+        int capacity = Math.max(16, expectedEdges);
+        from = new int[capacity];
+        to = new int[capacity];
+        distance = new float[capacity];
+        throughput = new float[16];
+    }
+
+    public TowerGraphBuilder addEdge(int source, int target, double edgeDistance) {
+        if (source < 0 || target < 0) {
+            throw new IllegalArgumentException("Tower ids must be non-negative: " + source + " -> " + target);
+        }
+        if (from == null) {
+            throw new IllegalStateException("Graph has already been built");
+        }
+        if (edgeCount == from.length) {
+            int capacity = from.length + (from.length >> 1);
+            from = Arrays.copyOf(from, capacity);
+            to = Arrays.copyOf(to, capacity);
+            distance = Arrays.copyOf(distance, capacity);
+        }
+        from[edgeCount] = source;
+        to[edgeCount] = target;
+        distance[edgeCount] = (float) edgeDistance;
+        edgeCount++;
+        nodeCount = Math.max(nodeCount, Math.max(source, target) + 1);
+        return this;
+    }
+
+    public TowerGraphBuilder addUndirectedEdge(int a, int b, double edgeDistance) {
+        addEdge(a, b, edgeDistance);
+        return addEdge(b, a, edgeDistance);
+    }
+
+    public TowerGraphBuilder setThroughput(int node, double value) {
+        if (node < 0) {
+            throw new IllegalArgumentException("Tower ids must be non-negative: " + node);
+        }
+        if (node >= throughput.length) {
+            throughput = Arrays.copyOf(throughput, Math.max(node + 1, throughput.length * 2));
+        }
+        throughput[node] = (float) value;
+        nodeCount = Math.max(nodeCount, node + 1);
+        return this;
+    }
+
+    public TowerGraphBuilder ensureNodeCount(int count) {
+        nodeCount = Math.max(nodeCount, count);
+        return this;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public TowerGraph build() {
+        int n = nodeCount;
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[from[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] targets = new int[edgeCount];
+        float[] distances = new float[edgeCount];
+        int[] cursor = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < edgeCount; e++) {
+            int slot = cursor[from[e]]++;
+            targets[slot] = to[e];
+            distances[slot] = distance[e];
+        }
+
+        //Edge arrays are no longer needed and can be reclaimed before sorting
+        from = null;
+        to = null;
+        distance = null;
+
+        for (int v = 0; v < n; v++) {
+            sortSegment(targets, distances, offsets[v], offsets[v + 1] - 1);
+        }
+
+        float[] nodeThroughput = Arrays.copyOf(throughput, n);
+        return new TowerGraph(n, IntBuffer.wrap(offsets), IntBuffer.wrap(targets),
+                FloatBuffer.wrap(distances), FloatBuffer.wrap(nodeThroughput));
+    }
+
+    private static void sortSegment(int[] keys, float[] values, int low, int high) {
+        while (high - low > 16) {
+            int pivot = keys[(low + high) >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (keys[i] < pivot) i++;
+                while (keys[j] > pivot) j--;
+                if (i <= j) {
+                    swap(keys, values, i++, j--);
+                }
+            }
+            //Recurse into the smaller half to bound stack depth
+            if (j - low < high - i) {
+                sortSegment(keys, values, low, j);
+                low = i;
+            } else {
+                sortSegment(keys, values, i, high);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            int key = keys[i];
+            float value = values[i];
+            int j = i - 1;
+            while (j >= low && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    private static void swap(int[] keys, float[] values, int i, int j) {
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        float value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    public static TowerGraph fromMaps(Map<Integer, Set<Integer>> towerConnections,
+                                      Map<Integer, Double> towerThroughput,
+                                      Map<Integer, Map<Integer, Double>> towerDistance) {
+        TowerGraphBuilder builder = new TowerGraphBuilder();
+        for (Map.Entry<Integer, Set<Integer>> entry : towerConnections.entrySet()) {
+            int source = entry.getKey();
+            builder.ensureNodeCount(source + 1);
+            Map<Integer, Double> distances = towerDistance.getOrDefault(source, Map.of());
+            for (int target : entry.getValue()) {
+                builder.addEdge(source, target, distances.getOrDefault(target, (double) TowerGraph.DEFAULT_DISTANCE));
+            }
+        }
+        for (Map.Entry<Integer, Double> entry : towerThroughput.entrySet()) {
+            builder.setThroughput(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+}
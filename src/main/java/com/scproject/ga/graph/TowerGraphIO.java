@@ -0,0 +1,332 @@
+package com.scproject.ga.graph;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Loading and saving of tower graphs.
+ *
+ * <p>CSV edges are {@code from,to[,distance]} and CSV nodes are {@code id,throughput}; blank lines,
+ * {@code #} comments and a leading header row are skipped. Missing distances default to 1.0 and
+ * missing throughput to 0.0, the same defaults RoutingFitnessFunction applies to its maps.
+ *
+ * <p>The binary format is little-endian: magic, version, node count and edge count as int32,
+ * then offsets (n + 1 int32), targets (m int32), distances (m float32) and throughput (n float32).
+ * {@link #mapBinary(Path)} maps the file and exposes these sections as buffer views without copying.
+ */
+public final class TowerGraphIO {
+
+    private static final int MAGIC = 0x47525754; //"TWRG" read little-endian
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    private TowerGraphIO() {
+    }
+
+    public static TowerGraph readCsv(Path edgesFile, Path nodesFile, boolean undirected) throws IOException {
+        TowerGraphBuilder builder = new TowerGraphBuilder(estimateEdges(edgesFile, undirected));
+
+        try (CsvNumberReader reader = new CsvNumberReader(Files.newInputStream(edgesFile), edgesFile)) {
+            while (reader.nextRecord()) {
+                int source = reader.readInt();
+                int target = reader.readInt();
+                double distance = reader.hasField() ? reader.readDouble() : TowerGraph.DEFAULT_DISTANCE;
+                if (undirected) {
+                    builder.addUndirectedEdge(source, target, distance);
+                } else {
+                    builder.addEdge(source, target, distance);
+                }
+            }
+        }
+
+        if (nodesFile != null) {
+            try (CsvNumberReader reader = new CsvNumberReader(Files.newInputStream(nodesFile), nodesFile)) {
+                while (reader.nextRecord()) {
+                    int node = reader.readInt();
+                    builder.setThroughput(node, reader.readDouble());
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    //Roughly 12 bytes per edge line is enough to avoid most array growth while parsing
+    private static int estimateEdges(Path edgesFile, boolean undirected) throws IOException {
+        long estimate = Files.size(edgesFile) / 12 * (undirected ? 2 : 1);
+        return (int) Math.min(Integer.MAX_VALUE - 8, Math.max(16, estimate));
+    }
+
+    public static void writeBinary(TowerGraph graph, Path file) throws IOException {
+        int n = graph.getNodeCount();
+        int m = graph.getEdgeCount();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(m);
+
+            IntBuffer offsets = graph.offsets();
+            for (int i = 0; i <= n; i++) {
+                buffer = ensureRoom(channel, buffer);
+                buffer.putInt(offsets.get(i));
+            }
+            IntBuffer targets = graph.targets();
+            for (int i = 0; i < m; i++) {
+                buffer = ensureRoom(channel, buffer);
+                buffer.putInt(targets.get(i));
+            }
+            FloatBuffer distances = graph.distances();
+            for (int i = 0; i < m; i++) {
+                buffer = ensureRoom(channel, buffer);
+                buffer.putFloat(distances.get(i));
+            }
+            FloatBuffer throughput = graph.throughput();
+            for (int i = 0; i < n; i++) {
+                buffer = ensureRoom(channel, buffer);
+                buffer.putFloat(throughput.get(i));
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static ByteBuffer ensureRoom(FileChannel channel, ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+        return buffer;
+    }
+
+    public static TowerGraph mapBinary(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("File too small to be a tower graph: " + file);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Tower graph files larger than 2 GB are not supported: " + file);
+            }
+
+            //The mapping stays valid after the channel is closed
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (mapped.getInt(0) != MAGIC) {
+                throw new IOException("Not a tower graph file: " + file);
+            }
+            if (mapped.getInt(4) != VERSION) {
+                throw new IOException("Unsupported tower graph version " + mapped.getInt(4) + ": " + file);
+            }
+            int n = mapped.getInt(8);
+            int m = mapped.getInt(12);
+
+            long expected = HEADER_BYTES + 4L * (n + 1) + 4L * m + 4L * m + 4L * n;
+            if (n < 0 || m < 0 || expected != size) {
+                throw new IOException("Corrupt tower graph file (expected " + expected + " bytes, found " + size + "): " + file);
+            }
+
+            int position = HEADER_BYTES;
+            IntBuffer offsets = section(mapped, position, n + 1).asIntBuffer();
+            position += 4 * (n + 1);
+            IntBuffer targets = section(mapped, position, m).asIntBuffer();
+            position += 4 * m;
+            FloatBuffer distances = section(mapped, position, m).asFloatBuffer();
+            position += 4 * m;
+            FloatBuffer throughput = section(mapped, position, n).asFloatBuffer();
+
+            return new TowerGraph(n, offsets, targets, distances, throughput);
+        }
+    }
+
+    private static ByteBuffer section(MappedByteBuffer mapped, int position, int elements) {
+        return mapped.slice(position, 4 * elements).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Minimal allocation-free reader for numeric CSV records.
+     */
+    static final class CsvNumberReader implements Closeable {
+        private static final int EOF = -1;
+
+        private final InputStream in;
+        private final Path source;
+        private final byte[] buffer = new byte[1 << 16];
+        private int position;
+        private int limit;
+        private long line;
+        private boolean firstRecord = true;
+        private boolean inRecord;
+
+        CsvNumberReader(InputStream in, Path source) {
+            this.in = in;
+            this.source = source;
+        }
+
+        //Moves to the start of the next data record, skipping blank lines, comments and a header
+        boolean nextRecord() throws IOException {
+            if (inRecord) {
+                //Ignore any extra columns left on the previous record
+                skipLine();
+                inRecord = false;
+            }
+            while (true) {
+                int c = peek();
+                if (c == EOF) {
+                    return false;
+                }
+                if (c == '\n' || c == '\r' || c == ' ' || c == '\t' || c == ',') {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    position++;
+                    continue;
+                }
+                if (c == '#' || (firstRecord && !isNumberStart(c))) {
+                    skipLine();
+                    firstRecord = false;
+                    continue;
+                }
+                firstRecord = false;
+                inRecord = true;
+                return true;
+            }
+        }
+
+        boolean hasField() throws IOException {
+            skipSeparators();
+            int c = peek();
+            return c != EOF && c != '\n' && c != '\r';
+        }
+
+        int readInt() throws IOException {
+            long value = readLong();
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw error("Integer out of range");
+            }
+            return (int) value;
+        }
+
+        long readLong() throws IOException {
+            skipSeparators();
+            boolean negative = false;
+            int c = peek();
+            if (c == '-' || c == '+') {
+                negative = c == '-';
+                position++;
+            }
+            long value = 0;
+            int digits = 0;
+            while ((c = peek()) >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                position++;
+                digits++;
+            }
+            if (digits == 0) {
+                throw error("Expected an integer");
+            }
+            return negative ? -value : value;
+        }
+
+        double readDouble() throws IOException {
+            skipSeparators();
+            boolean negative = false;
+            int c = peek();
+            if (c == '-' || c == '+') {
+                negative = c == '-';
+                position++;
+            }
+
+            long mantissa = 0;
+            int exponent = 0;
+            int digits = 0;
+            while ((c = peek()) >= '0' && c <= '9') {
+                if (mantissa < 100_000_000_000_000_000L) {
+                    mantissa = mantissa * 10 + (c - '0');
+                } else {
+                    exponent++;
+                }
+                position++;
+                digits++;
+            }
+            if (c == '.') {
+                position++;
+                while ((c = peek()) >= '0' && c <= '9') {
+                    if (mantissa < 100_000_000_000_000_000L) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        exponent--;
+                    }
+                    position++;
+                    digits++;
+                }
+            }
+            if (digits == 0) {
+                throw error("Expected a number");
+            }
+            if (c == 'e' || c == 'E') {
+                position++;
+                exponent += (int) readLong();
+            }
+
+            double value = exponent == 0 ? mantissa
+                    : (exponent > 0 ? mantissa * Math.pow(10, exponent) : mantissa / Math.pow(10, -exponent));
+            return negative ? -value : value;
+        }
+
+        private void skipSeparators() throws IOException {
+            int c;
+            while ((c = peek()) == ',' || c == ' ' || c == '\t' || c == ';') {
+                position++;
+            }
+        }
+
+        private void skipLine() throws IOException {
+            int c;
+            while ((c = peek()) != EOF && c != '\n') {
+                position++;
+            }
+        }
+
+        private int peek() throws IOException {
+            if (position == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return EOF;
+                }
+            }
+            return buffer[position];
+        }
+
+        private static boolean isNumberStart(int c) {
+            return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+        }
+
+        private IOException error(String message) {
+            return new IOException(message + " at line " + (line + 1) + " of " + source);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.scproject.ga.monitor;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Per-generation best, mean and worst fitness kept in primitive columns with bounded memory.
+ *
+ * <p>Generations are grouped into buckets of {@code stride} generations. A bucket keeps the values
+ * of its last generation, so the series holds every {@code stride}-th point, together with the
+ * lowest worst and highest best fitness seen anywhere in the bucket. The open bucket is always
+ * visible, so the latest generation is never missing. Once {@code capacity} buckets are full,
+ * neighbouring buckets are merged pairwise and the stride doubles, which keeps a run of any
+ * length in at most {@code capacity} points.
+ *
+ * <p>The column views share the backing arrays and are valid until the next record; like the
+ * rest of the GA state, a series is written by one thread.
+ *
+ * <p>The binary format is little-endian: magic, version, point count and stride as int32, then the
+ * generation column (int32) and the best, mean, worst, low and high columns (float64).
+ */
+public class FitnessSeries {
+
+    private static final int MAGIC = 0x53544946; //"FITS" read little-endian
+    private static final int VERSION = 1;
+
+    private final int capacity;
+    private final int initialStride;
+    private int stride;
+
+    private int[] generations;
+    private double[] best;
+    private double[] mean;
+    private double[] worst;
+    private double[] low;
+    private double[] high;
+    //Completed buckets; the open bucket, if any, is at index size
+    private int size;
+    private int openCount;
+    private long recorded;
+
+    public FitnessSeries() {
+        this(1 << 16, 1);
+    }
+
+    public FitnessSeries(int capacity, int stride) {
+        if (capacity < 2 || capacity % 2 != 0) {
+            throw new IllegalArgumentException("Capacity must be a positive even number");
+        }
+        if (stride <= 0) {
+            throw new IllegalArgumentException("Stride must be positive");
+        }
+        this.capacity = capacity;
+        this.initialStride = stride;
+        this.stride = stride;
+        //Start small and grow, so short runs do not pay for the full capacity
+        int initial = Math.min(capacity, 256);
+        generations = new int[initial];
+        best = new double[initial];
+        mean = new double[initial];
+        worst = new double[initial];
+        low = new double[initial];
+        high = new double[initial];
+    }
+
+    private FitnessSeries(int capacity, int stride, int[] generations, double[] best, double[] mean,
+                          double[] worst, double[] low, double[] high, int size) {
+        this.capacity = capacity;
+        this.initialStride = stride;
+        this.stride = stride;
+        this.generations = generations;
+        this.best = best;
+        this.mean = mean;
+        this.worst = worst;
+        this.low = low;
+        this.high = high;
+        this.size = size;
+        this.recorded = size;
+    }
+
+    public void record(int generation, double bestFitness, double meanFitness, double worstFitness) {
+        if (size == generations.length) {
+            if (size == capacity) {
+                compact();
+            } else {
+                grow();
+            }
+        }
+
+        int i = size;
+        generations[i] = generation;
+        best[i] = bestFitness;
+        mean[i] = meanFitness;
+        worst[i] = worstFitness;
+        if (openCount == 0) {
+            low[i] = worstFitness;
+            high[i] = bestFitness;
+        } else {
+            low[i] = Math.min(low[i], worstFitness);
+            high[i] = Math.max(high[i], bestFitness);
+        }
+        recorded++;
+        if (++openCount == stride) {
+            size++;
+            openCount = 0;
+        }
+    }
+
+    //Merges neighbouring buckets, halving the number of points and doubling the stride
+    private void compact() {
+        for (int i = 0; i < size / 2; i++) {
+            int a = 2 * i;
+            int b = a + 1;
+            generations[i] = generations[b];
+            best[i] = best[b];
+            mean[i] = mean[b];
+            worst[i] = worst[b];
+            low[i] = Math.min(low[a], low[b]);
+            high[i] = Math.max(high[a], high[b]);
+        }
+        size /= 2;
+        stride *= 2;
+    }
+
+    private void grow() {
+        int length = (int) Math.min(capacity, Math.max(16L, 2L * generations.length));
+        generations = Arrays.copyOf(generations, length);
+        best = Arrays.copyOf(best, length);
+        mean = Arrays.copyOf(mean, length);
+        worst = Arrays.copyOf(worst, length);
+        low = Arrays.copyOf(low, length);
+        high = Arrays.copyOf(high, length);
+    }
+
+    public void clear() {
+        size = 0;
+        openCount = 0;
+        recorded = 0;
+        stride = initialStride;
+    }
+
+    //Number of points, including the open bucket
+    public int size() {
+        return size + (openCount > 0 ? 1 : 0);
+    }
+
+    public long getRecordedCount() {
+        return recorded;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public IntBuffer generations() {
+        return IntBuffer.wrap(generations, 0, size()).slice().asReadOnlyBuffer();
+    }
+
+    public DoubleBuffer best() {
+        return view(best);
+    }
+
+    public DoubleBuffer mean() {
+        return view(mean);
+    }
+
+    public DoubleBuffer worst() {
+        return view(worst);
+    }
+
+    //Lowest worst fitness within each bucket
+    public DoubleBuffer low() {
+        return view(low);
+    }
+
+    //Highest best fitness within each bucket
+    public DoubleBuffer high() {
+        return view(high);
+    }
+
+    private DoubleBuffer view(double[] column) {
+        return DoubleBuffer.wrap(column, 0, size()).slice().asReadOnlyBuffer();
+    }
+
+    public double getLastBest() {
+        return size() == 0 ? Double.NaN : best[size() - 1];
+    }
+
+    public double[] toBestArray() {
+        return Arrays.copyOf(best, size());
+    }
+
+    public List<Double> toBestList() {
+        int n = size();
+        List<Double> values = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            values.add(best[i]);
+        }
+        return values;
+    }
+
+    public void writeCsv(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("generation,best,mean,worst,low,high");
+            writer.newLine();
+            int n = size();
+            for (int i = 0; i < n; i++) {
+                writer.write(String.format(Locale.ROOT, "%d,%s,%s,%s,%s,%s", generations[i],
+                        best[i], mean[i], worst[i], low[i], high[i]));
+                writer.newLine();
+            }
+        }
+    }
+
+    public void writeBinary(Path file) throws IOException {
+        int n = size();
+        ByteBuffer buffer = ByteBuffer.allocate(16 + n * (Integer.BYTES + 5 * Double.BYTES))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(stride);
+        buffer.asIntBuffer().put(generations, 0, n);
+        buffer.position(buffer.position() + n * Integer.BYTES);
+        for (double[] column : new double[][]{best, mean, worst, low, high}) {
+            buffer.asDoubleBuffer().put(column, 0, n);
+            buffer.position(buffer.position() + n * Double.BYTES);
+        }
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    public static FitnessSeries readBinary(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < 16 || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a fitness series file: " + file);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported fitness series version " + version + ": " + file);
+        }
+        int n = buffer.getInt();
+        int stride = buffer.getInt();
+        if (n < 0 || stride <= 0 || buffer.remaining() != (long) n * (Integer.BYTES + 5 * Double.BYTES)) {
+            throw new IOException("Corrupt fitness series file: " + file);
+        }
+
+        int[] generations = new int[n];
+        buffer.asIntBuffer().get(generations);
+        buffer.position(buffer.position() + n * Integer.BYTES);
+        double[][] columns = new double[5][n];
+        for (double[] column : columns) {
+            buffer.asDoubleBuffer().get(column);
+            buffer.position(buffer.position() + n * Double.BYTES);
+        }
+        int capacity = Math.max(2, n + (n & 1));
+        return new FitnessSeries(capacity, stride, generations, columns[0], columns[1], columns[2],
+                columns[3], columns[4], n);
+    }
+}
@@ -0,0 +1,185 @@
+package com.scproject.ga.monitor;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.core.GenerationListener;
+import com.scproject.ga.core.GeneticAlgorithm;
+import com.scproject.ga.core.Population;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes {@link GenerationSnapshot}s of a running GeneticAlgorithm as a Flow.Publisher.
+ *
+ * <p>Snapshots are handed over with a non-blocking offer: every subscriber has a bounded buffer
+ * of {@code bufferCapacity} items, and a snapshot that does not fit is dropped for that subscriber
+ * and counted, so a slow subscriber never stalls the GA. Delivery runs on virtual threads.
+ * Sampling thins the stream before any work is done: only every {@code sampleEvery}-th
+ * generation is published, and no more often than {@code minInterval}. With no subscribers no
+ * snapshot is built at all. The snapshot of the final generation is always offered and, since the
+ * loop has finished by then, may wait up to {@code finalTimeout} for buffer space.
+ */
+public class GenerationPublisher implements Flow.Publisher<GenerationSnapshot>, GenerationListener, AutoCloseable {
+    private final ExecutorService executor;
+    private final SubmissionPublisher<GenerationSnapshot> publisher;
+    private final int bufferCapacity;
+    private volatile int sampleEvery = 1;
+    private volatile long minIntervalNanos;
+    private volatile boolean includeGenome;
+    private volatile boolean includeDiversity = true;
+    private volatile Duration finalTimeout = Duration.ofSeconds(1);
+    private long lastPublishedAt = Long.MIN_VALUE;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public GenerationPublisher() {
+        this(32);
+    }
+
+    public GenerationPublisher(int bufferCapacity) {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        this.bufferCapacity = bufferCapacity;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ga-monitor-", 0).factory());
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super GenerationSnapshot> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    @Override
+    public void onGeneration(GeneticAlgorithm ga, int generation) {
+        if (!publisher.hasSubscribers() || (generation + 1) % sampleEvery != 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastPublishedAt != Long.MIN_VALUE && now - lastPublishedAt < minIntervalNanos) {
+            return;
+        }
+        lastPublishedAt = now;
+        offer(snapshot(ga, generation, false));
+    }
+
+    @Override
+    public void onRunFinished(GeneticAlgorithm ga) {
+        if (publisher.hasSubscribers()) {
+            //Same 0-based index as the per-generation snapshots; isLast() marks it as the final one
+            int generation = Math.max(0, ga.getGenerationsRun() - 1);
+            publisher.offer(snapshot(ga, generation, true),
+                    finalTimeout.toNanos(), TimeUnit.NANOSECONDS, this::drop);
+            published.increment();
+        }
+        lastPublishedAt = Long.MIN_VALUE;
+    }
+
+    private void offer(GenerationSnapshot snapshot) {
+        publisher.offer(snapshot, this::drop);
+        published.increment();
+    }
+
+    private boolean drop(Flow.Subscriber<? super GenerationSnapshot> subscriber, GenerationSnapshot snapshot) {
+        dropped.increment();
+        return false;
+    }
+
+    private GenerationSnapshot snapshot(GeneticAlgorithm ga, int generation, boolean last) {
+        Population population = ga.getPopulation();
+        Chromosome best = includeGenome ? ga.getBestSolution() : null;
+        return new GenerationSnapshot(
+                generation,
+                last,
+                ga.getBestFitness(),
+                population.getMaxFitness(),
+                population.getAverageFitness(),
+                population.getStandardDeviation(),
+                population.getMinFitness(),
+                includeDiversity ? population.getDiversity() : null,
+                ga.getEvaluationCount(),
+                ga.getLastGenerationNanos(),
+                ga.getElapsedNanos(),
+                best == null ? null : best.clone());
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public int getSampleEvery() {
+        return sampleEvery;
+    }
+
+    public void setSampleEvery(int sampleEvery) {
+        if (sampleEvery <= 0) {
+            throw new IllegalArgumentException("Sample interval must be positive");
+        }
+        this.sampleEvery = sampleEvery;
+    }
+
+    public Duration getMinInterval() {
+        return Duration.ofNanos(minIntervalNanos);
+    }
+
+    public void setMinInterval(Duration minInterval) {
+        if (minInterval == null || minInterval.isNegative()) {
+            throw new IllegalArgumentException("Minimum interval cannot be negative");
+        }
+        this.minIntervalNanos = minInterval.toNanos();
+    }
+
+    public boolean isIncludeGenome() {
+        return includeGenome;
+    }
+
+    //Copies the best chromosome into every snapshot
+    public void setIncludeGenome(boolean includeGenome) {
+        this.includeGenome = includeGenome;
+    }
+
+    public boolean isIncludeDiversity() {
+        return includeDiversity;
+    }
+
+    public void setIncludeDiversity(boolean includeDiversity) {
+        this.includeDiversity = includeDiversity;
+    }
+
+    public Duration getFinalTimeout() {
+        return finalTimeout;
+    }
+
+    public void setFinalTimeout(Duration finalTimeout) {
+        if (finalTimeout == null || finalTimeout.isNegative()) {
+            throw new IllegalArgumentException("Final timeout cannot be negative");
+        }
+        this.finalTimeout = finalTimeout;
+    }
+
+    public int getSubscriberCount() {
+        return publisher.getNumberOfSubscribers();
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    //Snapshot deliveries dropped because a subscriber's buffer was full
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    //Completes all subscribers; the publisher cannot be reused afterwards
+    @Override
+    public void close() {
+        publisher.close();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,100 @@
+package com.scproject.ga.monitor;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.diversity.DiversityMetrics;
+
+/**
+ * Immutable summary of one generation, as published to monitoring subscribers.
+ */
+public class GenerationSnapshot {
+    private final int generation;
+    private final boolean last;
+    private final double bestFitness;
+    private final double populationBest;
+    private final double populationMean;
+    private final double populationStd;
+    private final double populationWorst;
+    private final DiversityMetrics diversity;
+    private final long evaluationCount;
+    private final long generationNanos;
+    private final long elapsedNanos;
+    private final Chromosome bestGenome;
+
+    public GenerationSnapshot(int generation, boolean last, double bestFitness, double populationBest,
+                              double populationMean, double populationStd, double populationWorst,
+                              DiversityMetrics diversity, long evaluationCount, long generationNanos,
+                              long elapsedNanos, Chromosome bestGenome) {
+        this.generation = generation;
+        this.last = last;
+        this.bestFitness = bestFitness;
+        this.populationBest = populationBest;
+        this.populationMean = populationMean;
+        this.populationStd = populationStd;
+        this.populationWorst = populationWorst;
+        this.diversity = diversity;
+        this.evaluationCount = evaluationCount;
+        this.generationNanos = generationNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.bestGenome = bestGenome;
+    }
+
+    //0-based; the final snapshot repeats the index of the last generation run
+    public int getGeneration() {
+        return generation;
+    }
+
+    //True for the snapshot published when the run ends
+    public boolean isLast() {
+        return last;
+    }
+
+    //Best fitness found so far in the run
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public double getPopulationBest() {
+        return populationBest;
+    }
+
+    public double getPopulationMean() {
+        return populationMean;
+    }
+
+    public double getPopulationStd() {
+        return populationStd;
+    }
+
+    public double getPopulationWorst() {
+        return populationWorst;
+    }
+
+    //null unless the publisher includes diversity
+    public DiversityMetrics getDiversity() {
+        return diversity;
+    }
+
+    public long getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    public long getGenerationNanos() {
+        return generationNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    //A private copy of the best solution; null unless the publisher includes genomes
+    public Chromosome getBestGenome() {
+        return bestGenome;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Generation %d%s | Best: %.4f | Pop best: %.4f | Avg: %.4f | Std: %.4f | Evals: %d | %.2f ms",
+                generation, last ? " (final)" : "", bestFitness, populationBest, populationMean, populationStd,
+                evaluationCount, generationNanos / 1e6);
+    }
+}
@@ -0,0 +1,265 @@
+package com.scproject.ga.multiobjective;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.constraint.ConstraintHandler;
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.core.GARandom;
+import com.scproject.ga.crossover.CrossoverStrategy;
+import com.scproject.ga.fitness.MultiObjectiveFitnessFunction;
+import com.scproject.ga.mutation.MutationStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * NSGA-II driven by the same GAConfiguration as GeneticAlgorithm: population size, generations,
+ * rates and the crossover/mutation strategies are reused, while selection and replacement are
+ * replaced by binary crowded tournaments and elitist (mu + lambda) survival on Pareto rank and
+ * crowding distance. Objective evaluation runs on a ForkJoinPool and must be thread-safe.
+ */
+public class NSGA2 {
+    private GAConfiguration config;
+    private MultiObjectiveFitnessFunction fitnessFunction;
+    private ConstraintHandler constraintHandler;
+    private int parallelism;
+    private List<ParetoIndividual> population;
+    private List<ParetoIndividual> paretoFront;
+    private long evaluationCount;
+
+    public NSGA2() {
+        this(new GAConfiguration());
+    }
+
+    public NSGA2(GAConfiguration config) {
+        this.config = config;
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.population = new ArrayList<>();
+        this.paretoFront = new ArrayList<>();
+    }
+
+    public List<ParetoIndividual> run() {
+        validateConfiguration();
+        evaluationCount = 0;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            population = initialize();
+            evaluate(population, pool);
+            rankAndCrowd(population);
+
+            for (int generation = 0; generation < config.getGenerations(); generation++) {
+                List<ParetoIndividual> offspring = breed();
+                evaluate(offspring, pool);
+
+                List<ParetoIndividual> combined = new ArrayList<>(population.size() + offspring.size());
+                combined.addAll(population);
+                combined.addAll(offspring);
+                population = survive(combined);
+
+                if (config.isVerbose() && generation % config.getPrintFrequency() == 0) {
+                    printGenerationStats(generation);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        paretoFront = new ArrayList<>();
+        for (ParetoIndividual individual : population) {
+            if (individual.getRank() == 0) {
+                paretoFront.add(individual);
+            }
+        }
+        paretoFront.sort((a, b) -> Double.compare(b.getObjective(0), a.getObjective(0)));
+
+        if (config.isVerbose()) {
+            printFinalResults();
+        }
+        return getParetoFront();
+    }
+
+    private List<ParetoIndividual> initialize() {
+        List<ParetoIndividual> initial = new ArrayList<>(config.getPopulationSize());
+        for (int i = 0; i < config.getPopulationSize(); i++) {
+            Chromosome chromosome = config.getChromosomePrototype().createNew(config.getChromosomeLength());
+            chromosome.initialize();
+            initial.add(new ParetoIndividual(repairIfNeeded(chromosome)));
+        }
+        return initial;
+    }
+
+    private void evaluate(List<ParetoIndividual> individuals, ForkJoinPool pool) {
+        try {
+            pool.submit(() -> IntStream.range(0, individuals.size()).parallel().forEach(i -> {
+                ParetoIndividual individual = individuals.get(i);
+                Chromosome chromosome = individual.getChromosome();
+                individual.setObjectives(fitnessFunction.evaluateObjectives(chromosome));
+                individual.setFeasible(constraintHandler == null || constraintHandler.isFeasible(chromosome));
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Evaluation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Objective evaluation failed", e.getCause());
+        }
+        evaluationCount += individuals.size();
+    }
+
+    private List<ParetoIndividual> breed() {
+        CrossoverStrategy crossoverStrategy = config.getCrossoverStrategy();
+        MutationStrategy mutationStrategy = config.getMutationStrategy();
+        List<ParetoIndividual> offspring = new ArrayList<>(config.getPopulationSize());
+
+        while (offspring.size() < config.getPopulationSize()) {
+            Chromosome parent1 = tournament().getChromosome();
+            Chromosome parent2 = tournament().getChromosome();
+
+            Chromosome[] children;
+            if (GARandom.current().nextDouble() < config.getCrossoverRate()) {
+                children = crossoverStrategy.crossover(parent1, parent2, config.getCrossoverRate(), constraintHandler);
+            } else {
+                children = new Chromosome[]{parent1.clone(), parent2.clone()};
+            }
+
+            for (Chromosome child : children) {
+                if (offspring.size() == config.getPopulationSize()) {
+                    break;
+                }
+                child = repairIfNeeded(child);
+                if (mutationStrategy != null && GARandom.current().nextDouble() < config.getMutationRate()) {
+                    child = repairIfNeeded(mutationStrategy.mutate(child));
+                }
+                offspring.add(new ParetoIndividual(child));
+            }
+        }
+        return offspring;
+    }
+
+    private ParetoIndividual tournament() {
+        Random random = GARandom.current();
+        ParetoIndividual a = population.get(random.nextInt(population.size()));
+        ParetoIndividual b = population.get(random.nextInt(population.size()));
+        return NonDominatedSorting.crowdedCompare(a, b) <= 0 ? a : b;
+    }
+
+    private List<ParetoIndividual> survive(List<ParetoIndividual> combined) {
+        List<List<ParetoIndividual>> fronts = NonDominatedSorting.sort(combined);
+        int target = config.getPopulationSize();
+        List<ParetoIndividual> next = new ArrayList<>(target);
+
+        for (List<ParetoIndividual> front : fronts) {
+            NonDominatedSorting.assignCrowdingDistance(front);
+            if (next.size() + front.size() <= target) {
+                next.addAll(front);
+            } else {
+                ParetoIndividual[] sorted = front.toArray(new ParetoIndividual[0]);
+                Arrays.sort(sorted, NonDominatedSorting::crowdedCompare);
+                for (int i = 0; next.size() < target; i++) {
+                    next.add(sorted[i]);
+                }
+            }
+            if (next.size() == target) {
+                break;
+            }
+        }
+        return next;
+    }
+
+    private void rankAndCrowd(List<ParetoIndividual> individuals) {
+        for (List<ParetoIndividual> front : NonDominatedSorting.sort(individuals)) {
+            NonDominatedSorting.assignCrowdingDistance(front);
+        }
+    }
+
+    private Chromosome repairIfNeeded(Chromosome chromosome) {
+        if (constraintHandler != null && !constraintHandler.isFeasible(chromosome)) {
+            return constraintHandler.repair(chromosome);
+        }
+        return chromosome;
+    }
+
+    private void printGenerationStats(int generation) {
+        int frontSize = 0;
+        double[] best = null;
+        for (ParetoIndividual individual : population) {
+            if (individual.getRank() != 0) {
+                continue;
+            }
+            frontSize++;
+            double[] objectives = individual.getObjectives();
+            if (best == null) {
+                best = objectives.clone();
+            } else {
+                for (int m = 0; m < best.length; m++) {
+                    best[m] = Math.max(best[m], objectives[m]);
+                }
+            }
+        }
+        System.out.printf("Generation %d | Front size: %d | Best per objective: %s%n",
+                generation, frontSize, Arrays.toString(best));
+    }
+
+    private void printFinalResults() {
+        System.out.println("\n========== Pareto Front ==========");
+        for (ParetoIndividual individual : paretoFront) {
+            StringBuilder sb = new StringBuilder();
+            for (int m = 0; m < individual.getObjectives().length; m++) {
+                sb.append(String.format("%s=%.4f ", fitnessFunction.getObjectiveName(m), individual.getObjective(m)));
+            }
+            System.out.println(individual.getChromosome() + " " + sb.toString().trim());
+        }
+        System.out.println("==================================\n");
+    }
+
+    private void validateConfiguration() {
+        if (fitnessFunction == null) {
+            throw new IllegalStateException("Multi-objective fitness function must be set before running NSGA-II");
+        }
+        if (config.getChromosomePrototype() == null) {
+            throw new IllegalStateException("Chromosome prototype must be set before running NSGA-II");
+        }
+        if (config.getCrossoverStrategy() == null) {
+            throw new IllegalStateException("Crossover strategy must be set before running NSGA-II");
+        }
+    }
+
+    public List<ParetoIndividual> getParetoFront() {
+        return new ArrayList<>(paretoFront);
+    }
+
+    public List<ParetoIndividual> getPopulation() {
+        return new ArrayList<>(population);
+    }
+
+    public long getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    public void setFitnessFunction(MultiObjectiveFitnessFunction fitnessFunction) {
+        this.fitnessFunction = fitnessFunction;
+    }
+
+    public void setConstraintHandler(ConstraintHandler constraintHandler) {
+        this.constraintHandler = constraintHandler;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    public GAConfiguration getConfig() {
+        return config;
+    }
+
+    public void setConfig(GAConfiguration config) {
+        this.config = config;
+    }
+}
@@ -0,0 +1,173 @@
+package com.scproject.ga.multiobjective;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Pareto ranking. Two objectives use the O(N log N) sweep with a binary search over fronts;
+ * more objectives use Efficient Non-dominated Sort with sequential search (ENS-SS), which only
+ * compares a solution against members of the fronts it could belong to.
+ * Both sort solutions lexicographically first, so a solution can only be dominated by one that
+ * comes before it.
+ */
+public final class NonDominatedSorting {
+
+    private NonDominatedSorting() {
+    }
+
+    public static List<List<ParetoIndividual>> sort(List<ParetoIndividual> individuals) {
+        List<List<ParetoIndividual>> fronts = new ArrayList<>();
+        if (individuals.isEmpty()) {
+            return fronts;
+        }
+
+        //Constraint domination: every feasible solution ranks ahead of every infeasible one
+        List<ParetoIndividual> feasible = new ArrayList<>();
+        List<ParetoIndividual> infeasible = new ArrayList<>();
+        for (ParetoIndividual individual : individuals) {
+            (individual.isFeasible() ? feasible : infeasible).add(individual);
+        }
+
+        fronts.addAll(sortByDominance(feasible));
+        fronts.addAll(sortByDominance(infeasible));
+
+        for (int rank = 0; rank < fronts.size(); rank++) {
+            for (ParetoIndividual individual : fronts.get(rank)) {
+                individual.setRank(rank);
+            }
+        }
+        return fronts;
+    }
+
+    private static List<List<ParetoIndividual>> sortByDominance(List<ParetoIndividual> individuals) {
+        if (individuals.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ParetoIndividual[] sorted = individuals.toArray(new ParetoIndividual[0]);
+        Arrays.sort(sorted, NonDominatedSorting::compareLexicographicDescending);
+
+        int objectives = sorted[0].getObjectives().length;
+        return objectives == 2 ? sortTwoObjectives(sorted) : sortSequential(sorted);
+    }
+
+    private static List<List<ParetoIndividual>> sortTwoObjectives(ParetoIndividual[] sorted) {
+        List<List<ParetoIndividual>> fronts = new ArrayList<>();
+        //Last member of each front; within a front f0 falls and f1 rises in sorted order
+        List<ParetoIndividual> lastOfFront = new ArrayList<>();
+
+        for (ParetoIndividual individual : sorted) {
+            int low = 0;
+            int high = lastOfFront.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dominatedByLast(lastOfFront.get(mid), individual)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            if (low == fronts.size()) {
+                fronts.add(new ArrayList<>());
+                lastOfFront.add(individual);
+            } else {
+                lastOfFront.set(low, individual);
+            }
+            fronts.get(low).add(individual);
+        }
+        return fronts;
+    }
+
+    private static boolean dominatedByLast(ParetoIndividual last, ParetoIndividual candidate) {
+        double lastF1 = last.getObjective(1);
+        double candidateF1 = candidate.getObjective(1);
+        return lastF1 > candidateF1 || (lastF1 == candidateF1 && last.getObjective(0) > candidate.getObjective(0));
+    }
+
+    private static List<List<ParetoIndividual>> sortSequential(ParetoIndividual[] sorted) {
+        List<List<ParetoIndividual>> fronts = new ArrayList<>();
+
+        for (ParetoIndividual individual : sorted) {
+            int frontIndex = 0;
+            while (frontIndex < fronts.size() && isDominatedByFront(fronts.get(frontIndex), individual)) {
+                frontIndex++;
+            }
+            if (frontIndex == fronts.size()) {
+                fronts.add(new ArrayList<>());
+            }
+            fronts.get(frontIndex).add(individual);
+        }
+        return fronts;
+    }
+
+    private static boolean isDominatedByFront(List<ParetoIndividual> front, ParetoIndividual individual) {
+        //Later members are the most likely dominators, so scan backwards
+        for (int i = front.size() - 1; i >= 0; i--) {
+            if (front.get(i).dominates(individual)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int compareLexicographicDescending(ParetoIndividual a, ParetoIndividual b) {
+        double[] x = a.getObjectives();
+        double[] y = b.getObjectives();
+        for (int i = 0; i < x.length; i++) {
+            int cmp = Double.compare(y[i], x[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    public static void assignCrowdingDistance(List<ParetoIndividual> front) {
+        int size = front.size();
+        if (size == 0) {
+            return;
+        }
+        for (ParetoIndividual individual : front) {
+            individual.setCrowdingDistance(0.0);
+        }
+        if (size <= 2) {
+            for (ParetoIndividual individual : front) {
+                individual.setCrowdingDistance(Double.POSITIVE_INFINITY);
+            }
+            return;
+        }
+
+        ParetoIndividual[] sorted = front.toArray(new ParetoIndividual[0]);
+        int objectives = sorted[0].getObjectives().length;
+        for (int m = 0; m < objectives; m++) {
+            final int objective = m;
+            Arrays.sort(sorted, Comparator.comparingDouble(p -> p.getObjective(objective)));
+
+            double min = sorted[0].getObjective(m);
+            double max = sorted[size - 1].getObjective(m);
+            sorted[0].setCrowdingDistance(Double.POSITIVE_INFINITY);
+            sorted[size - 1].setCrowdingDistance(Double.POSITIVE_INFINITY);
+            if (max == min) {
+                continue;
+            }
+
+            for (int i = 1; i < size - 1; i++) {
+                double distance = sorted[i].getCrowdingDistance();
+                if (distance != Double.POSITIVE_INFINITY) {
+                    distance += (sorted[i + 1].getObjective(m) - sorted[i - 1].getObjective(m)) / (max - min);
+                    sorted[i].setCrowdingDistance(distance);
+                }
+            }
+        }
+    }
+
+    //Crowded-comparison operator: lower rank first, then larger crowding distance
+    public static int crowdedCompare(ParetoIndividual a, ParetoIndividual b) {
+        if (a.getRank() != b.getRank()) {
+            return Integer.compare(a.getRank(), b.getRank());
+        }
+        return Double.compare(b.getCrowdingDistance(), a.getCrowdingDistance());
+    }
+}
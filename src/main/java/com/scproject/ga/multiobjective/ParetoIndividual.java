@@ -0,0 +1,86 @@
+package com.scproject.ga.multiobjective;
+
+import com.scproject.ga.chromosome.Chromosome;
+
+import java.util.Arrays;
+
+public class ParetoIndividual {
+    private final Chromosome chromosome;
+    private double[] objectives;
+    private boolean feasible;
+    private int rank;
+    private double crowdingDistance;
+
+    public ParetoIndividual(Chromosome chromosome) {
+        this.chromosome = chromosome;
+        this.feasible = true;
+        this.rank = -1;
+    }
+
+    //true when this is at least as good in every objective and strictly better in one
+    public boolean dominates(ParetoIndividual other) {
+        return dominates(objectives, other.objectives);
+    }
+
+    public static boolean dominates(double[] a, double[] b) {
+        boolean strictlyBetter = false;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] < b[i]) {
+                return false;
+            }
+            if (a[i] > b[i]) {
+                strictlyBetter = true;
+            }
+        }
+        return strictlyBetter;
+    }
+
+    public Chromosome getChromosome() {
+        return chromosome;
+    }
+
+    public double[] getObjectives() {
+        return objectives;
+    }
+
+    public double getObjective(int index) {
+        return objectives[index];
+    }
+
+    public void setObjectives(double[] objectives) {
+        this.objectives = objectives;
+    }
+
+    public boolean isEvaluated() {
+        return objectives != null;
+    }
+
+    public boolean isFeasible() {
+        return feasible;
+    }
+
+    public void setFeasible(boolean feasible) {
+        this.feasible = feasible;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public double getCrowdingDistance() {
+        return crowdingDistance;
+    }
+
+    public void setCrowdingDistance(double crowdingDistance) {
+        this.crowdingDistance = crowdingDistance;
+    }
+
+    @Override
+    public String toString() {
+        return chromosome + " objectives=" + Arrays.toString(objectives) + " rank=" + rank;
+    }
+}
@@ -0,0 +1,71 @@
+package com.scproject.ga.mutation;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.core.GARandom;
+
+public class GaussianMutation implements MutationStrategy {
+
+    private double mutationRate;
+    private double sigma;
+
+    public GaussianMutation(double mutationRate, double sigma) {
+        if (sigma <= 0.0) {
+            throw new IllegalArgumentException("sigma must be positive");
+        }
+        this.mutationRate = checkedMutationRate(mutationRate);
+        this.sigma = sigma;
+    }
+
+    @Override
+    public Chromosome mutate(Chromosome chromosome) {
+        if (!(chromosome instanceof FPChromosome)) {
+            throw new IllegalArgumentException("GaussianMutation only applies to FPChromosome");
+        }
+
+        FPChromosome fpChrom = (FPChromosome) chromosome;
+        double[] values = fpChrom.getValues();
+        double lower = fpChrom.getLowerBound();
+        double upper = fpChrom.getUpperBound();
+
+        //Works on the primitive genes, in place for DOUBLE storage, so large genomes are never boxed
+        for (int i = 0; i < values.length; i++) {
+            if (GARandom.current().nextDouble() < mutationRate) {
+                double mutated = values[i] + sigma * GARandom.current().nextGaussian();
+                values[i] = Math.max(lower, Math.min(upper, mutated));
+            }
+        }
+        fpChrom.setValues(values);
+
+        fpChrom.resetEvaluation();
+        return chromosome;
+    }
+
+    @Override
+    public void setMutationRate(double mutationRate) {
+        this.mutationRate = checkedMutationRate(mutationRate);
+    }
+
+    private static double checkedMutationRate(double mutationRate) {
+        if (mutationRate < 0.0 || mutationRate > 1.0) {
+            throw new IllegalArgumentException("mutationRate must be in [0,1]");
+        }
+        return mutationRate;
+    }
+
+    public double getSigma() {
+        return sigma;
+    }
+
+    public void setSigma(double sigma) {
+        if (sigma <= 0.0) {
+            throw new IllegalArgumentException("sigma must be positive");
+        }
+        this.sigma = sigma;
+    }
+
+    @Override
+    public boolean isApplicable(Chromosome chromosome) {
+        return chromosome instanceof FPChromosome;
+    }
+}
@@ -2,12 +2,10 @@ package com.scproject.ga.mutation;
 
 import com.scproject.ga.chromosome.Chromosome;
 import com.scproject.ga.chromosome.IntegerChromosome;
-
-import java.util.Random;
+import com.scproject.ga.core.GARandom;
 
 public class InversionMutation implements MutationStrategy {
 
-    private final Random random = new Random();
     private double mutationRate = 0.1;
 
     @Override
@@ -25,8 +23,8 @@ public class InversionMutation implements MutationStrategy {
         Object[] genes = intChrom.getGenes();
 
         if ( genes.length > 2) {
-            int point1 = random.nextInt(genes.length);
-            int point2 = random.nextInt(genes.length);
+            int point1 = GARandom.current().nextInt(genes.length);
+            int point2 = GARandom.current().nextInt(genes.length);
 
             // Ensure point1 < point2
             if (point1 > point2) {
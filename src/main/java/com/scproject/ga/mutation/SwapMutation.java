@@ -2,13 +2,10 @@ package com.scproject.ga.mutation;
 
 import com.scproject.ga.chromosome.Chromosome;
 import com.scproject.ga.chromosome.IntegerChromosome;
-
-import java.util.Random;
-
+import com.scproject.ga.core.GARandom;
 
 public class SwapMutation implements MutationStrategy {
 
-    private final Random random = new Random();
     private double mutationRate = 0.1;
 
     @Override
@@ -25,12 +22,12 @@ public class SwapMutation implements MutationStrategy {
         IntegerChromosome intChrom = (IntegerChromosome) chromosome;
         Object[] genes = intChrom.getGenes();
 
-        //if (random.nextDouble() < mutationRate) {
-            int index1 = random.nextInt(genes.length);
-            int index2 = random.nextInt(genes.length);
+        //if (GARandom.current().nextDouble() < mutationRate) {
+            int index1 = GARandom.current().nextInt(genes.length);
+            int index2 = GARandom.current().nextInt(genes.length);
 
             while (index1 == index2) {
-                index2 = random.nextInt(genes.length);
+                index2 = GARandom.current().nextInt(genes.length);
             }
 
             Object temp = genes[index1];
@@ -1,15 +1,13 @@
 package com.scproject.ga.mutation;
 
 import com.scproject.ga.chromosome.Chromosome;
-
-import java.util.Random;
+import com.scproject.ga.core.GARandom;
 
 public class UniformFPMutation implements MutationStrategy {
 
     private double mutationRate = 0.05;
     private double lowerBound;
     private double upperBound;
-    private final Random random = new Random();
 
 
     public UniformFPMutation(double mutationRate, double lowerBound, double upperBound) {
@@ -26,7 +24,7 @@ public class UniformFPMutation implements MutationStrategy {
         Object[] genes = chromosome.getGenes();
 
         for (int i = 0; i < genes.length; i++) {
-            if (random.nextDouble() < mutationRate) {
+            if (GARandom.current().nextDouble() < mutationRate) {
 
                 Object gene = genes[i];
                 if (!(gene instanceof Number)) {
@@ -46,7 +44,7 @@ public class UniformFPMutation implements MutationStrategy {
                     continue;
                 }
 
-                double ri1 = random.nextDouble();
+                double ri1 = GARandom.current().nextDouble();
                 boolean goLeft = ri1 <= 0.5;
 
                 double Delta = goLeft ? Math.max(0.0, deltaL) : Math.max(0.0, deltaU);
@@ -64,7 +62,7 @@ public class UniformFPMutation implements MutationStrategy {
                     }
                 }
 
-                double ri2 = random.nextDouble() * Delta;
+                double ri2 = GARandom.current().nextDouble() * Delta;
 
 
                 double xiNew = goLeft ? (xi - ri2) : (xi + ri2);
@@ -1,12 +1,13 @@
 package com.scproject.ga.mutation;
 
 import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.core.GARandom;
+
 import java.util.*;
 
 public class binaryBitFlipMutation implements MutationStrategy{
 
     private double mutationRate;
-    private final Random random = new Random();
 
     public binaryBitFlipMutation(double mutationRate) {
         this.mutationRate = mutationRate;
@@ -17,7 +18,7 @@ public class binaryBitFlipMutation implements MutationStrategy{
         Object[] genes = chromosome.getGenes();
 
         for (int i = 0; i < genes.length; i++) {
-            if (random.nextDouble() < mutationRate) {
+            if (GARandom.current().nextDouble() < mutationRate) {
                 Object gene = genes[i];
 
                 if (gene instanceof Boolean) {
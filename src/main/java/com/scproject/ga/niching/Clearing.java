@@ -0,0 +1,113 @@
+package com.scproject.ga.niching;
+
+import java.util.Arrays;
+
+/**
+ * Petrowski's clearing: within each niche only the {@code capacity} best individuals keep their
+ * fitness and the rest are cleared.
+ *
+ * <p>Individuals are visited from best to worst. The first one not yet assigned to a niche opens
+ * a new niche of everyone unassigned within the radius, so every niche query is answered by the
+ * neighbor index and the number of queries equals the number of niches. Fitness is shifted so the
+ * population minimum is zero and cleared individuals score exactly zero.
+ */
+public class Clearing implements NichingStrategy {
+    private double radius;
+    private int capacity;
+
+    public Clearing(double radius) {
+        this(radius, 1);
+    }
+
+    public Clearing(double radius, int capacity) {
+        this.radius = checkedRadius(radius);
+        this.capacity = checkedCapacity(capacity);
+    }
+
+    @Override
+    public void adjustFitness(GenomeSpace space, double[] fitness) {
+        int n = space.size();
+        NeighborIndex index = NeighborIndex.build(space, radius);
+
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (a, b) -> Double.compare(fitness[b], fitness[a]));
+        int[] order = new int[n];
+        int[] rank = new int[n];
+        for (int r = 0; r < n; r++) {
+            order[r] = boxed[r];
+            rank[order[r]] = r;
+        }
+
+        double min = Double.POSITIVE_INFINITY;
+        for (double value : fitness) {
+            min = Math.min(min, value);
+        }
+
+        boolean[] assigned = new boolean[n];
+        boolean[] cleared = new boolean[n];
+        int[] members = new int[n];
+        for (int r = 0; r < n; r++) {
+            int winner = order[r];
+            if (assigned[winner]) {
+                continue;
+            }
+            assigned[winner] = true;
+
+            int[] count = {0};
+            index.forEachNeighbor(winner, (j, distance) -> {
+                if (!assigned[j]) {
+                    members[count[0]++] = rank[j];
+                }
+            });
+            //Ranks sort the niche from best to worst without boxing
+            Arrays.sort(members, 0, count[0]);
+            for (int m = 0; m < count[0]; m++) {
+                int member = order[members[m]];
+                assigned[member] = true;
+                cleared[member] = m + 1 >= capacity;
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            fitness[i] = cleared[i] ? 0.0 : fitness[i] - min;
+        }
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public void setRadius(double radius) {
+        this.radius = checkedRadius(radius);
+    }
+
+    private static double checkedRadius(double radius) {
+        if (radius <= 0) {
+            throw new IllegalArgumentException("Clearing radius must be positive");
+        }
+        return radius;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = checkedCapacity(capacity);
+    }
+
+    private static int checkedCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Niche capacity must be positive");
+        }
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "Clearing{radius=" + radius + ", capacity=" + capacity + "}";
+    }
+}
@@ -0,0 +1,68 @@
+package com.scproject.ga.niching;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.core.GARandom;
+import com.scproject.ga.core.Population;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Mahfoud's deterministic crowding. The population is paired at random without selection
+ * pressure, each pair produces two children, and every child competes only with the parent it is
+ * closer to, replacing it if strictly fitter. Since a child can only displace a similar individual,
+ * separate niches are not overrun by the best one. Fitness is left untouched.
+ */
+public class DeterministicCrowding implements NichingStrategy {
+
+    @Override
+    public void adjustFitness(GenomeSpace space, double[] fitness) {
+        //Crowding works through pairing and replacement, not through fitness
+    }
+
+    //Every individual once, in random order; an odd one out is paired with a random partner
+    public List<Chromosome> pairParents(Population population) {
+        List<Chromosome> parents = new ArrayList<>(population.getIndividuals());
+        Collections.shuffle(parents, GARandom.current());
+        if (parents.size() % 2 != 0) {
+            parents.add(parents.get(GARandom.current().nextInt(parents.size() - 1)));
+        }
+        return parents;
+    }
+
+    /**
+     * Children 2k and 2k+1 must come from parents 2k and 2k+1. The extra parent added for an odd
+     * population is skipped, so the population size is unchanged.
+     */
+    public Population replace(Population population, List<Chromosome> parents, List<Chromosome> offspring) {
+        int size = population.getSize();
+        List<Chromosome> survivors = new ArrayList<>(size);
+
+        for (int i = 0; i + 1 < parents.size() && i + 1 < offspring.size(); i += 2) {
+            Chromosome p1 = parents.get(i);
+            Chromosome p2 = parents.get(i + 1);
+            Chromosome c1 = offspring.get(i);
+            Chromosome c2 = offspring.get(i + 1);
+
+            double straight = GenomeSpace.distance(p1, c1) + GenomeSpace.distance(p2, c2);
+            double crossed = GenomeSpace.distance(p1, c2) + GenomeSpace.distance(p2, c1);
+            if (crossed < straight) {
+                Chromosome tmp = c1;
+                c1 = c2;
+                c2 = tmp;
+            }
+
+            survivors.add(c1.getFitness() > p1.getFitness() ? c1 : p1);
+            if (survivors.size() < size) {
+                survivors.add(c2.getFitness() > p2.getFitness() ? c2 : p2);
+            }
+        }
+        return new Population(survivors);
+    }
+
+    @Override
+    public String toString() {
+        return "DeterministicCrowding";
+    }
+}
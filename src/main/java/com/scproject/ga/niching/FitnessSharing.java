@@ -0,0 +1,79 @@
+package com.scproject.ga.niching;
+
+/**
+ * Goldberg and Richardson fitness sharing: individuals in a crowded region split its fitness.
+ *
+ * <p>The niche count of i is {@code m_i = 1 + sum over neighbors j of 1 - (d_ij / radius)^alpha},
+ * and the shared fitness is {@code (f_i - f_min) / m_i}. Shifting by the population minimum keeps
+ * shared values non-negative for roulette selection without changing the ranking within a niche.
+ */
+public class FitnessSharing implements NichingStrategy {
+    private double radius;
+    private double alpha;
+
+    public FitnessSharing(double radius) {
+        this(radius, 1.0);
+    }
+
+    public FitnessSharing(double radius, double alpha) {
+        this.radius = checkedRadius(radius);
+        this.alpha = checkedAlpha(alpha);
+    }
+
+    @Override
+    public void adjustFitness(GenomeSpace space, double[] fitness) {
+        int n = space.size();
+        NeighborIndex index = NeighborIndex.build(space, radius);
+        double[] nicheCount = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            double[] count = {1.0};
+            index.forEachNeighbor(i, (j, distance) ->
+                    count[0] += 1.0 - (alpha == 1.0 ? distance / radius : Math.pow(distance / radius, alpha)));
+            nicheCount[i] = count[0];
+        }
+
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            min = Math.min(min, fitness[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            fitness[i] = (fitness[i] - min) / nicheCount[i];
+        }
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public void setRadius(double radius) {
+        this.radius = checkedRadius(radius);
+    }
+
+    private static double checkedRadius(double radius) {
+        if (radius <= 0) {
+            throw new IllegalArgumentException("Sharing radius must be positive");
+        }
+        return radius;
+    }
+
+    public double getAlpha() {
+        return alpha;
+    }
+
+    public void setAlpha(double alpha) {
+        this.alpha = checkedAlpha(alpha);
+    }
+
+    private static double checkedAlpha(double alpha) {
+        if (alpha <= 0) {
+            throw new IllegalArgumentException("Sharing alpha must be positive");
+        }
+        return alpha;
+    }
+
+    @Override
+    public String toString() {
+        return "FitnessSharing{radius=" + radius + ", alpha=" + alpha + "}";
+    }
+}
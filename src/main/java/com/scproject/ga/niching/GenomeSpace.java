@@ -0,0 +1,118 @@
+package com.scproject.ga.niching;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.diversity.GenomeHasher;
+
+import java.util.List;
+
+/**
+ * Flat snapshot of a population for distance queries. Real-valued genomes are copied into one
+ * row-major coordinate array and compared by Euclidean distance; all other genomes are reduced
+ * to one code per position and compared by Hamming distance, so permutations, integer and
+ * binary chromosomes share the same code path.
+ */
+public final class GenomeSpace {
+
+    //Stands in for positions a shorter discrete genome does not have
+    private static final long MISSING = 0x5DEECE66DL ^ Long.MIN_VALUE;
+
+    private final int size;
+    private final int dimension;
+    private final double[] coordinates;
+    private final long[] codes;
+
+    private GenomeSpace(int size, int dimension, double[] coordinates, long[] codes) {
+        this.size = size;
+        this.dimension = dimension;
+        this.coordinates = coordinates;
+        this.codes = codes;
+    }
+
+    public static GenomeSpace of(List<? extends Chromosome> individuals) {
+        int n = individuals.size();
+        if (n > 0 && individuals.get(0) instanceof FPChromosome) {
+            int d = ((FPChromosome) individuals.get(0)).getValues().length;
+            double[] coordinates = new double[n * d];
+            for (int i = 0; i < n; i++) {
+                if (!(individuals.get(i) instanceof FPChromosome)) {
+                    throw new IllegalArgumentException("Cannot mix real-valued and discrete genomes");
+                }
+                double[] values = ((FPChromosome) individuals.get(i)).getValues();
+                if (values.length != d) {
+                    throw new IllegalArgumentException("Real-valued genomes must all have length " + d);
+                }
+                System.arraycopy(values, 0, coordinates, i * d, d);
+            }
+            return new GenomeSpace(n, d, coordinates, null);
+        }
+
+        int length = 0;
+        for (Chromosome individual : individuals) {
+            if (individual instanceof FPChromosome) {
+                throw new IllegalArgumentException("Cannot mix real-valued and discrete genomes");
+            }
+            length = Math.max(length, individual.getGenes().length);
+        }
+        long[] codes = new long[n * length];
+        for (int i = 0; i < n; i++) {
+            Object[] genes = individuals.get(i).getGenes();
+            for (int p = 0; p < length; p++) {
+                codes[i * length + p] = p < genes.length ? GenomeHasher.valueBits(genes[p]) : MISSING;
+            }
+        }
+        return new GenomeSpace(n, length, null, codes);
+    }
+
+    public double distance(int i, int j) {
+        if (coordinates != null) {
+            return Math.sqrt(squaredDistance(i, j));
+        }
+        int a = i * dimension;
+        int b = j * dimension;
+        int differing = 0;
+        for (int p = 0; p < dimension; p++) {
+            if (codes[a + p] != codes[b + p]) {
+                differing++;
+            }
+        }
+        return differing;
+    }
+
+    double squaredDistance(int i, int j) {
+        int a = i * dimension;
+        int b = j * dimension;
+        double sum = 0.0;
+        for (int k = 0; k < dimension; k++) {
+            double diff = coordinates[a + k] - coordinates[b + k];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    //Distance between two chromosomes, in the same metric a GenomeSpace of them would use
+    public static double distance(Chromosome a, Chromosome b) {
+        return of(List.of(a, b)).distance(0, 1);
+    }
+
+    public boolean isReal() {
+        return coordinates != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    //Number of coordinates for real-valued genomes, number of positions otherwise
+    public int getDimension() {
+        return dimension;
+    }
+
+    double[] coordinates() {
+        return coordinates;
+    }
+
+    long[] codes() {
+        return codes;
+    }
+}
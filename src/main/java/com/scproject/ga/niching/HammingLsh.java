@@ -0,0 +1,128 @@
+package com.scproject.ga.niching;
+
+import com.scproject.ga.core.GARandom;
+import com.scproject.ga.diversity.GenomeHasher;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Approximate radius queries over discrete genomes (permutations, integer and binary strings)
+ * with bit-sampling locality-sensitive hashing for Hamming distance.
+ *
+ * <p>Each of the {@code tables} hash tables keys an individual by its genes at {@code k} randomly
+ * sampled positions. Two genomes at distance {@code d} out of {@code m} positions share a key
+ * with probability {@code (1 - d/m)^k}; {@code k} is chosen so that a pair right at the radius
+ * still collides in a table with probability one half, which makes a pair at the radius be
+ * missed by all tables with probability {@code 2^-tables}. Candidates are confirmed with the
+ * exact distance, so no reported neighbor is ever farther than the radius.
+ *
+ * <p>Tables are sorted arrays of {@code key | individual} longs rather than hash maps, so
+ * building costs one primitive sort per table and a bucket is a contiguous run.
+ */
+public class HammingLsh implements NeighborIndex {
+
+    static final int MIN_USEFUL_SIZE = 512;
+    static final int DEFAULT_TABLES = 8;
+
+    private final GenomeSpace space;
+    private final double radius;
+    private final int tables;
+    private final int positionsPerTable;
+    private final long idMask;
+    private final long[][] buckets;
+    private final int[][] slotOf;
+    //Query stamps, so an individual seen in several tables is only checked once
+    private final int[] seen;
+    private int stamp;
+
+    public HammingLsh(GenomeSpace space, double radius, int tables) {
+        if (space.isReal()) {
+            throw new IllegalArgumentException("Hamming LSH needs discrete genomes");
+        }
+        if (tables <= 0) {
+            throw new IllegalArgumentException("At least one hash table is required");
+        }
+        this.space = space;
+        this.radius = radius;
+        this.tables = tables;
+
+        int n = space.size();
+        int m = space.getDimension();
+        double agree = 1.0 - Math.min(radius, m) / Math.max(1, m);
+        int k = agree <= 0 ? 1 : agree >= 1 ? m : (int) Math.floor(Math.log(0.5) / Math.log(agree));
+        this.positionsPerTable = Math.max(1, Math.min(m, k));
+
+        int idBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, n - 1)));
+        this.idMask = (1L << idBits) - 1;
+        this.buckets = new long[tables][n];
+        this.slotOf = new int[tables][n];
+        this.seen = new int[n];
+
+        Random random = GARandom.current();
+        long[] codes = space.codes();
+        int[] positions = new int[positionsPerTable];
+        for (int t = 0; t < tables; t++) {
+            for (int p = 0; p < positionsPerTable; p++) {
+                positions[p] = random.nextInt(Math.max(1, m));
+            }
+            long[] table = buckets[t];
+            for (int i = 0; i < n; i++) {
+                long key = 0L;
+                for (int position : positions) {
+                    key ^= GenomeHasher.key(position, m == 0 ? 0L : codes[i * m + position]);
+                }
+                table[i] = (key & ~idMask) | i;
+            }
+            Arrays.sort(table);
+            for (int slot = 0; slot < n; slot++) {
+                slotOf[t][(int) (table[slot] & idMask)] = slot;
+            }
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(int individual, NeighborConsumer consumer) {
+        if (++stamp == 0) {
+            Arrays.fill(seen, 0);
+            stamp = 1;
+        }
+        seen[individual] = stamp;
+
+        for (int t = 0; t < tables; t++) {
+            long[] table = buckets[t];
+            int slot = slotOf[t][individual];
+            long key = table[slot] & ~idMask;
+            for (int s = slot - 1; s >= 0 && (table[s] & ~idMask) == key; s--) {
+                check(individual, (int) (table[s] & idMask), consumer);
+            }
+            for (int s = slot + 1; s < table.length && (table[s] & ~idMask) == key; s++) {
+                check(individual, (int) (table[s] & idMask), consumer);
+            }
+        }
+    }
+
+    private void check(int individual, int candidate, NeighborConsumer consumer) {
+        if (seen[candidate] == stamp) {
+            return;
+        }
+        seen[candidate] = stamp;
+        double distance = space.distance(individual, candidate);
+        if (distance < radius) {
+            consumer.accept(candidate, distance);
+        }
+    }
+
+    public int getTables() {
+        return tables;
+    }
+
+    public int getPositionsPerTable() {
+        return positionsPerTable;
+    }
+
+    @Override
+    public double getRadius() {
+        return radius;
+    }
+}
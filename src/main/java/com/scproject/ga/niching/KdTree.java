@@ -0,0 +1,175 @@
+package com.scproject.ga.niching;
+
+/**
+ * Exact radius queries over real-valued genomes with a k-d tree.
+ *
+ * <p>The tree is implicit: individuals are reordered so that every subrange {@code [lo, hi)}
+ * holds its median at {@code mid = (lo + hi) / 2}, with smaller values on the split dimension
+ * to its left. The split dimension is the one with the widest spread, and points are stored in
+ * tree order so a leaf is scanned contiguously. Beyond a few dozen dimensions pruning rarely
+ * helps, which is why {@link NeighborIndex#build} falls back to a linear scan there.
+ */
+public class KdTree implements NeighborIndex {
+
+    static final int MAX_USEFUL_DIMENSION = 32;
+    private static final int LEAF_SIZE = 8;
+
+    private final double radius;
+    private final double radiusSquared;
+    private final int size;
+    private final int dimension;
+    //Coordinates in tree order, and the individual each tree slot holds
+    private final double[] points;
+    private final int[] ids;
+    private final int[] slotOf;
+    //Split dimension of the node whose median sits at this slot, -1 for leaves
+    private final int[] splitDimension;
+    private final int[] stack = new int[128];
+
+    public KdTree(GenomeSpace space, double radius) {
+        if (!space.isReal()) {
+            throw new IllegalArgumentException("A k-d tree needs real-valued genomes");
+        }
+        this.radius = radius;
+        this.radiusSquared = radius * radius;
+        this.size = space.size();
+        this.dimension = space.getDimension();
+        this.ids = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = i;
+        }
+        this.splitDimension = new int[size];
+        double[] coordinates = space.coordinates();
+        build(coordinates, 0, size);
+
+        this.points = new double[size * dimension];
+        this.slotOf = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            System.arraycopy(coordinates, ids[slot] * dimension, points, slot * dimension, dimension);
+            slotOf[ids[slot]] = slot;
+        }
+    }
+
+    private void build(double[] coordinates, int lo, int hi) {
+        while (hi - lo > LEAF_SIZE) {
+            int axis = widestDimension(coordinates, lo, hi);
+            int mid = (lo + hi) >>> 1;
+            select(coordinates, axis, lo, hi - 1, mid);
+            splitDimension[mid] = axis;
+            //Recurse into the smaller half and loop on the larger one to bound the stack
+            if (mid - lo < hi - mid - 1) {
+                build(coordinates, lo, mid);
+                lo = mid + 1;
+            } else {
+                build(coordinates, mid + 1, hi);
+                hi = mid;
+            }
+        }
+        for (int i = lo; i < hi; i++) {
+            splitDimension[i] = -1;
+        }
+    }
+
+    private int widestDimension(double[] coordinates, int lo, int hi) {
+        int best = 0;
+        double bestSpread = -1;
+        for (int k = 0; k < dimension; k++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = lo; i < hi; i++) {
+                double value = coordinates[ids[i] * dimension + k];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min > bestSpread) {
+                bestSpread = max - min;
+                best = k;
+            }
+        }
+        return best;
+    }
+
+    //Quickselect on ids[left..right] so that ids[nth] holds the median on the given axis
+    private void select(double[] coordinates, int axis, int left, int right, int nth) {
+        while (right > left) {
+            double pivot = coordinates[ids[(left + right) >>> 1] * dimension + axis];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinates[ids[i] * dimension + axis] < pivot) {
+                    i++;
+                }
+                while (coordinates[ids[j] * dimension + axis] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int tmp = ids[i];
+                    ids[i] = ids[j];
+                    ids[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (nth <= j) {
+                right = j;
+            } else if (nth >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void forEachNeighbor(int individual, NeighborConsumer consumer) {
+        int query = slotOf[individual] * dimension;
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = size;
+
+        while (top > 0) {
+            int hi = stack[--top];
+            int lo = stack[--top];
+            if (hi - lo <= LEAF_SIZE || splitDimension[(lo + hi) >>> 1] < 0) {
+                for (int slot = lo; slot < hi; slot++) {
+                    report(query, slot, individual, consumer);
+                }
+                continue;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            report(query, mid, individual, consumer);
+            int axis = splitDimension[mid];
+            double delta = points[query + axis] - points[mid * dimension + axis];
+            //The near side is always searched, the far side only if the split plane is within reach
+            if (delta < radius) {
+                stack[top++] = lo;
+                stack[top++] = mid;
+            }
+            if (-delta < radius) {
+                stack[top++] = mid + 1;
+                stack[top++] = hi;
+            }
+        }
+    }
+
+    private void report(int query, int slot, int individual, NeighborConsumer consumer) {
+        if (ids[slot] == individual) {
+            return;
+        }
+        int base = slot * dimension;
+        double sum = 0.0;
+        for (int k = 0; k < dimension && sum < radiusSquared; k++) {
+            double diff = points[query + k] - points[base + k];
+            sum += diff * diff;
+        }
+        if (sum < radiusSquared) {
+            consumer.accept(ids[slot], Math.sqrt(sum));
+        }
+    }
+
+    @Override
+    public double getRadius() {
+        return radius;
+    }
+}
@@ -0,0 +1,32 @@
+package com.scproject.ga.niching;
+
+/**
+ * Exact neighbor queries by comparing against every individual.
+ */
+public class LinearScanIndex implements NeighborIndex {
+    private final GenomeSpace space;
+    private final double radius;
+
+    public LinearScanIndex(GenomeSpace space, double radius) {
+        this.space = space;
+        this.radius = radius;
+    }
+
+    @Override
+    public void forEachNeighbor(int individual, NeighborConsumer consumer) {
+        for (int j = 0; j < space.size(); j++) {
+            if (j == individual) {
+                continue;
+            }
+            double distance = space.distance(individual, j);
+            if (distance < radius) {
+                consumer.accept(j, distance);
+            }
+        }
+    }
+
+    @Override
+    public double getRadius() {
+        return radius;
+    }
+}
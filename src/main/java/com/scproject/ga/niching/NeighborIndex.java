@@ -0,0 +1,36 @@
+package com.scproject.ga.niching;
+
+/**
+ * Answers "which individuals lie within the radius of individual i" over a {@link GenomeSpace},
+ * without comparing every pair.
+ */
+public interface NeighborIndex {
+
+    @FunctionalInterface
+    interface NeighborConsumer {
+        void accept(int neighbor, double distance);
+    }
+
+    //Reports every other individual closer than the radius the index was built for
+    void forEachNeighbor(int individual, NeighborConsumer consumer);
+
+    double getRadius();
+
+    /**
+     * Picks an index for the space: a k-d tree for low-dimensional real-valued genomes, bit-sampling
+     * LSH for large discrete populations, and a linear scan otherwise.
+     */
+    static NeighborIndex build(GenomeSpace space, double radius) {
+        if (radius <= 0) {
+            throw new IllegalArgumentException("Radius must be positive");
+        }
+        if (space.isReal()) {
+            if (space.getDimension() <= KdTree.MAX_USEFUL_DIMENSION) {
+                return new KdTree(space, radius);
+            }
+        } else if (space.size() >= HammingLsh.MIN_USEFUL_SIZE && radius < space.getDimension()) {
+            return new HammingLsh(space, radius, HammingLsh.DEFAULT_TABLES);
+        }
+        return new LinearScanIndex(space, radius);
+    }
+}
@@ -0,0 +1,13 @@
+package com.scproject.ga.niching;
+
+/**
+ * Niching keeps several distinct good solutions alive instead of letting the population converge
+ * on one. Sharing and clearing work by changing the fitness that selection sees; the raw fitness
+ * is restored before anything else reads it. Deterministic crowding instead changes how parents
+ * are paired and who survives, see {@link DeterministicCrowding}.
+ */
+public interface NichingStrategy {
+
+    //Overwrites fitness[i], the raw fitness of individual i of the space, with its niched fitness
+    void adjustFitness(GenomeSpace space, double[] fitness);
+}
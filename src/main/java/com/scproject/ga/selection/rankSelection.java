@@ -2,6 +2,7 @@ package com.scproject.ga.selection;
 
 import com.scproject.ga.chromosome.Chromosome;
 import com.scproject.ga.core.Population;
+import com.scproject.ga.core.GARandom;
 
 import java.util.*;
 
@@ -21,7 +22,7 @@ public class rankSelection implements SelectionStrategy{
 
         double totalRankFitness = Arrays.stream(rankFitness).sum();
 
-        double rand = Math.random() * totalRankFitness;
+        double rand = GARandom.current().nextDouble() * totalRankFitness;
         double cumulative = 0.0;
 
         for (int i = 0; i < N; i++) {
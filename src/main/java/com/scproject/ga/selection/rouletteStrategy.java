@@ -2,6 +2,7 @@ package com.scproject.ga.selection;
 
 import com.scproject.ga.chromosome.Chromosome;
 import com.scproject.ga.core.Population;
+import com.scproject.ga.core.GARandom;
 
 import java.util.*;
 
@@ -19,10 +20,10 @@ public class rouletteStrategy implements SelectionStrategy{
         }
 
         if (totalFitness == 0) {
-            return chromosomes.get(new Random().nextInt(N));
+            return chromosomes.get(GARandom.current().nextInt(N));
         }
 
-        double rand = Math.random() * totalFitness;
+        double rand = GARandom.current().nextDouble() * totalFitness;
         double cumulative = 0.0;
         for (Chromosome c : chromosomes) {
             cumulative += c.getFitness();
@@ -0,0 +1,41 @@
+package com.scproject.ga.surrogate;
+
+import com.scproject.ga.chromosome.Chromosome;
+
+/**
+ * Turns a chromosome into the feature vector the surrogate network is trained on.
+ */
+@FunctionalInterface
+public interface GenomeEncoder {
+
+    double[] encode(Chromosome chromosome);
+
+    //One feature per gene: booleans as 0/1, numbers as their value
+    static GenomeEncoder numeric() {
+        return chromosome -> {
+            double[] features = new double[chromosome.getLength()];
+            for (int i = 0; i < features.length; i++) {
+                Object gene = chromosome.getGene(i);
+                features[i] = gene instanceof Boolean ? ((Boolean) gene ? 1.0 : 0.0) : ((Number) gene).doubleValue();
+            }
+            return features;
+        };
+    }
+
+    //One-hot per position for integer genes in [0, symbols), suited to permutations such as routes
+    static GenomeEncoder oneHot(int symbols) {
+        if (symbols <= 0) {
+            throw new IllegalArgumentException("Number of symbols must be positive");
+        }
+        return chromosome -> {
+            double[] features = new double[chromosome.getLength() * symbols];
+            for (int i = 0; i < chromosome.getLength(); i++) {
+                int value = ((Number) chromosome.getGene(i)).intValue();
+                if (value >= 0 && value < symbols) {
+                    features[i * symbols + value] = 1.0;
+                }
+            }
+            return features;
+        };
+    }
+}
@@ -0,0 +1,251 @@
+package com.scproject.ga.surrogate;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.core.GARandom;
+import com.scproject.ga.fitness.BatchFitnessFunction;
+import com.scproject.ga.fitness.FitnessFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Pre-screens each batch with a {@link SurrogateModel}. The children the surrogate ranks highest,
+ * plus a few random ones used to check the surrogate, go to the real fitness function; the rest
+ * keep their predicted score, capped at the worst real score of the batch so a screened-out child
+ * can never outrank one that was actually evaluated.
+ *
+ * <p>The surrogate is trusted only while the rank correlation between its predictions and the
+ * real scores stays above {@code minRankCorrelation}; otherwise whole batches are evaluated for
+ * real, which also supplies fresh training data, until it recovers.
+ */
+public class SurrogateAssistedFitness implements BatchFitnessFunction, AutoCloseable {
+
+    private final BatchFitnessFunction realFitness;
+    private final GenomeEncoder encoder;
+    private final SurrogateModel model;
+
+    private double evaluationFraction;
+    private int calibrationSamples;
+    private double minRankCorrelation;
+    private double calibration = Double.NaN;
+
+    private long realEvaluations;
+    private long screenedOut;
+    private double[] realScores = new double[0];
+
+    public SurrogateAssistedFitness(FitnessFunction realFitness, GenomeEncoder encoder) {
+        this(BatchFitnessFunction.of(realFitness), encoder, new SurrogateModel());
+    }
+
+    public SurrogateAssistedFitness(BatchFitnessFunction realFitness, GenomeEncoder encoder, SurrogateModel model) {
+        if (realFitness == null || encoder == null || model == null) {
+            throw new IllegalArgumentException("Fitness function, encoder and model cannot be null");
+        }
+        this.realFitness = realFitness;
+        this.encoder = encoder;
+        this.model = model;
+        this.evaluationFraction = 0.2;
+        this.calibrationSamples = 2;
+        this.minRankCorrelation = 0.3;
+    }
+
+    @Override
+    public void evaluate(List<? extends Chromosome> batch, double[] scores) {
+        int n = batch.size();
+        double[][] features = new double[n][];
+        for (int i = 0; i < n; i++) {
+            features[i] = encoder.encode(batch.get(i));
+        }
+
+        boolean[] selected = new boolean[n];
+        double[] predicted = model.isReady() ? model.predict(features) : null;
+        if (predicted == null || !isTrusted()) {
+            Arrays.fill(selected, true);
+        } else {
+            selectPromising(predicted, selected);
+        }
+
+        List<Chromosome> realBatch = new ArrayList<>();
+        int[] realIndex = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (selected[i]) {
+                realIndex[realBatch.size()] = i;
+                realBatch.add(batch.get(i));
+            }
+        }
+        if (realScores.length < realBatch.size()) {
+            realScores = new double[realBatch.size()];
+        }
+        realFitness.evaluate(realBatch, realScores);
+        realEvaluations += realBatch.size();
+
+        double worstReal = Double.POSITIVE_INFINITY;
+        for (int k = 0; k < realBatch.size(); k++) {
+            int i = realIndex[k];
+            scores[i] = realScores[k];
+            worstReal = Math.min(worstReal, realScores[k]);
+            model.addSample(features[i], realScores[k]);
+        }
+
+        if (predicted != null) {
+            calibrate(predicted, realIndex, realBatch.size());
+            for (int i = 0; i < n; i++) {
+                if (!selected[i]) {
+                    scores[i] = Math.min(predicted[i], worstReal);
+                    screenedOut++;
+                }
+            }
+        }
+    }
+
+    private void selectPromising(double[] predicted, boolean[] selected) {
+        int n = predicted.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(predicted[b], predicted[a]));
+
+        int top = Math.min(n, (int) Math.ceil(evaluationFraction * n));
+        for (int k = 0; k < top; k++) {
+            selected[order[k]] = true;
+        }
+        //Random extras keep the calibration honest about the children the model ranks low
+        int remaining = n - top;
+        Random random = GARandom.current();
+        for (int k = 0; k < Math.min(calibrationSamples, remaining); k++) {
+            int pick = top + random.nextInt(remaining);
+            while (selected[order[pick]]) {
+                pick = pick + 1 < n ? pick + 1 : top;
+            }
+            selected[order[pick]] = true;
+        }
+    }
+
+    private void calibrate(double[] predicted, int[] realIndex, int count) {
+        if (count < 3) {
+            return;
+        }
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int k = 0; k < count; k++) {
+            x[k] = predicted[realIndex[k]];
+            y[k] = realScores[k];
+        }
+        double correlation = rankCorrelation(x, y);
+        if (Double.isNaN(correlation)) {
+            return;
+        }
+        calibration = Double.isNaN(calibration) ? correlation : 0.7 * calibration + 0.3 * correlation;
+    }
+
+    //Spearman correlation with average ranks for ties
+    static double rankCorrelation(double[] x, double[] y) {
+        double[] rx = ranks(x);
+        double[] ry = ranks(y);
+        int n = x.length;
+        double mean = (n - 1) / 2.0;
+        double covariance = 0.0;
+        double varianceX = 0.0;
+        double varianceY = 0.0;
+        for (int i = 0; i < n; i++) {
+            double dx = rx[i] - mean;
+            double dy = ry[i] - mean;
+            covariance += dx * dy;
+            varianceX += dx * dx;
+            varianceY += dy * dy;
+        }
+        if (varianceX == 0.0 || varianceY == 0.0) {
+            return Double.NaN;
+        }
+        return covariance / Math.sqrt(varianceX * varianceY);
+    }
+
+    private static double[] ranks(double[] values) {
+        int n = values.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        double[] ranks = new double[n];
+        for (int start = 0; start < n; ) {
+            int end = start;
+            while (end + 1 < n && values[order[end + 1]] == values[order[start]]) {
+                end++;
+            }
+            double rank = (start + end) / 2.0;
+            for (int k = start; k <= end; k++) {
+                ranks[order[k]] = rank;
+            }
+            start = end + 1;
+        }
+        return ranks;
+    }
+
+    public boolean isTrusted() {
+        return Double.isNaN(calibration) || calibration >= minRankCorrelation;
+    }
+
+    public double getCalibration() {
+        return calibration;
+    }
+
+    public long getRealEvaluations() {
+        return realEvaluations;
+    }
+
+    public long getScreenedOut() {
+        return screenedOut;
+    }
+
+    public SurrogateModel getModel() {
+        return model;
+    }
+
+    public double getEvaluationFraction() {
+        return evaluationFraction;
+    }
+
+    public void setEvaluationFraction(double evaluationFraction) {
+        if (evaluationFraction <= 0.0 || evaluationFraction > 1.0) {
+            throw new IllegalArgumentException("Evaluation fraction must be in (0, 1]");
+        }
+        this.evaluationFraction = evaluationFraction;
+    }
+
+    public int getCalibrationSamples() {
+        return calibrationSamples;
+    }
+
+    public void setCalibrationSamples(int calibrationSamples) {
+        if (calibrationSamples < 0) {
+            throw new IllegalArgumentException("Calibration samples cannot be negative");
+        }
+        this.calibrationSamples = calibrationSamples;
+    }
+
+    public double getMinRankCorrelation() {
+        return minRankCorrelation;
+    }
+
+    public void setMinRankCorrelation(double minRankCorrelation) {
+        if (minRankCorrelation < -1.0 || minRankCorrelation > 1.0) {
+            throw new IllegalArgumentException("Rank correlation threshold must be between -1 and 1");
+        }
+        this.minRankCorrelation = minRankCorrelation;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SurrogateAssistedFitness{real=%d, screenedOut=%d, calibration=%.3f, trainings=%d, trainingFailures=%d}",
+                realEvaluations, screenedOut, calibration, model.getTrainingCount(), model.getTrainingFailures());
+    }
+
+    @Override
+    public void close() {
+        model.close();
+    }
+}
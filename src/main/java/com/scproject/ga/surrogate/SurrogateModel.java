@@ -0,0 +1,276 @@
+package com.scproject.ga.surrogate;
+
+import com.scproject.neural_network.core.HyperParameters;
+import com.scproject.neural_network.core.Network;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Online regression model of fitness built on the project's Network. Evaluated (features, fitness)
+ * pairs go into a bounded archive that keeps the most recent samples; once enough new samples have
+ * arrived a fresh network is trained on a snapshot in the background and then swapped in, so
+ * predictions never wait for training and never see a half-trained model.
+ */
+public class SurrogateModel implements AutoCloseable {
+
+    private final int capacity;
+    private double[][] archiveFeatures;
+    //Fixed by the first archived sample; -1 until then
+    private int featureCount = -1;
+    private final double[] archiveTargets;
+    private int size;
+    private int next;
+    private int samplesSinceTraining;
+
+    private int hiddenSize;
+    private int minSamples;
+    private int retrainInterval;
+    private HyperParameters hyperParameters;
+
+    private volatile Model model;
+    private final AtomicBoolean training = new AtomicBoolean();
+    private final ExecutorService trainer;
+    private volatile long trainings;
+    private volatile long trainingFailures;
+    private volatile RuntimeException lastTrainingError;
+
+    public SurrogateModel() {
+        this(2000);
+    }
+
+    public SurrogateModel(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Archive capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.archiveTargets = new double[capacity];
+        this.hiddenSize = 32;
+        this.minSamples = 50;
+        this.retrainInterval = 50;
+        this.hyperParameters = new HyperParameters(0.05, 100, 32, "he", "mse", true, null);
+        this.trainer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "surrogate-trainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public synchronized void addSample(double[] features, double fitness) {
+        if (!Double.isFinite(fitness)) {
+            return;
+        }
+        if (featureCount < 0) {
+            featureCount = features.length;
+            archiveFeatures = new double[capacity][];
+        } else if (features.length != featureCount) {
+            throw new IllegalArgumentException("Feature count changed from " + featureCount
+                    + " to " + features.length);
+        }
+        archiveFeatures[next] = features.clone();
+        archiveTargets[next] = fitness;
+        next = (next + 1) % capacity;
+        size = Math.min(size + 1, capacity);
+        samplesSinceTraining++;
+
+        if (size >= minSamples && samplesSinceTraining >= retrainInterval) {
+            retrain();
+        }
+    }
+
+    //Starts a background training run on the current archive unless one is already running
+    public synchronized boolean retrain() {
+        if (size == 0 || !training.compareAndSet(false, true)) {
+            return false;
+        }
+        double[][] x = new double[size][];
+        double[] y = new double[size];
+        System.arraycopy(archiveFeatures, 0, x, 0, size);
+        System.arraycopy(archiveTargets, 0, y, 0, size);
+        samplesSinceTraining = 0;
+
+        trainer.execute(() -> {
+            try {
+                model = train(x, y);
+                trainings++;
+            } catch (RuntimeException e) {
+                //Keep serving the previous model
+                lastTrainingError = e;
+                trainingFailures++;
+            } finally {
+                training.set(false);
+            }
+        });
+        return true;
+    }
+
+    private Model train(double[][] x, double[] y) {
+        int n = x.length;
+        int dimension = x[0].length;
+
+        double[] featureMean = new double[dimension];
+        double[] featureScale = new double[dimension];
+        for (double[] row : x) {
+            for (int j = 0; j < dimension; j++) {
+                featureMean[j] += row[j] / n;
+            }
+        }
+        for (double[] row : x) {
+            for (int j = 0; j < dimension; j++) {
+                double d = row[j] - featureMean[j];
+                featureScale[j] += d * d / n;
+            }
+        }
+        for (int j = 0; j < dimension; j++) {
+            featureScale[j] = featureScale[j] > 1e-12 ? Math.sqrt(featureScale[j]) : 1.0;
+        }
+
+        double targetMean = 0.0;
+        for (double value : y) {
+            targetMean += value / n;
+        }
+        double targetVariance = 0.0;
+        for (double value : y) {
+            targetVariance += (value - targetMean) * (value - targetMean) / n;
+        }
+        double targetScale = targetVariance > 1e-12 ? Math.sqrt(targetVariance) : 1.0;
+
+        double[][] inputs = new double[n][];
+        double[][] targets = new double[n][1];
+        for (int i = 0; i < n; i++) {
+            inputs[i] = normalize(x[i], featureMean, featureScale);
+            targets[i][0] = (y[i] - targetMean) / targetScale;
+        }
+
+        Network network = new Network(dimension, hyperParameters);
+        network.addLayer(hiddenSize, "relu");
+        network.addLayer(1, "linear");
+        network.fit(inputs, targets, null, null, false);
+        return new Model(network, featureMean, featureScale, targetMean, targetScale);
+    }
+
+    private static double[] normalize(double[] features, double[] mean, double[] scale) {
+        double[] normalized = new double[features.length];
+        for (int j = 0; j < features.length; j++) {
+            normalized[j] = (features[j] - mean[j]) / scale[j];
+        }
+        return normalized;
+    }
+
+    public boolean isReady() {
+        return model != null;
+    }
+
+    public double[] predict(double[][] features) {
+        Model current = model;
+        if (current == null) {
+            throw new IllegalStateException("Surrogate has not been trained yet");
+        }
+        return current.predict(features);
+    }
+
+    public synchronized int getSampleCount() {
+        return size;
+    }
+
+    public long getTrainingCount() {
+        return trainings;
+    }
+
+    public long getTrainingFailures() {
+        return trainingFailures;
+    }
+
+    //Most recent failed training run, or null if none has failed
+    public RuntimeException getLastTrainingError() {
+        return lastTrainingError;
+    }
+
+    public boolean isTraining() {
+        return training.get();
+    }
+
+    public int getHiddenSize() {
+        return hiddenSize;
+    }
+
+    public void setHiddenSize(int hiddenSize) {
+        if (hiddenSize <= 0) {
+            throw new IllegalArgumentException("Hidden size must be positive");
+        }
+        this.hiddenSize = hiddenSize;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public void setMinSamples(int minSamples) {
+        if (minSamples <= 0) {
+            throw new IllegalArgumentException("Minimum samples must be positive");
+        }
+        this.minSamples = minSamples;
+    }
+
+    public int getRetrainInterval() {
+        return retrainInterval;
+    }
+
+    public void setRetrainInterval(int retrainInterval) {
+        if (retrainInterval <= 0) {
+            throw new IllegalArgumentException("Retrain interval must be positive");
+        }
+        this.retrainInterval = retrainInterval;
+    }
+
+    public HyperParameters getHyperParameters() {
+        return hyperParameters;
+    }
+
+    public void setHyperParameters(HyperParameters hyperParameters) {
+        if (hyperParameters == null) {
+            throw new IllegalArgumentException("Hyperparameters cannot be null");
+        }
+        hyperParameters.validate();
+        this.hyperParameters = hyperParameters;
+    }
+
+    @Override
+    public void close() {
+        trainer.shutdownNow();
+    }
+
+    private static final class Model {
+        private final Network network;
+        private final double[] featureMean;
+        private final double[] featureScale;
+        private final double targetMean;
+        private final double targetScale;
+
+        Model(Network network, double[] featureMean, double[] featureScale, double targetMean, double targetScale) {
+            this.network = network;
+            this.featureMean = featureMean;
+            this.featureScale = featureScale;
+            this.targetMean = targetMean;
+            this.targetScale = targetScale;
+        }
+
+        double[] predict(double[][] features) {
+            double[][] inputs = new double[features.length][];
+            for (int i = 0; i < features.length; i++) {
+                inputs[i] = normalize(features[i], featureMean, featureScale);
+            }
+            double[][] outputs;
+            //Layers cache activations during forward passes
+            synchronized (network) {
+                outputs = network.predict(inputs);
+            }
+            double[] predictions = new double[features.length];
+            for (int i = 0; i < predictions.length; i++) {
+                predictions[i] = outputs[i][0] * targetScale + targetMean;
+            }
+            return predictions;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.scproject.neural_network.activations;
 
+import com.scproject.neural_network.core.Matrix;
+
 /**
  * Base class for activation functions
  */
@@ -12,8 +14,16 @@ public abstract class Activation {
         this.usesPreActivation = usesPreActivation;
     }
     
-    public abstract double[][] forward(double[][] x);
-    public abstract double[][] derivative(double[][] x);
+    public abstract Matrix forward(Matrix x);
+    public abstract Matrix derivative(Matrix x);
+    
+    public double[][] forward(double[][] x) {
+        return forward(Matrix.of(x)).toArray();
+    }
+    
+    public double[][] derivative(double[][] x) {
+        return derivative(Matrix.of(x)).toArray();
+    }
     
     public String getName() { return name; }
     public boolean usesPreActivation() { return usesPreActivation; }
@@ -1,6 +1,6 @@
 package com.scproject.neural_network.activations;
 
-import com.scproject.neural_network.core.MatrixUtils;
+import com.scproject.neural_network.core.Matrix;
 
 /**
  * Linear activation function
@@ -12,18 +12,14 @@ public class Linear extends Activation {
     }
     
     @Override
-    public double[][] forward(double[][] x) {
-        return MatrixUtils.copy(x);
+    public Matrix forward(Matrix x) {
+        return x.copy();
     }
     
     @Override
-    public double[][] derivative(double[][] x) {
-        double[][] result = new double[x.length][x[0].length];
-        for (int i = 0; i < x.length; i++) {
-            for (int j = 0; j < x[0].length; j++) {
-                result[i][j] = 1.0;
-            }
-        }
+    public Matrix derivative(Matrix x) {
+        Matrix result = new Matrix(x.getRows(), x.getCols());
+        result.fill(1.0);
         return result;
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.scproject.neural_network.activations;
 
+import com.scproject.neural_network.core.Matrix;
+
 /**
  * ReLU activation function
  */
@@ -10,22 +12,32 @@ public class ReLU extends Activation {
     }
     
     @Override
-    public double[][] forward(double[][] x) {
-        double[][] result = new double[x.length][x[0].length];
-        for (int i = 0; i < x.length; i++) {
-            for (int j = 0; j < x[0].length; j++) {
-                result[i][j] = Math.max(0.0, x[i][j]);
+    public Matrix forward(Matrix x) {
+        Matrix result = new Matrix(x.getRows(), x.getCols());
+        double[] in = x.getData();
+        double[] out = result.getData();
+        int cols = x.getCols();
+        for (int i = 0; i < x.getRows(); i++) {
+            int row = x.getOffset() + i * x.getRowStride();
+            for (int j = 0; j < cols; j++) {
+                double value = in[row + j];
+                out[i * cols + j] = Math.max(0.0, value);
             }
         }
         return result;
     }
     
     @Override
-    public double[][] derivative(double[][] z) {
-        double[][] result = new double[z.length][z[0].length];
-        for (int i = 0; i < z.length; i++) {
-            for (int j = 0; j < z[0].length; j++) {
-                result[i][j] = z[i][j] > 0 ? 1.0 : 0.0;
+    public Matrix derivative(Matrix z) {
+        Matrix result = new Matrix(z.getRows(), z.getCols());
+        double[] in = z.getData();
+        double[] out = result.getData();
+        int cols = z.getCols();
+        for (int i = 0; i < z.getRows(); i++) {
+            int row = z.getOffset() + i * z.getRowStride();
+            for (int j = 0; j < cols; j++) {
+                double value = in[row + j];
+                out[i * cols + j] = value > 0 ? 1.0 : 0.0;
             }
         }
         return result;
@@ -1,5 +1,7 @@
 package com.scproject.neural_network.activations;
 
+import com.scproject.neural_network.core.Matrix;
+
 /**
  * Tanh activation function
  */
@@ -10,22 +12,32 @@ public class Tanh extends Activation {
     }
     
     @Override
-    public double[][] forward(double[][] x) {
-        double[][] result = new double[x.length][x[0].length];
-        for (int i = 0; i < x.length; i++) {
-            for (int j = 0; j < x[0].length; j++) {
-                result[i][j] = Math.tanh(x[i][j]);
+    public Matrix forward(Matrix x) {
+        Matrix result = new Matrix(x.getRows(), x.getCols());
+        double[] in = x.getData();
+        double[] out = result.getData();
+        int cols = x.getCols();
+        for (int i = 0; i < x.getRows(); i++) {
+            int row = x.getOffset() + i * x.getRowStride();
+            for (int j = 0; j < cols; j++) {
+                double value = in[row + j];
+                out[i * cols + j] = Math.tanh(value);
             }
         }
         return result;
     }
     
     @Override
-    public double[][] derivative(double[][] output) {
-        double[][] result = new double[output.length][output[0].length];
-        for (int i = 0; i < output.length; i++) {
-            for (int j = 0; j < output[0].length; j++) {
-                result[i][j] = 1.0 - output[i][j] * output[i][j];
+    public Matrix derivative(Matrix output) {
+        Matrix result = new Matrix(output.getRows(), output.getCols());
+        double[] in = output.getData();
+        double[] out = result.getData();
+        int cols = output.getCols();
+        for (int i = 0; i < output.getRows(); i++) {
+            int row = output.getOffset() + i * output.getRowStride();
+            for (int j = 0; j < cols; j++) {
+                double value = in[row + j];
+                out[i * cols + j] = 1.0 - value * value;
             }
         }
         return result;
@@ -0,0 +1,199 @@
+package com.scproject.neural_network.benchmark;
+
+import com.scproject.neural_network.core.Matrix;
+import com.scproject.neural_network.core.MatrixUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * GFLOP/s of {@link MatrixUtils#multiply(Matrix, Matrix)} and its transposed variants against the
+ * loops they replaced: {@code GemmBenchmark [--minSeconds S] [shapes...]}.
+ *
+ * A shape is {@code MxKxN} for an (M x K) * (K x N) product; the prefix {@code tA:} times
+ * {@link MatrixUtils#multiplyTransposeA} and {@code tB:} {@link MatrixUtils#multiplyTransposeB}
+ * for the same product, which is how the dense layer backward pass calls them. Without shapes the
+ * layer products of the bundled models are measured, plus a few larger squares. Columns are the
+ * original i-j-k loop over {@code double[][]} (transposing first for tA/tB), the i-k-j loop over
+ * {@link Matrix}, and the current implementation. Every product is checked to match the i-k-j loop
+ * exactly.
+ */
+public class GemmBenchmark {
+
+    private static final String[] DEFAULT_SHAPES = {
+        // HeartDisease network, batch 32 and the full 303 rows: forward and weight gradients
+        "32x13x16", "32x16x8", "32x8x2", "303x13x16", "303x16x8",
+        "tA:13x32x16", "tA:16x32x8", "tB:32x8x16",
+        // Widest and largest-batch architectures of the hyper-parameter search
+        "64x128x128", "128x128x128", "tA:128x128x128", "tB:128x128x128",
+        "256x512x512", "1024x1024x1024"
+    };
+
+    private static final class Shape {
+        final String spec;
+        final boolean transposeA;
+        final boolean transposeB;
+        final int m;
+        final int k;
+        final int n;
+
+        Shape(String spec) {
+            this.spec = spec;
+            this.transposeA = spec.startsWith("tA:");
+            this.transposeB = spec.startsWith("tB:");
+            String[] parts = spec.substring(transposeA || transposeB ? 3 : 0).split("x");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Shape must be MxKxN: " + spec);
+            }
+            this.m = Integer.parseInt(parts[0]);
+            this.k = Integer.parseInt(parts[1]);
+            this.n = Integer.parseInt(parts[2]);
+            if (m <= 0 || k <= 0 || n <= 0) {
+                throw new IllegalArgumentException("Shape dimensions must be positive: " + spec);
+            }
+        }
+
+        double flops() {
+            return 2.0 * m * k * n;
+        }
+    }
+
+    public static void main(String[] args) {
+        double minSeconds = 0.5;
+        List<Shape> shapes = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                shapes.add(parse(arg));
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                usage("Missing value for " + arg);
+            }
+            String value = args[++i];
+            if (arg.equals("--minSeconds")) {
+                minSeconds = Double.parseDouble(value);
+            } else {
+                usage("Unknown option " + arg);
+            }
+        }
+        if (shapes.isEmpty()) {
+            for (String spec : DEFAULT_SHAPES) {
+                shapes.add(new Shape(spec));
+            }
+        }
+
+        System.out.printf("Common pool parallelism: %d%n", ForkJoinPool.getCommonPoolParallelism());
+        System.out.printf("%-18s %10s %10s %10s %9s %9s%n", "shape", "ijk", "ikj", "blocked", "speedup", "exact");
+        Random random = new Random(42);
+        for (Shape shape : shapes) {
+            // Operands in the layout the call expects: A is K x M for tA, B is N x K for tB
+            Matrix a = random(shape.transposeA ? shape.k : shape.m, shape.transposeA ? shape.m : shape.k, random);
+            Matrix b = random(shape.transposeB ? shape.n : shape.k, shape.transposeB ? shape.k : shape.n, random);
+            double[][] aArray = a.toArray();
+            double[][] bArray = b.toArray();
+
+            double[] reference = ikj(shape, a, b).getData();
+            boolean exact = Arrays.equals(reference, blocked(shape, a, b).getData());
+
+            double ijk = measure(shape, minSeconds, () -> ijk(shape, aArray, bArray));
+            double ikj = measure(shape, minSeconds, () -> ikj(shape, a, b));
+            double blocked = measure(shape, minSeconds, () -> blocked(shape, a, b));
+            System.out.printf("%-18s %10.2f %10.2f %10.2f %8.2fx %9s%n", shape.spec, ijk, ikj, blocked,
+                blocked / ikj, exact ? "yes" : "NO");
+        }
+    }
+
+    private static Shape parse(String spec) {
+        try {
+            return new Shape(spec);
+        } catch (IllegalArgumentException e) {
+            usage(e.getMessage());
+            return null;
+        }
+    }
+
+    // GFLOP/s over as many repetitions as fit in minSeconds, after a warm-up of the same length
+    private static double measure(Shape shape, double minSeconds, Runnable product) {
+        long budget = (long) (minSeconds * 1e9);
+        for (long start = System.nanoTime(); System.nanoTime() - start < budget; ) {
+            product.run();
+        }
+        int repetitions = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            product.run();
+            repetitions++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < budget);
+        return shape.flops() * repetitions / elapsed;
+    }
+
+    private static Matrix blocked(Shape shape, Matrix a, Matrix b) {
+        if (shape.transposeA) {
+            return MatrixUtils.multiplyTransposeA(a, b);
+        }
+        if (shape.transposeB) {
+            return MatrixUtils.multiplyTransposeB(a, b);
+        }
+        return MatrixUtils.multiply(a, b);
+    }
+
+    // The Matrix loop MatrixUtils used before blocking, reading transposed operands through strides
+    private static Matrix ikj(Shape shape, Matrix a, Matrix b) {
+        int aRowStep = shape.transposeA ? 1 : a.getRowStride();
+        int aColStep = shape.transposeA ? a.getRowStride() : 1;
+        int bRowStep = shape.transposeB ? 1 : b.getRowStride();
+        int bColStep = shape.transposeB ? b.getRowStride() : 1;
+        double[] x = a.getData();
+        double[] y = b.getData();
+        Matrix result = new Matrix(shape.m, shape.n);
+        double[] c = result.getData();
+        for (int i = 0; i < shape.m; i++) {
+            for (int p = 0; p < shape.k; p++) {
+                double aip = x[a.getOffset() + i * aRowStep + p * aColStep];
+                int bRow = b.getOffset() + p * bRowStep;
+                for (int j = 0; j < shape.n; j++) {
+                    c[i * shape.n + j] += aip * y[bRow + j * bColStep];
+                }
+            }
+        }
+        return result;
+    }
+
+    // The original double[][] loop, which needed explicit transposes
+    private static double[][] ijk(Shape shape, double[][] a, double[][] b) {
+        double[][] left = shape.transposeA ? MatrixUtils.transpose(a) : a;
+        double[][] right = shape.transposeB ? MatrixUtils.transpose(b) : b;
+        double[][] result = new double[shape.m][shape.n];
+        for (int i = 0; i < shape.m; i++) {
+            for (int j = 0; j < shape.n; j++) {
+                double sum = 0;
+                for (int p = 0; p < shape.k; p++) {
+                    sum += left[i][p] * right[p][j];
+                }
+                result[i][j] = sum;
+            }
+        }
+        return result;
+    }
+
+    private static Matrix random(int rows, int cols, Random random) {
+        Matrix result = new Matrix(rows, cols);
+        double[] data = result.getData();
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextDouble() * 2 - 1;
+        }
+        return result;
+    }
+
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println("Usage: GemmBenchmark [--minSeconds S] [MxKxN | tA:MxKxN | tB:MxKxN ...]");
+        System.exit(2);
+    }
+}
\ No newline at end of file
@@ -11,8 +11,8 @@ public class DenseLayer implements Layer {
     private final int inputSize;
     private final int outputSize;
     private final Activation activation;
-    private double[][] weights;
-    private double[] bias;
+    private final Matrix weights;
+    private final double[] bias;
     private Dropout dropout;
     
     // Cached values for backpropagation
@@ -31,7 +31,7 @@ public class DenseLayer implements Layer {
         
         // Initialize weights and bias
         WeightInitializer initializer = WeightInitializer.create(initializerName);
-        this.weights = initializer.initialize(inputSize, outputSize);
+        this.weights = Matrix.of(initializer.initialize(inputSize, outputSize));
         this.bias = new double[outputSize];
     }
     
@@ -43,22 +43,23 @@ public class DenseLayer implements Layer {
     }
     
     @Override
-    public double[][] forward(double[][] input) {
-        if (input[0].length != inputSize) {
+    public Matrix forward(Matrix input) {
+        if (input.getCols() != inputSize) {
             throw new IllegalArgumentException(
                 String.format("Input features %d do not match expected %d", 
-                            input[0].length, inputSize));
+                            input.getCols(), inputSize));
         }
         
         // Cache input for backpropagation
         cache.cacheInput(input);
         
         // Compute z = X * W + b
-        double[][] z = MatrixUtils.add(MatrixUtils.multiply(input, weights), bias);
+        Matrix z = MatrixUtils.multiply(input, weights);
+        MatrixUtils.addInPlace(z, bias);
         cache.cacheZ(z);
         
         // Apply activation function
-        double[][] activated = activation.forward(z);
+        Matrix activated = activation.forward(z);
         cache.cacheActivation(activated);
         
         // Apply dropout if configured
@@ -70,19 +71,19 @@ public class DenseLayer implements Layer {
     }
     
     @Override
-    public double[][] backward(double[][] gradOutput, double learningRate, double l2Regularization) {
+    public Matrix backward(Matrix gradOutput, double learningRate, double l2Regularization) {
         if (!cache.isValid()) {
             throw new IllegalStateException("Forward pass must be called before backward pass");
         }
         
         // Apply dropout backward pass
-        double[][] gradAfterDropout = gradOutput;
+        Matrix gradAfterDropout = gradOutput;
         if (dropout != null) {
             gradAfterDropout = dropout.backward(gradOutput);
         }
         
         // Compute activation gradient
-        double[][] activationGrad;
+        Matrix activationGrad;
         if (activation.usesPreActivation()) {
             activationGrad = activation.derivative(cache.getCachedZ());
         } else {
@@ -90,24 +91,27 @@ public class DenseLayer implements Layer {
         }
         
         // Compute delta = gradOutput * activationGrad
-        double[][] delta = MatrixUtils.elementWiseMultiply(gradAfterDropout, activationGrad);
+        Matrix delta = MatrixUtils.elementWiseMultiply(gradAfterDropout, activationGrad);
         
         // Compute gradient for previous layer BEFORE updating weights
-        double[][] gradInput = MatrixUtils.multiply(delta, MatrixUtils.transpose(weights));
+        Matrix gradInput = MatrixUtils.multiplyTransposeB(delta, weights);
         
         // Compute gradients with L2 regularization
-        double[][] gradWeights = MatrixUtils.multiply(MatrixUtils.transpose(cache.getCachedInput()), delta);
+        Matrix gradWeights = MatrixUtils.multiplyTransposeA(cache.getCachedInput(), delta);
         
         // Add L2 regularization to weight gradients
         if (l2Regularization > 0) {
-            gradWeights = MatrixUtils.add(gradWeights, MatrixUtils.multiply(weights, l2Regularization));
+            MatrixUtils.addScaledInPlace(gradWeights, weights, l2Regularization);
         }
         
-        double[] gradBias = MatrixUtils.mean(delta, 0);
+        // Loss gradients are already averaged over the batch, so sum like gradWeights does
+        double[] gradBias = MatrixUtils.sum(delta, 0);
         
-        // Update parameters
-        weights = MatrixUtils.subtract(weights, MatrixUtils.multiply(gradWeights, learningRate));
-        bias = MatrixUtils.subtract(bias, MatrixUtils.multiply(gradBias, learningRate));
+        // Update parameters in place
+        MatrixUtils.addScaledInPlace(weights, gradWeights, -learningRate);
+        for (int j = 0; j < outputSize; j++) {
+            bias[j] -= gradBias[j] * learningRate;
+        }
         
         return gradInput;
     }
@@ -121,7 +125,7 @@ public class DenseLayer implements Layer {
     
     @Override
     public int getParameterCount() {
-        return weights.length * weights[0].length + bias.length;
+        return weights.size() + bias.length;
     }
     
     @Override
@@ -134,8 +138,34 @@ public class DenseLayer implements Layer {
         return inputSize;
     }
     
+    /**
+     * Copy weights (row-major, input by output) followed by the bias into a flat buffer.
+     * Returns the number of values written.
+     */
+    public int getParameters(double[] dest, int offset) {
+        int pos = offset;
+        System.arraycopy(weights.getData(), 0, dest, pos, weights.size());
+        pos += weights.size();
+        System.arraycopy(bias, 0, dest, pos, outputSize);
+        return pos + outputSize - offset;
+    }
+    
+    /**
+     * Load weights and bias from a flat buffer in the layout of getParameters, in place.
+     * Returns the number of values read.
+     */
+    public int setParameters(double[] src, int offset) {
+        int pos = offset;
+        System.arraycopy(src, pos, weights.getData(), 0, weights.size());
+        pos += weights.size();
+        System.arraycopy(src, pos, bias, 0, outputSize);
+        return pos + outputSize - offset;
+    }
+    
     // Getters
-    public double[][] getWeights() { return weights; }
+    public Matrix getWeightMatrix() { return weights; }
+    /** Copy of the weights, input by output */
+    public double[][] getWeights() { return weights.toArray(); }
     public double[] getBias() { return bias; }
     public Activation getActivation() { return activation; }
 }
\ No newline at end of file
@@ -8,7 +8,8 @@ import java.util.Random;
 public class Dropout {
     private final double dropoutRate;
     private final Random random;
-    private boolean[][] mask;
+    // Row-major, one flag per element of the last forward input
+    private boolean[] mask;
     private boolean training;
     
     public Dropout(double dropoutRate, long seed) {
@@ -21,42 +22,59 @@ public class Dropout {
         this.training = training;
     }
     
-    public double[][] forward(double[][] input) {
+    public Matrix forward(Matrix input) {
         if (!training || dropoutRate == 0.0) {
             return input;
         }
         
-        int rows = input.length;
-        int cols = input[0].length;
-        mask = new boolean[rows][cols];
-        double[][] output = new double[rows][cols];
+        int rows = input.getRows();
+        int cols = input.getCols();
+        mask = new boolean[rows * cols];
+        Matrix output = new Matrix(rows, cols);
+        double[] in = input.getData();
+        double[] out = output.getData();
         
         double scale = 1.0 / (1.0 - dropoutRate);
         
         for (int i = 0; i < rows; i++) {
+            int row = input.getOffset() + i * input.getRowStride();
             for (int j = 0; j < cols; j++) {
-                mask[i][j] = random.nextDouble() > dropoutRate;
-                output[i][j] = mask[i][j] ? input[i][j] * scale : 0.0;
+                int k = i * cols + j;
+                mask[k] = random.nextDouble() > dropoutRate;
+                out[k] = mask[k] ? in[row + j] * scale : 0.0;
             }
         }
         
         return output;
     }
     
-    public double[][] backward(double[][] gradOutput) {
+    public Matrix backward(Matrix gradOutput) {
         if (!training || dropoutRate == 0.0 || mask == null) {
             return gradOutput;
         }
         
-        double[][] gradInput = new double[gradOutput.length][gradOutput[0].length];
+        int cols = gradOutput.getCols();
+        Matrix gradInput = new Matrix(gradOutput.getRows(), cols);
+        double[] in = gradOutput.getData();
+        double[] out = gradInput.getData();
         double scale = 1.0 / (1.0 - dropoutRate);
         
-        for (int i = 0; i < gradOutput.length; i++) {
-            for (int j = 0; j < gradOutput[0].length; j++) {
-                gradInput[i][j] = mask[i][j] ? gradOutput[i][j] * scale : 0.0;
+        for (int i = 0; i < gradOutput.getRows(); i++) {
+            int row = gradOutput.getOffset() + i * gradOutput.getRowStride();
+            for (int j = 0; j < cols; j++) {
+                int k = i * cols + j;
+                out[k] = mask[k] ? in[row + j] * scale : 0.0;
             }
         }
         
         return gradInput;
     }
+    
+    public double[][] forward(double[][] input) {
+        return forward(Matrix.of(input)).toArray();
+    }
+    
+    public double[][] backward(double[][] gradOutput) {
+        return backward(Matrix.of(gradOutput)).toArray();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package com.scproject.neural_network.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Blocked matrix multiplication behind {@link MatrixUtils#multiply(Matrix, Matrix)} and its
+ * transposed variants.
+ *
+ * C is computed in blocks of MC rows. For every KC x NC block of B the block is packed into
+ * NR-wide column panels, the matching MC x KC block of A into MR-high row panels, and an
+ * MR x NR register-blocked kernel accumulates each tile of C. Packing reads A and B through
+ * their strides, so transposed operands and views cost nothing extra. Row blocks are spread over
+ * the common ForkJoin pool once a product is large enough.
+ *
+ * Every element of C still adds its products in increasing k order, exactly like a plain
+ * i-k-j loop, so results do not depend on the blocking or on the number of threads.
+ */
+final class Gemm {
+    static final int MR = 4;
+    static final int NR = 8;
+    static final int KC = 256;
+    static final int MC = 64;
+    static final int NC = 512;
+    // Below this many multiply-adds packing costs more than it saves
+    static final long BLOCKED_THRESHOLD = 16 * 1024;
+    // From this many multiply-adds on, row blocks run in parallel; above every layer of the
+    // tuned architectures, which already train concurrently
+    static final long PARALLEL_THRESHOLD = 1L << 22;
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private static final class Buffers {
+        final double[] packedA = new double[MC * KC];
+        final double[] packedB = new double[KC * NC];
+        final double[] edge = new double[MR * NR];
+    }
+
+    // Element (i, p) of an operand is data[offset + i * rowStep + p * colStep]
+    private static final class Operand {
+        final double[] data;
+        final int offset;
+        final int rowStep;
+        final int colStep;
+
+        Operand(Matrix matrix, boolean transposed) {
+            this.data = matrix.getData();
+            this.offset = matrix.getOffset();
+            this.rowStep = transposed ? 1 : matrix.getRowStride();
+            this.colStep = transposed ? matrix.getRowStride() : 1;
+        }
+    }
+
+    private Gemm() {
+    }
+
+    /**
+     * op(A) * op(B), where op transposes its operand when the flag is set; shapes are checked by
+     * the caller
+     */
+    static Matrix multiply(Matrix A, boolean transposeA, Matrix B, boolean transposeB) {
+        int m = transposeA ? A.getCols() : A.getRows();
+        int k = transposeA ? A.getRows() : A.getCols();
+        int n = transposeB ? B.getRows() : B.getCols();
+        Matrix result = new Matrix(m, n);
+        Operand a = new Operand(A, transposeA);
+        Operand b = new Operand(B, transposeB);
+        double[] c = result.getData();
+
+        long work = (long) m * n * k;
+        if (work < BLOCKED_THRESHOLD || m < MR || n < NR) {
+            simple(a, b, c, m, k, n);
+            return result;
+        }
+
+        int blocks = (m + MC - 1) / MC;
+        if (work >= PARALLEL_THRESHOLD && blocks > 1 && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            IntStream.range(0, blocks).parallel().forEach(block -> rowBlock(a, b, c, block * MC, m, k, n));
+        } else {
+            for (int block = 0; block < blocks; block++) {
+                rowBlock(a, b, c, block * MC, m, k, n);
+            }
+        }
+        return result;
+    }
+
+    // Plain i-k-j loop for products too small to amortize packing
+    private static void simple(Operand a, Operand b, double[] c, int m, int k, int n) {
+        for (int i = 0; i < m; i++) {
+            int aRow = a.offset + i * a.rowStep;
+            int cRow = i * n;
+            for (int p = 0; p < k; p++) {
+                double aip = a.data[aRow + p * a.colStep];
+                int bRow = b.offset + p * b.rowStep;
+                for (int j = 0; j < n; j++) {
+                    c[cRow + j] += aip * b.data[bRow + j * b.colStep];
+                }
+            }
+        }
+    }
+
+    // Rows [ic, ic + MC) of C
+    private static void rowBlock(Operand a, Operand b, double[] c, int ic, int m, int k, int n) {
+        Buffers buffers = BUFFERS.get();
+        int mc = Math.min(MC, m - ic);
+        for (int jc = 0; jc < n; jc += NC) {
+            int nc = Math.min(NC, n - jc);
+            for (int pc = 0; pc < k; pc += KC) {
+                int kc = Math.min(KC, k - pc);
+                packB(b, pc, kc, jc, nc, buffers.packedB);
+                packA(a, ic, mc, pc, kc, buffers.packedA);
+                for (int jr = 0; jr < nc; jr += NR) {
+                    for (int ir = 0; ir < mc; ir += MR) {
+                        int cOffset = (ic + ir) * n + jc + jr;
+                        if (ir + MR <= mc && jr + NR <= nc) {
+                            kernel(buffers.packedA, ir * kc, buffers.packedB, jr * kc, kc, c, cOffset, n);
+                        } else {
+                            edgeTile(buffers, ir * kc, jr * kc, kc, c, cOffset, n,
+                                Math.min(MR, mc - ir), Math.min(NR, nc - jr));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // NR-wide column panels, each kc rows deep; columns past nc are zero
+    private static void packB(Operand b, int pc, int kc, int jc, int nc, double[] packed) {
+        for (int jr = 0; jr < nc; jr += NR) {
+            int columns = Math.min(NR, nc - jr);
+            int base = jr * kc;
+            for (int p = 0; p < kc; p++) {
+                int source = b.offset + (pc + p) * b.rowStep + (jc + jr) * b.colStep;
+                int target = base + p * NR;
+                for (int q = 0; q < columns; q++) {
+                    packed[target + q] = b.data[source + q * b.colStep];
+                }
+                for (int q = columns; q < NR; q++) {
+                    packed[target + q] = 0.0;
+                }
+            }
+        }
+    }
+
+    // MR-high row panels, each kc columns wide; rows past mc are zero
+    private static void packA(Operand a, int ic, int mc, int pc, int kc, double[] packed) {
+        for (int ir = 0; ir < mc; ir += MR) {
+            int rows = Math.min(MR, mc - ir);
+            int base = ir * kc;
+            for (int r = 0; r < MR; r++) {
+                if (r < rows) {
+                    int source = a.offset + (ic + ir + r) * a.rowStep + pc * a.colStep;
+                    for (int p = 0; p < kc; p++) {
+                        packed[base + p * MR + r] = a.data[source + p * a.colStep];
+                    }
+                } else {
+                    for (int p = 0; p < kc; p++) {
+                        packed[base + p * MR + r] = 0.0;
+                    }
+                }
+            }
+        }
+    }
+
+    // Partial tile at the bottom or right edge, computed in a full-size scratch tile
+    private static void edgeTile(Buffers buffers, int aOffset, int bOffset, int kc,
+                                 double[] c, int cOffset, int ldc, int rows, int columns) {
+        double[] tile = buffers.edge;
+        for (int r = 0; r < MR; r++) {
+            for (int q = 0; q < NR; q++) {
+                tile[r * NR + q] = r < rows && q < columns ? c[cOffset + r * ldc + q] : 0.0;
+            }
+        }
+        kernel(buffers.packedA, aOffset, buffers.packedB, bOffset, kc, tile, 0, NR);
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(tile, r * NR, c, cOffset + r * ldc, columns);
+        }
+    }
+
+    // C[0..MR, 0..NR) += A panel * B panel, with the tile held in locals for the whole k loop
+    private static void kernel(double[] a, int aOffset, double[] b, int bOffset, int kc,
+                               double[] c, int cOffset, int ldc) {
+        int c0 = cOffset;
+        int c1 = c0 + ldc;
+        int c2 = c1 + ldc;
+        int c3 = c2 + ldc;
+        double c00 = c[c0], c01 = c[c0 + 1], c02 = c[c0 + 2], c03 = c[c0 + 3];
+        double c04 = c[c0 + 4], c05 = c[c0 + 5], c06 = c[c0 + 6], c07 = c[c0 + 7];
+        double c10 = c[c1], c11 = c[c1 + 1], c12 = c[c1 + 2], c13 = c[c1 + 3];
+        double c14 = c[c1 + 4], c15 = c[c1 + 5], c16 = c[c1 + 6], c17 = c[c1 + 7];
+        double c20 = c[c2], c21 = c[c2 + 1], c22 = c[c2 + 2], c23 = c[c2 + 3];
+        double c24 = c[c2 + 4], c25 = c[c2 + 5], c26 = c[c2 + 6], c27 = c[c2 + 7];
+        double c30 = c[c3], c31 = c[c3 + 1], c32 = c[c3 + 2], c33 = c[c3 + 3];
+        double c34 = c[c3 + 4], c35 = c[c3 + 5], c36 = c[c3 + 6], c37 = c[c3 + 7];
+
+        for (int p = 0; p < kc; p++) {
+            int x = aOffset + p * MR;
+            int y = bOffset + p * NR;
+            double b0 = b[y], b1 = b[y + 1], b2 = b[y + 2], b3 = b[y + 3];
+            double b4 = b[y + 4], b5 = b[y + 5], b6 = b[y + 6], b7 = b[y + 7];
+
+            double a0 = a[x];
+            c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+            c04 += a0 * b4; c05 += a0 * b5; c06 += a0 * b6; c07 += a0 * b7;
+            double a1 = a[x + 1];
+            c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+            c14 += a1 * b4; c15 += a1 * b5; c16 += a1 * b6; c17 += a1 * b7;
+            double a2 = a[x + 2];
+            c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+            c24 += a2 * b4; c25 += a2 * b5; c26 += a2 * b6; c27 += a2 * b7;
+            double a3 = a[x + 3];
+            c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+            c34 += a3 * b4; c35 += a3 * b5; c36 += a3 * b6; c37 += a3 * b7;
+        }
+
+        c[c0] = c00; c[c0 + 1] = c01; c[c0 + 2] = c02; c[c0 + 3] = c03;
+        c[c0 + 4] = c04; c[c0 + 5] = c05; c[c0 + 6] = c06; c[c0 + 7] = c07;
+        c[c1] = c10; c[c1 + 1] = c11; c[c1 + 2] = c12; c[c1 + 3] = c13;
+        c[c1 + 4] = c14; c[c1 + 5] = c15; c[c1 + 6] = c16; c[c1 + 7] = c17;
+        c[c2] = c20; c[c2 + 1] = c21; c[c2 + 2] = c22; c[c2 + 3] = c23;
+        c[c2 + 4] = c24; c[c2 + 5] = c25; c[c2 + 6] = c26; c[c2 + 7] = c27;
+        c[c3] = c30; c[c3 + 1] = c31; c[c3 + 2] = c32; c[c3 + 3] = c33;
+        c[c3 + 4] = c34; c[c3 + 5] = c35; c[c3 + 6] = c36; c[c3 + 7] = c37;
+    }
+}
@@ -8,16 +8,28 @@ public interface Layer {
     /**
      * Forward propagation through this layer
      */
-    double[][] forward(double[][] input);
+    Matrix forward(Matrix input);
     
     /**
      * Backward propagation through this layer
      */
-    double[][] backward(double[][] gradOutput, double learningRate, double l2Regularization);
+    Matrix backward(Matrix gradOutput, double learningRate, double l2Regularization);
     
     /**
      * Backward propagation without L2 regularization
      */
+    default Matrix backward(Matrix gradOutput, double learningRate) {
+        return backward(gradOutput, learningRate, 0.0);
+    }
+    
+    default double[][] forward(double[][] input) {
+        return forward(Matrix.of(input)).toArray();
+    }
+    
+    default double[][] backward(double[][] gradOutput, double learningRate, double l2Regularization) {
+        return backward(Matrix.of(gradOutput), learningRate, l2Regularization).toArray();
+    }
+    
     default double[][] backward(double[][] gradOutput, double learningRate) {
         return backward(gradOutput, learningRate, 0.0);
     }
@@ -0,0 +1,185 @@
+package com.scproject.neural_network.core;
+
+import java.util.Arrays;
+
+/**
+ * Dense row-major matrix over a single {@code double[]}.
+ *
+ * Element (i, j) lives at {@code data[offset + i * rowStride + j]}. A matrix created with
+ * {@link #Matrix(int, int)} owns a contiguous array; {@link #rows(int, int)},
+ * {@link #view(int, int, int, int)} and {@link #row(int)} return views that share it, so writes
+ * through a view are visible in the parent. Use {@link #of(double[][])} and {@link #toArray()} to
+ * convert from and to jagged arrays.
+ */
+public final class Matrix {
+    private final double[] data;
+    private final int offset;
+    private final int rows;
+    private final int cols;
+    private final int rowStride;
+
+    public Matrix(int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Matrix dimensions cannot be negative");
+        }
+        this.data = new double[rows * cols];
+        this.offset = 0;
+        this.rows = rows;
+        this.cols = cols;
+        this.rowStride = cols;
+    }
+
+    private Matrix(double[] data, int offset, int rows, int cols, int rowStride) {
+        this.data = data;
+        this.offset = offset;
+        this.rows = rows;
+        this.cols = cols;
+        this.rowStride = rowStride;
+    }
+
+    /**
+     * Wraps a row-major array without copying it
+     */
+    public static Matrix wrap(double[] data, int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Matrix dimensions cannot be negative");
+        }
+        if (data.length < rows * cols) {
+            throw new IllegalArgumentException(
+                String.format("Array of %d values cannot hold a %dx%d matrix", data.length, rows, cols));
+        }
+        return new Matrix(data, 0, rows, cols, cols);
+    }
+
+    /**
+     * Copies a rectangular jagged array
+     */
+    public static Matrix of(double[][] values) {
+        int cols = values.length == 0 ? 0 : values[0].length;
+        Matrix result = new Matrix(values.length, cols);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].length != cols) {
+                throw new IllegalArgumentException("Row " + i + " has " + values[i].length + " values, expected " + cols);
+            }
+            System.arraycopy(values[i], 0, result.data, i * cols, cols);
+        }
+        return result;
+    }
+
+    /**
+     * Single-row matrix copied from a vector
+     */
+    public static Matrix rowVector(double[] values) {
+        Matrix result = new Matrix(1, values.length);
+        System.arraycopy(values, 0, result.data, 0, values.length);
+        return result;
+    }
+
+    public double[][] toArray() {
+        double[][] result = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(data, offset + i * rowStride, result[i], 0, cols);
+        }
+        return result;
+    }
+
+    public double get(int i, int j) {
+        return data[index(i, j)];
+    }
+
+    public void set(int i, int j, double value) {
+        data[index(i, j)] = value;
+    }
+
+    private int index(int i, int j) {
+        if (i < 0 || i >= rows || j < 0 || j >= cols) {
+            throw new IndexOutOfBoundsException(String.format("(%d, %d) outside %dx%d matrix", i, j, rows, cols));
+        }
+        return offset + i * rowStride + j;
+    }
+
+    /**
+     * View of rows [from, to)
+     */
+    public Matrix rows(int from, int to) {
+        return view(from, to, 0, cols);
+    }
+
+    /**
+     * View of a single row as a 1 x cols matrix
+     */
+    public Matrix row(int i) {
+        return view(i, i + 1, 0, cols);
+    }
+
+    /**
+     * View of rows [rowFrom, rowTo) and columns [colFrom, colTo)
+     */
+    public Matrix view(int rowFrom, int rowTo, int colFrom, int colTo) {
+        if (rowFrom < 0 || rowTo > rows || rowFrom > rowTo || colFrom < 0 || colTo > cols || colFrom > colTo) {
+            throw new IndexOutOfBoundsException(String.format("Rows [%d, %d) and columns [%d, %d) outside %dx%d matrix",
+                rowFrom, rowTo, colFrom, colTo, rows, cols));
+        }
+        return new Matrix(data, offset + rowFrom * rowStride + colFrom, rowTo - rowFrom, colTo - colFrom, rowStride);
+    }
+
+    /**
+     * Contiguous copy, whatever the layout of this matrix
+     */
+    public Matrix copy() {
+        Matrix result = new Matrix(rows, cols);
+        if (isContiguous()) {
+            System.arraycopy(data, offset, result.data, 0, rows * cols);
+        } else {
+            for (int i = 0; i < rows; i++) {
+                System.arraycopy(data, offset + i * rowStride, result.data, i * cols, cols);
+            }
+        }
+        return result;
+    }
+
+    public Matrix transpose() {
+        Matrix result = new Matrix(cols, rows);
+        for (int i = 0; i < rows; i++) {
+            int base = offset + i * rowStride;
+            for (int j = 0; j < cols; j++) {
+                result.data[j * rows + i] = data[base + j];
+            }
+        }
+        return result;
+    }
+
+    public void fill(double value) {
+        for (int i = 0; i < rows; i++) {
+            int base = offset + i * rowStride;
+            Arrays.fill(data, base, base + cols, value);
+        }
+    }
+
+    public boolean sameShape(Matrix other) {
+        return rows == other.rows && cols == other.cols;
+    }
+
+    /**
+     * True when the elements occupy data[offset, offset + rows * cols) without gaps
+     */
+    public boolean isContiguous() {
+        return rowStride == cols || rows <= 1;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int size() { return rows * cols; }
+
+    /**
+     * The backing array; element (i, j) is at getOffset() + i * getRowStride() + j
+     */
+    public double[] getData() { return data; }
+    public int getOffset() { return offset; }
+    public int getRowStride() { return rowStride; }
+
+    @Override
+    public String toString() {
+        return String.format("Matrix{%dx%d}", rows, cols);
+    }
+}
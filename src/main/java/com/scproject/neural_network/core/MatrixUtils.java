@@ -2,79 +2,228 @@ package com.scproject.neural_network.core;
 
 /**
  * Matrix operations utility class
+ *
+ * The {@link Matrix} overloads do the work; the {@code double[][]} overloads are kept for
+ * existing callers and convert through Matrix. Results are always new contiguous matrices,
+ * except for the methods ending in InPlace.
  */
 public class MatrixUtils {
-    
+
     /**
      * Matrix multiplication: A * B
+     *
+     * Tiled and packed, and parallel over row blocks for large products; see {@link Gemm}. Each
+     * element sums its products in order, so results match a plain i-k-j loop exactly.
      */
-    public static double[][] multiply(double[][] A, double[][] B) {
-        if (A[0].length != B.length) {
+    public static Matrix multiply(Matrix A, Matrix B) {
+        if (A.getCols() != B.getRows()) {
             throw new IllegalArgumentException("Matrix dimensions don't match for multiplication");
         }
-        
-        double[][] result = new double[A.length][B[0].length];
-        for (int i = 0; i < A.length; i++) {
-            for (int j = 0; j < B[0].length; j++) {
-                for (int k = 0; k < A[0].length; k++) {
-                    result[i][j] += A[i][k] * B[k][j];
-                }
-            }
+        return Gemm.multiply(A, false, B, false);
+    }
+
+    /**
+     * Transposed multiplication: A^T * B, without materializing A^T
+     */
+    public static Matrix multiplyTransposeA(Matrix A, Matrix B) {
+        if (A.getRows() != B.getRows()) {
+            throw new IllegalArgumentException("Matrix dimensions don't match for multiplication");
         }
-        return result;
+        return Gemm.multiply(A, true, B, false);
     }
-    
+
+    /**
+     * Transposed multiplication: A * B^T, without materializing B^T
+     */
+    public static Matrix multiplyTransposeB(Matrix A, Matrix B) {
+        if (A.getCols() != B.getCols()) {
+            throw new IllegalArgumentException("Matrix dimensions don't match for multiplication");
+        }
+        return Gemm.multiply(A, false, B, true);
+    }
+
     /**
      * Matrix addition: A + B
      */
-    public static double[][] add(double[][] A, double[][] B) {
-        if (A.length != B.length || A[0].length != B[0].length) {
+    public static Matrix add(Matrix A, Matrix B) {
+        if (!A.sameShape(B)) {
             throw new IllegalArgumentException("Matrix dimensions don't match for addition");
         }
-        
-        double[][] result = new double[A.length][A[0].length];
-        for (int i = 0; i < A.length; i++) {
-            for (int j = 0; j < A[0].length; j++) {
-                result[i][j] = A[i][j] + B[i][j];
-            }
-        }
+
+        Matrix result = A.copy();
+        addScaledInPlace(result, B, 1.0);
         return result;
     }
-    
+
     /**
      * Matrix addition with broadcast: A + b (where b is a vector)
      */
-    public static double[][] add(double[][] A, double[] b) {
-        if (A[0].length != b.length) {
+    public static Matrix add(Matrix A, double[] b) {
+        Matrix result = A.copy();
+        addInPlace(result, b);
+        return result;
+    }
+
+    /**
+     * Adds the vector b to every row of A
+     */
+    public static void addInPlace(Matrix A, double[] b) {
+        if (A.getCols() != b.length) {
             throw new IllegalArgumentException("Vector length doesn't match matrix columns");
         }
-        
-        double[][] result = new double[A.length][A[0].length];
-        for (int i = 0; i < A.length; i++) {
-            for (int j = 0; j < A[0].length; j++) {
-                result[i][j] = A[i][j] + b[j];
+
+        double[] a = A.getData();
+        for (int i = 0; i < A.getRows(); i++) {
+            int row = A.getOffset() + i * A.getRowStride();
+            for (int j = 0; j < b.length; j++) {
+                a[row + j] += b[j];
+            }
+        }
+    }
+
+    /**
+     * A += B * scalar
+     */
+    public static void addScaledInPlace(Matrix A, Matrix B, double scalar) {
+        if (!A.sameShape(B)) {
+            throw new IllegalArgumentException("Matrix dimensions don't match");
+        }
+
+        double[] a = A.getData();
+        double[] b = B.getData();
+        int cols = A.getCols();
+        for (int i = 0; i < A.getRows(); i++) {
+            int aRow = A.getOffset() + i * A.getRowStride();
+            int bRow = B.getOffset() + i * B.getRowStride();
+            for (int j = 0; j < cols; j++) {
+                a[aRow + j] += b[bRow + j] * scalar;
             }
         }
-        return result;
     }
-    
+
     /**
      * Matrix subtraction: A - B
      */
-    public static double[][] subtract(double[][] A, double[][] B) {
-        if (A.length != B.length || A[0].length != B[0].length) {
+    public static Matrix subtract(Matrix A, Matrix B) {
+        if (!A.sameShape(B)) {
             throw new IllegalArgumentException("Matrix dimensions don't match for subtraction");
         }
-        
-        double[][] result = new double[A.length][A[0].length];
-        for (int i = 0; i < A.length; i++) {
-            for (int j = 0; j < A[0].length; j++) {
-                result[i][j] = A[i][j] - B[i][j];
+
+        Matrix result = new Matrix(A.getRows(), A.getCols());
+        double[] a = A.getData();
+        double[] b = B.getData();
+        double[] c = result.getData();
+        int cols = A.getCols();
+        for (int i = 0; i < A.getRows(); i++) {
+            int aRow = A.getOffset() + i * A.getRowStride();
+            int bRow = B.getOffset() + i * B.getRowStride();
+            for (int j = 0; j < cols; j++) {
+                c[i * cols + j] = a[aRow + j] - b[bRow + j];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Scalar multiplication: A * scalar
+     */
+    public static Matrix multiply(Matrix A, double scalar) {
+        Matrix result = A.copy();
+        double[] c = result.getData();
+        for (int i = 0; i < c.length; i++) {
+            c[i] *= scalar;
+        }
+        return result;
+    }
+
+    /**
+     * Element-wise multiplication: A .* B
+     */
+    public static Matrix elementWiseMultiply(Matrix A, Matrix B) {
+        if (!A.sameShape(B)) {
+            throw new IllegalArgumentException("Matrix dimensions don't match");
+        }
+
+        Matrix result = new Matrix(A.getRows(), A.getCols());
+        double[] a = A.getData();
+        double[] b = B.getData();
+        double[] c = result.getData();
+        int cols = A.getCols();
+        for (int i = 0; i < A.getRows(); i++) {
+            int aRow = A.getOffset() + i * A.getRowStride();
+            int bRow = B.getOffset() + i * B.getRowStride();
+            for (int j = 0; j < cols; j++) {
+                c[i * cols + j] = a[aRow + j] * b[bRow + j];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Matrix division: A / scalar
+     */
+    public static Matrix divide(Matrix A, double scalar) {
+        return multiply(A, 1.0 / scalar);
+    }
+
+    /**
+     * Mean along axis 0 (column-wise mean)
+     */
+    public static double[] mean(Matrix A, int axis) {
+        double[] result = sum(A, axis);
+        for (int j = 0; j < result.length; j++) {
+            result[j] /= A.getRows();
+        }
+        return result;
+    }
+
+    /**
+     * Sum along axis 0 (column-wise sum)
+     */
+    public static double[] sum(Matrix A, int axis) {
+        if (axis != 0) {
+            throw new IllegalArgumentException("Only axis=0 supported");
+        }
+
+        double[] result = new double[A.getCols()];
+        double[] a = A.getData();
+        for (int i = 0; i < A.getRows(); i++) {
+            int row = A.getOffset() + i * A.getRowStride();
+            for (int j = 0; j < result.length; j++) {
+                result[j] += a[row + j];
             }
         }
         return result;
     }
-    
+
+    /**
+     * Matrix multiplication: A * B
+     */
+    public static double[][] multiply(double[][] A, double[][] B) {
+        return multiply(Matrix.of(A), Matrix.of(B)).toArray();
+    }
+
+    /**
+     * Matrix addition: A + B
+     */
+    public static double[][] add(double[][] A, double[][] B) {
+        return add(Matrix.of(A), Matrix.of(B)).toArray();
+    }
+
+    /**
+     * Matrix addition with broadcast: A + b (where b is a vector)
+     */
+    public static double[][] add(double[][] A, double[] b) {
+        return add(Matrix.of(A), b).toArray();
+    }
+
+    /**
+     * Matrix subtraction: A - B
+     */
+    public static double[][] subtract(double[][] A, double[][] B) {
+        return subtract(Matrix.of(A), Matrix.of(B)).toArray();
+    }
+
     /**
      * Vector subtraction: a - b
      */
@@ -82,27 +231,21 @@ public class MatrixUtils {
         if (a.length != b.length) {
             throw new IllegalArgumentException("Vector lengths don't match");
         }
-        
+
         double[] result = new double[a.length];
         for (int i = 0; i < a.length; i++) {
             result[i] = a[i] - b[i];
         }
         return result;
     }
-    
+
     /**
      * Scalar multiplication: A * scalar
      */
     public static double[][] multiply(double[][] A, double scalar) {
-        double[][] result = new double[A.length][A[0].length];
-        for (int i = 0; i < A.length; i++) {
-            for (int j = 0; j < A[0].length; j++) {
-                result[i][j] = A[i][j] * scalar;
-            }
-        }
-        return result;
+        return multiply(Matrix.of(A), scalar).toArray();
     }
-    
+
     /**
      * Vector scalar multiplication: v * scalar
      */
@@ -113,84 +256,62 @@ public class MatrixUtils {
         }
         return result;
     }
-    
+
     /**
      * Element-wise multiplication: A .* B
      */
     public static double[][] elementWiseMultiply(double[][] A, double[][] B) {
-        if (A.length != B.length || A[0].length != B[0].length) {
-            throw new IllegalArgumentException("Matrix dimensions don't match");
-        }
-        
-        double[][] result = new double[A.length][A[0].length];
-        for (int i = 0; i < A.length; i++) {
-            for (int j = 0; j < A[0].length; j++) {
-                result[i][j] = A[i][j] * B[i][j];
-            }
-        }
-        return result;
+        return elementWiseMultiply(Matrix.of(A), Matrix.of(B)).toArray();
     }
-    
+
     /**
      * Matrix division: A / scalar
      */
     public static double[][] divide(double[][] A, double scalar) {
         return multiply(A, 1.0 / scalar);
     }
-    
+
     /**
      * Matrix transpose
      */
     public static double[][] transpose(double[][] A) {
-        double[][] result = new double[A[0].length][A.length];
-        for (int i = 0; i < A.length; i++) {
-            for (int j = 0; j < A[0].length; j++) {
-                result[j][i] = A[i][j];
-            }
-        }
-        return result;
+        return Matrix.of(A).transpose().toArray();
     }
-    
+
     /**
      * Deep copy of matrix
      */
     public static double[][] copy(double[][] A) {
-        double[][] result = new double[A.length][A[0].length];
-        for (int i = 0; i < A.length; i++) {
-            System.arraycopy(A[i], 0, result[i], 0, A[0].length);
-        }
-        return result;
+        return Matrix.of(A).toArray();
     }
-    
+
     /**
      * Mean along axis 0 (column-wise mean)
      */
     public static double[] mean(double[][] A, int axis) {
-        if (axis == 0) {
-            // Column-wise mean
-            double[] result = new double[A[0].length];
-            for (int j = 0; j < A[0].length; j++) {
-                double sum = 0.0;
-                for (int i = 0; i < A.length; i++) {
-                    sum += A[i][j];
-                }
-                result[j] = sum / A.length;
-            }
-            return result;
-        } else {
-            throw new IllegalArgumentException("Only axis=0 supported");
-        }
+        return mean(Matrix.of(A), axis);
     }
-    
+
+    /**
+     * Sum along axis 0 (column-wise sum)
+     */
+    public static double[] sum(double[][] A, int axis) {
+        return sum(Matrix.of(A), axis);
+    }
+
     /**
      * Print matrix for debugging
      */
-    public static void print(double[][] A) {
-        for (int i = 0; i < A.length; i++) {
-            for (int j = 0; j < A[0].length; j++) {
-                System.out.printf("%.4f ", A[i][j]);
+    public static void print(Matrix A) {
+        for (int i = 0; i < A.getRows(); i++) {
+            for (int j = 0; j < A.getCols(); j++) {
+                System.out.printf("%.4f ", A.get(i, j));
             }
             System.out.println();
         }
     }
-}
\ No newline at end of file
+
+    public static void print(double[][] A) {
+        print(Matrix.of(A));
+    }
+}
@@ -59,24 +59,40 @@ public class Network {
     /**
      * Forward propagation through all layers
      */
-    public double[][] forward(double[][] X) {
+    public Matrix forward(Matrix X) {
         return ForwardPropagation.forward(X, layers);
     }
     
     /**
      * Forward propagation with training mode control
      */
-    public double[][] forward(double[][] X, boolean training) {
+    public Matrix forward(Matrix X, boolean training) {
         return ForwardPropagation.forward(X, layers, training);
     }
     
+    public double[][] forward(double[][] X) {
+        return forward(Matrix.of(X)).toArray();
+    }
+    
+    public double[][] forward(double[][] X, boolean training) {
+        return forward(Matrix.of(X), training).toArray();
+    }
+    
     /**
      * Train the neural network with early stopping
      */
     public Map<String, List<Double>> fit(double[][] X, double[][] y, 
                                         double[][] XVal, double[][] yVal, 
                                         boolean verbose) {
-        if (X.length != y.length) {
+        return fit(Matrix.of(X), Matrix.of(y), 
+                   XVal != null ? Matrix.of(XVal) : null, yVal != null ? Matrix.of(yVal) : null, verbose);
+    }
+    
+    /**
+     * Train the neural network with early stopping
+     */
+    public Map<String, List<Double>> fit(Matrix X, Matrix y, Matrix XVal, Matrix yVal, boolean verbose) {
+        if (X.getRows() != y.getRows()) {
             throw new IllegalArgumentException("X and y must have same number of samples");
         }
         if (layers.isEmpty()) {
@@ -101,22 +117,22 @@ public class Network {
             setTraining(true);
             
             // Mini-batch training
-            List<int[]> batches = createBatches(X.length, hyperParams.getBatchSize(), 
+            List<int[]> batches = createBatches(X.getRows(), hyperParams.getBatchSize(), 
                                               hyperParams.isShuffle());
             
             for (int[] batch : batches) {
-                double[][] XBatch = getBatch(X, batch);
-                double[][] yBatch = getBatch(y, batch);
+                Matrix XBatch = getBatch(X, batch);
+                Matrix yBatch = getBatch(y, batch);
                 
                 // Forward pass in training mode
-                double[][] predictions = forward(XBatch, true);
+                Matrix predictions = forward(XBatch, true);
                 
                 // Compute loss
                 double loss = lossFunction.forward(predictions, yBatch);
                 epochLosses.add(loss);
                 
                 // Backward pass
-                double[][] lossGrad = lossFunction.backward();
+                Matrix lossGrad = lossFunction.gradient();
                 BackwardPropagation.backward(lossGrad, layers, hyperParams.getLearningRate(), 
                                            hyperParams.getL2Regularization());
             }
@@ -176,9 +192,9 @@ public class Network {
     /**
      * Make predictions
      */
-    public double[][] predict(double[][] X, boolean asLabels) {
+    public Matrix predict(Matrix X, boolean asLabels) {
         setTraining(false); // Inference mode
-        double[][] predictions = forward(X);
+        Matrix predictions = forward(X);
         
         if (asLabels) {
             return convertToLabels(predictions);
@@ -186,6 +202,10 @@ public class Network {
         return predictions;
     }
     
+    public double[][] predict(double[][] X, boolean asLabels) {
+        return predict(Matrix.of(X), asLabels).toArray();
+    }
+    
     public double[][] predict(double[][] X) {
         return predict(X, false);
     }
@@ -194,8 +214,12 @@ public class Network {
      * Evaluate the model
      */
     public EvaluationResult evaluate(double[][] X, double[][] y) {
+        return evaluate(Matrix.of(X), Matrix.of(y));
+    }
+    
+    public EvaluationResult evaluate(Matrix X, Matrix y) {
         setTraining(false); // Inference mode
-        double[][] predictions = forward(X);
+        Matrix predictions = forward(X);
         double loss = lossFunction.forward(predictions, y);
         double accuracy = calculateAccuracy(predictions, y);
         
@@ -212,33 +236,34 @@ public class Network {
     }
     
     // Helper methods
-    private double calculateAccuracy(double[][] predictions, double[][] y) {
-        if (predictions.length != y.length) return 0.0;
+    private double calculateAccuracy(Matrix predictions, Matrix y) {
+        if (predictions.getRows() != y.getRows()) return 0.0;
         
         int correct = 0;
-        for (int i = 0; i < predictions.length; i++) {
-            int predLabel = argmax(predictions[i]);
-            int trueLabel = argmax(y[i]);
+        for (int i = 0; i < predictions.getRows(); i++) {
+            int predLabel = argmax(predictions, i);
+            int trueLabel = argmax(y, i);
             if (predLabel == trueLabel) correct++;
         }
         
-        return (double) correct / predictions.length;
+        return (double) correct / predictions.getRows();
     }
     
-    private double[][] convertToLabels(double[][] predictions) {
-        double[][] labels = new double[predictions.length][predictions[0].length];
-        for (int i = 0; i < predictions.length; i++) {
-            int maxIdx = argmax(predictions[i]);
-            labels[i][maxIdx] = 1.0;
+    private Matrix convertToLabels(Matrix predictions) {
+        Matrix labels = new Matrix(predictions.getRows(), predictions.getCols());
+        for (int i = 0; i < predictions.getRows(); i++) {
+            labels.set(i, argmax(predictions, i), 1.0);
         }
         return labels;
     }
     
-    private int argmax(double[] array) {
+    private int argmax(Matrix matrix, int row) {
+        double[] data = matrix.getData();
+        int base = matrix.getOffset() + row * matrix.getRowStride();
         int maxIdx = 0;
-        for (int i = 1; i < array.length; i++) {
-            if (array[i] > array[maxIdx]) {
-                maxIdx = i;
+        for (int j = 1; j < matrix.getCols(); j++) {
+            if (data[base + j] > data[base + maxIdx]) {
+                maxIdx = j;
             }
         }
         return maxIdx;
@@ -267,10 +292,12 @@ public class Network {
         return batches;
     }
     
-    private double[][] getBatch(double[][] data, int[] indices) {
-        double[][] batch = new double[indices.length][data[0].length];
+    private Matrix getBatch(Matrix data, int[] indices) {
+        int cols = data.getCols();
+        Matrix batch = new Matrix(indices.length, cols);
         for (int i = 0; i < indices.length; i++) {
-            System.arraycopy(data[indices[i]], 0, batch[i], 0, data[0].length);
+            System.arraycopy(data.getData(), data.getOffset() + indices[i] * data.getRowStride(), 
+                             batch.getData(), i * cols, cols);
         }
         return batch;
     }
@@ -89,7 +89,7 @@ public class HeartDiseaseDemo {
         }
     }
     
-    private static class DataResult {
+    static class DataResult {
         final double[][] XTrain, XVal, XTest;
         final double[][] yTrain, yVal, yTest;
         
@@ -104,7 +104,7 @@ public class HeartDiseaseDemo {
         }
     }
     
-    private static DataResult loadAndPreprocessData() throws IOException {
+    static DataResult loadAndPreprocessData() throws IOException {
         // Load heart disease data
         List<double[]> dataList = new ArrayList<>();
         
@@ -0,0 +1,55 @@
+package com.scproject.neural_network.demo;
+
+import com.scproject.neural_network.core.EvaluationResult;
+import com.scproject.neural_network.core.Network;
+import com.scproject.neural_network.tuning.HyperParameterSearch;
+import com.scproject.neural_network.tuning.HyperParameterSpace;
+import com.scproject.neural_network.tuning.NetworkTuningFitness;
+import com.scproject.neural_network.tuning.TuningCandidate;
+
+/**
+ * GA hyperparameter search for the heart disease model
+ */
+public class HyperParameterSearchDemo {
+    
+    public static void main(String[] args) {
+        System.out.println("======================================================================");
+        System.out.println("HEART DISEASE PREDICTION - GA HYPERPARAMETER SEARCH");
+        System.out.println("======================================================================");
+        
+        try {
+            HeartDiseaseDemo.DataResult data = HeartDiseaseDemo.loadAndPreprocessData();
+            
+            HyperParameterSpace space = new HyperParameterSpace();
+            space.setEpochs(100);
+            space.setWidthRange(4, 64);
+            
+            try (NetworkTuningFitness fitness = new NetworkTuningFitness(
+                    space, data.XTrain, data.yTrain, data.XVal, data.yVal)) {
+                HyperParameterSearch search = new HyperParameterSearch(space, fitness);
+                search.setPopulationSize(24);
+                search.setGenerations(10);
+                
+                long start = System.nanoTime();
+                TuningCandidate best = search.run();
+                double seconds = (System.nanoTime() - start) / 1e9;
+                
+                System.out.printf("\nSearched %d candidates in %.1fs (%d stopped early)%n",
+                                fitness.getCandidatesTrained(), seconds, fitness.getCandidatesStoppedEarly());
+                System.out.printf("Best validation score: %.4f%n", search.getBestScore());
+                System.out.println("Best candidate: " + best);
+                
+                // Retrain the winner and report on the held-out test set
+                Network model = best.getArchitecture().build(data.XTrain[0].length, data.yTrain[0].length,
+                                                            fitness.getOutputActivation(), best.getHyperParameters());
+                model.fit(data.XTrain, data.yTrain, data.XVal, data.yVal, false);
+                EvaluationResult testResult = model.evaluate(data.XTest, data.yTest);
+                System.out.printf("Test loss: %.4f, test accuracy: %.4f%n",
+                                testResult.getLoss(), testResult.getAccuracy());
+            }
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
@@ -1,83 +1,90 @@
 package com.scproject.neural_network.loss;
 
-import com.scproject.neural_network.core.MatrixUtils;
+import com.scproject.neural_network.core.Matrix;
 
 /**
  * Cross-Entropy loss function with softmax
  */
 public class CrossEntropyLoss extends LossFunction {
     private static final double EPSILON = 1e-15;
-    private double[][] cachedProbs;
+    private Matrix cachedProbs;
     
     @Override
-    public double forward(double[][] logits, double[][] targets) {
-        if (logits.length != targets.length || 
-            logits[0].length != targets[0].length) {
+    public double forward(Matrix logits, Matrix targets) {
+        if (!logits.sameShape(targets)) {
             throw new IllegalArgumentException("Logits and targets must have same shape");
         }
         
         // Apply softmax to logits with better numerical stability
-        double[][] probs = softmax(logits);
+        Matrix probs = softmax(logits);
         
         this.cachedProbs = probs;
-        this.cachedTargets = MatrixUtils.copy(targets);
+        this.cachedTargets = targets.copy();
         
         // Compute cross-entropy loss with better numerical stability
+        double[] p = probs.getData();
+        double[] t = cachedTargets.getData();
+        int cols = probs.getCols();
         double totalLoss = 0.0;
-        for (int i = 0; i < probs.length; i++) {
+        for (int i = 0; i < probs.getRows(); i++) {
             double sampleLoss = 0.0;
-            for (int j = 0; j < probs[0].length; j++) {
-                if (targets[i][j] > 0) {
+            for (int j = i * cols; j < (i + 1) * cols; j++) {
+                if (t[j] > 0) {
                     // Only compute loss for true classes, add epsilon for numerical stability
-                    sampleLoss += targets[i][j] * Math.log(Math.max(probs[i][j], EPSILON));
+                    sampleLoss += t[j] * Math.log(Math.max(p[j], EPSILON));
                 }
             }
             totalLoss -= sampleLoss;
         }
         
-        return totalLoss / probs.length;
+        return totalLoss / probs.getRows();
     }
     
     @Override
-    public double[][] backward() {
+    public Matrix gradient() {
         if (cachedProbs == null || cachedTargets == null) {
             throw new IllegalStateException("Forward pass must be called before backward pass");
         }
         
-        int n = cachedProbs.length;
-        double[][] gradient = new double[cachedProbs.length][cachedProbs[0].length];
-        
-        for (int i = 0; i < cachedProbs.length; i++) {
-            for (int j = 0; j < cachedProbs[0].length; j++) {
-                gradient[i][j] = (cachedProbs[i][j] - cachedTargets[i][j]) / n;
-            }
+        int n = cachedProbs.getRows();
+        Matrix gradient = new Matrix(n, cachedProbs.getCols());
+        double[] p = cachedProbs.getData();
+        double[] t = cachedTargets.getData();
+        double[] g = gradient.getData();
+        for (int i = 0; i < g.length; i++) {
+            g[i] = (p[i] - t[i]) / n;
         }
         
         return gradient;
     }
     
-    private double[][] softmax(double[][] logits) {
-        double[][] result = new double[logits.length][logits[0].length];
+    private Matrix softmax(Matrix logits) {
+        int cols = logits.getCols();
+        Matrix result = new Matrix(logits.getRows(), cols);
+        double[] in = logits.getData();
+        double[] out = result.getData();
         
-        for (int i = 0; i < logits.length; i++) {
+        for (int i = 0; i < logits.getRows(); i++) {
+            int row = logits.getOffset() + i * logits.getRowStride();
+            int outRow = i * cols;
             // Find max for numerical stability
             double max = Double.NEGATIVE_INFINITY;
-            for (int j = 0; j < logits[0].length; j++) {
-                max = Math.max(max, logits[i][j]);
+            for (int j = 0; j < cols; j++) {
+                max = Math.max(max, in[row + j]);
             }
             
             // Compute exp(x - max) with overflow protection
             double sum = 0.0;
-            for (int j = 0; j < logits[0].length; j++) {
-                double expVal = Math.exp(Math.min(logits[i][j] - max, 700)); // Prevent overflow
-                result[i][j] = expVal;
+            for (int j = 0; j < cols; j++) {
+                double expVal = Math.exp(Math.min(in[row + j] - max, 700)); // Prevent overflow
+                out[outRow + j] = expVal;
                 sum += expVal;
             }
             
             // Normalize with minimum threshold
             sum = Math.max(sum, EPSILON);
-            for (int j = 0; j < logits[0].length; j++) {
-                result[i][j] = Math.max(result[i][j] / sum, EPSILON);
+            for (int j = 0; j < cols; j++) {
+                out[outRow + j] = Math.max(out[outRow + j] / sum, EPSILON);
             }
         }
         
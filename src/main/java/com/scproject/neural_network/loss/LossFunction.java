@@ -1,14 +1,28 @@
 package com.scproject.neural_network.loss;
 
+import com.scproject.neural_network.core.Matrix;
+
 /**
  * Base class for loss functions
  */
 public abstract class LossFunction {
-    protected double[][] cachedPredictions;
-    protected double[][] cachedTargets;
+    protected Matrix cachedPredictions;
+    protected Matrix cachedTargets;
+    
+    public abstract double forward(Matrix predictions, Matrix targets);
+    
+    /**
+     * Gradient of the last forward loss with respect to its predictions
+     */
+    public abstract Matrix gradient();
     
-    public abstract double forward(double[][] predictions, double[][] targets);
-    public abstract double[][] backward();
+    public double forward(double[][] predictions, double[][] targets) {
+        return forward(Matrix.of(predictions), Matrix.of(targets));
+    }
+    
+    public double[][] backward() {
+        return gradient().toArray();
+    }
     
     // Factory method
     public static LossFunction create(String name) {
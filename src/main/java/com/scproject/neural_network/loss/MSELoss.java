@@ -1,6 +1,6 @@
 package com.scproject.neural_network.loss;
 
-import com.scproject.neural_network.core.MatrixUtils;
+import com.scproject.neural_network.core.Matrix;
 
 /**
  * Mean Squared Error loss function
@@ -8,42 +8,38 @@ import com.scproject.neural_network.core.MatrixUtils;
 public class MSELoss extends LossFunction {
     
     @Override
-    public double forward(double[][] predictions, double[][] targets) {
-        if (predictions.length != targets.length || 
-            predictions[0].length != targets[0].length) {
+    public double forward(Matrix predictions, Matrix targets) {
+        if (!predictions.sameShape(targets)) {
             throw new IllegalArgumentException("Predictions and targets must have same shape");
         }
         
-        this.cachedPredictions = MatrixUtils.copy(predictions);
-        this.cachedTargets = MatrixUtils.copy(targets);
+        this.cachedPredictions = predictions.copy();
+        this.cachedTargets = targets.copy();
         
+        double[] p = cachedPredictions.getData();
+        double[] t = cachedTargets.getData();
         double sum = 0.0;
-        int count = 0;
-        
-        for (int i = 0; i < predictions.length; i++) {
-            for (int j = 0; j < predictions[0].length; j++) {
-                double diff = predictions[i][j] - targets[i][j];
-                sum += diff * diff;
-                count++;
-            }
+        for (int i = 0; i < p.length; i++) {
+            double diff = p[i] - t[i];
+            sum += diff * diff;
         }
         
-        return sum / count;
+        return sum / p.length;
     }
     
     @Override
-    public double[][] backward() {
+    public Matrix gradient() {
         if (cachedPredictions == null || cachedTargets == null) {
             throw new IllegalStateException("Forward pass must be called before backward pass");
         }
         
-        int n = cachedPredictions.length;
-        double[][] gradient = new double[cachedPredictions.length][cachedPredictions[0].length];
-        
-        for (int i = 0; i < cachedPredictions.length; i++) {
-            for (int j = 0; j < cachedPredictions[0].length; j++) {
-                gradient[i][j] = (2.0 / n) * (cachedPredictions[i][j] - cachedTargets[i][j]);
-            }
+        int n = cachedPredictions.getRows();
+        Matrix gradient = new Matrix(n, cachedPredictions.getCols());
+        double[] p = cachedPredictions.getData();
+        double[] t = cachedTargets.getData();
+        double[] g = gradient.getData();
+        for (int i = 0; i < g.length; i++) {
+            g[i] = (2.0 / n) * (p[i] - t[i]);
         }
         
         return gradient;
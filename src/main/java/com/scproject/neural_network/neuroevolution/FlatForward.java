@@ -0,0 +1,126 @@
+package com.scproject.neural_network.neuroevolution;
+
+/**
+ * Inference straight from a flat parameter vector in {@link ParameterLayout} order.
+ *
+ * Rows are processed in blocks: for each input feature the matching weight row is applied to
+ * every row of the block before moving on, so each weight is read once per block rather than
+ * once per sample. Several parameter vectors can be run together on the same inputs; each input
+ * block is then loaded once and passed through every candidate while it is still in cache.
+ * Inputs and outputs are flat row-major arrays. Instances hold scratch buffers and are not
+ * thread-safe; use one per thread.
+ */
+public class FlatForward {
+    private static final int BLOCK_ROWS = 64;
+    
+    private final ParameterLayout layout;
+    private final double[] bufferA;
+    private final double[] bufferB;
+    
+    public FlatForward(ParameterLayout layout) {
+        this.layout = layout;
+        this.bufferA = new double[BLOCK_ROWS * layout.getMaxWidth()];
+        this.bufferB = new double[BLOCK_ROWS * layout.getMaxWidth()];
+    }
+    
+    /**
+     * Forward pass of {@code rows} samples; outputs must hold rows * outputSize values
+     */
+    public void forward(double[] params, double[] inputs, int rows, double[] outputs) {
+        forward(new double[][]{params}, 1, inputs, rows, new double[][]{outputs});
+    }
+    
+    /**
+     * Forward pass of the first {@code count} parameter vectors over the same {@code rows}
+     * samples; outputs[c] receives the outputs of params[c]. Results are identical to running
+     * each vector on its own.
+     */
+    public void forward(double[][] params, int count, double[] inputs, int rows, double[][] outputs) {
+        for (int c = 0; c < count; c++) {
+            layout.checkLength(params[c]);
+        }
+        int inputSize = layout.getInputSize();
+        int outputSize = layout.getOutputSize();
+        int layers = layout.getLayerCount();
+        
+        for (int start = 0; start < rows; start += BLOCK_ROWS) {
+            int block = Math.min(BLOCK_ROWS, rows - start);
+            
+            for (int c = 0; c < count; c++) {
+                double[] in = inputs;
+                int inOffset = start * inputSize;
+                for (int l = 0; l < layers; l++) {
+                    boolean last = l == layers - 1;
+                    double[] out = last ? outputs[c] : (l % 2 == 0 ? bufferA : bufferB);
+                    int outOffset = last ? start * outputSize : 0;
+                    
+                    denseBlock(params[c], l, in, inOffset, out, outOffset, block);
+                    
+                    in = out;
+                    inOffset = outOffset;
+                }
+            }
+        }
+    }
+    
+    private void denseBlock(double[] params, int layer, double[] in, int inOffset,
+                            double[] out, int outOffset, int block) {
+        int n = layout.getLayerInputs(layer);
+        int m = layout.getLayerOutputs(layer);
+        int weights = layout.getWeightOffset(layer);
+        int bias = layout.getBiasOffset(layer);
+        
+        for (int r = 0; r < block; r++) {
+            System.arraycopy(params, bias, out, outOffset + r * m, m);
+        }
+        for (int i = 0; i < n; i++) {
+            int row = weights + i * m;
+            for (int r = 0; r < block; r++) {
+                double x = in[inOffset + r * n + i];
+                if (x == 0.0) {
+                    continue;
+                }
+                int o = outOffset + r * m;
+                for (int j = 0; j < m; j++) {
+                    out[o + j] += x * params[row + j];
+                }
+            }
+        }
+        
+        int activation = layout.getActivation(layer);
+        if (activation != ParameterLayout.LINEAR) {
+            int end = outOffset + block * m;
+            for (int k = outOffset; k < end; k++) {
+                out[k] = activate(activation, out[k]);
+            }
+        }
+    }
+    
+    private static double activate(int activation, double z) {
+        switch (activation) {
+            case ParameterLayout.RELU:
+                return z > 0.0 ? z : 0.0;
+            case ParameterLayout.TANH:
+                return Math.tanh(z);
+            case ParameterLayout.SIGMOID:
+                return 1.0 / (1.0 + Math.exp(-z));
+            default:
+                return z;
+        }
+    }
+    
+    /**
+     * Flatten a sample matrix into the row-major layout used by forward
+     */
+    public static double[] flattenRows(double[][] X) {
+        int cols = X[0].length;
+        double[] flat = new double[X.length * cols];
+        for (int i = 0; i < X.length; i++) {
+            if (X[i].length != cols) {
+                throw new IllegalArgumentException("All rows must have the same length");
+            }
+            System.arraycopy(X[i], 0, flat, i * cols, cols);
+        }
+        return flat;
+    }
+}
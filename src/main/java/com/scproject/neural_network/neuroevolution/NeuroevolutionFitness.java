@@ -0,0 +1,118 @@
+package com.scproject.neural_network.neuroevolution;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.chromosome.GeneStorage;
+import com.scproject.ga.fitness.BatchFitnessFunction;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Scores FPChromosomes holding flat network parameters in {@link ParameterLayout} order.
+ *
+ * Each chromosome's backing array is read directly by {@link FlatForward}, so no Network is
+ * rebuilt and no weights are copied per candidate; genomes with compact {@link GeneStorage} are
+ * decoded into a per-worker buffer instead. The batch is cut into groups of
+ * {@code GROUP_SIZE} candidates that share each input block (see
+ * {@link FlatForward#forward(double[][], int, double[], int, double[][])}), and the groups are
+ * spread over a ForkJoinPool; every worker keeps its own forward scratch and output buffers.
+ */
+public class NeuroevolutionFitness implements BatchFitnessFunction, AutoCloseable {
+    // Candidates run together over each input block
+    static final int GROUP_SIZE = 8;
+    
+    private final ParameterLayout layout;
+    private final double[] inputs;
+    private final int rows;
+    private final OutputObjective objective;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<FlatForward> forwards;
+    private final ThreadLocal<double[][]> outputBuffers;
+    private final ThreadLocal<double[][]> parameterBuffers;
+    private final ThreadLocal<double[][]> groupParameters;
+    
+    public NeuroevolutionFitness(ParameterLayout layout, double[][] X, OutputObjective objective) {
+        this(layout, X, objective, Runtime.getRuntime().availableProcessors());
+    }
+    
+    public NeuroevolutionFitness(ParameterLayout layout, double[][] X, OutputObjective objective, int parallelism) {
+        if (layout == null || objective == null) {
+            throw new IllegalArgumentException("Layout and objective cannot be null");
+        }
+        if (X.length == 0 || X[0].length != layout.getInputSize()) {
+            throw new IllegalArgumentException("Input data does not match the network input size");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.layout = layout;
+        this.inputs = FlatForward.flattenRows(X);
+        this.rows = X.length;
+        this.objective = objective;
+        this.pool = new ForkJoinPool(parallelism);
+        this.forwards = ThreadLocal.withInitial(() -> new FlatForward(layout));
+        this.outputBuffers = ThreadLocal.withInitial(() -> new double[GROUP_SIZE][rows * layout.getOutputSize()]);
+        // Rows are filled on first use, so DOUBLE genomes never allocate a decode buffer
+        this.parameterBuffers = ThreadLocal.withInitial(() -> new double[GROUP_SIZE][]);
+        this.groupParameters = ThreadLocal.withInitial(() -> new double[GROUP_SIZE][]);
+    }
+    
+    @Override
+    public void evaluate(List<? extends Chromosome> batch, double[] scores) {
+        try {
+            // Smaller groups when the batch would otherwise leave workers idle
+            int perWorker = (batch.size() + pool.getParallelism() - 1) / pool.getParallelism();
+            int groupSize = Math.max(1, Math.min(GROUP_SIZE, perWorker));
+            int groups = (batch.size() + groupSize - 1) / groupSize;
+            pool.submit(() -> IntStream.range(0, groups).parallel()
+                .forEach(g -> scoreGroup(batch, g * groupSize, Math.min(batch.size(), (g + 1) * groupSize), scores))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while evaluating networks", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Network evaluation failed", e.getCause());
+        }
+    }
+    
+    private void scoreGroup(List<? extends Chromosome> batch, int from, int to, double[] scores) {
+        double[][] parameters = groupParameters.get();
+        double[][] decoded = parameterBuffers.get();
+        for (int i = from; i < to; i++) {
+            Chromosome chromosome = batch.get(i);
+            if (!(chromosome instanceof FPChromosome)) {
+                throw new IllegalArgumentException("Neuroevolution requires FPChromosome");
+            }
+            FPChromosome genome = (FPChromosome) chromosome;
+            int c = i - from;
+            if (genome.getStorage() == GeneStorage.DOUBLE) {
+                parameters[c] = genome.getValues();
+            } else {
+                // Compact genomes are decoded into a per-thread buffer instead of a fresh copy
+                if (decoded[c] == null) {
+                    decoded[c] = new double[layout.getParameterCount()];
+                }
+                genome.copyValues(decoded[c]);
+                parameters[c] = decoded[c];
+            }
+        }
+        
+        double[][] outputs = outputBuffers.get();
+        forwards.get().forward(parameters, to - from, inputs, rows, outputs);
+        for (int i = from; i < to; i++) {
+            scores[i] = objective.score(outputs[i - from], rows, layout.getOutputSize());
+            // Do not keep the genome's array reachable from the worker thread
+            parameters[i - from] = null;
+        }
+    }
+    
+    public ParameterLayout getLayout() { return layout; }
+    public int getRows() { return rows; }
+    
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,124 @@
+package com.scproject.neural_network.neuroevolution;
+
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.ga.chromosome.GeneStorage;
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.core.GeneticAlgorithm;
+import com.scproject.ga.crossover.ArithmeticCrossover;
+import com.scproject.ga.mutation.GaussianMutation;
+import com.scproject.neural_network.core.Network;
+
+/**
+ * Trains a Network's weights with the project's GeneticAlgorithm instead of backpropagation,
+ * which also works for objectives without a gradient such as accuracy. The network's layers
+ * fix the architecture; the best parameter vector found is loaded back into it.
+ */
+public class NeuroevolutionTrainer {
+    private final Network network;
+    private final ParameterLayout layout;
+    private int populationSize = 50;
+    private int generations = 100;
+    private double weightBound = 1.0;
+    private double mutationRate = 0.05;
+    private double sigma = 0.1;
+    private GeneStorage geneStorage = GeneStorage.DOUBLE;
+    private boolean verbose = true;
+    private GeneticAlgorithm lastRun;
+    
+    public NeuroevolutionTrainer(Network network) {
+        if (network == null) {
+            throw new IllegalArgumentException("Network cannot be null");
+        }
+        this.network = network;
+        this.layout = new ParameterLayout(network);
+    }
+    
+    /**
+     * Evolve the weights on X, score them with the objective and load the best into the network
+     */
+    public Network train(double[][] X, OutputObjective objective) {
+        GAConfiguration config = new GAConfiguration();
+        config.setPopulationSize(populationSize);
+        config.setNumberOfParents(populationSize);
+        config.setGenerations(generations);
+        config.setChromosomeLength(layout.getParameterCount());
+        config.setChromosomePrototype(new FPChromosome(layout.getParameterCount(), -weightBound, weightBound, geneStorage));
+        config.setCrossoverStrategy(new ArithmeticCrossover());
+        config.setCrossoverRate(0.7);
+        config.setMutationStrategy(new GaussianMutation(mutationRate, sigma));
+        config.setMutationRate(1.0);
+        config.setVerbose(verbose);
+        
+        try (NeuroevolutionFitness fitness = new NeuroevolutionFitness(layout, X, objective)) {
+            GeneticAlgorithm ga = new GeneticAlgorithm(config);
+            ga.setBatchFitnessFunction(fitness);
+            ga.run();
+            lastRun = ga;
+            
+            layout.load(((FPChromosome) ga.getBestSolution()).getValues(), network);
+        }
+        return network;
+    }
+    
+    public double getBestScore() {
+        if (lastRun == null) {
+            throw new IllegalStateException("Trainer has not been run yet");
+        }
+        return lastRun.getBestFitness();
+    }
+    
+    public ParameterLayout getLayout() { return layout; }
+    public GeneticAlgorithm getLastRun() { return lastRun; }
+    
+    public GeneStorage getGeneStorage() { return geneStorage; }
+    //FLOAT32 or FIXED16 cut population memory by 2x or 4x for very large networks
+    public void setGeneStorage(GeneStorage geneStorage) {
+        if (geneStorage == null) {
+            throw new IllegalArgumentException("Gene storage cannot be null");
+        }
+        this.geneStorage = geneStorage;
+    }
+    
+    public int getPopulationSize() { return populationSize; }
+    public void setPopulationSize(int populationSize) {
+        if (populationSize <= 0) {
+            throw new IllegalArgumentException("Population size must be positive");
+        }
+        this.populationSize = populationSize;
+    }
+    
+    public int getGenerations() { return generations; }
+    public void setGenerations(int generations) {
+        if (generations <= 0) {
+            throw new IllegalArgumentException("Generations must be positive");
+        }
+        this.generations = generations;
+    }
+    
+    public double getWeightBound() { return weightBound; }
+    public void setWeightBound(double weightBound) {
+        if (weightBound <= 0) {
+            throw new IllegalArgumentException("Weight bound must be positive");
+        }
+        this.weightBound = weightBound;
+    }
+    
+    public double getMutationRate() { return mutationRate; }
+    public void setMutationRate(double mutationRate) {
+        if (mutationRate < 0 || mutationRate > 1) {
+            throw new IllegalArgumentException("Mutation rate must be between 0 and 1");
+        }
+        this.mutationRate = mutationRate;
+    }
+    
+    public double getSigma() { return sigma; }
+    public void setSigma(double sigma) {
+        if (sigma <= 0) {
+            throw new IllegalArgumentException("Sigma must be positive");
+        }
+        this.sigma = sigma;
+    }
+    
+    public boolean isVerbose() { return verbose; }
+    public void setVerbose(boolean verbose) { this.verbose = verbose; }
+}
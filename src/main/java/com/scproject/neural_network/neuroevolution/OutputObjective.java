@@ -0,0 +1,61 @@
+package com.scproject.neural_network.neuroevolution;
+
+/**
+ * Scores the outputs of one candidate network on the whole evaluation set; higher is better.
+ * Outputs are row-major, {@code rows} by {@code outputSize}. Implementations are called from
+ * several threads at once and must not keep per-call state.
+ */
+@FunctionalInterface
+public interface OutputObjective {
+    
+    double score(double[] outputs, int rows, int outputSize);
+    
+    /**
+     * Fraction of rows whose largest output matches the target class. Targets are one-hot
+     * rows, or a single 0/1 column scored against an output threshold of 0.5
+     */
+    static OutputObjective accuracy(double[][] targets) {
+        int[] labels = new int[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            labels[i] = targets[i].length == 1 ? (int) Math.round(targets[i][0]) : argmax(targets[i], 0, targets[i].length);
+        }
+        return (outputs, rows, outputSize) -> {
+            int correct = 0;
+            for (int r = 0; r < rows; r++) {
+                int predicted = outputSize == 1
+                    ? (outputs[r] >= 0.5 ? 1 : 0)
+                    : argmax(outputs, r * outputSize, outputSize) - r * outputSize;
+                if (predicted == labels[r]) {
+                    correct++;
+                }
+            }
+            return (double) correct / rows;
+        };
+    }
+    
+    /**
+     * Negated mean squared error against the target rows
+     */
+    static OutputObjective negativeMse(double[][] targets) {
+        double[] flat = FlatForward.flattenRows(targets);
+        return (outputs, rows, outputSize) -> {
+            double sum = 0.0;
+            int n = rows * outputSize;
+            for (int k = 0; k < n; k++) {
+                double diff = outputs[k] - flat[k];
+                sum += diff * diff;
+            }
+            return -sum / n;
+        };
+    }
+    
+    private static int argmax(double[] values, int offset, int length) {
+        int best = offset;
+        for (int k = offset + 1; k < offset + length; k++) {
+            if (values[k] > values[best]) {
+                best = k;
+            }
+        }
+        return best;
+    }
+}
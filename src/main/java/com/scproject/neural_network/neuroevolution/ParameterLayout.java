@@ -0,0 +1,114 @@
+package com.scproject.neural_network.neuroevolution;
+
+import com.scproject.neural_network.core.DenseLayer;
+import com.scproject.neural_network.core.Layer;
+import com.scproject.neural_network.core.Network;
+
+/**
+ * Flat parameter layout of a feedforward Network: for every dense layer, in order, its weights
+ * (row-major, input by output) followed by its bias. A real-valued chromosome in this layout
+ * can be evaluated directly, without rebuilding any weight matrices.
+ */
+public class ParameterLayout {
+    static final int LINEAR = 0;
+    static final int RELU = 1;
+    static final int TANH = 2;
+    static final int SIGMOID = 3;
+    
+    private final int[] layerInputs;
+    private final int[] layerOutputs;
+    private final int[] weightOffsets;
+    private final int[] biasOffsets;
+    private final int[] activations;
+    private final int parameterCount;
+    private final int maxWidth;
+    
+    public ParameterLayout(Network network) {
+        int count = network.getLayers().size();
+        if (count == 0) {
+            throw new IllegalArgumentException("Network has no layers");
+        }
+        this.layerInputs = new int[count];
+        this.layerOutputs = new int[count];
+        this.weightOffsets = new int[count];
+        this.biasOffsets = new int[count];
+        this.activations = new int[count];
+        
+        int offset = 0;
+        int widest = network.getInputSize();
+        for (int l = 0; l < count; l++) {
+            Layer layer = network.getLayers().get(l);
+            if (!(layer instanceof DenseLayer)) {
+                throw new IllegalArgumentException("Only dense layers can be laid out flat");
+            }
+            DenseLayer dense = (DenseLayer) layer;
+            layerInputs[l] = dense.getInputSize();
+            layerOutputs[l] = dense.getOutputSize();
+            activations[l] = activationCode(dense.getActivation().getName());
+            weightOffsets[l] = offset;
+            offset += layerInputs[l] * layerOutputs[l];
+            biasOffsets[l] = offset;
+            offset += layerOutputs[l];
+            widest = Math.max(widest, layerOutputs[l]);
+        }
+        this.parameterCount = offset;
+        this.maxWidth = widest;
+    }
+    
+    private static int activationCode(String name) {
+        switch (name.toLowerCase()) {
+            case "linear":
+                return LINEAR;
+            case "relu":
+                return RELU;
+            case "tanh":
+                return TANH;
+            case "sigmoid":
+                return SIGMOID;
+            default:
+                throw new IllegalArgumentException("Unsupported activation for flat evaluation: " + name);
+        }
+    }
+    
+    /**
+     * Copy the network's current weights into a new flat parameter vector
+     */
+    public double[] flatten(Network network) {
+        double[] params = new double[parameterCount];
+        int offset = 0;
+        for (Layer layer : network.getLayers()) {
+            offset += ((DenseLayer) layer).getParameters(params, offset);
+        }
+        return params;
+    }
+    
+    /**
+     * Load a flat parameter vector into the network's layers in place
+     */
+    public void load(double[] params, Network network) {
+        checkLength(params);
+        int offset = 0;
+        for (Layer layer : network.getLayers()) {
+            offset += ((DenseLayer) layer).setParameters(params, offset);
+        }
+    }
+    
+    void checkLength(double[] params) {
+        if (params.length != parameterCount) {
+            throw new IllegalArgumentException(String.format(
+                "Expected %d parameters, got %d", parameterCount, params.length));
+        }
+    }
+    
+    public int getParameterCount() { return parameterCount; }
+    public int getLayerCount() { return layerInputs.length; }
+    public int getInputSize() { return layerInputs[0]; }
+    public int getOutputSize() { return layerOutputs[layerOutputs.length - 1]; }
+    
+    int getLayerInputs(int layer) { return layerInputs[layer]; }
+    int getLayerOutputs(int layer) { return layerOutputs[layer]; }
+    int getWeightOffset(int layer) { return weightOffsets[layer]; }
+    int getBiasOffset(int layer) { return biasOffsets[layer]; }
+    int getActivation(int layer) { return activations[layer]; }
+    int getMaxWidth() { return maxWidth; }
+}
@@ -1,6 +1,7 @@
 package com.scproject.neural_network.propagation;
 
 import com.scproject.neural_network.core.Layer;
+import com.scproject.neural_network.core.Matrix;
 
 import java.util.List;
 
@@ -12,9 +13,9 @@ public class BackwardPropagation {
     /**
      * Perform backward propagation through all layers
      */
-    public static void backward(double[][] lossGradient, List<Layer> layers, 
+    public static void backward(Matrix lossGradient, List<Layer> layers, 
                                double learningRate, double l2Regularization) {
-        double[][] grad = lossGradient;
+        Matrix grad = lossGradient;
         for (int i = layers.size() - 1; i >= 0; i--) {
             grad = layers.get(i).backward(grad, learningRate, l2Regularization);
         }
@@ -23,6 +24,15 @@ public class BackwardPropagation {
     /**
      * Backward propagation without L2 regularization
      */
+    public static void backward(Matrix lossGradient, List<Layer> layers, double learningRate) {
+        backward(lossGradient, layers, learningRate, 0.0);
+    }
+    
+    public static void backward(double[][] lossGradient, List<Layer> layers, 
+                               double learningRate, double l2Regularization) {
+        backward(Matrix.of(lossGradient), layers, learningRate, l2Regularization);
+    }
+    
     public static void backward(double[][] lossGradient, List<Layer> layers, double learningRate) {
         backward(lossGradient, layers, learningRate, 0.0);
     }
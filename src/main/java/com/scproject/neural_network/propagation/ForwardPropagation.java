@@ -1,6 +1,7 @@
 package com.scproject.neural_network.propagation;
 
 import com.scproject.neural_network.core.Layer;
+import com.scproject.neural_network.core.Matrix;
 
 import java.util.List;
 
@@ -12,8 +13,8 @@ public class ForwardPropagation {
     /**
      * Perform forward propagation through all layers
      */
-    public static double[][] forward(double[][] input, List<Layer> layers) {
-        double[][] output = input;
+    public static Matrix forward(Matrix input, List<Layer> layers) {
+        Matrix output = input;
         for (Layer layer : layers) {
             output = layer.forward(output);
         }
@@ -23,11 +24,19 @@ public class ForwardPropagation {
     /**
      * Forward propagation with training mode control
      */
-    public static double[][] forward(double[][] input, List<Layer> layers, boolean training) {
+    public static Matrix forward(Matrix input, List<Layer> layers, boolean training) {
         // Set training mode for all layers
         for (Layer layer : layers) {
             layer.setTraining(training);
         }
         return forward(input, layers);
     }
+    
+    public static double[][] forward(double[][] input, List<Layer> layers) {
+        return forward(Matrix.of(input), layers).toArray();
+    }
+    
+    public static double[][] forward(double[][] input, List<Layer> layers, boolean training) {
+        return forward(Matrix.of(input), layers, training).toArray();
+    }
 }
\ No newline at end of file
@@ -1,36 +1,39 @@
 package com.scproject.neural_network.propagation;
 
-import com.scproject.neural_network.core.MatrixUtils;
+import com.scproject.neural_network.core.Matrix;
 
 /**
  * Cache for storing intermediate values during propagation
+ *
+ * Matrices are kept by reference rather than copied, so they must not be modified until the
+ * backward pass that reads them.
  */
 public class PropagationCache {
-    private double[][] cachedInput;
-    private double[][] cachedZ;
-    private double[][] cachedActivation;
+    private Matrix cachedInput;
+    private Matrix cachedZ;
+    private Matrix cachedActivation;
     
-    public void cacheInput(double[][] input) {
-        this.cachedInput = MatrixUtils.copy(input);
+    public void cacheInput(Matrix input) {
+        this.cachedInput = input;
     }
     
-    public void cacheZ(double[][] z) {
-        this.cachedZ = MatrixUtils.copy(z);
+    public void cacheZ(Matrix z) {
+        this.cachedZ = z;
     }
     
-    public void cacheActivation(double[][] activation) {
-        this.cachedActivation = MatrixUtils.copy(activation);
+    public void cacheActivation(Matrix activation) {
+        this.cachedActivation = activation;
     }
     
-    public double[][] getCachedInput() {
+    public Matrix getCachedInput() {
         return cachedInput;
     }
     
-    public double[][] getCachedZ() {
+    public Matrix getCachedZ() {
         return cachedZ;
     }
     
-    public double[][] getCachedActivation() {
+    public Matrix getCachedActivation() {
         return cachedActivation;
     }
     
@@ -0,0 +1,54 @@
+package com.scproject.neural_network.tuning;
+
+import com.scproject.neural_network.core.HyperParameters;
+import com.scproject.neural_network.core.Network;
+
+import java.util.Arrays;
+
+/**
+ * Hidden-layer layout of a candidate network
+ */
+public class ArchitectureSpec {
+    private final int[] hiddenWidths;
+    private final String activation;
+    private final double dropoutRate;
+    
+    public ArchitectureSpec(int[] hiddenWidths, String activation, double dropoutRate) {
+        if (hiddenWidths == null || hiddenWidths.length == 0) {
+            throw new IllegalArgumentException("At least one hidden layer is required");
+        }
+        for (int width : hiddenWidths) {
+            if (width <= 0) {
+                throw new IllegalArgumentException("Layer widths must be positive");
+            }
+        }
+        if (dropoutRate < 0.0 || dropoutRate >= 1.0) {
+            throw new IllegalArgumentException("Dropout rate must be in [0, 1)");
+        }
+        this.hiddenWidths = hiddenWidths.clone();
+        this.activation = activation;
+        this.dropoutRate = dropoutRate;
+    }
+    
+    /**
+     * Build an untrained network with these hidden layers and the given output layer
+     */
+    public Network build(int inputSize, int outputSize, String outputActivation, HyperParameters params) {
+        Network network = new Network(inputSize, params);
+        for (int width : hiddenWidths) {
+            network.addLayer(width, activation, dropoutRate);
+        }
+        network.addLayer(outputSize, outputActivation);
+        return network;
+    }
+    
+    public int[] getHiddenWidths() { return hiddenWidths.clone(); }
+    public String getActivation() { return activation; }
+    public double getDropoutRate() { return dropoutRate; }
+    
+    @Override
+    public String toString() {
+        return String.format("ArchitectureSpec{hidden=%s, activation='%s', dropout=%.2f}",
+                           Arrays.toString(hiddenWidths), activation, dropoutRate);
+    }
+}
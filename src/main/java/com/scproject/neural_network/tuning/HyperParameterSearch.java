@@ -0,0 +1,83 @@
+package com.scproject.neural_network.tuning;
+
+import com.scproject.ga.core.GAConfiguration;
+import com.scproject.ga.core.GeneticAlgorithm;
+import com.scproject.ga.crossover.NPointCrossover;
+import com.scproject.ga.mutation.UniformFPMutation;
+
+/**
+ * Runs the project's GeneticAlgorithm over a {@link HyperParameterSpace}, scoring every
+ * generation's candidates in parallel with a {@link NetworkTuningFitness}
+ */
+public class HyperParameterSearch {
+    private final HyperParameterSpace space;
+    private final NetworkTuningFitness fitness;
+    private int populationSize = 20;
+    private int generations = 10;
+    private boolean verbose = true;
+    private GeneticAlgorithm lastRun;
+    
+    public HyperParameterSearch(HyperParameterSpace space, NetworkTuningFitness fitness) {
+        if (space == null || fitness == null) {
+            throw new IllegalArgumentException("Search space and fitness cannot be null");
+        }
+        this.space = space;
+        this.fitness = fitness;
+    }
+    
+    /**
+     * Run the search and return the best candidate found
+     */
+    public TuningCandidate run() {
+        GAConfiguration config = new GAConfiguration();
+        config.setPopulationSize(populationSize);
+        config.setNumberOfParents(populationSize);
+        config.setGenerations(generations);
+        config.setChromosomeLength(space.getChromosomeLength());
+        config.setChromosomePrototype(space.createPrototype());
+        config.setCrossoverStrategy(new NPointCrossover(2));
+        config.setCrossoverRate(0.9);
+        config.setMutationStrategy(new UniformFPMutation(0.2, 0.0, 1.0));
+        config.setMutationRate(0.5);
+        config.setVerbose(verbose);
+        config.setPrintFrequency(1);
+        
+        GeneticAlgorithm ga = new GeneticAlgorithm(config);
+        ga.setBatchFitnessFunction(fitness);
+        ga.run();
+        lastRun = ga;
+        
+        return space.decode(ga.getBestSolution());
+    }
+    
+    /**
+     * Fitness of the best candidate from the last run
+     */
+    public double getBestScore() {
+        if (lastRun == null) {
+            throw new IllegalStateException("Search has not been run yet");
+        }
+        return lastRun.getBestFitness();
+    }
+    
+    public GeneticAlgorithm getLastRun() { return lastRun; }
+    
+    public int getPopulationSize() { return populationSize; }
+    public void setPopulationSize(int populationSize) {
+        if (populationSize <= 0) {
+            throw new IllegalArgumentException("Population size must be positive");
+        }
+        this.populationSize = populationSize;
+    }
+    
+    public int getGenerations() { return generations; }
+    public void setGenerations(int generations) {
+        if (generations <= 0) {
+            throw new IllegalArgumentException("Generations must be positive");
+        }
+        this.generations = generations;
+    }
+    
+    public boolean isVerbose() { return verbose; }
+    public void setVerbose(boolean verbose) { this.verbose = verbose; }
+}
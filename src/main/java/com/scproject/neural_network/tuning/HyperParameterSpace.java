@@ -0,0 +1,169 @@
+package com.scproject.neural_network.tuning;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.chromosome.FPChromosome;
+import com.scproject.neural_network.core.HyperParameters;
+
+/**
+ * Search space for GA hyperparameter tuning.
+ *
+ * Candidates are encoded as an FPChromosome with every gene in [0, 1]. Continuous settings are
+ * scaled (learning rate and L2 on a log scale), while discrete ones (batch size, activation,
+ * layer count, layer widths) are picked by bucketing their gene, so ordinary real-valued
+ * crossover and mutation operators search the mixed space.
+ *
+ * Gene layout: learning rate, batch size, L2, dropout, activation, layer count,
+ * then one width gene per possible hidden layer.
+ */
+public class HyperParameterSpace {
+    private static final int FIXED_GENES = 6;
+    
+    private double minLearningRate = 1e-4;
+    private double maxLearningRate = 0.1;
+    private int[] batchSizes = {8, 16, 32, 64, 128};
+    private double minL2 = 1e-5;
+    private double maxL2 = 0.1;
+    private double maxDropout = 0.5;
+    private String[] activations = {"relu", "tanh", "sigmoid"};
+    private int maxLayers = 3;
+    private int minWidth = 4;
+    private int maxWidth = 128;
+    private int epochs = 100;
+    private String initializer = "xavier";
+    private String loss = "cross_entropy";
+    
+    public int getChromosomeLength() {
+        return FIXED_GENES + maxLayers;
+    }
+    
+    /**
+     * Prototype chromosome to hand to the GA
+     */
+    public FPChromosome createPrototype() {
+        return new FPChromosome(getChromosomeLength(), 0.0, 1.0);
+    }
+    
+    /**
+     * Decode a chromosome into training settings and an architecture
+     */
+    public TuningCandidate decode(Chromosome chromosome) {
+        if (chromosome.getLength() != getChromosomeLength()) {
+            throw new IllegalArgumentException(String.format(
+                "Chromosome length %d does not match search space length %d",
+                chromosome.getLength(), getChromosomeLength()));
+        }
+        
+        double learningRate = logScale(gene(chromosome, 0), minLearningRate, maxLearningRate);
+        int batchSize = batchSizes[bucket(gene(chromosome, 1), batchSizes.length)];
+        // The bottom fifth of the L2 gene switches regularization off
+        double l2Gene = gene(chromosome, 2);
+        double l2 = l2Gene < 0.2 ? 0.0 : logScale((l2Gene - 0.2) / 0.8, minL2, maxL2);
+        double dropout = gene(chromosome, 3) * maxDropout;
+        String activation = activations[bucket(gene(chromosome, 4), activations.length)];
+        int layers = 1 + bucket(gene(chromosome, 5), maxLayers);
+        
+        int[] widths = new int[layers];
+        for (int i = 0; i < layers; i++) {
+            widths[i] = (int) Math.round(logScale(gene(chromosome, FIXED_GENES + i), minWidth, maxWidth));
+        }
+        
+        HyperParameters params = new HyperParameters(learningRate, epochs, batchSize,
+                                                     initializer, loss, true, null, l2);
+        return new TuningCandidate(params, new ArchitectureSpec(widths, activation, dropout));
+    }
+    
+    private static double gene(Chromosome chromosome, int index) {
+        double value = ((Number) chromosome.getGene(index)).doubleValue();
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+    
+    private static int bucket(double gene, int count) {
+        return Math.min(count - 1, (int) (gene * count));
+    }
+    
+    private static double logScale(double gene, double min, double max) {
+        return Math.exp(Math.log(min) + gene * (Math.log(max) - Math.log(min)));
+    }
+    
+    // Getters and setters
+    public double getMinLearningRate() { return minLearningRate; }
+    public double getMaxLearningRate() { return maxLearningRate; }
+    public void setLearningRateRange(double min, double max) {
+        if (min <= 0 || max < min) {
+            throw new IllegalArgumentException("Learning rate range must be positive and ordered");
+        }
+        this.minLearningRate = min;
+        this.maxLearningRate = max;
+    }
+    
+    public int[] getBatchSizes() { return batchSizes.clone(); }
+    public void setBatchSizes(int... batchSizes) {
+        if (batchSizes.length == 0) {
+            throw new IllegalArgumentException("At least one batch size is required");
+        }
+        for (int size : batchSizes) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("Batch sizes must be positive");
+            }
+        }
+        this.batchSizes = batchSizes.clone();
+    }
+    
+    public double getMinL2() { return minL2; }
+    public double getMaxL2() { return maxL2; }
+    public void setL2Range(double min, double max) {
+        if (min <= 0 || max < min) {
+            throw new IllegalArgumentException("L2 range must be positive and ordered");
+        }
+        this.minL2 = min;
+        this.maxL2 = max;
+    }
+    
+    public double getMaxDropout() { return maxDropout; }
+    public void setMaxDropout(double maxDropout) {
+        if (maxDropout < 0.0 || maxDropout >= 1.0) {
+            throw new IllegalArgumentException("Max dropout must be in [0, 1)");
+        }
+        this.maxDropout = maxDropout;
+    }
+    
+    public String[] getActivations() { return activations.clone(); }
+    public void setActivations(String... activations) {
+        if (activations.length == 0) {
+            throw new IllegalArgumentException("At least one activation is required");
+        }
+        this.activations = activations.clone();
+    }
+    
+    public int getMaxLayers() { return maxLayers; }
+    public void setMaxLayers(int maxLayers) {
+        if (maxLayers <= 0) {
+            throw new IllegalArgumentException("Max layers must be positive");
+        }
+        this.maxLayers = maxLayers;
+    }
+    
+    public int getMinWidth() { return minWidth; }
+    public int getMaxWidth() { return maxWidth; }
+    public void setWidthRange(int min, int max) {
+        if (min <= 0 || max < min) {
+            throw new IllegalArgumentException("Width range must be positive and ordered");
+        }
+        this.minWidth = min;
+        this.maxWidth = max;
+    }
+    
+    public int getEpochs() { return epochs; }
+    public void setEpochs(int epochs) {
+        if (epochs <= 0) {
+            throw new IllegalArgumentException("Epochs must be positive");
+        }
+        this.epochs = epochs;
+    }
+    
+    public String getInitializer() { return initializer; }
+    public void setInitializer(String initializer) { this.initializer = initializer; }
+    
+    public String getLoss() { return loss; }
+    public void setLoss(String loss) { this.loss = loss; }
+}
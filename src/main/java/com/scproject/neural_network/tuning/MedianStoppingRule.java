@@ -0,0 +1,54 @@
+package com.scproject.neural_network.tuning;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Median stopping rule for early termination of hopeless candidates.
+ *
+ * Every candidate reports its best validation score at fixed epoch checkpoints. A candidate
+ * whose score is below the median of everything reported at the same checkpoint stops
+ * training, once at least {@code minReports} scores are available there. Safe to share
+ * between concurrently training candidates.
+ */
+public class MedianStoppingRule {
+    private final Map<Integer, List<Double>> reports = new ConcurrentHashMap<>();
+    private final int minReports;
+    
+    public MedianStoppingRule() {
+        this(5);
+    }
+    
+    public MedianStoppingRule(int minReports) {
+        if (minReports <= 0) {
+            throw new IllegalArgumentException("Minimum reports must be positive");
+        }
+        this.minReports = minReports;
+    }
+    
+    /**
+     * Record a score at a checkpoint and decide whether the candidate should stop
+     */
+    public boolean shouldStop(int checkpoint, double score) {
+        List<Double> scores = reports.computeIfAbsent(checkpoint, k -> new ArrayList<>());
+        double median;
+        synchronized (scores) {
+            scores.add(score);
+            if (scores.size() < minReports) {
+                return false;
+            }
+            List<Double> sorted = new ArrayList<>(scores);
+            Collections.sort(sorted);
+            int mid = sorted.size() / 2;
+            median = sorted.size() % 2 == 1 ? sorted.get(mid) : (sorted.get(mid - 1) + sorted.get(mid)) / 2.0;
+        }
+        return score < median;
+    }
+    
+    public void reset() {
+        reports.clear();
+    }
+}
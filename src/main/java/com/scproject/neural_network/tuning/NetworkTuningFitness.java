@@ -0,0 +1,148 @@
+package com.scproject.neural_network.tuning;
+
+import com.scproject.ga.chromosome.Chromosome;
+import com.scproject.ga.fitness.BatchFitnessFunction;
+import com.scproject.neural_network.core.EvaluationResult;
+import com.scproject.neural_network.core.HyperParameters;
+import com.scproject.neural_network.core.Matrix;
+import com.scproject.neural_network.core.Network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scores hyperparameter chromosomes by training the decoded network and measuring it on a
+ * validation split.
+ *
+ * All candidates of a batch train concurrently, one per worker thread, each on its own Network.
+ * Training proceeds one epoch at a time; every {@code checkInterval} epochs the candidate is
+ * validated and may be stopped early by the shared {@link MedianStoppingRule}.
+ * Fitness is the best validation accuracy reached, minus a small validation-loss term that
+ * breaks ties between candidates with equal accuracy.
+ */
+public class NetworkTuningFitness implements BatchFitnessFunction, AutoCloseable {
+    private static final double LOSS_TIE_BREAK = 1e-3;
+    
+    private final HyperParameterSpace space;
+    // Converted once and shared read-only by every candidate, instead of per fit call
+    private final Matrix XTrain;
+    private final Matrix yTrain;
+    private final Matrix XVal;
+    private final Matrix yVal;
+    private final ExecutorService workers;
+    private final MedianStoppingRule stoppingRule;
+    private String outputActivation = "linear";
+    private int checkInterval = 10;
+    
+    private final LongAdder trained = new LongAdder();
+    private final LongAdder stoppedEarly = new LongAdder();
+    private final LongAdder epochsRun = new LongAdder();
+    
+    public NetworkTuningFitness(HyperParameterSpace space, double[][] XTrain, double[][] yTrain,
+                                double[][] XVal, double[][] yVal) {
+        this(space, XTrain, yTrain, XVal, yVal, Runtime.getRuntime().availableProcessors());
+    }
+    
+    public NetworkTuningFitness(HyperParameterSpace space, double[][] XTrain, double[][] yTrain,
+                                double[][] XVal, double[][] yVal, int parallelism) {
+        if (XTrain.length != yTrain.length || XVal.length != yVal.length) {
+            throw new IllegalArgumentException("X and y must have same number of samples");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.space = space;
+        this.XTrain = Matrix.of(XTrain);
+        this.yTrain = Matrix.of(yTrain);
+        this.XVal = Matrix.of(XVal);
+        this.yVal = Matrix.of(yVal);
+        this.stoppingRule = new MedianStoppingRule();
+        this.workers = Executors.newFixedThreadPool(parallelism, task -> {
+            Thread thread = new Thread(task, "network-tuning");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @Override
+    public void evaluate(List<? extends Chromosome> batch, double[] scores) {
+        List<Future<Double>> results = new ArrayList<>(batch.size());
+        for (Chromosome chromosome : batch) {
+            TuningCandidate candidate = space.decode(chromosome);
+            results.add(workers.submit(() -> trainAndScore(candidate)));
+        }
+        
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                scores[i] = results.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while training candidates", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Training candidate failed", e.getCause());
+            }
+        }
+    }
+    
+    /**
+     * Train one candidate and return its fitness
+     */
+    public double trainAndScore(TuningCandidate candidate) {
+        HyperParameters params = candidate.getHyperParameters();
+        int epochs = params.getEpochs();
+        
+        // The network is driven one epoch per fit call so it can be checked between epochs
+        HyperParameters perEpoch = new HyperParameters(params.getLearningRate(), 1, params.getBatchSize(),
+                params.getInitializer(), params.getLoss(), params.isShuffle(), null, params.getL2Regularization());
+        Network network = candidate.getArchitecture().build(XTrain.getCols(), yTrain.getCols(),
+                                                           outputActivation, perEpoch);
+        
+        double best = Double.NEGATIVE_INFINITY;
+        for (int epoch = 1; epoch <= epochs; epoch++) {
+            network.fit(XTrain, yTrain, null, null, false);
+            epochsRun.increment();
+            
+            if (epoch % checkInterval == 0 || epoch == epochs) {
+                EvaluationResult result = network.evaluate(XVal, yVal);
+                double loss = Double.isFinite(result.getLoss()) ? Math.min(result.getLoss(), 10.0) : 10.0;
+                best = Math.max(best, result.getAccuracy() - LOSS_TIE_BREAK * loss);
+                
+                if (epoch < epochs && stoppingRule.shouldStop(epoch, best)) {
+                    stoppedEarly.increment();
+                    break;
+                }
+            }
+        }
+        trained.increment();
+        return best;
+    }
+    
+    // Getters and setters
+    public HyperParameterSpace getSpace() { return space; }
+    public MedianStoppingRule getStoppingRule() { return stoppingRule; }
+    
+    public String getOutputActivation() { return outputActivation; }
+    public void setOutputActivation(String outputActivation) { this.outputActivation = outputActivation; }
+    
+    public int getCheckInterval() { return checkInterval; }
+    public void setCheckInterval(int checkInterval) {
+        if (checkInterval <= 0) {
+            throw new IllegalArgumentException("Check interval must be positive");
+        }
+        this.checkInterval = checkInterval;
+    }
+    
+    public long getCandidatesTrained() { return trained.sum(); }
+    public long getCandidatesStoppedEarly() { return stoppedEarly.sum(); }
+    public long getEpochsRun() { return epochsRun.sum(); }
+    
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+}
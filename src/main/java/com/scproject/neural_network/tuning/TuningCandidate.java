@@ -0,0 +1,26 @@
+package com.scproject.neural_network.tuning;
+
+import com.scproject.neural_network.core.HyperParameters;
+
+/**
+ * Training settings and architecture decoded from one chromosome
+ */
+public class TuningCandidate {
+    private final HyperParameters hyperParameters;
+    private final ArchitectureSpec architecture;
+    
+    public TuningCandidate(HyperParameters hyperParameters, ArchitectureSpec architecture) {
+        this.hyperParameters = hyperParameters;
+        this.architecture = architecture;
+    }
+    
+    public HyperParameters getHyperParameters() { return hyperParameters; }
+    public ArchitectureSpec getArchitecture() { return architecture; }
+    
+    @Override
+    public String toString() {
+        return String.format("lr=%.5f, batchSize=%d, l2=%.5f, epochs=%d, %s",
+                           hyperParameters.getLearningRate(), hyperParameters.getBatchSize(),
+                           hyperParameters.getL2Regularization(), hyperParameters.getEpochs(), architecture);
+    }
+}